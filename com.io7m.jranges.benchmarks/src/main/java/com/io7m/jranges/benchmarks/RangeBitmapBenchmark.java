@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeBitmapI;
+import com.io7m.jranges.RangeInclusiveI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing intersections of compressed bitmaps against
+ * {@link BitSet}, for a mix of sparse, dense, and run-heavy chunks.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeBitmapBenchmark
+{
+  private static final int CHUNKS = 64;
+
+  private RangeBitmapI bitmap0;
+  private RangeBitmapI bitmap1;
+  private BitSet bitSet0;
+  private BitSet bitSet1;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeBitmapBenchmark()
+  {
+
+  }
+
+  private static void populate(
+    final Random random,
+    final RangeBitmapI bitmap,
+    final BitSet bitSet)
+  {
+    for (int chunk = 0; chunk < CHUNKS; ++chunk) {
+      final int base = chunk << 16;
+      switch (chunk % 3) {
+        case 0 -> {
+          for (int i = 0; i < 500; ++i) {
+            final int x = base + random.nextInt(1 << 16);
+            bitmap.add(x);
+            bitSet.set(x);
+          }
+        }
+        case 1 -> {
+          for (int i = 0; i < 20000; ++i) {
+            final int x = base + random.nextInt(1 << 16);
+            bitmap.add(x);
+            bitSet.set(x);
+          }
+        }
+        default -> {
+          for (int i = 0; i < 8; ++i) {
+            final int lower = base + random.nextInt(1 << 15);
+            final int upper = lower + random.nextInt(1 << 12);
+            bitmap.add(RangeInclusiveI.of(lower, upper));
+            bitSet.set(lower, upper + 1);
+          }
+        }
+      }
+    }
+    bitmap.optimize();
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x6a72616e67657321L);
+    final var domain = RangeInclusiveI.of(0, (CHUNKS << 16) - 1);
+
+    this.bitmap0 = RangeBitmapI.create(domain);
+    this.bitmap1 = RangeBitmapI.create(domain);
+    this.bitSet0 = new BitSet(CHUNKS << 16);
+    this.bitSet1 = new BitSet(CHUNKS << 16);
+    populate(random, this.bitmap0, this.bitSet0);
+    populate(random, this.bitmap1, this.bitSet1);
+  }
+
+  @Benchmark
+  public long andBitSet()
+  {
+    final var result = (BitSet) this.bitSet0.clone();
+    result.and(this.bitSet1);
+    return result.cardinality();
+  }
+
+  @Benchmark
+  public long andRangeBitmap()
+  {
+    return this.bitmap0.and(this.bitmap1).cardinality();
+  }
+
+  @Benchmark
+  public long orBitSet()
+  {
+    final var result = (BitSet) this.bitSet0.clone();
+    result.or(this.bitSet1);
+    return result.cardinality();
+  }
+
+  @Benchmark
+  public long orRangeBitmap()
+  {
+    return this.bitmap0.or(this.bitmap1).cardinality();
+  }
+}
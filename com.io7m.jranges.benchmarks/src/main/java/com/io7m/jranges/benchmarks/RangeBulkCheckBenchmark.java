@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeHalfOpenCheck;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeInclusiveD;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jranges.RangeInclusiveL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing the bulk array checks against checking each element
+ * individually.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeBulkCheckBenchmark
+{
+  @Param({"65536"})
+  private int size;
+
+  private long[] longs;
+  private int[] ints;
+  private double[] doubles;
+  private RangeInclusiveL inclusiveL;
+  private RangeHalfOpenL halfOpenL;
+  private RangeInclusiveI inclusiveI;
+  private RangeInclusiveD inclusiveD;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeBulkCheckBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x6a72616e67657321L);
+
+    this.longs = new long[this.size];
+    this.ints = new int[this.size];
+    this.doubles = new double[this.size];
+
+    for (int index = 0; index < this.size; ++index) {
+      final var value = random.nextInt(1_000_000);
+      this.longs[index] = value;
+      this.ints[index] = value;
+      this.doubles[index] = value;
+    }
+
+    this.inclusiveL = RangeInclusiveL.of(0L, 999_999L);
+    this.halfOpenL = RangeHalfOpenL.of(0L, 1_000_000L);
+    this.inclusiveI = RangeInclusiveI.of(0, 999_999);
+    this.inclusiveD = RangeInclusiveD.of(0.0, 999_999.0);
+  }
+
+  @Benchmark
+  public long checkEachIncludedInLong()
+  {
+    long sum = 0L;
+    for (int index = 0; index < this.longs.length; ++index) {
+      sum += RangeCheck.checkIncludedInLong(
+        this.longs[index], "x", this.inclusiveL, "range");
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long[] checkAllIncludedInLong()
+  {
+    return RangeCheck.checkAllIncludedInLong(
+      this.longs, 0, this.longs.length, "x", this.inclusiveL, "range");
+  }
+
+  @Benchmark
+  public long[] checkAllIncludedInLongHalfOpen()
+  {
+    return RangeHalfOpenCheck.checkAllIncludedInLong(
+      this.longs, 0, this.longs.length, "x", this.halfOpenL, "range");
+  }
+
+  @Benchmark
+  public long checkEachIncludedInInteger()
+  {
+    long sum = 0L;
+    for (int index = 0; index < this.ints.length; ++index) {
+      sum += RangeCheck.checkIncludedInInteger(
+        this.ints[index], "x", this.inclusiveI, "range");
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int[] checkAllIncludedInInteger()
+  {
+    return RangeCheck.checkAllIncludedInInteger(
+      this.ints, 0, this.ints.length, "x", this.inclusiveI, "range");
+  }
+
+  @Benchmark
+  public boolean checkEachIncludedInDouble()
+  {
+    boolean all = true;
+    for (int index = 0; index < this.doubles.length; ++index) {
+      all &= this.inclusiveD.includesValue(this.doubles[index]);
+    }
+    return all;
+  }
+
+  @Benchmark
+  public double[] checkAllIncludedInDouble()
+  {
+    return RangeCheck.checkAllIncludedInDouble(
+      this.doubles, 0, this.doubles.length, "x", this.inclusiveD, "range");
+  }
+}
@@ -0,0 +1,498 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeInclusiveB;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jranges.RangeInclusiveL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the success and failure paths of {@link RangeCheck}.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeCheckBenchmark
+{
+  private long longLow;
+  private long longHigh;
+  private long longMiddle;
+  private long longOutside;
+  private int intLow;
+  private int intHigh;
+  private int intMiddle;
+  private int intOutside;
+  private double doubleLow;
+  private double doubleHigh;
+  private double doubleMiddle;
+  private double doubleOutside;
+  private BigInteger bigLow;
+  private BigInteger bigHigh;
+  private BigInteger bigMiddle;
+  private BigInteger bigOutside;
+  private RangeInclusiveL inclusiveL;
+  private RangeInclusiveL inclusiveInnerL;
+  private RangeInclusiveI inclusiveI;
+  private RangeInclusiveI inclusiveInnerI;
+  private RangeInclusiveB inclusiveB;
+  private RangeInclusiveB inclusiveInnerB;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeCheckBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.longLow = 0L;
+    this.longHigh = 100L;
+    this.longMiddle = 50L;
+    this.longOutside = 101L;
+
+    this.intLow = 0;
+    this.intHigh = 100;
+    this.intMiddle = 50;
+    this.intOutside = 101;
+
+    this.doubleLow = 0.0;
+    this.doubleHigh = 100.0;
+    this.doubleMiddle = 50.0;
+    this.doubleOutside = 101.0;
+
+    this.bigLow = BigInteger.valueOf(this.longLow);
+    this.bigHigh = BigInteger.valueOf(this.longHigh);
+    this.bigMiddle = BigInteger.valueOf(this.longMiddle);
+    this.bigOutside = BigInteger.valueOf(this.longOutside);
+
+    this.inclusiveL =
+      RangeInclusiveL.of(this.longLow, this.longHigh);
+    this.inclusiveInnerL =
+      RangeInclusiveL.of(this.longLow + 1L, this.longHigh - 1L);
+    this.inclusiveI =
+      RangeInclusiveI.of(this.intLow, this.intHigh);
+    this.inclusiveInnerI =
+      RangeInclusiveI.of(this.intLow + 1, this.intHigh - 1);
+    this.inclusiveB =
+      RangeInclusiveB.of(this.bigLow, this.bigHigh);
+    this.inclusiveInnerB =
+      RangeInclusiveB.of(
+        this.bigLow.add(BigInteger.ONE),
+        this.bigHigh.subtract(BigInteger.ONE));
+  }
+
+  @Benchmark
+  public long checkGreaterLongSuccess()
+  {
+    return RangeCheck.checkGreaterLong(this.longHigh, "x", this.longLow, "lower");
+  }
+
+  @Benchmark
+  public RangeCheckException checkGreaterLongFailure()
+  {
+    try {
+      RangeCheck.checkGreaterLong(this.longLow, "x", this.longHigh, "lower");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public int checkGreaterIntegerSuccess()
+  {
+    return RangeCheck.checkGreaterInteger(this.intHigh, "x", this.intLow, "lower");
+  }
+
+  @Benchmark
+  public RangeCheckException checkGreaterIntegerFailure()
+  {
+    try {
+      RangeCheck.checkGreaterInteger(this.intLow, "x", this.intHigh, "lower");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public double checkGreaterDoubleSuccess()
+  {
+    return RangeCheck.checkGreaterDouble(this.doubleHigh, "x", this.doubleLow, "lower");
+  }
+
+  @Benchmark
+  public RangeCheckException checkGreaterDoubleFailure()
+  {
+    try {
+      RangeCheck.checkGreaterDouble(this.doubleLow, "x", this.doubleHigh, "lower");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public BigInteger checkGreaterBigSuccess()
+  {
+    return RangeCheck.checkGreaterBig(this.bigHigh, "x", this.bigLow, "lower");
+  }
+
+  @Benchmark
+  public RangeCheckException checkGreaterBigFailure()
+  {
+    try {
+      RangeCheck.checkGreaterBig(this.bigLow, "x", this.bigHigh, "lower");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public long checkGreaterEqualLongSuccess()
+  {
+    return RangeCheck.checkGreaterEqualLong(this.longHigh, "x", this.longLow, "lower");
+  }
+
+  @Benchmark
+  public RangeCheckException checkGreaterEqualLongFailure()
+  {
+    try {
+      RangeCheck.checkGreaterEqualLong(this.longLow, "x", this.longHigh, "lower");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public int checkGreaterEqualIntegerSuccess()
+  {
+    return RangeCheck.checkGreaterEqualInteger(this.intHigh, "x", this.intLow, "lower");
+  }
+
+  @Benchmark
+  public RangeCheckException checkGreaterEqualIntegerFailure()
+  {
+    try {
+      RangeCheck.checkGreaterEqualInteger(this.intLow, "x", this.intHigh, "lower");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public double checkGreaterEqualDoubleSuccess()
+  {
+    return RangeCheck.checkGreaterEqualDouble(this.doubleHigh, "x", this.doubleLow, "lower");
+  }
+
+  @Benchmark
+  public RangeCheckException checkGreaterEqualDoubleFailure()
+  {
+    try {
+      RangeCheck.checkGreaterEqualDouble(this.doubleLow, "x", this.doubleHigh, "lower");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public BigInteger checkGreaterEqualBigSuccess()
+  {
+    return RangeCheck.checkGreaterEqualBig(this.bigHigh, "x", this.bigLow, "lower");
+  }
+
+  @Benchmark
+  public RangeCheckException checkGreaterEqualBigFailure()
+  {
+    try {
+      RangeCheck.checkGreaterEqualBig(this.bigLow, "x", this.bigHigh, "lower");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public long checkLessLongSuccess()
+  {
+    return RangeCheck.checkLessLong(this.longLow, "x", this.longHigh, "upper");
+  }
+
+  @Benchmark
+  public RangeCheckException checkLessLongFailure()
+  {
+    try {
+      RangeCheck.checkLessLong(this.longHigh, "x", this.longLow, "upper");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public int checkLessIntegerSuccess()
+  {
+    return RangeCheck.checkLessInteger(this.intLow, "x", this.intHigh, "upper");
+  }
+
+  @Benchmark
+  public RangeCheckException checkLessIntegerFailure()
+  {
+    try {
+      RangeCheck.checkLessInteger(this.intHigh, "x", this.intLow, "upper");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public double checkLessDoubleSuccess()
+  {
+    return RangeCheck.checkLessDouble(this.doubleLow, "x", this.doubleHigh, "upper");
+  }
+
+  @Benchmark
+  public RangeCheckException checkLessDoubleFailure()
+  {
+    try {
+      RangeCheck.checkLessDouble(this.doubleHigh, "x", this.doubleLow, "upper");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public BigInteger checkLessBigSuccess()
+  {
+    return RangeCheck.checkLessBig(this.bigLow, "x", this.bigHigh, "upper");
+  }
+
+  @Benchmark
+  public RangeCheckException checkLessBigFailure()
+  {
+    try {
+      RangeCheck.checkLessBig(this.bigHigh, "x", this.bigLow, "upper");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public long checkLessEqualLongSuccess()
+  {
+    return RangeCheck.checkLessEqualLong(this.longLow, "x", this.longHigh, "upper");
+  }
+
+  @Benchmark
+  public RangeCheckException checkLessEqualLongFailure()
+  {
+    try {
+      RangeCheck.checkLessEqualLong(this.longHigh, "x", this.longLow, "upper");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public int checkLessEqualIntegerSuccess()
+  {
+    return RangeCheck.checkLessEqualInteger(this.intLow, "x", this.intHigh, "upper");
+  }
+
+  @Benchmark
+  public RangeCheckException checkLessEqualIntegerFailure()
+  {
+    try {
+      RangeCheck.checkLessEqualInteger(this.intHigh, "x", this.intLow, "upper");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public double checkLessEqualDoubleSuccess()
+  {
+    return RangeCheck.checkLessEqualDouble(this.doubleLow, "x", this.doubleHigh, "upper");
+  }
+
+  @Benchmark
+  public RangeCheckException checkLessEqualDoubleFailure()
+  {
+    try {
+      RangeCheck.checkLessEqualDouble(this.doubleHigh, "x", this.doubleLow, "upper");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public BigInteger checkLessEqualBigSuccess()
+  {
+    return RangeCheck.checkLessEqualBig(this.bigLow, "x", this.bigHigh, "upper");
+  }
+
+  @Benchmark
+  public RangeCheckException checkLessEqualBigFailure()
+  {
+    try {
+      RangeCheck.checkLessEqualBig(this.bigHigh, "x", this.bigLow, "upper");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public long checkIncludedInLongSuccess()
+  {
+    return RangeCheck.checkIncludedInLong(this.longMiddle, "x", this.inclusiveL, "range");
+  }
+
+  @Benchmark
+  public RangeCheckException checkIncludedInLongFailure()
+  {
+    try {
+      RangeCheck.checkIncludedInLong(this.longOutside, "x", this.inclusiveL, "range");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public int checkIncludedInIntegerSuccess()
+  {
+    return RangeCheck.checkIncludedInInteger(this.intMiddle, "x", this.inclusiveI, "range");
+  }
+
+  @Benchmark
+  public RangeCheckException checkIncludedInIntegerFailure()
+  {
+    try {
+      RangeCheck.checkIncludedInInteger(this.intOutside, "x", this.inclusiveI, "range");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public BigInteger checkIncludedInBigSuccess()
+  {
+    return RangeCheck.checkIncludedInBig(this.bigMiddle, "x", this.inclusiveB, "range");
+  }
+
+  @Benchmark
+  public RangeCheckException checkIncludedInBigFailure()
+  {
+    try {
+      RangeCheck.checkIncludedInBig(this.bigOutside, "x", this.inclusiveB, "range");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public RangeInclusiveL checkRangeIncludedInLongSuccess()
+  {
+    return RangeCheck.checkRangeIncludedInLong(this.inclusiveInnerL, "inner", this.inclusiveL, "outer");
+  }
+
+  @Benchmark
+  public RangeCheckException checkRangeIncludedInLongFailure()
+  {
+    try {
+      RangeCheck.checkRangeIncludedInLong(this.inclusiveL, "outer", this.inclusiveInnerL, "inner");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public RangeInclusiveI checkRangeIncludedInIntegerSuccess()
+  {
+    return RangeCheck.checkRangeIncludedInInteger(this.inclusiveInnerI, "inner", this.inclusiveI, "outer");
+  }
+
+  @Benchmark
+  public RangeCheckException checkRangeIncludedInIntegerFailure()
+  {
+    try {
+      RangeCheck.checkRangeIncludedInInteger(this.inclusiveI, "outer", this.inclusiveInnerI, "inner");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public RangeInclusiveB checkRangeIncludedInBigSuccess()
+  {
+    return RangeCheck.checkRangeIncludedInBig(this.inclusiveInnerB, "inner", this.inclusiveB, "outer");
+  }
+
+  @Benchmark
+  public RangeCheckException checkRangeIncludedInBigFailure()
+  {
+    try {
+      RangeCheck.checkRangeIncludedInBig(this.inclusiveB, "outer", this.inclusiveInnerB, "inner");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+}
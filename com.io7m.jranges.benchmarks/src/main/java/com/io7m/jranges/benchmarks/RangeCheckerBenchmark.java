@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeInclusiveCheckerL;
+import com.io7m.jranges.RangeInclusiveL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing {@link RangeCheck#checkIncludedInLong} against a
+ * precompiled checker, held either in a {@code static final} field (so that
+ * the bounds are constants) or in an instance field.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeCheckerBenchmark
+{
+  private static final RangeInclusiveL RANGE =
+    RangeInclusiveL.of(0L, 65535L);
+  private static final RangeInclusiveCheckerL CHECKER =
+    RangeInclusiveCheckerL.of(RANGE, "Port", "Valid ports");
+
+  private RangeInclusiveL range;
+  private RangeInclusiveCheckerL checker;
+  private long[] values;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeCheckerBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x6a72616e67657321L);
+    this.range = RANGE;
+    this.checker = CHECKER;
+    this.values = new long[1024];
+    for (int i = 0; i < this.values.length; ++i) {
+      this.values[i] = random.nextInt(65536);
+    }
+  }
+
+  @Benchmark
+  public long rangeCheck()
+  {
+    long sum = 0L;
+    for (final long value : this.values) {
+      sum += RangeCheck.checkIncludedInLong(
+        value, "Port", this.range, "Valid ports");
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long checkerStatic()
+  {
+    long sum = 0L;
+    for (final long value : this.values) {
+      sum += CHECKER.check(value);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long checkerField()
+  {
+    long sum = 0L;
+    for (final long value : this.values) {
+      sum += this.checker.check(value);
+    }
+    return sum;
+  }
+}
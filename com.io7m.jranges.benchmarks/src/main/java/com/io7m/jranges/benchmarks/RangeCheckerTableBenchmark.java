@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeCheckerCompiler;
+import com.io7m.jranges.RangeCheckerTableL;
+import com.io7m.jranges.RangeInclusiveL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing the methods of a compiled rule table with the
+ * specialized method handles it generates, held in {@code static final}
+ * fields.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeCheckerTableBenchmark
+{
+  private static final int RULES = 64;
+  private static final RangeCheckerTableL TABLE = table();
+  private static final MethodHandle CLASSIFIER = TABLE.classifier();
+  private static final MethodHandle CHECK = TABLE.checkHandle(RULES, "x");
+
+  private long[] values;
+  private int index;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeCheckerTableBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x6a72616e67657321L);
+    this.values = new long[1024];
+    for (int i = 0; i < this.values.length; ++i) {
+      this.values[i] = random.nextLong(RULES * 1000L);
+    }
+  }
+
+  private static RangeCheckerTableL table()
+  {
+    final var compiler = RangeCheckerCompiler.create();
+    for (int i = 0; i < RULES; ++i) {
+      final long lower = i * 1000L;
+      compiler.add("r" + i, RangeInclusiveL.of(lower, lower + 499L));
+    }
+    compiler.add("all", RangeInclusiveL.of(0L, RULES * 1000L));
+    return compiler.compile();
+  }
+
+  private long nextValue()
+  {
+    this.index = (this.index + 1) & (this.values.length - 1);
+    return this.values[this.index];
+  }
+
+  @Benchmark
+  public int classifyTable()
+  {
+    return TABLE.classify(this.nextValue());
+  }
+
+  @Benchmark
+  public int classifyHandle()
+    throws Throwable
+  {
+    return (int) CLASSIFIER.invokeExact(this.nextValue());
+  }
+
+  @Benchmark
+  public long checkTable()
+  {
+    return TABLE.check(RULES, this.nextValue(), "x");
+  }
+
+  @Benchmark
+  public long checkHandle()
+    throws Throwable
+  {
+    return (long) CHECK.invokeExact(this.nextValue());
+  }
+}
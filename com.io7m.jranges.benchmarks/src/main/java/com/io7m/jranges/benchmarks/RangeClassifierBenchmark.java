@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeClassifierL;
+import com.io7m.jranges.RangeHalfOpenL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing bucket classification using an Eytzinger-ordered
+ * classifier, a {@code TreeMap} floor lookup, and a linear scan.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeClassifierBenchmark
+{
+  @Param({"64", "4096"})
+  private int buckets;
+
+  private RangeHalfOpenL[] ranges;
+  private RangeClassifierL classifier;
+  private TreeMap<Long, Integer> treeMap;
+  private long[] values;
+  private int index;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeClassifierBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x6a72616e67657321L);
+
+    this.ranges = new RangeHalfOpenL[this.buckets];
+    this.treeMap = new TreeMap<>();
+    long lower = 0L;
+    for (int i = 0; i < this.buckets; ++i) {
+      final long upper = lower + 1L + random.nextInt(1000);
+      this.ranges[i] = RangeHalfOpenL.of(lower, upper);
+      this.treeMap.put(Long.valueOf(lower), Integer.valueOf(i));
+      lower = upper;
+    }
+    this.classifier = RangeClassifierL.ofHalfOpen(this.ranges);
+
+    this.values = new long[1024];
+    for (int i = 0; i < this.values.length; ++i) {
+      this.values[i] = (long) (random.nextDouble() * lower);
+    }
+  }
+
+  private long nextValue()
+  {
+    this.index = (this.index + 1) & (this.values.length - 1);
+    return this.values[this.index];
+  }
+
+  @Benchmark
+  public int eytzinger()
+  {
+    return this.classifier.classify(this.nextValue());
+  }
+
+  @Benchmark
+  public int treeMap()
+  {
+    final long x = this.nextValue();
+    final Map.Entry<Long, Integer> entry = this.treeMap.floorEntry(Long.valueOf(x));
+    if (entry != null) {
+      final int i = entry.getValue().intValue();
+      if (this.ranges[i].includesValue(x)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Benchmark
+  public int linear()
+  {
+    final long x = this.nextValue();
+    for (int i = 0; i < this.ranges.length; ++i) {
+      if (this.ranges[i].includesValue(x)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
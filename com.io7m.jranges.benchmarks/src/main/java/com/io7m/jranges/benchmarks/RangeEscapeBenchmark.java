@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeHalfOpenI;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jranges.RangeInclusiveL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p> Benchmarks of short-lived ranges that are constructed, queried, and
+ * discarded. The generated range classes are final and hold only their two
+ * bounds, and the precondition check is small enough to inline, so escape
+ * analysis should eliminate the allocations entirely; the
+ * {@code gc.alloc.rate.norm} figures reported by the suite should be close
+ * to zero for every benchmark here. </p>
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeEscapeBenchmark
+{
+  private int[] values;
+  private int index;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeEscapeBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x6a72616e67657321L);
+    this.values = new int[1024];
+    for (int i = 0; i < this.values.length; ++i) {
+      this.values[i] = random.nextInt(2048);
+    }
+  }
+
+  private int nextValue()
+  {
+    this.index = (this.index + 1) & (this.values.length - 1);
+    return this.values[this.index];
+  }
+
+  @Benchmark
+  public boolean inclusiveL()
+  {
+    final long x = this.nextValue();
+    return RangeInclusiveL.of(x >> 1, x + 512L).includesValue(x + 256L);
+  }
+
+  @Benchmark
+  public boolean inclusiveI()
+  {
+    final int x = this.nextValue();
+    return RangeInclusiveI.of(x >> 1, x + 512).includesValue(x + 256);
+  }
+
+  @Benchmark
+  public boolean halfOpenL()
+  {
+    final long x = this.nextValue();
+    return RangeHalfOpenL.of(x >> 1, x + 512L).includesValue(x + 256L);
+  }
+
+  @Benchmark
+  public boolean halfOpenI()
+  {
+    final int x = this.nextValue();
+    return RangeHalfOpenI.of(x >> 1, x + 512).includesValue(x + 256);
+  }
+
+  @Benchmark
+  public boolean nestedInclusiveL()
+  {
+    final long x = this.nextValue();
+    final var inner = RangeInclusiveL.of(x, x + 16L);
+    final var outer = RangeInclusiveL.of(x >> 1, x + 512L);
+    return inner.isIncludedIn(outer);
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeFilter;
+import com.io7m.jranges.RangeHalfOpenFilter;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeInclusiveD;
+import com.io7m.jranges.RangeInclusiveI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing the range filters against a straightforward
+ * branching loop, at a selectivity of 50%.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeFilterBenchmark
+{
+  @Param({"65536"})
+  private int size;
+
+  private long[] longs;
+  private int[] ints;
+  private double[] doubles;
+  private int[] selection;
+  private long[] bitmap;
+  private RangeHalfOpenL halfOpenL;
+  private RangeInclusiveI inclusiveI;
+  private RangeInclusiveD inclusiveD;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeFilterBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x6a72616e67657321L);
+
+    this.longs = new long[this.size];
+    this.ints = new int[this.size];
+    this.doubles = new double[this.size];
+    this.selection = new int[this.size];
+    this.bitmap = new long[(this.size + 63) / 64];
+
+    for (int index = 0; index < this.size; ++index) {
+      final var value = random.nextInt(1_000_000);
+      this.longs[index] = value;
+      this.ints[index] = value;
+      this.doubles[index] = value;
+    }
+
+    this.halfOpenL = RangeHalfOpenL.of(250_000L, 750_000L);
+    this.inclusiveI = RangeInclusiveI.of(250_000, 749_999);
+    this.inclusiveD = RangeInclusiveD.of(250_000.0, 749_999.0);
+  }
+
+  @Benchmark
+  public int selectBranchingLong()
+  {
+    int count = 0;
+    for (int index = 0; index < this.longs.length; ++index) {
+      if (this.halfOpenL.includesValue(this.longs[index])) {
+        this.selection[count] = index;
+        ++count;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int selectIncludedInLong()
+  {
+    return RangeHalfOpenFilter.selectIncludedInLong(
+      this.longs, 0, this.longs.length, this.halfOpenL, this.selection, 0);
+  }
+
+  @Benchmark
+  public int maskIncludedInLong()
+  {
+    return RangeHalfOpenFilter.maskIncludedInLong(
+      this.longs, 0, this.longs.length, this.halfOpenL, this.bitmap);
+  }
+
+  @Benchmark
+  public int selectBranchingInteger()
+  {
+    int count = 0;
+    for (int index = 0; index < this.ints.length; ++index) {
+      if (this.inclusiveI.includesValue(this.ints[index])) {
+        this.selection[count] = index;
+        ++count;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int selectIncludedInInteger()
+  {
+    return RangeFilter.selectIncludedInInteger(
+      this.ints, 0, this.ints.length, this.inclusiveI, this.selection, 0);
+  }
+
+  @Benchmark
+  public int maskIncludedInInteger()
+  {
+    return RangeFilter.maskIncludedInInteger(
+      this.ints, 0, this.ints.length, this.inclusiveI, this.bitmap);
+  }
+
+  @Benchmark
+  public int selectBranchingDouble()
+  {
+    int count = 0;
+    for (int index = 0; index < this.doubles.length; ++index) {
+      if (this.inclusiveD.includesValue(this.doubles[index])) {
+        this.selection[count] = index;
+        ++count;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int selectIncludedInDouble()
+  {
+    return RangeFilter.selectIncludedInDouble(
+      this.doubles, 0, this.doubles.length, this.inclusiveD, this.selection, 0);
+  }
+
+  @Benchmark
+  public int maskIncludedInDouble()
+  {
+    return RangeFilter.maskIncludedInDouble(
+      this.doubles, 0, this.doubles.length, this.inclusiveD, this.bitmap);
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeHalfOpenB;
+import com.io7m.jranges.RangeHalfOpenCheck;
+import com.io7m.jranges.RangeHalfOpenI;
+import com.io7m.jranges.RangeHalfOpenL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the success and failure paths of {@link RangeHalfOpenCheck}.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeHalfOpenCheckBenchmark
+{
+  private long longHigh;
+  private long longMiddle;
+  private int intHigh;
+  private int intMiddle;
+  private BigInteger bigHigh;
+  private BigInteger bigMiddle;
+  private RangeHalfOpenL halfOpenL;
+  private RangeHalfOpenL halfOpenInnerL;
+  private RangeHalfOpenI halfOpenI;
+  private RangeHalfOpenI halfOpenInnerI;
+  private RangeHalfOpenB halfOpenB;
+  private RangeHalfOpenB halfOpenInnerB;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeHalfOpenCheckBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.longHigh = 100L;
+    this.longMiddle = 50L;
+    this.intHigh = 100;
+    this.intMiddle = 50;
+    this.bigHigh = BigInteger.valueOf(this.longHigh);
+    this.bigMiddle = BigInteger.valueOf(this.longMiddle);
+
+    this.halfOpenL =
+      RangeHalfOpenL.of(0L, this.longHigh);
+    this.halfOpenInnerL =
+      RangeHalfOpenL.of(1L, this.longHigh - 1L);
+    this.halfOpenI =
+      RangeHalfOpenI.of(0, this.intHigh);
+    this.halfOpenInnerI =
+      RangeHalfOpenI.of(1, this.intHigh - 1);
+    this.halfOpenB =
+      RangeHalfOpenB.of(BigInteger.ZERO, this.bigHigh);
+    this.halfOpenInnerB =
+      RangeHalfOpenB.of(BigInteger.ONE, this.bigHigh.subtract(BigInteger.ONE));
+  }
+
+  @Benchmark
+  public long checkIncludedInLongSuccess()
+  {
+    return RangeHalfOpenCheck.checkIncludedInLong(this.longMiddle, "x", this.halfOpenL, "range");
+  }
+
+  @Benchmark
+  public RangeCheckException checkIncludedInLongFailure()
+  {
+    try {
+      RangeHalfOpenCheck.checkIncludedInLong(this.longHigh, "x", this.halfOpenL, "range");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public int checkIncludedInIntegerSuccess()
+  {
+    return RangeHalfOpenCheck.checkIncludedInInteger(this.intMiddle, "x", this.halfOpenI, "range");
+  }
+
+  @Benchmark
+  public RangeCheckException checkIncludedInIntegerFailure()
+  {
+    try {
+      RangeHalfOpenCheck.checkIncludedInInteger(this.intHigh, "x", this.halfOpenI, "range");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public BigInteger checkIncludedInBigSuccess()
+  {
+    return RangeHalfOpenCheck.checkIncludedInBig(this.bigMiddle, "x", this.halfOpenB, "range");
+  }
+
+  @Benchmark
+  public RangeCheckException checkIncludedInBigFailure()
+  {
+    try {
+      RangeHalfOpenCheck.checkIncludedInBig(this.bigHigh, "x", this.halfOpenB, "range");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public RangeHalfOpenL checkRangeIncludedInLongSuccess()
+  {
+    return RangeHalfOpenCheck.checkRangeIncludedInLong(this.halfOpenInnerL, "inner", this.halfOpenL, "outer");
+  }
+
+  @Benchmark
+  public RangeCheckException checkRangeIncludedInLongFailure()
+  {
+    try {
+      RangeHalfOpenCheck.checkRangeIncludedInLong(this.halfOpenL, "outer", this.halfOpenInnerL, "inner");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public RangeHalfOpenI checkRangeIncludedInIntegerSuccess()
+  {
+    return RangeHalfOpenCheck.checkRangeIncludedInInteger(this.halfOpenInnerI, "inner", this.halfOpenI, "outer");
+  }
+
+  @Benchmark
+  public RangeCheckException checkRangeIncludedInIntegerFailure()
+  {
+    try {
+      RangeHalfOpenCheck.checkRangeIncludedInInteger(this.halfOpenI, "outer", this.halfOpenInnerI, "inner");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+
+  @Benchmark
+  public RangeHalfOpenB checkRangeIncludedInBigSuccess()
+  {
+    return RangeHalfOpenCheck.checkRangeIncludedInBig(this.halfOpenInnerB, "inner", this.halfOpenB, "outer");
+  }
+
+  @Benchmark
+  public RangeCheckException checkRangeIncludedInBigFailure()
+  {
+    try {
+      RangeHalfOpenCheck.checkRangeIncludedInBig(this.halfOpenB, "outer", this.halfOpenInnerB, "inner");
+    } catch (final RangeCheckException e) {
+      return e;
+    }
+    throw new IllegalStateException();
+  }
+}
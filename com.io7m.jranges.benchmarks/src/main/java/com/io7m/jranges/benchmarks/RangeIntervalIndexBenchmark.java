@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeInclusiveL;
+import com.io7m.jranges.RangeIntervalIndexL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing stabbing queries on an interval index against a
+ * linear scan of the ranges.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeIntervalIndexBenchmark
+{
+  @Param({"10000"})
+  private int size;
+
+  private RangeInclusiveL[] ranges;
+  private RangeIntervalIndexL index;
+  private long[] points;
+  private int point;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeIntervalIndexBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x6a72616e67657321L);
+
+    this.ranges = new RangeInclusiveL[this.size];
+    for (int i = 0; i < this.size; ++i) {
+      final long lower = random.nextInt(86_400_000);
+      this.ranges[i] =
+        RangeInclusiveL.of(lower, lower + random.nextInt(60_000));
+    }
+    this.index = RangeIntervalIndexL.ofInclusive(this.ranges);
+
+    this.points = new long[1024];
+    for (int i = 0; i < this.points.length; ++i) {
+      this.points[i] = random.nextInt(86_400_000);
+    }
+  }
+
+  private long nextPoint()
+  {
+    this.point = (this.point + 1) & (this.points.length - 1);
+    return this.points[this.point];
+  }
+
+  @Benchmark
+  public int containingLinear(
+    final Blackhole blackhole)
+  {
+    final long x = this.nextPoint();
+    int count = 0;
+    for (int i = 0; i < this.ranges.length; ++i) {
+      if (this.ranges[i].includesValue(x)) {
+        blackhole.consume(i);
+        ++count;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int containingIndex(
+    final Blackhole blackhole)
+  {
+    return this.index.containing(this.nextPoint(), blackhole::consume);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeMapLToInt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing point lookups in a range map against the
+ * {@link TreeMap#floorEntry(Object)} idiom.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeMapBenchmark
+{
+  @Param({"100000"})
+  private int size;
+
+  private RangeMapLToInt map;
+  private TreeMap<Long, Segment> treeMap;
+  private long[] points;
+  private int point;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeMapBenchmark()
+  {
+
+  }
+
+  private record Segment(long upper, int id)
+  {
+
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x6a72616e67657321L);
+
+    this.map = RangeMapLToInt.create();
+    this.treeMap = new TreeMap<>();
+
+    long lower = 0L;
+    for (int i = 0; i < this.size; ++i) {
+      final long upper = lower + 1L + random.nextInt(4096);
+      this.map.put(RangeHalfOpenL.of(lower, upper), i);
+      this.treeMap.put(Long.valueOf(lower), new Segment(upper, i));
+      lower = upper + random.nextInt(64);
+    }
+
+    this.points = new long[1024];
+    for (int i = 0; i < this.points.length; ++i) {
+      this.points[i] = (long) (random.nextDouble() * lower);
+    }
+  }
+
+  private long nextPoint()
+  {
+    this.point = (this.point + 1) & (this.points.length - 1);
+    return this.points[this.point];
+  }
+
+  @Benchmark
+  public int lookupTreeMap()
+  {
+    final long x = this.nextPoint();
+    final var entry = this.treeMap.floorEntry(Long.valueOf(x));
+    if (entry != null && x < entry.getValue().upper()) {
+      return entry.getValue().id();
+    }
+    return -1;
+  }
+
+  @Benchmark
+  public int lookupRangeMap()
+  {
+    return this.map.getOrDefault(this.nextPoint(), -1);
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeArrayL;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeMerger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing a k-way merge of sorted range sources using an
+ * object {@code PriorityQueue} against {@link RangeMerger}.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeMergerBenchmark
+{
+  @Param({"256"})
+  private int sources;
+
+  @Param({"1024"})
+  private int rangesPerSource;
+
+  private List<List<RangeHalfOpenL>> lists;
+  private List<RangeArrayL> arrays;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeMergerBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x6a72616e67657321L);
+    this.lists = new ArrayList<>();
+    this.arrays = new ArrayList<>();
+    for (int s = 0; s < this.sources; ++s) {
+      final var list = new ArrayList<RangeHalfOpenL>();
+      final var array = RangeArrayL.create(this.rangesPerSource);
+      long lower = random.nextInt(1 << 20);
+      for (int i = 0; i < this.rangesPerSource; ++i) {
+        final long upper = lower + 1L + random.nextInt(4096);
+        list.add(RangeHalfOpenL.of(lower, upper));
+        array.add(lower, upper - 1L);
+        lower = upper + random.nextInt(1 << 16);
+      }
+      this.lists.add(list);
+      this.arrays.add(array);
+    }
+  }
+
+  private static final class Head
+  {
+    private final RangeHalfOpenL range;
+    private final int source;
+    private final Iterator<RangeHalfOpenL> rest;
+
+    Head(
+      final RangeHalfOpenL inRange,
+      final int inSource,
+      final Iterator<RangeHalfOpenL> inRest)
+    {
+      this.range = inRange;
+      this.source = inSource;
+      this.rest = inRest;
+    }
+  }
+
+  @Benchmark
+  public long priorityQueue()
+  {
+    final var queue = new PriorityQueue<Head>(
+      Comparator.<Head>comparingLong(h -> h.range.lower())
+        .thenComparingInt(h -> h.source));
+    for (int s = 0; s < this.lists.size(); ++s) {
+      final var iterator = this.lists.get(s).iterator();
+      if (iterator.hasNext()) {
+        queue.add(new Head(iterator.next(), s, iterator));
+      }
+    }
+
+    long sum = 0L;
+    while (!queue.isEmpty()) {
+      final var head = queue.poll();
+      sum += head.range.lower() + head.source;
+      if (head.rest.hasNext()) {
+        queue.add(new Head(head.rest.next(), head.source, head.rest));
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long mergerIterators()
+  {
+    final var merger = RangeMerger.ofIterators(
+      this.lists.stream().map(List::iterator).toList(), false);
+    long sum = 0L;
+    while (merger.advance()) {
+      sum += merger.lower() + merger.source();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long mergerArrays()
+  {
+    final var merger = RangeMerger.ofArrays(this.arrays, false);
+    long sum = 0L;
+    while (merger.advance()) {
+      sum += merger.lower() + merger.source();
+    }
+    return sum;
+  }
+}
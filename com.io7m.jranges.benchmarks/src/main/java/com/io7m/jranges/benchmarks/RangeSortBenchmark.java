@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.benchmarks;
+
+import com.io7m.jranges.RangeInclusiveL;
+import com.io7m.jranges.RangeSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing sorting ranges as objects with a comparator against
+ * sorting interleaved bounds with radix and parallel sorts.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeSortBenchmark
+{
+  private static final Comparator<RangeInclusiveL> ORDER =
+    Comparator.comparingLong(RangeInclusiveL::lower)
+      .thenComparingLong(RangeInclusiveL::upper);
+
+  @Param({"1000000"})
+  private int count;
+
+  private RangeInclusiveL[] ranges;
+  private long[] bounds;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RangeSortBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the benchmark state.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final var random = new Random(0x6a72616e67657321L);
+    this.ranges = new RangeInclusiveL[this.count];
+    this.bounds = new long[this.count * 2];
+    for (int i = 0; i < this.count; ++i) {
+      final long lower = random.nextLong() >> 16;
+      final long upper = lower + random.nextInt(1 << 20);
+      this.ranges[i] = RangeInclusiveL.of(lower, upper);
+      this.bounds[i * 2] = lower;
+      this.bounds[i * 2 + 1] = upper;
+    }
+  }
+
+  @Benchmark
+  public RangeInclusiveL[] comparator()
+  {
+    final var copy = this.ranges.clone();
+    Arrays.sort(copy, ORDER);
+    return copy;
+  }
+
+  @Benchmark
+  public long[] radix()
+  {
+    final var copy = this.bounds.clone();
+    RangeSort.radixSortL(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public long[] parallel()
+  {
+    final var copy = this.bounds.clone();
+    RangeSort.parallelSortL(copy);
+    return copy;
+  }
+}
@@ -0,0 +1,505 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * <p> A mutable, growable array of inclusive {@code long} ranges, stored as
+ * a pair of parallel {@code long[]} columns holding the lower and upper
+ * bounds. </p>
+ *
+ * <p> Each range costs {@code 16} bytes and the array as a whole is two
+ * objects, however many ranges it holds, so very large collections of ranges
+ * add almost nothing to the work of the garbage collector. Ranges are
+ * exchanged with callers as pairs of primitive bounds, or as
+ * {@link RangeInclusiveL} values that are created on demand. </p>
+ *
+ * <p> The bulk operations {@link #sort()} and {@link #coalesce()} work in
+ * place on the columns. {@link #binarySearch(long)} requires the array to
+ * be sorted and coalesced. </p>
+ *
+ * @see RangeSetL
+ * @since 6.1.0
+ */
+
+public final class RangeArrayL
+{
+  private static final int INITIAL_CAPACITY = 8;
+
+  private long[] lowers;
+  private long[] uppers;
+  private int count;
+
+  private RangeArrayL(
+    final int capacity)
+  {
+    this.lowers = new long[capacity];
+    this.uppers = new long[capacity];
+    this.count = 0;
+  }
+
+  /**
+   * A receiver of ranges as pairs of primitive bounds.
+   */
+
+  @FunctionalInterface
+  public interface ReceiverType
+  {
+    /**
+     * Receive a range.
+     *
+     * @param lower The lower bound
+     * @param upper The upper bound
+     */
+
+    void receive(
+      long lower,
+      long upper);
+  }
+
+  /**
+   * @return A new empty array
+   */
+
+  public static RangeArrayL create()
+  {
+    return new RangeArrayL(INITIAL_CAPACITY);
+  }
+
+  /**
+   * @param capacity The initial capacity, in ranges
+   *
+   * @return A new empty array
+   *
+   * @throws IllegalArgumentException If {@code capacity < 0}
+   */
+
+  public static RangeArrayL create(
+    final int capacity)
+  {
+    if (capacity < 0) {
+      throw new IllegalArgumentException(
+        "Capacity %d must be non-negative".formatted(
+          Integer.valueOf(capacity)));
+    }
+    return new RangeArrayL(capacity);
+  }
+
+  /**
+   * @param ranges The ranges
+   *
+   * @return A new array containing the given ranges, in order
+   */
+
+  public static RangeArrayL of(
+    final RangeInclusiveL... ranges)
+  {
+    Objects.requireNonNull(ranges, "Ranges");
+
+    final var array = create(ranges.length);
+    for (final var range : ranges) {
+      array.add(range);
+    }
+    return array;
+  }
+
+  /**
+   * @return A copy of this array
+   */
+
+  public RangeArrayL copy()
+  {
+    final var result = new RangeArrayL(this.count);
+    System.arraycopy(this.lowers, 0, result.lowers, 0, this.count);
+    System.arraycopy(this.uppers, 0, result.uppers, 0, this.count);
+    result.count = this.count;
+    return result;
+  }
+
+  /**
+   * @return The number of ranges in the array
+   */
+
+  public int size()
+  {
+    return this.count;
+  }
+
+  /**
+   * @return {@code true} iff the array contains no ranges
+   */
+
+  public boolean isEmpty()
+  {
+    return this.count == 0;
+  }
+
+  /**
+   * Remove all ranges from the array.
+   */
+
+  public void clear()
+  {
+    this.count = 0;
+  }
+
+  /**
+   * Reduce the capacity of the array to its size.
+   */
+
+  public void trimToSize()
+  {
+    if (this.lowers.length != this.count) {
+      this.lowers = Arrays.copyOf(this.lowers, this.count);
+      this.uppers = Arrays.copyOf(this.uppers, this.count);
+    }
+  }
+
+  /**
+   * Add a range to the end of the array.
+   *
+   * @param range The range
+   */
+
+  public void add(
+    final RangeInclusiveL range)
+  {
+    Objects.requireNonNull(range, "Range");
+    this.addUnchecked(range.lower(), range.upper());
+  }
+
+  /**
+   * Add the range {@code [lower, upper]} to the end of the array.
+   *
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @throws RangeCheckException If {@code lower > upper}
+   */
+
+  public void add(
+    final long lower,
+    final long upper)
+  {
+    RangeCheck.checkLessEqualLong(lower, "lower", upper, "upper");
+    this.addUnchecked(lower, upper);
+  }
+
+  /**
+   * Add all of the ranges in {@code other} to the end of the array.
+   *
+   * @param other The other array
+   */
+
+  public void addAll(
+    final RangeArrayL other)
+  {
+    Objects.requireNonNull(other, "Other");
+
+    final int otherCount = other.count;
+    this.ensureCapacity(this.count + otherCount);
+    System.arraycopy(other.lowers, 0, this.lowers, this.count, otherCount);
+    System.arraycopy(other.uppers, 0, this.uppers, this.count, otherCount);
+    this.count += otherCount;
+  }
+
+  /**
+   * @param index The index of the range, in {@code [0, size())}
+   *
+   * @return The lower bound of the range at {@code index}
+   */
+
+  public long lower(
+    final int index)
+  {
+    return this.lowers[Objects.checkIndex(index, this.count)];
+  }
+
+  /**
+   * @param index The index of the range, in {@code [0, size())}
+   *
+   * @return The upper bound of the range at {@code index}
+   */
+
+  public long upper(
+    final int index)
+  {
+    return this.uppers[Objects.checkIndex(index, this.count)];
+  }
+
+  /**
+   * @param index The index of the range, in {@code [0, size())}
+   *
+   * @return The range at {@code index}
+   */
+
+  public RangeInclusiveL get(
+    final int index)
+  {
+    Objects.checkIndex(index, this.count);
+    return RangeInclusiveL.of(this.lowers[index], this.uppers[index]);
+  }
+
+  /**
+   * Replace the range at {@code index} with {@code [lower, upper]}.
+   *
+   * @param index The index of the range, in {@code [0, size())}
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @throws RangeCheckException If {@code lower > upper}
+   */
+
+  public void set(
+    final int index,
+    final long lower,
+    final long upper)
+  {
+    Objects.checkIndex(index, this.count);
+    RangeCheck.checkLessEqualLong(lower, "lower", upper, "upper");
+    this.lowers[index] = lower;
+    this.uppers[index] = upper;
+  }
+
+  /**
+   * @return A live, unmodifiable list view of the array that creates
+   * {@link RangeInclusiveL} values on demand
+   */
+
+  public List<RangeInclusiveL> view()
+  {
+    return new View();
+  }
+
+  /**
+   * Pass each range in the array to {@code receiver}, in order.
+   *
+   * @param receiver The receiver
+   */
+
+  public void forEach(
+    final ReceiverType receiver)
+  {
+    Objects.requireNonNull(receiver, "Receiver");
+
+    for (int index = 0; index < this.count; ++index) {
+      receiver.receive(this.lowers[index], this.uppers[index]);
+    }
+  }
+
+  /**
+   * @return {@code true} iff the ranges are in ascending order of lower
+   * bound, and then of upper bound
+   */
+
+  public boolean isSorted()
+  {
+    for (int index = 1; index < this.count; ++index) {
+      if (compare(this.lowers, this.uppers, index - 1, index) > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Sort the ranges into ascending order of lower bound, and then of upper
+   * bound. The sort is a stable radix sort over the columns, and allocates
+   * scratch columns sized to the number of ranges held, not the capacity.
+   */
+
+  public void sort()
+  {
+    if (!this.isSorted()) {
+      RangeSort.radixSortColumnsL(this.lowers, this.uppers, this.count);
+    }
+  }
+
+  /**
+   * Sort the ranges (if they are not already sorted) and then merge any
+   * ranges that overlap or are adjacent (such as {@code [0, 3]} and
+   * {@code [4, 7]}), so that the array holds the minimal sorted sequence of
+   * disjoint ranges covering the same values.
+   *
+   * @return The number of ranges remaining
+   */
+
+  public int coalesce()
+  {
+    this.sort();
+
+    if (this.count == 0) {
+      return 0;
+    }
+
+    int last = 0;
+    for (int index = 1; index < this.count; ++index) {
+      final long lower = this.lowers[index];
+      final long lastUpper = this.uppers[last];
+      if (lower <= lastUpper || lastUpper + 1L == lower) {
+        this.uppers[last] = Math.max(lastUpper, this.uppers[index]);
+      } else {
+        ++last;
+        this.lowers[last] = lower;
+        this.uppers[last] = this.uppers[index];
+      }
+    }
+    this.count = last + 1;
+    return this.count;
+  }
+
+  /**
+   * Find the range that includes {@code x}. The array must be sorted and
+   * coalesced (see {@link #coalesce()}); otherwise, the result is
+   * undefined.
+   *
+   * @param x The value
+   *
+   * @return The index of the range that includes {@code x} if there is one,
+   * otherwise {@code (-(insertion point) - 1)}, where the insertion point is
+   * the index at which a range including {@code x} would be inserted
+   */
+
+  public int binarySearch(
+    final long x)
+  {
+    int low = 0;
+    int high = this.count;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (this.lowers[middle] <= x) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+
+    final int candidate = low - 1;
+    if (candidate >= 0 && x <= this.uppers[candidate]) {
+      return candidate;
+    }
+    return -low - 1;
+  }
+
+  private void addUnchecked(
+    final long lower,
+    final long upper)
+  {
+    this.ensureCapacity(this.count + 1);
+    this.lowers[this.count] = lower;
+    this.uppers[this.count] = upper;
+    ++this.count;
+  }
+
+  private void ensureCapacity(
+    final int capacity)
+  {
+    if (capacity > this.lowers.length) {
+      final int newCapacity =
+        Math.max(
+          Math.max(capacity, INITIAL_CAPACITY),
+          this.lowers.length + (this.lowers.length >> 1));
+      this.lowers = Arrays.copyOf(this.lowers, newCapacity);
+      this.uppers = Arrays.copyOf(this.uppers, newCapacity);
+    }
+  }
+
+  private static int compare(
+    final long[] lowers,
+    final long[] uppers,
+    final int i,
+    final int j)
+  {
+    final int c = Long.compare(lowers[i], lowers[j]);
+    return c != 0 ? c : Long.compare(uppers[i], uppers[j]);
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof final RangeArrayL that)) {
+      return false;
+    }
+    return Arrays.equals(
+      this.lowers, 0, this.count, that.lowers, 0, that.count)
+      && Arrays.equals(
+      this.uppers, 0, this.count, that.uppers, 0, that.count);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    int result = 1;
+    for (int index = 0; index < this.count; ++index) {
+      result = 31 * result + Long.hashCode(this.lowers[index]);
+      result = 31 * result + Long.hashCode(this.uppers[index]);
+    }
+    return result;
+  }
+
+  @Override
+  public String toString()
+  {
+    final var text = new StringBuilder(16 + this.count * 16);
+    text.append("RangeArrayL{");
+    for (int index = 0; index < this.count; ++index) {
+      if (index > 0) {
+        text.append(", ");
+      }
+      text.append('[');
+      text.append(this.lowers[index]);
+      text.append(", ");
+      text.append(this.uppers[index]);
+      text.append(']');
+    }
+    text.append('}');
+    return text.toString();
+  }
+
+  private final class View
+    extends AbstractList<RangeInclusiveL>
+    implements RandomAccess
+  {
+    View()
+    {
+
+    }
+
+    @Override
+    public RangeInclusiveL get(
+      final int index)
+    {
+      return RangeArrayL.this.get(index);
+    }
+
+    @Override
+    public int size()
+    {
+      return RangeArrayL.this.count;
+    }
+  }
+}
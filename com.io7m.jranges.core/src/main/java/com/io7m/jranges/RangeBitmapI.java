@@ -0,0 +1,1396 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * <p> A mutable, compressed set of {@code int} values confined to a domain
+ * given by an inclusive range. </p>
+ *
+ * <p> The set is organized in the manner of a <i>Roaring</i> bitmap: the
+ * values are divided into chunks of {@code 65536} values by their upper 16
+ * bits, and each non-empty chunk is stored in whichever of three container
+ * representations is smallest for its contents: </p>
+ *
+ * <ul>
+ *   <li>A sorted array of the lower 16 bits of the values, for sparse
+ *   chunks of at most {@code 4096} values.</li>
+ *   <li>A bitmap of {@code 65536} bits, for dense chunks.</li>
+ *   <li>A sorted list of runs of consecutive values, for chunks made up of
+ *   long runs.</li>
+ * </ul>
+ *
+ * <p> The representation is chosen when containers are produced by
+ * {@link #add(RangeInclusiveI)}, {@link #and}, {@link #or},
+ * {@link #andNot}, and {@link #optimize()}. Single-value updates convert
+ * between array and bitmap containers as the cardinality of a chunk crosses
+ * {@code 4096}, and convert a run container that has become larger than a
+ * bitmap, but otherwise keep the existing representation. </p>
+ *
+ * <p> Updates and the {@link #and} and {@link #andNot} operations work on
+ * the array and run representations directly where they can, and allocate
+ * at most one bitmap of scratch space per call. </p>
+ *
+ * <p> Instances are not thread-safe. </p>
+ *
+ * @since 6.1.0
+ */
+
+public final class RangeBitmapI
+{
+  private static final int CHUNK_BITS = 16;
+  private static final int CHUNK_MAX = 0xffff;
+  private static final int WORDS = 1024;
+  private static final int ARRAY_MAX = 4096;
+  private static final int BITMAP_BYTES = WORDS * 8;
+
+  private final RangeInclusiveI domain;
+  private char[] keys;
+  private Container[] containers;
+  private int size;
+
+  private RangeBitmapI(
+    final RangeInclusiveI inDomain,
+    final int capacity)
+  {
+    this.domain = Objects.requireNonNull(inDomain, "Domain");
+    this.keys = new char[capacity];
+    this.containers = new Container[capacity];
+    this.size = 0;
+  }
+
+  /**
+   * @param domain The domain of the set
+   *
+   * @return A new empty set
+   */
+
+  public static RangeBitmapI create(
+    final RangeInclusiveI domain)
+  {
+    return new RangeBitmapI(domain, 4);
+  }
+
+  /**
+   * @param domain The domain of the set
+   * @param ranges The ranges
+   *
+   * @return A new set containing the values in all of the given ranges
+   *
+   * @throws RangeCheckException If any range is not included in
+   *                             {@code domain}
+   */
+
+  public static RangeBitmapI of(
+    final RangeInclusiveI domain,
+    final RangeInclusiveI... ranges)
+  {
+    Objects.requireNonNull(ranges, "Ranges");
+
+    final var result = create(domain);
+    for (final var range : ranges) {
+      result.add(range);
+    }
+    return result;
+  }
+
+  /**
+   * @return The domain of the set
+   */
+
+  public RangeInclusiveI domain()
+  {
+    return this.domain;
+  }
+
+  /**
+   * @return The number of values in the set
+   */
+
+  public long cardinality()
+  {
+    long result = 0L;
+    for (int index = 0; index < this.size; ++index) {
+      result += this.containers[index].cardinality();
+    }
+    return result;
+  }
+
+  /**
+   * @return {@code true} iff the set is empty
+   */
+
+  public boolean isEmpty()
+  {
+    return this.size == 0;
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return {@code true} iff {@code x} is in the set
+   */
+
+  public boolean contains(
+    final int x)
+  {
+    final int index = this.findKey(key(x));
+    return index >= 0 && this.containers[index].contains(low(x));
+  }
+
+  /**
+   * @param range The range
+   *
+   * @return {@code true} iff every value in {@code range} is in the set
+   */
+
+  public boolean containsAll(
+    final RangeInclusiveI range)
+  {
+    Objects.requireNonNull(range, "Range");
+
+    final long expected = (long) range.upper() - (long) range.lower() + 1L;
+    final long below = range.lower() == Integer.MIN_VALUE
+      ? 0L : this.rank(range.lower() - 1);
+    return this.rank(range.upper()) - below == expected;
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return The number of values in the set that are {@code <= x}
+   */
+
+  public long rank(
+    final int x)
+  {
+    final char key = key(x);
+    long result = 0L;
+    for (int index = 0; index < this.size; ++index) {
+      final char k = this.keys[index];
+      if (k < key) {
+        result += this.containers[index].cardinality();
+      } else {
+        if (k == key) {
+          result += this.containers[index].rank(low(x));
+        }
+        break;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Add {@code x} to the set.
+   *
+   * @param x The value
+   *
+   * @throws RangeCheckException If {@code x} is not in the domain
+   */
+
+  public void add(
+    final int x)
+  {
+    RangeCheck.checkIncludedInInteger(x, "Value", this.domain, "Domain");
+
+    final char key = key(x);
+    int index = this.findKey(key);
+    if (index < 0) {
+      index = -(index + 1);
+      this.insert(index, key, new ArrayContainer());
+    }
+    this.containers[index] = this.containers[index].add(low(x));
+  }
+
+  /**
+   * Add every value in {@code range} to the set.
+   *
+   * @param range The range
+   *
+   * @throws RangeCheckException If {@code range} is not included in the
+   *                             domain
+   */
+
+  public void add(
+    final RangeInclusiveI range)
+  {
+    RangeCheck.checkRangeIncludedInInteger(
+      range, "Range", this.domain, "Domain");
+
+    final char firstKey = key(range.lower());
+    final char lastKey = key(range.upper());
+    for (int k = firstKey; k <= lastKey; ++k) {
+      final char key = (char) k;
+      final int start = key == firstKey ? low(range.lower()) : 0;
+      final int end = key == lastKey ? low(range.upper()) : CHUNK_MAX;
+
+      final int index = this.findKey(key);
+      if (index < 0) {
+        this.insert(-(index + 1), key, RunContainer.ofRange(start, end));
+      } else {
+        this.containers[index] =
+          this.containers[index].addRange(start, end);
+      }
+    }
+  }
+
+  /**
+   * Remove {@code x} from the set.
+   *
+   * @param x The value
+   */
+
+  public void remove(
+    final int x)
+  {
+    final int index = this.findKey(key(x));
+    if (index >= 0) {
+      final var result = this.containers[index].remove(low(x));
+      if (result.cardinality() == 0) {
+        this.delete(index);
+      } else {
+        this.containers[index] = result;
+      }
+    }
+  }
+
+  /**
+   * Re-examine every container, and convert it to the smallest
+   * representation for its current contents.
+   */
+
+  public void optimize()
+  {
+    final long[] words = new long[WORDS];
+    for (int index = 0; index < this.size; ++index) {
+      Arrays.fill(words, 0L);
+      this.containers[index].orInto(words);
+      this.containers[index] = fromWords(words);
+    }
+  }
+
+  /**
+   * @return An estimate of the number of bytes used to hold the values in
+   * the set, excluding fixed per-object overheads
+   */
+
+  public long sizeInBytes()
+  {
+    long result = this.keys.length * 2L + this.containers.length * 4L;
+    for (int index = 0; index < this.size; ++index) {
+      result += this.containers[index].sizeInBytes();
+    }
+    return result;
+  }
+
+  /**
+   * @param other The other set
+   *
+   * @return A new set, with the domain of this set, containing the values
+   * that are in both sets
+   */
+
+  public RangeBitmapI and(
+    final RangeBitmapI other)
+  {
+    Objects.requireNonNull(other, "Other");
+
+    final var result = new RangeBitmapI(
+      this.domain, Math.max(1, Math.min(this.size, other.size)));
+    final long[] words = new long[WORDS];
+
+    int i = 0;
+    int j = 0;
+    while (i < this.size && j < other.size) {
+      final char ki = this.keys[i];
+      final char kj = other.keys[j];
+      if (ki < kj) {
+        ++i;
+      } else if (kj < ki) {
+        ++j;
+      } else {
+        final var a = this.containers[i];
+        final var b = other.containers[j];
+        final Container c;
+        if (a instanceof final ArrayContainer aa) {
+          c = aa.and(b);
+        } else if (b instanceof final ArrayContainer bb) {
+          c = bb.and(a);
+        } else {
+          Arrays.fill(words, 0L);
+          a.orInto(words);
+          b.andInto(words);
+          c = fromWords(words);
+        }
+        result.append(ki, c);
+        ++i;
+        ++j;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param other The other set
+   *
+   * @return A new set containing the values that are in either set, with
+   * the smallest domain that includes the domains of both sets
+   */
+
+  public RangeBitmapI or(
+    final RangeBitmapI other)
+  {
+    Objects.requireNonNull(other, "Other");
+
+    final var resultDomain = RangeInclusiveI.of(
+      Math.min(this.domain.lower(), other.domain.lower()),
+      Math.max(this.domain.upper(), other.domain.upper()));
+    final var result = new RangeBitmapI(
+      resultDomain, Math.max(1, this.size + other.size));
+    final long[] words = new long[WORDS];
+
+    int i = 0;
+    int j = 0;
+    while (i < this.size || j < other.size) {
+      final char ki = i < this.size ? this.keys[i] : Character.MAX_VALUE;
+      final char kj = j < other.size ? other.keys[j] : Character.MAX_VALUE;
+      if (j >= other.size || (i < this.size && ki < kj)) {
+        result.append(ki, this.containers[i].copy());
+        ++i;
+      } else if (i >= this.size || kj < ki) {
+        result.append(kj, other.containers[j].copy());
+        ++j;
+      } else {
+        Arrays.fill(words, 0L);
+        this.containers[i].orInto(words);
+        other.containers[j].orInto(words);
+        result.append(ki, fromWords(words));
+        ++i;
+        ++j;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param other The other set
+   *
+   * @return A new set, with the domain of this set, containing the values
+   * that are in this set but not in {@code other}
+   */
+
+  public RangeBitmapI andNot(
+    final RangeBitmapI other)
+  {
+    Objects.requireNonNull(other, "Other");
+
+    final var result = new RangeBitmapI(this.domain, Math.max(1, this.size));
+    final long[] words = new long[WORDS];
+
+    int j = 0;
+    for (int i = 0; i < this.size; ++i) {
+      final char ki = this.keys[i];
+      while (j < other.size && other.keys[j] < ki) {
+        ++j;
+      }
+      if (j < other.size && other.keys[j] == ki) {
+        Arrays.fill(words, 0L);
+        this.containers[i].orInto(words);
+        other.containers[j].andNotInto(words);
+        result.append(ki, fromWords(words));
+      } else {
+        result.append(ki, this.containers[i].copy());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Pass each maximal range of consecutive values in the set to
+   * {@code receiver}, in ascending order.
+   *
+   * @param receiver The receiver
+   */
+
+  public void forEachRange(
+    final Consumer<RangeInclusiveI> receiver)
+  {
+    Objects.requireNonNull(receiver, "Receiver");
+
+    final var pending = new long[]{0L, -1L};
+    final RunReceiverType runs = (start, end) -> {
+      if (pending[1] >= pending[0] && pending[1] + 1L == start) {
+        pending[1] = end;
+        return;
+      }
+      if (pending[1] >= pending[0]) {
+        receiver.accept(
+          RangeInclusiveI.of((int) pending[0], (int) pending[1]));
+      }
+      pending[0] = start;
+      pending[1] = end;
+    };
+
+    for (int index = 0; index < this.size; ++index) {
+      final long base = value(this.keys[index], 0);
+      this.containers[index].forEachRun(
+        (start, end) -> runs.accept(base + start, base + end));
+    }
+    if (pending[1] >= pending[0]) {
+      receiver.accept(RangeInclusiveI.of((int) pending[0], (int) pending[1]));
+    }
+  }
+
+  /**
+   * @return The maximal ranges of consecutive values in the set, in
+   * ascending order
+   */
+
+  public List<RangeInclusiveI> ranges()
+  {
+    final var result = new ArrayList<RangeInclusiveI>();
+    this.forEachRange(result::add);
+    return List.copyOf(result);
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof final RangeBitmapI that)) {
+      return false;
+    }
+    return this.domain.equals(that.domain)
+      && this.ranges().equals(that.ranges());
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return Objects.hash(this.domain, this.ranges());
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[RangeBitmapI %s %d]",
+      this.domain,
+      Long.valueOf(this.cardinality()));
+  }
+
+  /**
+   * Map the upper 16 bits of a value to a key such that the unsigned
+   * ordering of keys is the signed ordering of values.
+   */
+
+  private static char key(
+    final int x)
+  {
+    return (char) ((x >>> CHUNK_BITS) ^ 0x8000);
+  }
+
+  private static char low(
+    final int x)
+  {
+    return (char) x;
+  }
+
+  private static long value(
+    final char key,
+    final int low)
+  {
+    return ((long) (short) (key ^ 0x8000) << CHUNK_BITS) | low;
+  }
+
+  private int findKey(
+    final char key)
+  {
+    return Arrays.binarySearch(this.keys, 0, this.size, key);
+  }
+
+  private void insert(
+    final int index,
+    final char key,
+    final Container container)
+  {
+    if (this.size == this.keys.length) {
+      final int capacity = Math.max(4, this.size + (this.size >> 1));
+      this.keys = Arrays.copyOf(this.keys, capacity);
+      this.containers = Arrays.copyOf(this.containers, capacity);
+    }
+    final int tail = this.size - index;
+    System.arraycopy(this.keys, index, this.keys, index + 1, tail);
+    System.arraycopy(this.containers, index, this.containers, index + 1, tail);
+    this.keys[index] = key;
+    this.containers[index] = container;
+    ++this.size;
+  }
+
+  private void delete(
+    final int index)
+  {
+    final int tail = this.size - index - 1;
+    System.arraycopy(this.keys, index + 1, this.keys, index, tail);
+    System.arraycopy(this.containers, index + 1, this.containers, index, tail);
+    --this.size;
+    this.containers[this.size] = null;
+  }
+
+  private void append(
+    final char key,
+    final Container container)
+  {
+    if (container.cardinality() > 0) {
+      this.insert(this.size, key, container);
+    }
+  }
+
+  private static void setRange(
+    final long[] words,
+    final int start,
+    final int end)
+  {
+    final int first = start >>> 6;
+    final int last = end >>> 6;
+    final long firstMask = -1L << start;
+    final long lastMask = -1L >>> (63 - (end & 63));
+    if (first == last) {
+      words[first] |= firstMask & lastMask;
+      return;
+    }
+    words[first] |= firstMask;
+    for (int w = first + 1; w < last; ++w) {
+      words[w] = -1L;
+    }
+    words[last] |= lastMask;
+  }
+
+  private static void clearRange(
+    final long[] words,
+    final int start,
+    final int end)
+  {
+    final int first = start >>> 6;
+    final int last = end >>> 6;
+    final long firstMask = -1L << start;
+    final long lastMask = -1L >>> (63 - (end & 63));
+    if (first == last) {
+      words[first] &= ~(firstMask & lastMask);
+      return;
+    }
+    words[first] &= ~firstMask;
+    for (int w = first + 1; w < last; ++w) {
+      words[w] = 0L;
+    }
+    words[last] &= ~lastMask;
+  }
+
+  /**
+   * Build the smallest container for the values in {@code words}.
+   */
+
+  private static Container fromWords(
+    final long[] words)
+  {
+    return fromWords(words, false);
+  }
+
+  /**
+   * Build the smallest container for the values in {@code words}. If
+   * {@code owned} is {@code true}, a bitmap container may take ownership of
+   * {@code words} rather than copying it.
+   */
+
+  private static Container fromWords(
+    final long[] words,
+    final boolean owned)
+  {
+    int cardinality = 0;
+    int runs = 0;
+    long previous = 0L;
+    for (final long word : words) {
+      cardinality += Long.bitCount(word);
+      runs += Long.bitCount(word & ~((word << 1) | (previous >>> 63)));
+      previous = word;
+    }
+
+    final int runBytes = runs * 4;
+    final int arrayBytes =
+      cardinality <= ARRAY_MAX ? cardinality * 2 : Integer.MAX_VALUE;
+    if (runBytes < Math.min(arrayBytes, BITMAP_BYTES)) {
+      return RunContainer.ofWords(words, runs);
+    }
+    if (cardinality <= ARRAY_MAX) {
+      return ArrayContainer.ofWords(words, cardinality);
+    }
+    return new BitmapContainer(owned ? words : words.clone(), cardinality);
+  }
+
+  @FunctionalInterface
+  private interface RunReceiverType
+  {
+    void accept(
+      long start,
+      long end);
+  }
+
+  /**
+   * A container of the values in a single chunk, as 16-bit values.
+   */
+
+  private abstract static class Container
+  {
+    Container()
+    {
+
+    }
+
+    abstract int cardinality();
+
+    abstract boolean contains(char x);
+
+    abstract int rank(char x);
+
+    abstract Container add(char x);
+
+    abstract Container remove(char x);
+
+    abstract long sizeInBytes();
+
+    abstract Container copy();
+
+    abstract void orInto(long[] words);
+
+    abstract void forEachRun(RunReceiverType receiver);
+
+    abstract Container addRange(
+      int start,
+      int end);
+
+    abstract void andInto(long[] words);
+
+    abstract void andNotInto(long[] words);
+  }
+
+  private static final class ArrayContainer extends Container
+  {
+    private char[] values;
+    private int count;
+
+    ArrayContainer()
+    {
+      this(new char[4], 0);
+    }
+
+    ArrayContainer(
+      final char[] inValues,
+      final int inCount)
+    {
+      this.values = inValues;
+      this.count = inCount;
+    }
+
+    static ArrayContainer ofWords(
+      final long[] words,
+      final int cardinality)
+    {
+      final char[] values = new char[cardinality];
+      int count = 0;
+      for (int w = 0; w < WORDS; ++w) {
+        long word = words[w];
+        while (word != 0L) {
+          values[count] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+          ++count;
+          word &= word - 1L;
+        }
+      }
+      return new ArrayContainer(values, count);
+    }
+
+    @Override
+    int cardinality()
+    {
+      return this.count;
+    }
+
+    @Override
+    boolean contains(
+      final char x)
+    {
+      return Arrays.binarySearch(this.values, 0, this.count, x) >= 0;
+    }
+
+    @Override
+    int rank(
+      final char x)
+    {
+      final int index = Arrays.binarySearch(this.values, 0, this.count, x);
+      return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    @Override
+    Container add(
+      final char x)
+    {
+      final int index = Arrays.binarySearch(this.values, 0, this.count, x);
+      if (index >= 0) {
+        return this;
+      }
+      if (this.count == ARRAY_MAX) {
+        final long[] words = new long[WORDS];
+        this.orInto(words);
+        return new BitmapContainer(words, this.count).add(x);
+      }
+
+      final int at = -(index + 1);
+      if (this.count == this.values.length) {
+        this.values = Arrays.copyOf(
+          this.values, Math.min(ARRAY_MAX, this.count << 1));
+      }
+      System.arraycopy(this.values, at, this.values, at + 1, this.count - at);
+      this.values[at] = x;
+      ++this.count;
+      return this;
+    }
+
+    @Override
+    Container remove(
+      final char x)
+    {
+      final int index = Arrays.binarySearch(this.values, 0, this.count, x);
+      if (index >= 0) {
+        System.arraycopy(
+          this.values, index + 1, this.values, index, this.count - index - 1);
+        --this.count;
+      }
+      return this;
+    }
+
+    @Override
+    long sizeInBytes()
+    {
+      return this.values.length * 2L;
+    }
+
+    @Override
+    Container copy()
+    {
+      return new ArrayContainer(
+        Arrays.copyOf(this.values, this.count), this.count);
+    }
+
+    @Override
+    void orInto(
+      final long[] words)
+    {
+      for (int index = 0; index < this.count; ++index) {
+        final char x = this.values[index];
+        words[x >>> 6] |= 1L << x;
+      }
+    }
+
+    @Override
+    void forEachRun(
+      final RunReceiverType receiver)
+    {
+      int index = 0;
+      while (index < this.count) {
+        final int start = this.values[index];
+        int end = start;
+        ++index;
+        while (index < this.count && this.values[index] == end + 1) {
+          end = this.values[index];
+          ++index;
+        }
+        receiver.accept(start, end);
+      }
+    }
+
+    @Override
+    Container addRange(
+      final int start,
+      final int end)
+    {
+      return RunContainer.ofContainer(this).addRange(start, end);
+    }
+
+    @Override
+    void andInto(
+      final long[] words)
+    {
+      int index = 0;
+      for (int w = 0; w < WORDS; ++w) {
+        long mine = 0L;
+        while (index < this.count && (this.values[index] >>> 6) == w) {
+          mine |= 1L << this.values[index];
+          ++index;
+        }
+        words[w] &= mine;
+      }
+    }
+
+    @Override
+    void andNotInto(
+      final long[] words)
+    {
+      for (int index = 0; index < this.count; ++index) {
+        final char x = this.values[index];
+        words[x >>> 6] &= ~(1L << x);
+      }
+    }
+
+    Container and(
+      final Container other)
+    {
+      if (other instanceof final ArrayContainer that) {
+        return this.andArray(that);
+      }
+
+      final char[] result = new char[this.count];
+      int resultCount = 0;
+      for (int index = 0; index < this.count; ++index) {
+        final char x = this.values[index];
+        if (other.contains(x)) {
+          result[resultCount] = x;
+          ++resultCount;
+        }
+      }
+      return new ArrayContainer(result, resultCount);
+    }
+
+    private Container andArray(
+      final ArrayContainer other)
+    {
+      final char[] result = new char[Math.min(this.count, other.count)];
+      int resultCount = 0;
+      int i = 0;
+      int j = 0;
+      while (i < this.count && j < other.count) {
+        final char x = this.values[i];
+        final char y = other.values[j];
+        if (x < y) {
+          ++i;
+        } else if (y < x) {
+          ++j;
+        } else {
+          result[resultCount] = x;
+          ++resultCount;
+          ++i;
+          ++j;
+        }
+      }
+      return new ArrayContainer(result, resultCount);
+    }
+  }
+
+  private static final class BitmapContainer extends Container
+  {
+    private final long[] words;
+    private int count;
+
+    BitmapContainer(
+      final long[] inWords,
+      final int inCount)
+    {
+      this.words = inWords;
+      this.count = inCount;
+    }
+
+    @Override
+    int cardinality()
+    {
+      return this.count;
+    }
+
+    @Override
+    boolean contains(
+      final char x)
+    {
+      return (this.words[x >>> 6] & (1L << x)) != 0L;
+    }
+
+    @Override
+    int rank(
+      final char x)
+    {
+      final int last = x >>> 6;
+      int result = 0;
+      for (int w = 0; w < last; ++w) {
+        result += Long.bitCount(this.words[w]);
+      }
+      return result + Long.bitCount(this.words[last] & (-1L >>> (63 - (x & 63))));
+    }
+
+    @Override
+    Container add(
+      final char x)
+    {
+      final long word = this.words[x >>> 6];
+      final long bit = 1L << x;
+      if ((word & bit) == 0L) {
+        this.words[x >>> 6] = word | bit;
+        ++this.count;
+      }
+      return this;
+    }
+
+    @Override
+    Container remove(
+      final char x)
+    {
+      final long word = this.words[x >>> 6];
+      final long bit = 1L << x;
+      if ((word & bit) != 0L) {
+        this.words[x >>> 6] = word & ~bit;
+        --this.count;
+        if (this.count <= ARRAY_MAX) {
+          return ArrayContainer.ofWords(this.words, this.count);
+        }
+      }
+      return this;
+    }
+
+    @Override
+    long sizeInBytes()
+    {
+      return BITMAP_BYTES;
+    }
+
+    @Override
+    Container copy()
+    {
+      return new BitmapContainer(this.words.clone(), this.count);
+    }
+
+    @Override
+    Container addRange(
+      final int start,
+      final int end)
+    {
+      setRange(this.words, start, end);
+      return fromWords(this.words, true);
+    }
+
+    @Override
+    void orInto(
+      final long[] output)
+    {
+      for (int w = 0; w < WORDS; ++w) {
+        output[w] |= this.words[w];
+      }
+    }
+
+    @Override
+    void andInto(
+      final long[] output)
+    {
+      for (int w = 0; w < WORDS; ++w) {
+        output[w] &= this.words[w];
+      }
+    }
+
+    @Override
+    void andNotInto(
+      final long[] output)
+    {
+      for (int w = 0; w < WORDS; ++w) {
+        output[w] &= ~this.words[w];
+      }
+    }
+
+    @Override
+    void forEachRun(
+      final RunReceiverType receiver)
+    {
+      RunContainer.ofWords(this.words, Integer.MAX_VALUE)
+        .forEachRun(receiver);
+    }
+  }
+
+  /**
+   * A container of runs, stored as pairs of (start, length - 1).
+   */
+
+  private static final class RunContainer extends Container
+  {
+    private char[] runs;
+    private int count;
+
+    RunContainer(
+      final char[] inRuns,
+      final int inCount)
+    {
+      this.runs = inRuns;
+      this.count = inCount;
+    }
+
+    static RunContainer ofRange(
+      final int start,
+      final int end)
+    {
+      return new RunContainer(new char[]{(char) start, (char) (end - start)}, 1);
+    }
+
+    static RunContainer ofContainer(
+      final Container container)
+    {
+      final var result = new RunContainer(
+        new char[Math.max(2, container.cardinality() << 1)], 0);
+      container.forEachRun((start, end) -> {
+        final int at = result.count << 1;
+        result.runs[at] = (char) start;
+        result.runs[at + 1] = (char) (end - start);
+        ++result.count;
+      });
+      return result;
+    }
+
+    static RunContainer ofWords(
+      final long[] words,
+      final int expectedRuns)
+    {
+      char[] runs = new char[expectedRuns == Integer.MAX_VALUE ? 8 : expectedRuns << 1];
+      int count = 0;
+      int x = 0;
+      while (x <= CHUNK_MAX) {
+        final int start = nextSet(words, x);
+        if (start < 0) {
+          break;
+        }
+        final int end = nextClear(words, start) - 1;
+        if ((count << 1) == runs.length) {
+          runs = Arrays.copyOf(runs, runs.length << 1);
+        }
+        runs[count << 1] = (char) start;
+        runs[(count << 1) + 1] = (char) (end - start);
+        ++count;
+        x = end + 2;
+      }
+      return new RunContainer(runs, count);
+    }
+
+    private static int nextSet(
+      final long[] words,
+      final int from)
+    {
+      int w = from >>> 6;
+      if (w >= WORDS) {
+        return -1;
+      }
+      long word = words[w] & (-1L << from);
+      while (word == 0L) {
+        ++w;
+        if (w == WORDS) {
+          return -1;
+        }
+        word = words[w];
+      }
+      return (w << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private static int nextClear(
+      final long[] words,
+      final int from)
+    {
+      int w = from >>> 6;
+      long word = ~words[w] & (-1L << from);
+      while (word == 0L) {
+        ++w;
+        if (w == WORDS) {
+          return CHUNK_MAX + 1;
+        }
+        word = ~words[w];
+      }
+      return (w << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private int start(
+      final int run)
+    {
+      return this.runs[run << 1];
+    }
+
+    private int end(
+      final int run)
+    {
+      return this.runs[run << 1] + this.runs[(run << 1) + 1];
+    }
+
+    /**
+     * @return The index of the last run starting at or before {@code x},
+     * or {@code -1}
+     */
+
+    private int lastStartAtMost(
+      final int x)
+    {
+      int low = 0;
+      int high = this.count;
+      while (low < high) {
+        final int middle = (low + high) >>> 1;
+        if (this.start(middle) <= x) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low - 1;
+    }
+
+    @Override
+    int cardinality()
+    {
+      int result = 0;
+      for (int run = 0; run < this.count; ++run) {
+        result += this.runs[(run << 1) + 1] + 1;
+      }
+      return result;
+    }
+
+    @Override
+    boolean contains(
+      final char x)
+    {
+      final int run = this.lastStartAtMost(x);
+      return run >= 0 && x <= this.end(run);
+    }
+
+    @Override
+    int rank(
+      final char x)
+    {
+      final int last = this.lastStartAtMost(x);
+      int result = 0;
+      for (int run = 0; run < last; ++run) {
+        result += this.runs[(run << 1) + 1] + 1;
+      }
+      if (last >= 0) {
+        result += Math.min(x, this.end(last)) - this.start(last) + 1;
+      }
+      return result;
+    }
+
+    @Override
+    Container add(
+      final char x)
+    {
+      final int run = this.lastStartAtMost(x);
+      if (run >= 0 && x <= this.end(run)) {
+        return this;
+      }
+
+      final boolean extendsLeft = run >= 0 && this.end(run) + 1 == x;
+      final boolean extendsRight =
+        run + 1 < this.count && this.start(run + 1) == x + 1;
+
+      if (extendsLeft && extendsRight) {
+        final int end = this.end(run + 1);
+        this.runs[(run << 1) + 1] = (char) (end - this.start(run));
+        this.deleteRun(run + 1);
+      } else if (extendsLeft) {
+        this.runs[(run << 1) + 1] += 1;
+      } else if (extendsRight) {
+        this.runs[(run + 1) << 1] = x;
+        this.runs[((run + 1) << 1) + 1] += 1;
+      } else {
+        this.insertRun(run + 1, x);
+      }
+      return this;
+    }
+
+    private void insertRun(
+      final int run,
+      final char x)
+    {
+      if ((this.count << 1) == this.runs.length) {
+        this.runs = Arrays.copyOf(this.runs, Math.max(4, this.runs.length << 1));
+      }
+      System.arraycopy(
+        this.runs, run << 1, this.runs, (run + 1) << 1, (this.count - run) << 1);
+      this.runs[run << 1] = x;
+      this.runs[(run << 1) + 1] = 0;
+      ++this.count;
+    }
+
+    private void deleteRun(
+      final int run)
+    {
+      System.arraycopy(
+        this.runs,
+        (run + 1) << 1,
+        this.runs,
+        run << 1,
+        (this.count - run - 1) << 1);
+      --this.count;
+    }
+
+    @Override
+    Container remove(
+      final char x)
+    {
+      final int run = this.lastStartAtMost(x);
+      if (run < 0 || x > this.end(run)) {
+        return this;
+      }
+
+      final int start = this.start(run);
+      final int end = this.end(run);
+      if (start == end) {
+        this.deleteRun(run);
+      } else if (x == start) {
+        this.runs[run << 1] = (char) (x + 1);
+        this.runs[(run << 1) + 1] -= 1;
+      } else if (x == end) {
+        this.runs[(run << 1) + 1] -= 1;
+      } else {
+        this.runs[(run << 1) + 1] = (char) (x - 1 - start);
+        this.insertRun(run + 1, (char) (x + 1));
+        this.runs[((run + 1) << 1) + 1] = (char) (end - x - 1);
+        if (this.count * 4 >= BITMAP_BYTES) {
+          return this.smallest();
+        }
+      }
+      return this;
+    }
+
+    @Override
+    Container addRange(
+      final int start,
+      final int end)
+    {
+      int first = this.lastStartAtMost(start);
+      if (first < 0 || this.end(first) + 1 < start) {
+        ++first;
+      }
+      final int last = this.lastStartAtMost(end + 1);
+
+      if (first > last) {
+        this.insertRun(first, (char) start);
+        this.runs[(first << 1) + 1] = (char) (end - start);
+      } else {
+        final int mergedStart = Math.min(start, this.start(first));
+        final int mergedEnd = Math.max(end, this.end(last));
+        this.runs[first << 1] = (char) mergedStart;
+        this.runs[(first << 1) + 1] = (char) (mergedEnd - mergedStart);
+        System.arraycopy(
+          this.runs,
+          (last + 1) << 1,
+          this.runs,
+          (first + 1) << 1,
+          (this.count - last - 1) << 1);
+        this.count -= last - first;
+      }
+      return this.smallest();
+    }
+
+    /**
+     * @return The smallest container for the values in this container
+     */
+
+    private Container smallest()
+    {
+      final int cardinality = this.cardinality();
+      final int arrayBytes =
+        cardinality <= ARRAY_MAX ? cardinality * 2 : Integer.MAX_VALUE;
+      if (this.count * 4 < Math.min(arrayBytes, BITMAP_BYTES)) {
+        return this;
+      }
+      if (cardinality <= ARRAY_MAX) {
+        final char[] values = new char[cardinality];
+        int index = 0;
+        for (int run = 0; run < this.count; ++run) {
+          final int end = this.end(run);
+          for (int x = this.start(run); x <= end; ++x) {
+            values[index] = (char) x;
+            ++index;
+          }
+        }
+        return new ArrayContainer(values, cardinality);
+      }
+      final long[] words = new long[WORDS];
+      this.orInto(words);
+      return new BitmapContainer(words, cardinality);
+    }
+
+    @Override
+    long sizeInBytes()
+    {
+      return this.runs.length * 2L;
+    }
+
+    @Override
+    Container copy()
+    {
+      return new RunContainer(
+        Arrays.copyOf(this.runs, this.count << 1), this.count);
+    }
+
+    @Override
+    void orInto(
+      final long[] words)
+    {
+      for (int run = 0; run < this.count; ++run) {
+        setRange(words, this.start(run), this.end(run));
+      }
+    }
+
+    @Override
+    void andInto(
+      final long[] words)
+    {
+      int gap = 0;
+      for (int run = 0; run < this.count; ++run) {
+        final int start = this.start(run);
+        if (gap < start) {
+          clearRange(words, gap, start - 1);
+        }
+        gap = this.end(run) + 1;
+      }
+      if (gap <= CHUNK_MAX) {
+        clearRange(words, gap, CHUNK_MAX);
+      }
+    }
+
+    @Override
+    void andNotInto(
+      final long[] words)
+    {
+      for (int run = 0; run < this.count; ++run) {
+        clearRange(words, this.start(run), this.end(run));
+      }
+    }
+
+    @Override
+    void forEachRun(
+      final RunReceiverType receiver)
+    {
+      for (int run = 0; run < this.count; ++run) {
+        receiver.accept(this.start(run), this.end(run));
+      }
+    }
+  }
+}
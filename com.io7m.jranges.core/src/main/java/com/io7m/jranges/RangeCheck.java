@@ -58,17 +58,10 @@ public final class RangeCheck
     final long in_lower,
     final String lower_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(lower_name, "Lower bound name");
-
-    if (x > in_lower) {
+    if (x > in_lower && x_name != null && lower_name != null) {
       return x;
     }
-
-    @SuppressWarnings("boxing") final var message =
-      String.format("%s (%d) <= %s (%d)", x_name, x, lower_name, in_lower);
-
-    throw new RangeCheckException(message);
+    throw failGreaterLong(x, x_name, in_lower, lower_name);
   }
 
   /**
@@ -91,17 +84,10 @@ public final class RangeCheck
     final int in_lower,
     final String lower_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(lower_name, "Lower bound name");
-
-    if (x > in_lower) {
+    if (x > in_lower && x_name != null && lower_name != null) {
       return x;
     }
-
-    @SuppressWarnings("boxing") final var message =
-      String.format("%s (%d) <= %s (%d)", x_name, x, lower_name, in_lower);
-
-    throw new RangeCheckException(message);
+    throw failGreaterInteger(x, x_name, in_lower, lower_name);
   }
 
   /**
@@ -122,19 +108,10 @@ public final class RangeCheck
     final BigInteger in_lower,
     final String lower_name)
   {
-    Objects.requireNonNull(x, "Value");
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(in_lower, "Lower");
-    Objects.requireNonNull(lower_name, "Lower bound name");
-
-    if (x.compareTo(in_lower) > 0) {
+    if (x.compareTo(in_lower) > 0 && x_name != null && lower_name != null) {
       return x;
     }
-
-    final var message =
-      String.format("%s (%s) <= %s (%s)", x_name, x, lower_name, in_lower);
-
-    throw new RangeCheckException(message);
+    throw failGreaterBig(x, x_name, in_lower, lower_name);
   }
 
   /**
@@ -155,17 +132,10 @@ public final class RangeCheck
     final double in_lower,
     final String lower_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(lower_name, "Lower bound name");
-
-    if (x > in_lower) {
+    if (x > in_lower && x_name != null && lower_name != null) {
       return x;
     }
-
-    @SuppressWarnings("boxing") final var message =
-      String.format("%s (%f) <= %s (%f)", x_name, x, lower_name, in_lower);
-
-    throw new RangeCheckException(message);
+    throw failGreaterDouble(x, x_name, in_lower, lower_name);
   }
 
   /**
@@ -188,17 +158,10 @@ public final class RangeCheck
     final long in_lower,
     final String lower_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(lower_name, "Lower bound name");
-
-    if (x >= in_lower) {
+    if (x >= in_lower && x_name != null && lower_name != null) {
       return x;
     }
-
-    @SuppressWarnings("boxing") final var message =
-      String.format("%s (%d) < %s (%d)", x_name, x, lower_name, in_lower);
-
-    throw new RangeCheckException(message);
+    throw failGreaterEqualLong(x, x_name, in_lower, lower_name);
   }
 
   /**
@@ -221,17 +184,10 @@ public final class RangeCheck
     final int in_lower,
     final String lower_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(lower_name, "Lower bound name");
-
-    if (x >= in_lower) {
+    if (x >= in_lower && x_name != null && lower_name != null) {
       return x;
     }
-
-    @SuppressWarnings("boxing") final var message =
-      String.format("%s (%d) < %s (%d)", x_name, x, lower_name, in_lower);
-
-    throw new RangeCheckException(message);
+    throw failGreaterEqualInteger(x, x_name, in_lower, lower_name);
   }
 
   /**
@@ -252,19 +208,10 @@ public final class RangeCheck
     final BigInteger in_lower,
     final String lower_name)
   {
-    Objects.requireNonNull(x, "Value");
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(in_lower, "Lower");
-    Objects.requireNonNull(lower_name, "Lower bound name");
-
-    if (x.compareTo(in_lower) >= 0) {
+    if (x.compareTo(in_lower) >= 0 && x_name != null && lower_name != null) {
       return x;
     }
-
-    final var message =
-      String.format("%s (%s) < %s (%s)", x_name, x, lower_name, in_lower);
-
-    throw new RangeCheckException(message);
+    throw failGreaterEqualBig(x, x_name, in_lower, lower_name);
   }
 
   /**
@@ -285,17 +232,10 @@ public final class RangeCheck
     final double in_lower,
     final String lower_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(lower_name, "Lower bound name");
-
-    if (x >= in_lower) {
+    if (x >= in_lower && x_name != null && lower_name != null) {
       return x;
     }
-
-    @SuppressWarnings("boxing") final var message =
-      String.format("%s (%f) < %s (%f)", x_name, x, lower_name, in_lower);
-
-    throw new RangeCheckException(message);
+    throw failGreaterEqualDouble(x, x_name, in_lower, lower_name);
   }
 
   /**
@@ -318,23 +258,10 @@ public final class RangeCheck
     final RangeInclusiveL range,
     final String range_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(range, "Range");
-    Objects.requireNonNull(range_name, "Range name");
-
-    if (range.includesValue(x)) {
+    if (range.includesValue(x) && x_name != null && range_name != null) {
       return x;
     }
-
-    final var message = String.format(
-      "%s <= %s (%s) <= %s (%s) == false",
-      Long.valueOf(range.lower()),
-      x_name,
-      Long.valueOf(x),
-      Long.valueOf(range.upper()),
-      range_name);
-
-    throw new RangeCheckException(message);
+    throw failIncludedInLong(x, x_name, range, range_name);
   }
 
   /**
@@ -357,23 +284,10 @@ public final class RangeCheck
     final RangeInclusiveI range,
     final String range_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(range, "Range");
-    Objects.requireNonNull(range_name, "Range name");
-
-    if (range.includesValue(x)) {
+    if (range.includesValue(x) && x_name != null && range_name != null) {
       return x;
     }
-
-    final var message = String.format(
-      "%s <= %s (%s) <= %s (%s) == false",
-      Integer.valueOf(range.lower()),
-      x_name,
-      Integer.valueOf(x),
-      Integer.valueOf(range.upper()),
-      range_name);
-
-    throw new RangeCheckException(message);
+    throw failIncludedInInteger(x, x_name, range, range_name);
   }
 
   /**
@@ -394,24 +308,72 @@ public final class RangeCheck
     final RangeInclusiveB range,
     final String range_name)
   {
-    Objects.requireNonNull(x, "Value");
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(range, "Range");
-    Objects.requireNonNull(range_name, "Range name");
+    if (range.includesValue(x) && x_name != null && range_name != null) {
+      return x;
+    }
+    throw failIncludedInBig(x, x_name, range, range_name);
+  }
+
+  /**
+   * <p> Assert that {@code x} (named {@code x_name}) is included in the
+   * inclusive range {@code [in_lower, in_upper]} (named {@code range_name}). This
+   * is equivalent to the variant that takes a range object, but does not
+   * require one to be constructed. If {@code in_lower &gt; in_upper},
+   * the range is empty and the check always fails. </p>
+   *
+   * @param x          The checked value
+   * @param x_name     The name of the checked value
+   * @param in_lower   The lower bound of the range (inclusive)
+   * @param in_upper   The upper bound of the range (inclusive)
+   * @param range_name The name of the range
+   *
+   * @return x
+   *
+   * @since 6.1.0
+   */
 
-    if (range.includesValue(x)) {
+  public static long checkIncludedInLong(
+    final long x,
+    final String x_name,
+    final long in_lower,
+    final long in_upper,
+    final String range_name)
+  {
+    if (RangeTest.isIncludedInLong(x, in_lower, in_upper) && x_name != null && range_name != null) {
       return x;
     }
+    throw failIncludedInLong(x, x_name, in_lower, in_upper, range_name);
+  }
 
-    final var message = String.format(
-      "%s <= %s (%s) <= %s (%s) == false",
-      range.lower(),
-      x_name,
-      x,
-      range.upper(),
-      range_name);
+  /**
+   * <p> Assert that {@code x} (named {@code x_name}) is included in the
+   * inclusive range {@code [in_lower, in_upper]} (named {@code range_name}). This
+   * is equivalent to the variant that takes a range object, but does not
+   * require one to be constructed. If {@code in_lower &gt; in_upper},
+   * the range is empty and the check always fails. </p>
+   *
+   * @param x          The checked value
+   * @param x_name     The name of the checked value
+   * @param in_lower   The lower bound of the range (inclusive)
+   * @param in_upper   The upper bound of the range (inclusive)
+   * @param range_name The name of the range
+   *
+   * @return x
+   *
+   * @since 6.1.0
+   */
 
-    throw new RangeCheckException(message);
+  public static int checkIncludedInInteger(
+    final int x,
+    final String x_name,
+    final int in_lower,
+    final int in_upper,
+    final String range_name)
+  {
+    if (RangeTest.isIncludedInInteger(x, in_lower, in_upper) && x_name != null && range_name != null) {
+      return x;
+    }
+    throw failIncludedInInteger(x, x_name, in_lower, in_upper, range_name);
   }
 
   /**
@@ -434,17 +396,10 @@ public final class RangeCheck
     final long in_upper,
     final String upper_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(upper_name, "Upper bound name");
-
-    if (x < in_upper) {
+    if (x < in_upper && x_name != null && upper_name != null) {
       return x;
     }
-
-    @SuppressWarnings("boxing") final var message =
-      String.format("%s (%d) >= %s (%d)", x_name, x, upper_name, in_upper);
-
-    throw new RangeCheckException(message);
+    throw failLessLong(x, x_name, in_upper, upper_name);
   }
 
   /**
@@ -467,17 +422,10 @@ public final class RangeCheck
     final int in_upper,
     final String upper_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(upper_name, "Upper bound name");
-
-    if (x < in_upper) {
+    if (x < in_upper && x_name != null && upper_name != null) {
       return x;
     }
-
-    @SuppressWarnings("boxing") final var message =
-      String.format("%s (%d) >= %s (%d)", x_name, x, upper_name, in_upper);
-
-    throw new RangeCheckException(message);
+    throw failLessInteger(x, x_name, in_upper, upper_name);
   }
 
   /**
@@ -498,19 +446,10 @@ public final class RangeCheck
     final BigInteger in_upper,
     final String upper_name)
   {
-    Objects.requireNonNull(x, "Value");
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(in_upper, "Upper");
-    Objects.requireNonNull(upper_name, "Upper bound name");
-
-    if (x.compareTo(in_upper) < 0) {
+    if (x.compareTo(in_upper) < 0 && x_name != null && upper_name != null) {
       return x;
     }
-
-    final var message =
-      String.format("%s (%s) >= %s (%s)", x_name, x, upper_name, in_upper);
-
-    throw new RangeCheckException(message);
+    throw failLessBig(x, x_name, in_upper, upper_name);
   }
 
   /**
@@ -531,17 +470,10 @@ public final class RangeCheck
     final double in_upper,
     final String upper_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(upper_name, "Upper bound name");
-
-    if (x < in_upper) {
+    if (x < in_upper && x_name != null && upper_name != null) {
       return x;
     }
-
-    @SuppressWarnings("boxing") final var message =
-      String.format("%s (%f) >= %s (%f)", x_name, x, upper_name, in_upper);
-
-    throw new RangeCheckException(message);
+    throw failLessDouble(x, x_name, in_upper, upper_name);
   }
 
   /**
@@ -564,17 +496,10 @@ public final class RangeCheck
     final long in_upper,
     final String upper_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(upper_name, "Upper bound name");
-
-    if (x <= in_upper) {
+    if (x <= in_upper && x_name != null && upper_name != null) {
       return x;
     }
-
-    @SuppressWarnings("boxing") final var message =
-      String.format("%s (%d) > %s (%d)", x_name, x, upper_name, in_upper);
-
-    throw new RangeCheckException(message);
+    throw failLessEqualLong(x, x_name, in_upper, upper_name);
   }
 
   /**
@@ -597,17 +522,10 @@ public final class RangeCheck
     final int in_upper,
     final String upper_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(upper_name, "Upper bound name");
-
-    if (x <= in_upper) {
+    if (x <= in_upper && x_name != null && upper_name != null) {
       return x;
     }
-
-    @SuppressWarnings("boxing") final var message =
-      String.format("%s (%d) > %s (%d)", x_name, x, upper_name, in_upper);
-
-    throw new RangeCheckException(message);
+    throw failLessEqualInteger(x, x_name, in_upper, upper_name);
   }
 
   /**
@@ -628,19 +546,10 @@ public final class RangeCheck
     final BigInteger in_upper,
     final String upper_name)
   {
-    Objects.requireNonNull(x, "Value");
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(in_upper, "Upper");
-    Objects.requireNonNull(upper_name, "Upper bound name");
-
-    if (x.compareTo(in_upper) <= 0) {
+    if (x.compareTo(in_upper) <= 0 && x_name != null && upper_name != null) {
       return x;
     }
-
-    final var message =
-      String.format("%s (%s) > %s (%s)", x_name, x, upper_name, in_upper);
-
-    throw new RangeCheckException(message);
+    throw failLessEqualBig(x, x_name, in_upper, upper_name);
   }
 
   /**
@@ -661,17 +570,10 @@ public final class RangeCheck
     final double in_upper,
     final String upper_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(upper_name, "Upper bound name");
-
-    if (x <= in_upper) {
+    if (x <= in_upper && x_name != null && upper_name != null) {
       return x;
     }
-
-    @SuppressWarnings("boxing") final var message =
-      String.format("%s (%f) > %s (%f)", x_name, x, upper_name, in_upper);
-
-    throw new RangeCheckException(message);
+    throw failLessEqualDouble(x, x_name, in_upper, upper_name);
   }
 
   /**
@@ -694,23 +596,10 @@ public final class RangeCheck
     final RangeInclusiveL outer,
     final String outer_name)
   {
-    Objects.requireNonNull(inner, "Inner range");
-    Objects.requireNonNull(inner_name, "Inner range name");
-    Objects.requireNonNull(outer, "Outer range");
-    Objects.requireNonNull(outer_name, "Outer range name");
-
-    if (inner.isIncludedIn(outer)) {
+    if (inner.isIncludedIn(outer) && inner_name != null && outer_name != null) {
       return inner;
     }
-
-    final var message = String.format(
-      "Inner range %s (%s) not included in outer range %s (%s)",
-      inner_name,
-      inner,
-      outer_name,
-      outer);
-
-    throw new RangeCheckException(message);
+    throw failRangeIncludedInLong(inner, inner_name, outer, outer_name);
   }
 
   /**
@@ -733,23 +622,10 @@ public final class RangeCheck
     final RangeInclusiveI outer,
     final String outer_name)
   {
-    Objects.requireNonNull(inner, "Inner range");
-    Objects.requireNonNull(inner_name, "Inner range name");
-    Objects.requireNonNull(outer, "Outer range");
-    Objects.requireNonNull(outer_name, "Outer range name");
-
-    if (inner.isIncludedIn(outer)) {
+    if (inner.isIncludedIn(outer) && inner_name != null && outer_name != null) {
       return inner;
     }
-
-    final var message = String.format(
-      "Inner range %s (%s) not included in outer range %s (%s)",
-      inner_name,
-      inner,
-      outer_name,
-      outer);
-
-    throw new RangeCheckException(message);
+    throw failRangeIncludedInInteger(inner, inner_name, outer, outer_name);
   }
 
   /**
@@ -770,22 +646,564 @@ public final class RangeCheck
     final RangeInclusiveB outer,
     final String outer_name)
   {
-    Objects.requireNonNull(inner, "Inner range");
-    Objects.requireNonNull(inner_name, "Inner range name");
-    Objects.requireNonNull(outer, "Outer range");
-    Objects.requireNonNull(outer_name, "Outer range name");
-
-    if (inner.isIncludedIn(outer)) {
+    if (inner.isIncludedIn(outer) && inner_name != null && outer_name != null) {
       return inner;
     }
+    throw failRangeIncludedInBig(inner, inner_name, outer, outer_name);
+  }
 
-    final var message = String.format(
-      "Inner range %s (%s) not included in outer range %s (%s)",
-      inner_name,
-      inner,
-      outer_name,
-      outer);
+  /**
+   * <p> Assert that every element of {@code values} (named
+   * {@code values_name}) in the index range {@code [from, to)} is included
+   * in the given range {@code range} (named {@code range_name}). If any
+   * element is not included, the exception describes the first such element.
+   * </p>
+   *
+   * <p> This is equivalent to, but substantially faster than, calling
+   * {@link #checkIncludedInLong} for each element. </p>
+   *
+   * @param values      The checked values
+   * @param from        The starting index (inclusive)
+   * @param to          The ending index (exclusive)
+   * @param values_name The name of the checked values
+   * @param range       The inclusive range
+   * @param range_name  The name of the inclusive range
+   *
+   * @return values
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}
+   * @see RangeTest#findFirstNotIncludedInLong
+   * @since 6.1.0
+   */
+
+  public static long[] checkAllIncludedInLong(
+    final long[] values,
+    final int from,
+    final int to,
+    final String values_name,
+    final RangeInclusiveL range,
+    final String range_name)
+  {
+    final int index =
+      RangeTest.findFirstNotIncludedInLong(values, from, to, range);
+    if (index < 0 && values_name != null && range_name != null) {
+      return values;
+    }
+    throw failAllIncludedInLong(
+      values, index, values_name, range, range_name);
+  }
+
+  /**
+   * <p> Assert that every element of {@code values} (named
+   * {@code values_name}) in the index range {@code [from, to)} is included
+   * in the given range {@code range} (named {@code range_name}). If any
+   * element is not included, the exception describes the first such element.
+   * </p>
+   *
+   * <p> This is equivalent to, but substantially faster than, calling
+   * {@link #checkIncludedInInteger} for each element. </p>
+   *
+   * @param values      The checked values
+   * @param from        The starting index (inclusive)
+   * @param to          The ending index (exclusive)
+   * @param values_name The name of the checked values
+   * @param range       The inclusive range
+   * @param range_name  The name of the inclusive range
+   *
+   * @return values
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}
+   * @see RangeTest#findFirstNotIncludedInInteger
+   * @since 6.1.0
+   */
+
+  public static int[] checkAllIncludedInInteger(
+    final int[] values,
+    final int from,
+    final int to,
+    final String values_name,
+    final RangeInclusiveI range,
+    final String range_name)
+  {
+    final int index =
+      RangeTest.findFirstNotIncludedInInteger(values, from, to, range);
+    if (index < 0 && values_name != null && range_name != null) {
+      return values;
+    }
+    throw failAllIncludedInInteger(
+      values, index, values_name, range, range_name);
+  }
+
+  /**
+   * <p> Assert that every element of {@code values} (named
+   * {@code values_name}) in the index range {@code [from, to)} is included
+   * in the given range {@code range} (named {@code range_name}). If any
+   * element is not included, the exception describes the first such element.
+   * </p>
+   *
+   * @param values      The checked values
+   * @param from        The starting index (inclusive)
+   * @param to          The ending index (exclusive)
+   * @param values_name The name of the checked values
+   * @param range       The inclusive range
+   * @param range_name  The name of the inclusive range
+   *
+   * @return values
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}
+   * @see RangeTest#findFirstNotIncludedInDouble
+   * @since 6.1.0
+   */
+
+  public static double[] checkAllIncludedInDouble(
+    final double[] values,
+    final int from,
+    final int to,
+    final String values_name,
+    final RangeInclusiveD range,
+    final String range_name)
+  {
+    final int index =
+      RangeTest.findFirstNotIncludedInDouble(values, from, to, range);
+    if (index < 0 && values_name != null && range_name != null) {
+      return values;
+    }
+    throw failAllIncludedInDouble(
+      values, index, values_name, range, range_name);
+  }
+
+  /*
+   * The failure paths are kept out of the check functions above so that the
+   * check functions stay small enough to be inlined even at call sites that
+   * the JIT considers cold. The hot paths only compare the names against
+   * null; the failure paths raise the appropriate NullPointerException.
+   */
+
+  private static RangeCheckException failGreaterLong(
+    final long x,
+    final String x_name,
+    final long in_lower,
+    final String lower_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(lower_name, "Lower bound name");
+
+    return RangeCheckException.ofLong(
+      RangeCheckKind.GREATER, x, x_name, in_lower, 0L, lower_name);
+  }
+
+  private static RangeCheckException failGreaterInteger(
+    final int x,
+    final String x_name,
+    final int in_lower,
+    final String lower_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(lower_name, "Lower bound name");
+
+    return RangeCheckException.ofInteger(
+      RangeCheckKind.GREATER, x, x_name, in_lower, 0, lower_name);
+  }
+
+  private static RangeCheckException failGreaterBig(
+    final BigInteger x,
+    final String x_name,
+    final BigInteger in_lower,
+    final String lower_name)
+  {
+    Objects.requireNonNull(x, "Value");
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(in_lower, "Lower");
+    Objects.requireNonNull(lower_name, "Lower bound name");
+
+    return RangeCheckException.ofBig(
+      RangeCheckKind.GREATER, x, x_name, in_lower, lower_name);
+  }
+
+  private static RangeCheckException failGreaterDouble(
+    final double x,
+    final String x_name,
+    final double in_lower,
+    final String lower_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(lower_name, "Lower bound name");
+
+    return RangeCheckException.ofDouble(
+      RangeCheckKind.GREATER, x, x_name, in_lower, 0.0, lower_name);
+  }
 
-    throw new RangeCheckException(message);
+  private static RangeCheckException failGreaterEqualLong(
+    final long x,
+    final String x_name,
+    final long in_lower,
+    final String lower_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(lower_name, "Lower bound name");
+
+    return RangeCheckException.ofLong(
+      RangeCheckKind.GREATER_EQUAL, x, x_name, in_lower, 0L, lower_name);
+  }
+
+  private static RangeCheckException failGreaterEqualInteger(
+    final int x,
+    final String x_name,
+    final int in_lower,
+    final String lower_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(lower_name, "Lower bound name");
+
+    return RangeCheckException.ofInteger(
+      RangeCheckKind.GREATER_EQUAL, x, x_name, in_lower, 0, lower_name);
+  }
+
+  private static RangeCheckException failGreaterEqualBig(
+    final BigInteger x,
+    final String x_name,
+    final BigInteger in_lower,
+    final String lower_name)
+  {
+    Objects.requireNonNull(x, "Value");
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(in_lower, "Lower");
+    Objects.requireNonNull(lower_name, "Lower bound name");
+
+    return RangeCheckException.ofBig(
+      RangeCheckKind.GREATER_EQUAL, x, x_name, in_lower, lower_name);
+  }
+
+  private static RangeCheckException failGreaterEqualDouble(
+    final double x,
+    final String x_name,
+    final double in_lower,
+    final String lower_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(lower_name, "Lower bound name");
+
+    return RangeCheckException.ofDouble(
+      RangeCheckKind.GREATER_EQUAL, x, x_name, in_lower, 0.0, lower_name);
+  }
+
+  private static RangeCheckException failIncludedInLong(
+    final long x,
+    final String x_name,
+    final RangeInclusiveL range,
+    final String range_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(range, "Range");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofLong(
+      RangeCheckKind.INCLUDED_IN,
+      x,
+      x_name,
+      range.lower(),
+      range.upper(),
+      range_name);
+  }
+
+  private static RangeCheckException failIncludedInInteger(
+    final int x,
+    final String x_name,
+    final RangeInclusiveI range,
+    final String range_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(range, "Range");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofInteger(
+      RangeCheckKind.INCLUDED_IN,
+      x,
+      x_name,
+      range.lower(),
+      range.upper(),
+      range_name);
+  }
+
+  private static RangeCheckException failIncludedInLong(
+    final long x,
+    final String x_name,
+    final long in_lower,
+    final long in_upper,
+    final String range_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofLong(
+      RangeCheckKind.INCLUDED_IN,
+      x,
+      x_name,
+      in_lower,
+      in_upper,
+      range_name);
+  }
+
+  private static RangeCheckException failIncludedInInteger(
+    final int x,
+    final String x_name,
+    final int in_lower,
+    final int in_upper,
+    final String range_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofInteger(
+      RangeCheckKind.INCLUDED_IN,
+      x,
+      x_name,
+      in_lower,
+      in_upper,
+      range_name);
+  }
+
+  private static RangeCheckException failIncludedInBig(
+    final BigInteger x,
+    final String x_name,
+    final RangeInclusiveB range,
+    final String range_name)
+  {
+    Objects.requireNonNull(x, "Value");
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(range, "Range");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofBig(
+      RangeCheckKind.INCLUDED_IN, x, x_name, range, range_name);
+  }
+
+  private static RangeCheckException failLessLong(
+    final long x,
+    final String x_name,
+    final long in_upper,
+    final String upper_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(upper_name, "Upper bound name");
+
+    return RangeCheckException.ofLong(
+      RangeCheckKind.LESS, x, x_name, 0L, in_upper, upper_name);
+  }
+
+  private static RangeCheckException failLessInteger(
+    final int x,
+    final String x_name,
+    final int in_upper,
+    final String upper_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(upper_name, "Upper bound name");
+
+    return RangeCheckException.ofInteger(
+      RangeCheckKind.LESS, x, x_name, 0, in_upper, upper_name);
+  }
+
+  private static RangeCheckException failLessBig(
+    final BigInteger x,
+    final String x_name,
+    final BigInteger in_upper,
+    final String upper_name)
+  {
+    Objects.requireNonNull(x, "Value");
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(in_upper, "Upper");
+    Objects.requireNonNull(upper_name, "Upper bound name");
+
+    return RangeCheckException.ofBig(
+      RangeCheckKind.LESS, x, x_name, in_upper, upper_name);
+  }
+
+  private static RangeCheckException failLessDouble(
+    final double x,
+    final String x_name,
+    final double in_upper,
+    final String upper_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(upper_name, "Upper bound name");
+
+    return RangeCheckException.ofDouble(
+      RangeCheckKind.LESS, x, x_name, 0.0, in_upper, upper_name);
+  }
+
+  private static RangeCheckException failLessEqualLong(
+    final long x,
+    final String x_name,
+    final long in_upper,
+    final String upper_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(upper_name, "Upper bound name");
+
+    return RangeCheckException.ofLong(
+      RangeCheckKind.LESS_EQUAL, x, x_name, 0L, in_upper, upper_name);
+  }
+
+  private static RangeCheckException failLessEqualInteger(
+    final int x,
+    final String x_name,
+    final int in_upper,
+    final String upper_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(upper_name, "Upper bound name");
+
+    return RangeCheckException.ofInteger(
+      RangeCheckKind.LESS_EQUAL, x, x_name, 0, in_upper, upper_name);
+  }
+
+  private static RangeCheckException failLessEqualBig(
+    final BigInteger x,
+    final String x_name,
+    final BigInteger in_upper,
+    final String upper_name)
+  {
+    Objects.requireNonNull(x, "Value");
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(in_upper, "Upper");
+    Objects.requireNonNull(upper_name, "Upper bound name");
+
+    return RangeCheckException.ofBig(
+      RangeCheckKind.LESS_EQUAL, x, x_name, in_upper, upper_name);
+  }
+
+  private static RangeCheckException failLessEqualDouble(
+    final double x,
+    final String x_name,
+    final double in_upper,
+    final String upper_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(upper_name, "Upper bound name");
+
+    return RangeCheckException.ofDouble(
+      RangeCheckKind.LESS_EQUAL, x, x_name, 0.0, in_upper, upper_name);
+  }
+
+  private static RangeCheckException failRangeIncludedInLong(
+    final RangeInclusiveL inner,
+    final String inner_name,
+    final RangeInclusiveL outer,
+    final String outer_name)
+  {
+    Objects.requireNonNull(inner, "Inner range");
+    Objects.requireNonNull(inner_name, "Inner range name");
+    Objects.requireNonNull(outer, "Outer range");
+    Objects.requireNonNull(outer_name, "Outer range name");
+
+    return RangeCheckException.ofRangeLong(
+      RangeCheckKind.RANGE_INCLUDED_IN,
+      inner,
+      inner_name,
+      outer,
+      outer.lower(),
+      outer.upper(),
+      outer_name);
+  }
+
+  private static RangeCheckException failRangeIncludedInInteger(
+    final RangeInclusiveI inner,
+    final String inner_name,
+    final RangeInclusiveI outer,
+    final String outer_name)
+  {
+    Objects.requireNonNull(inner, "Inner range");
+    Objects.requireNonNull(inner_name, "Inner range name");
+    Objects.requireNonNull(outer, "Outer range");
+    Objects.requireNonNull(outer_name, "Outer range name");
+
+    return RangeCheckException.ofRangeInteger(
+      RangeCheckKind.RANGE_INCLUDED_IN,
+      inner,
+      inner_name,
+      outer,
+      outer.lower(),
+      outer.upper(),
+      outer_name);
+  }
+
+  private static RangeCheckException failRangeIncludedInBig(
+    final RangeInclusiveB inner,
+    final String inner_name,
+    final RangeInclusiveB outer,
+    final String outer_name)
+  {
+    Objects.requireNonNull(inner, "Inner range");
+    Objects.requireNonNull(inner_name, "Inner range name");
+    Objects.requireNonNull(outer, "Outer range");
+    Objects.requireNonNull(outer_name, "Outer range name");
+
+    return RangeCheckException.ofRangeBig(
+      RangeCheckKind.RANGE_INCLUDED_IN,
+      inner,
+      inner_name,
+      outer,
+      outer_name);
+  }
+
+  private static RangeCheckException failAllIncludedInLong(
+    final long[] values,
+    final int index,
+    final String values_name,
+    final RangeInclusiveL range,
+    final String range_name)
+  {
+    Objects.requireNonNull(values_name, "Value name");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofLong(
+      RangeCheckKind.INCLUDED_IN,
+      values[index],
+      values_name + "[" + index + "]",
+      range.lower(),
+      range.upper(),
+      range_name);
+  }
+
+  private static RangeCheckException failAllIncludedInInteger(
+    final int[] values,
+    final int index,
+    final String values_name,
+    final RangeInclusiveI range,
+    final String range_name)
+  {
+    Objects.requireNonNull(values_name, "Value name");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofInteger(
+      RangeCheckKind.INCLUDED_IN,
+      values[index],
+      values_name + "[" + index + "]",
+      range.lower(),
+      range.upper(),
+      range_name);
+  }
+
+  private static RangeCheckException failAllIncludedInDouble(
+    final double[] values,
+    final int index,
+    final String values_name,
+    final RangeInclusiveD range,
+    final String range_name)
+  {
+    Objects.requireNonNull(values_name, "Value name");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofDouble(
+      RangeCheckKind.INCLUDED_IN,
+      values[index],
+      values_name + "[" + index + "]",
+      range.lower(),
+      range.upper(),
+      range_name);
   }
 }
@@ -16,22 +16,75 @@
 
 package com.io7m.jranges;
 
+import java.io.Serial;
+import java.math.BigInteger;
+import java.util.Optional;
+
 /**
  * <p> An exception raised when a {@link RangeCheck} assertion fails. </p> <p>
  * Exceptions of this type are <i>not</i> intended to be caught and handled; they indicate program
  * bugs. </p>
  *
+ * <p> Exceptions raised by the range checking functions carry the values,
+ * bounds, and names involved in the failed check. The human-readable message
+ * is only constructed when {@link #getMessage()} is called. The values and
+ * bounds are not retained when the exception is serialized. </p>
+ *
+ * <p> If the {@value #STACK_TRACES_PROPERTY} system property is set to
+ * {@code false} when this class is initialized, exceptions raised by the
+ * range checking functions do not capture stack traces. This substantially
+ * reduces the cost of a failed check for applications that use range checks
+ * to reject untrusted input at high rates. Exceptions constructed directly
+ * using the public constructors always capture stack traces. </p>
+ *
  * @see RangeCheck
  */
 
 public final class RangeCheckException extends RuntimeException
 {
+  /**
+   * The name of the system property that controls whether exceptions raised
+   * by the range checking functions capture stack traces.
+   *
+   * @since 6.1.0
+   */
+
+  public static final String STACK_TRACES_PROPERTY =
+    "com.io7m.jranges.stackTraces";
+
   private static final long serialVersionUID;
+  private static final String MESSAGE_PREFIX = "Range check failed: ";
+  private static final boolean STACK_TRACES;
 
   static {
     serialVersionUID = 8903526524825509413L;
+    STACK_TRACES =
+      Boolean.parseBoolean(System.getProperty(STACK_TRACES_PROPERTY, "true"));
   }
 
+  private final RangeCheckKind kind;
+  private final Representation representation;
+  private final String text;
+  private final String valueName;
+  private final String boundName;
+
+  /*
+   * Primitive values are stored in these fields. Values of type double are
+   * stored as their raw bit patterns.
+   */
+
+  private final long value;
+  private final long lower;
+  private final long upper;
+
+  /*
+   * For BigInteger checks, the value and the bound (or range). For range
+   * inclusion checks, the inner and outer ranges.
+   */
+
+  private final transient Object valueObject;
+  private final transient Object boundObject;
+
   /**
    * Construct an exception with the given message.
    *
@@ -41,7 +94,7 @@ public final class RangeCheckException extends RuntimeException
   public RangeCheckException(
     final String message)
   {
-    super("Range check failed: " + message);
+    this(message, null);
   }
 
   /**
@@ -55,6 +108,433 @@ public final class RangeCheckException extends RuntimeException
     final String message,
     final Throwable cause)
   {
-    super("Range check failed: " + message, cause);
+    super(null, cause);
+    this.kind = RangeCheckKind.UNSPECIFIED;
+    this.representation = Representation.TEXT;
+    this.text = MESSAGE_PREFIX + message;
+    this.valueName = null;
+    this.boundName = null;
+    this.value = 0L;
+    this.lower = 0L;
+    this.upper = 0L;
+    this.valueObject = null;
+    this.boundObject = null;
+  }
+
+  private RangeCheckException(
+    final RangeCheckException original)
+  {
+    super(null, original.getCause());
+    this.kind = original.kind;
+    this.representation = Representation.TEXT;
+    this.text = original.getMessage();
+    this.valueName = original.valueName;
+    this.boundName = original.boundName;
+    this.value = 0L;
+    this.lower = 0L;
+    this.upper = 0L;
+    this.valueObject = null;
+    this.boundObject = null;
+    this.setStackTrace(original.getStackTrace());
+  }
+
+  private RangeCheckException(
+    final RangeCheckKind inKind,
+    final Representation inRepresentation,
+    final String inValueName,
+    final String inBoundName,
+    final long inValue,
+    final long inLower,
+    final long inUpper,
+    final Object inValueObject,
+    final Object inBoundObject)
+  {
+    super(null, null, true, STACK_TRACES);
+    this.kind = inKind;
+    this.representation = inRepresentation;
+    this.text = null;
+    this.valueName = inValueName;
+    this.boundName = inBoundName;
+    this.value = inValue;
+    this.lower = inLower;
+    this.upper = inUpper;
+    this.valueObject = inValueObject;
+    this.boundObject = inBoundObject;
+  }
+
+  static RangeCheckException ofLong(
+    final RangeCheckKind kind,
+    final long value,
+    final String valueName,
+    final long lower,
+    final long upper,
+    final String boundName)
+  {
+    return new RangeCheckException(
+      kind,
+      Representation.LONG,
+      valueName,
+      boundName,
+      value,
+      lower,
+      upper,
+      null,
+      null
+    );
+  }
+
+  static RangeCheckException ofInteger(
+    final RangeCheckKind kind,
+    final int value,
+    final String valueName,
+    final int lower,
+    final int upper,
+    final String boundName)
+  {
+    return new RangeCheckException(
+      kind,
+      Representation.INTEGER,
+      valueName,
+      boundName,
+      value,
+      lower,
+      upper,
+      null,
+      null
+    );
+  }
+
+  static RangeCheckException ofDouble(
+    final RangeCheckKind kind,
+    final double value,
+    final String valueName,
+    final double lower,
+    final double upper,
+    final String boundName)
+  {
+    return new RangeCheckException(
+      kind,
+      Representation.DOUBLE,
+      valueName,
+      boundName,
+      Double.doubleToRawLongBits(value),
+      Double.doubleToRawLongBits(lower),
+      Double.doubleToRawLongBits(upper),
+      null,
+      null
+    );
+  }
+
+  static RangeCheckException ofBig(
+    final RangeCheckKind kind,
+    final BigInteger value,
+    final String valueName,
+    final Object bound,
+    final String boundName)
+  {
+    return new RangeCheckException(
+      kind,
+      Representation.OBJECT,
+      valueName,
+      boundName,
+      0L,
+      0L,
+      0L,
+      value,
+      bound
+    );
+  }
+
+  static RangeCheckException ofRangeLong(
+    final RangeCheckKind kind,
+    final Object inner,
+    final String innerName,
+    final Object outer,
+    final long outerLower,
+    final long outerUpper,
+    final String outerName)
+  {
+    return new RangeCheckException(
+      kind,
+      Representation.LONG,
+      innerName,
+      outerName,
+      0L,
+      outerLower,
+      outerUpper,
+      inner,
+      outer
+    );
+  }
+
+  static RangeCheckException ofRangeInteger(
+    final RangeCheckKind kind,
+    final Object inner,
+    final String innerName,
+    final Object outer,
+    final int outerLower,
+    final int outerUpper,
+    final String outerName)
+  {
+    return new RangeCheckException(
+      kind,
+      Representation.INTEGER,
+      innerName,
+      outerName,
+      0L,
+      outerLower,
+      outerUpper,
+      inner,
+      outer
+    );
+  }
+
+  static RangeCheckException ofRangeBig(
+    final RangeCheckKind kind,
+    final Object inner,
+    final String innerName,
+    final Object outer,
+    final String outerName)
+  {
+    return new RangeCheckException(
+      kind,
+      Representation.OBJECT,
+      innerName,
+      outerName,
+      0L,
+      0L,
+      0L,
+      inner,
+      outer
+    );
+  }
+
+  /**
+   * @return The kind of check that failed
+   *
+   * @since 6.1.0
+   */
+
+  public RangeCheckKind kind()
+  {
+    return this.kind;
+  }
+
+  /**
+   * @return The name of the checked value (or the name of the inner range,
+   * for range inclusion checks)
+   *
+   * @since 6.1.0
+   */
+
+  public Optional<String> valueName()
+  {
+    return Optional.ofNullable(this.valueName);
+  }
+
+  /**
+   * @return The name of the bound (or the name of the range, for range
+   * inclusion checks)
+   *
+   * @since 6.1.0
+   */
+
+  public Optional<String> boundName()
+  {
+    return Optional.ofNullable(this.boundName);
+  }
+
+  /**
+   * The checked value. For range inclusion checks, the checked value is the
+   * inner range.
+   *
+   * @return The checked value, boxed if necessary
+   *
+   * @since 6.1.0
+   */
+
+  public Optional<Object> value()
+  {
+    return switch (this.representation) {
+      case TEXT -> Optional.empty();
+      case LONG, INTEGER, DOUBLE -> {
+        if (this.isRangeInclusion()) {
+          yield Optional.ofNullable(this.valueObject);
+        }
+        yield Optional.of(this.box(this.value));
+      }
+      case OBJECT -> Optional.ofNullable(this.valueObject);
+    };
+  }
+
+  /**
+   * The lower bound against which the value was checked. For range inclusion
+   * checks, this is the lower bound of the outer range.
+   *
+   * @return The lower bound, boxed if necessary
+   *
+   * @since 6.1.0
+   */
+
+  public Optional<Object> lowerBound()
+  {
+    return switch (this.kind) {
+      case UNSPECIFIED, LESS, LESS_EQUAL -> Optional.empty();
+      default -> Optional.ofNullable(this.boundLower());
+    };
+  }
+
+  /**
+   * The upper bound against which the value was checked. For range inclusion
+   * checks, this is the upper bound of the outer range.
+   *
+   * @return The upper bound, boxed if necessary
+   *
+   * @since 6.1.0
+   */
+
+  public Optional<Object> upperBound()
+  {
+    return switch (this.kind) {
+      case UNSPECIFIED, GREATER, GREATER_EQUAL -> Optional.empty();
+      default -> Optional.ofNullable(this.boundUpper());
+    };
+  }
+
+  private boolean isRangeInclusion()
+  {
+    return this.kind == RangeCheckKind.RANGE_INCLUDED_IN
+      || this.kind == RangeCheckKind.RANGE_INCLUDED_IN_HALF_OPEN;
+  }
+
+  private Object boundLower()
+  {
+    return switch (this.representation) {
+      case TEXT -> null;
+      case LONG, INTEGER, DOUBLE -> this.box(this.lower);
+      case OBJECT -> {
+        if (this.boundObject instanceof final RangeInclusiveB range) {
+          yield range.lower();
+        }
+        if (this.boundObject instanceof final RangeHalfOpenB range) {
+          yield range.lower();
+        }
+        yield this.boundObject;
+      }
+    };
+  }
+
+  private Object boundUpper()
+  {
+    return switch (this.representation) {
+      case TEXT -> null;
+      case LONG, INTEGER, DOUBLE -> this.box(this.upper);
+      case OBJECT -> {
+        if (this.boundObject instanceof final RangeInclusiveB range) {
+          yield range.upper();
+        }
+        if (this.boundObject instanceof final RangeHalfOpenB range) {
+          yield range.upper();
+        }
+        yield this.boundObject;
+      }
+    };
+  }
+
+  private Object box(
+    final long bits)
+  {
+    return switch (this.representation) {
+      case TEXT, OBJECT -> null;
+      case LONG -> Long.valueOf(bits);
+      case INTEGER -> Integer.valueOf((int) bits);
+      case DOUBLE -> Double.valueOf(Double.longBitsToDouble(bits));
+    };
+  }
+
+  @Override
+  public String getMessage()
+  {
+    if (this.text != null) {
+      return this.text;
+    }
+    return MESSAGE_PREFIX + this.formatDetail();
+  }
+
+  private String formatDetail()
+  {
+    return switch (this.kind) {
+      case UNSPECIFIED -> "";
+      case GREATER -> this.formatBound("<=", this.boundLower());
+      case GREATER_EQUAL -> this.formatBound("<", this.boundLower());
+      case LESS -> this.formatBound(">=", this.boundUpper());
+      case LESS_EQUAL -> this.formatBound(">", this.boundUpper());
+      case INCLUDED_IN, INCLUDED_IN_HALF_OPEN -> this.formatIncluded();
+      case RANGE_INCLUDED_IN, RANGE_INCLUDED_IN_HALF_OPEN ->
+        this.formatRangeIncluded();
+    };
+  }
+
+  private String formatBound(
+    final String operator,
+    final Object bound)
+  {
+    final var pattern = switch (this.representation) {
+      case LONG, INTEGER -> "%s (%d) %s %s (%d)";
+      case DOUBLE -> "%s (%f) %s %s (%f)";
+      case TEXT, OBJECT -> "%s (%s) %s %s (%s)";
+    };
+
+    return String.format(
+      pattern,
+      this.valueName,
+      this.value().orElse(null),
+      operator,
+      this.boundName,
+      bound);
+  }
+
+  private String formatIncluded()
+  {
+    return String.format(
+      "%s <= %s (%s) <= %s (%s) == false",
+      this.boundLower(),
+      this.valueName,
+      this.value().orElse(null),
+      this.boundUpper(),
+      this.boundName);
+  }
+
+  private String formatRangeIncluded()
+  {
+    return String.format(
+      "Inner range %s (%s) not included in outer range %s (%s)",
+      this.valueName,
+      this.valueObject,
+      this.boundName,
+      this.boundObject);
+  }
+
+  @Serial
+  private Object writeReplace()
+  {
+    if (this.representation == Representation.TEXT) {
+      return this;
+    }
+
+    final var replacement = new RangeCheckException(this);
+    for (final var suppressed : this.getSuppressed()) {
+      replacement.addSuppressed(suppressed);
+    }
+    return replacement;
+  }
+
+  private enum Representation
+  {
+    TEXT,
+    LONG,
+    INTEGER,
+    DOUBLE,
+    OBJECT
   }
 }
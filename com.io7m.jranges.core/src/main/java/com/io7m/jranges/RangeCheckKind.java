@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jranges;
+
+/**
+ * The kind of check that caused a {@link RangeCheckException}.
+ *
+ * @since 6.1.0
+ */
+
+public enum RangeCheckKind
+{
+  /**
+   * The exception was constructed directly from a message, and no structured
+   * information is available.
+   */
+
+  UNSPECIFIED,
+
+  /**
+   * A value was required to be greater than a lower bound.
+   */
+
+  GREATER,
+
+  /**
+   * A value was required to be greater than or equal to a lower bound.
+   */
+
+  GREATER_EQUAL,
+
+  /**
+   * A value was required to be less than an upper bound.
+   */
+
+  LESS,
+
+  /**
+   * A value was required to be less than or equal to an upper bound.
+   */
+
+  LESS_EQUAL,
+
+  /**
+   * A value was required to be included in an inclusive range.
+   */
+
+  INCLUDED_IN,
+
+  /**
+   * A value was required to be included in a half-open range.
+   */
+
+  INCLUDED_IN_HALF_OPEN,
+
+  /**
+   * A range was required to be included in an inclusive range.
+   */
+
+  RANGE_INCLUDED_IN,
+
+  /**
+   * A range was required to be included in a half-open range.
+   */
+
+  RANGE_INCLUDED_IN_HALF_OPEN
+}
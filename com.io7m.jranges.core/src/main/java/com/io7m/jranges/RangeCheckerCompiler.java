@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p> A mutable collection of named {@code long} ranges, such as a rule table
+ * loaded from configuration, that is compiled into an immutable
+ * {@link RangeCheckerTableL} for fast checking and classification. </p>
+ *
+ * <p> Each added range is assigned a <i>rule index</i>, in order of
+ * addition, starting at {@code 0}. Where ranges overlap, classification
+ * prefers the range with the lowest rule index. </p>
+ *
+ * @since 6.1.0
+ */
+
+public final class RangeCheckerCompiler
+{
+  private final List<String> names;
+  private final List<RangeInclusiveL> ranges;
+  private final Map<String, Integer> byName;
+
+  private RangeCheckerCompiler()
+  {
+    this.names = new ArrayList<>();
+    this.ranges = new ArrayList<>();
+    this.byName = new HashMap<>();
+  }
+
+  /**
+   * @return A new empty compiler
+   */
+
+  public static RangeCheckerCompiler create()
+  {
+    return new RangeCheckerCompiler();
+  }
+
+  /**
+   * Add a named range.
+   *
+   * @param name  The name of the range
+   * @param range The range
+   *
+   * @return The rule index of the range
+   *
+   * @throws IllegalArgumentException If a range named {@code name} has
+   *                                  already been added
+   */
+
+  public int add(
+    final String name,
+    final RangeInclusiveL range)
+  {
+    Objects.requireNonNull(name, "Name");
+    Objects.requireNonNull(range, "Range");
+
+    final int index = this.names.size();
+    if (this.byName.putIfAbsent(name, Integer.valueOf(index)) != null) {
+      throw new IllegalArgumentException(
+        "A range named '%s' has already been added".formatted(name));
+    }
+    this.names.add(name);
+    this.ranges.add(range);
+    return index;
+  }
+
+  /**
+   * Add a named half-open range. The range is stored as the equivalent
+   * inclusive range.
+   *
+   * @param name  The name of the range
+   * @param range The range
+   *
+   * @return The rule index of the range
+   *
+   * @throws IllegalArgumentException If a range named {@code name} has
+   *                                  already been added
+   * @throws RangeCheckException      If {@code range} is empty
+   */
+
+  public int addHalfOpen(
+    final String name,
+    final RangeHalfOpenL range)
+  {
+    Objects.requireNonNull(range, "Range");
+    RangeCheck.checkLessLong(
+      range.lower(), "Range lower", range.upper(), "Range upper");
+    return this.add(name, RangeInclusiveL.of(range.lower(), range.upper() - 1L));
+  }
+
+  /**
+   * @return The number of ranges added so far
+   */
+
+  public int size()
+  {
+    return this.names.size();
+  }
+
+  /**
+   * Compile the ranges added so far. The compiler may continue to be used
+   * afterwards, and does not affect the compiled table.
+   *
+   * @return A compiled table
+   */
+
+  public RangeCheckerTableL compile()
+  {
+    final int count = this.names.size();
+    final var lowers = new long[count];
+    final var uppers = new long[count];
+    for (int index = 0; index < count; ++index) {
+      final var range = this.ranges.get(index);
+      lowers[index] = range.lower();
+      uppers[index] = range.upper();
+    }
+    return new RangeCheckerTableL(
+      this.names.toArray(new String[0]),
+      lowers,
+      uppers,
+      Map.copyOf(this.byName));
+  }
+}
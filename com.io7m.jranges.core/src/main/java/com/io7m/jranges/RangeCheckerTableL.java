@@ -0,0 +1,524 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+/**
+ * <p> An immutable, compiled table of named {@code long} ranges, produced by
+ * a {@link RangeCheckerCompiler}. </p>
+ *
+ * <p> The bounds of the ranges are held in flat primitive arrays indexed by
+ * rule index, so checking a value against a rule is a pair of array loads and
+ * comparisons, with no range objects or interface calls involved. </p>
+ *
+ * <p> For classification, the number line is divided at compile time into
+ * elementary segments at every range boundary, and each segment is labelled
+ * with the lowest rule index of the ranges that cover it. Adjacent segments
+ * with the same label are merged. Classifying a value is then a single
+ * binary search over the sorted segment starts, which is a balanced decision
+ * tree over the boundaries, and takes {@code O(log n)} time regardless of how
+ * the ranges overlap. </p>
+ *
+ * <p> The table also generates code specialized to its contents, in the form
+ * of method handles: {@link #includesHandle(int)} and
+ * {@link #checkHandle(int, String)} bind the bounds of a single rule as
+ * constants, and {@link #classifier()} is a balanced tree of
+ * {@link MethodHandles#guardWithTest(MethodHandle, MethodHandle, MethodHandle)}
+ * comparisons against constant segment starts. A method handle that is held
+ * in a {@code static final} field is itself a constant to the JIT, which then
+ * inlines the handle and folds its bound values into the generated code as
+ * immediate operands. Handles held anywhere else are invoked indirectly and
+ * are slower than the equivalent methods on the table. </p>
+ *
+ * @see RangeIntervalIndexL
+ * @since 6.1.0
+ */
+
+public final class RangeCheckerTableL
+{
+  private static final MethodHandle AT_LEAST;
+  private static final MethodHandle INCLUDED;
+  private static final MethodHandle FAILED;
+
+  static {
+    final var lookup = MethodHandles.lookup();
+    try {
+      AT_LEAST = lookup.findStatic(
+        RangeCheckerTableL.class,
+        "atLeast",
+        MethodType.methodType(boolean.class, long.class, long.class));
+      INCLUDED = lookup.findStatic(
+        RangeTest.class,
+        "isIncludedInLong",
+        MethodType.methodType(
+          boolean.class, long.class, long.class, long.class));
+      FAILED = lookup.findStatic(
+        RangeCheckerTableL.class,
+        "failed",
+        MethodType.methodType(
+          long.class,
+          long.class,
+          String.class,
+          long.class,
+          long.class,
+          String.class));
+    } catch (final NoSuchMethodException | IllegalAccessException e) {
+      throw new UnreachableCodeException(e);
+    }
+  }
+
+  private final String[] names;
+  private final long[] lowers;
+  private final long[] uppers;
+  private final Map<String, Integer> byName;
+  private final long[] segmentStarts;
+  private final int[] segmentRules;
+  private volatile MethodHandle classifier;
+
+  RangeCheckerTableL(
+    final String[] inNames,
+    final long[] inLowers,
+    final long[] inUppers,
+    final Map<String, Integer> inByName)
+  {
+    this.names = inNames;
+    this.lowers = inLowers;
+    this.uppers = inUppers;
+    this.byName = inByName;
+
+    final var boundaries = boundaries(inLowers, inUppers);
+    final var rules = labelSegments(boundaries, inLowers, inUppers);
+
+    int segments = 0;
+    for (int index = 0; index < boundaries.length; ++index) {
+      if (segments == 0 || rules[segments - 1] != rules[index]) {
+        boundaries[segments] = boundaries[index];
+        rules[segments] = rules[index];
+        ++segments;
+      }
+    }
+    this.segmentStarts = Arrays.copyOf(boundaries, segments);
+    this.segmentRules = Arrays.copyOf(rules, segments);
+  }
+
+  /**
+   * @return The sorted, distinct values at which a range starts or after
+   * which a range ends
+   */
+
+  private static long[] boundaries(
+    final long[] lowers,
+    final long[] uppers)
+  {
+    final int count = lowers.length;
+    final var points = new long[count << 1];
+    int size = 0;
+    for (int index = 0; index < count; ++index) {
+      points[size] = lowers[index];
+      ++size;
+      if (uppers[index] != Long.MAX_VALUE) {
+        points[size] = uppers[index] + 1L;
+        ++size;
+      }
+    }
+    Arrays.sort(points, 0, size);
+
+    int distinct = 0;
+    for (int index = 0; index < size; ++index) {
+      if (distinct == 0 || points[distinct - 1] != points[index]) {
+        points[distinct] = points[index];
+        ++distinct;
+      }
+    }
+    return Arrays.copyOf(points, distinct);
+  }
+
+  /**
+   * Sweep over the boundaries, maintaining the set of ranges that cover the
+   * current segment in a heap ordered by rule index. Ranges that have ended
+   * are removed lazily, when they reach the top of the heap.
+   */
+
+  private static int[] labelSegments(
+    final long[] boundaries,
+    final long[] lowers,
+    final long[] uppers)
+  {
+    final int count = lowers.length;
+    final int[] byLower = RangeSort.orderL(lowers);
+    final int[] byUpper = RangeSort.orderL(uppers);
+
+    final var active = new boolean[count];
+    final var heap = new int[count];
+    final var rules = new int[boundaries.length];
+
+    int heapSize = 0;
+    int nextStart = 0;
+    int nextEnd = 0;
+    for (int segment = 0; segment < boundaries.length; ++segment) {
+      final long start = boundaries[segment];
+      while (nextEnd < count && uppers[byUpper[nextEnd]] < start) {
+        active[byUpper[nextEnd]] = false;
+        ++nextEnd;
+      }
+      while (nextStart < count && lowers[byLower[nextStart]] == start) {
+        final int rule = byLower[nextStart];
+        active[rule] = true;
+        heapPush(heap, heapSize, rule);
+        ++heapSize;
+        ++nextStart;
+      }
+      while (heapSize > 0 && !active[heap[0]]) {
+        --heapSize;
+        heapPop(heap, heapSize);
+      }
+      rules[segment] = heapSize == 0 ? -1 : heap[0];
+    }
+    return rules;
+  }
+
+  /**
+   * Add {@code value} to the binary min-heap {@code heap[0, size)}.
+   */
+
+  private static void heapPush(
+    final int[] heap,
+    final int size,
+    final int value)
+  {
+    int index = size;
+    while (index > 0) {
+      final int parent = (index - 1) >>> 1;
+      if (heap[parent] <= value) {
+        break;
+      }
+      heap[index] = heap[parent];
+      index = parent;
+    }
+    heap[index] = value;
+  }
+
+  /**
+   * Remove the top of the binary min-heap {@code heap[0, size]}, leaving a
+   * heap of {@code size} elements.
+   */
+
+  private static void heapPop(
+    final int[] heap,
+    final int size)
+  {
+    final int value = heap[size];
+    int index = 0;
+    while (true) {
+      int child = (index << 1) + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && heap[child + 1] < heap[child]) {
+        ++child;
+      }
+      if (value <= heap[child]) {
+        break;
+      }
+      heap[index] = heap[child];
+      index = child;
+    }
+    heap[index] = value;
+  }
+
+  /**
+   * @return The number of ranges in the table
+   */
+
+  public int size()
+  {
+    return this.names.length;
+  }
+
+  /**
+   * @param rule The rule index
+   *
+   * @return The name of the range with the given rule index
+   */
+
+  public String name(
+    final int rule)
+  {
+    return this.names[rule];
+  }
+
+  /**
+   * @param rule The rule index
+   *
+   * @return The range with the given rule index
+   */
+
+  public RangeInclusiveL range(
+    final int rule)
+  {
+    return RangeInclusiveL.of(this.lowers[rule], this.uppers[rule]);
+  }
+
+  /**
+   * @param name The name of a range
+   *
+   * @return The rule index of the range with the given name, if any
+   */
+
+  public OptionalInt indexOf(
+    final String name)
+  {
+    final var index = this.byName.get(Objects.requireNonNull(name, "Name"));
+    return index == null ? OptionalInt.empty() : OptionalInt.of(index.intValue());
+  }
+
+  /**
+   * @param rule The rule index
+   * @param x    The tested value
+   *
+   * @return {@code true} iff {@code x} is included in the range with the
+   * given rule index
+   */
+
+  public boolean includes(
+    final int rule,
+    final long x)
+  {
+    return RangeTest.isIncludedInLong(x, this.lowers[rule], this.uppers[rule]);
+  }
+
+  /**
+   * <p> Assert that {@code x} (named {@code x_name}) is included in the range
+   * with the given rule index. The exception raised on failure names the
+   * range by its name in the table. </p>
+   *
+   * @param rule   The rule index
+   * @param x      The checked value
+   * @param x_name The name of the checked value
+   *
+   * @return x
+   *
+   * @throws RangeCheckException If {@code x} is not included in the range
+   */
+
+  public long check(
+    final int rule,
+    final long x,
+    final String x_name)
+  {
+    if (this.includes(rule, x) && x_name != null) {
+      return x;
+    }
+    throw this.fail(rule, x, x_name);
+  }
+
+  /**
+   * @param rule   The rule index
+   * @param x_name The name of the checked values
+   *
+   * @return A standalone checker for the range with the given rule index
+   */
+
+  public RangeInclusiveCheckerL checker(
+    final int rule,
+    final String x_name)
+  {
+    return RangeInclusiveCheckerL.of(this.range(rule), x_name, this.names[rule]);
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return The lowest rule index of the ranges that include {@code x}, or
+   * {@code -1} if no range includes {@code x}
+   */
+
+  public int classify(
+    final long x)
+  {
+    final int index = Arrays.binarySearch(this.segmentStarts, x);
+    final int segment = index >= 0 ? index : -(index + 1) - 1;
+    return segment < 0 ? -1 : this.segmentRules[segment];
+  }
+
+  /**
+   * <p> A method handle of type {@code (long)boolean} that determines whether
+   * a value is included in the range with the given rule index. The bounds of
+   * the range are bound into the handle as constants. </p>
+   *
+   * @param rule The rule index
+   *
+   * @return A method handle equivalent to {@link #includes(int, long)} for
+   * the given rule
+   */
+
+  public MethodHandle includesHandle(
+    final int rule)
+  {
+    return MethodHandles.insertArguments(
+      INCLUDED,
+      1,
+      Long.valueOf(this.lowers[rule]),
+      Long.valueOf(this.uppers[rule]));
+  }
+
+  /**
+   * <p> A method handle of type {@code (long)long} that checks that a value
+   * (named {@code x_name}) is included in the range with the given rule
+   * index, returning the value or raising a {@link RangeCheckException}. The
+   * bounds and names are bound into the handle as constants. </p>
+   *
+   * @param rule   The rule index
+   * @param x_name The name of the checked values
+   *
+   * @return A method handle equivalent to {@link #check(int, long, String)}
+   * for the given rule and value name
+   */
+
+  public MethodHandle checkHandle(
+    final int rule,
+    final String x_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+
+    return MethodHandles.guardWithTest(
+      this.includesHandle(rule),
+      MethodHandles.identity(long.class),
+      MethodHandles.insertArguments(
+        FAILED,
+        1,
+        x_name,
+        Long.valueOf(this.lowers[rule]),
+        Long.valueOf(this.uppers[rule]),
+        this.names[rule]));
+  }
+
+  /**
+   * <p> A method handle of type {@code (long)int} that classifies a value
+   * against the table. The handle is a balanced decision tree over the
+   * segment starts, with each comparison made against a constant, and the
+   * rule index of each segment returned as a constant. For tables with many
+   * thousands of segments, the tree may exceed the limits up to which the
+   * JIT inlines method handles, in which case {@link #classify(long)} is
+   * faster. </p>
+   *
+   * <p> The tree is built on the first call and then reused. Building it
+   * allocates a method handle per segment and per distinct rule, and so
+   * takes time and memory proportional to {@link #segmentCount()}; tables
+   * that are only used through {@link #classify(long)} never pay this
+   * cost. Concurrent first calls may each build a tree, and all but one of
+   * the trees are discarded. </p>
+   *
+   * @return A method handle equivalent to {@link #classify(long)}
+   */
+
+  public MethodHandle classifier()
+  {
+    MethodHandle result = this.classifier;
+    if (result == null) {
+      result = this.decide(
+        -1,
+        this.segmentStarts.length - 1,
+        new MethodHandle[this.names.length + 1]);
+      this.classifier = result;
+    }
+    return result;
+  }
+
+  /**
+   * @return The number of elementary segments used for classification
+   */
+
+  public int segmentCount()
+  {
+    return this.segmentStarts.length;
+  }
+
+  /**
+   * Build the part of the decision tree that classifies values known to lie
+   * in segments {@code [low, high]}, where segment {@code -1} stands for all
+   * values below the first segment start.
+   */
+
+  private MethodHandle decide(
+    final int low,
+    final int high,
+    final MethodHandle[] leaves)
+  {
+    if (low == high) {
+      final int rule = low < 0 ? -1 : this.segmentRules[low];
+      if (leaves[rule + 1] == null) {
+        leaves[rule + 1] = MethodHandles.dropArguments(
+          MethodHandles.constant(int.class, Integer.valueOf(rule)),
+          0,
+          long.class);
+      }
+      return leaves[rule + 1];
+    }
+
+    final int middle = (low + high + 1) >> 1;
+    return MethodHandles.guardWithTest(
+      MethodHandles.insertArguments(
+        AT_LEAST, 1, Long.valueOf(this.segmentStarts[middle])),
+      this.decide(middle, high, leaves),
+      this.decide(low, middle - 1, leaves));
+  }
+
+  private static boolean atLeast(
+    final long x,
+    final long bound)
+  {
+    return x >= bound;
+  }
+
+  private static long failed(
+    final long x,
+    final String x_name,
+    final long lower,
+    final long upper,
+    final String range_name)
+  {
+    throw RangeCheckException.ofLong(
+      RangeCheckKind.INCLUDED_IN, x, x_name, lower, upper, range_name);
+  }
+
+  private RangeCheckException fail(
+    final int rule,
+    final long x,
+    final String x_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+
+    return RangeCheckException.ofLong(
+      RangeCheckKind.INCLUDED_IN,
+      x,
+      x_name,
+      this.lowers[rule],
+      this.uppers[rule],
+      this.names[rule]);
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+/**
+ * <p> A policy that divides a half-open range of work into chunks. </p>
+ *
+ * @see RangeExecutor
+ * @since 6.1.0
+ */
+
+@FunctionalInterface
+public interface RangeChunkPolicyType
+{
+  /**
+   * <p> A policy that produces chunks of exactly {@code size} values, except
+   * for the final chunk, which may be smaller. </p>
+   *
+   * @param size The chunk size
+   *
+   * @return A fixed-size chunk policy
+   *
+   * @throws RangeCheckException If {@code size <= 0}
+   */
+
+  static RangeChunkPolicyType fixed(
+    final long size)
+  {
+    RangeCheck.checkGreaterLong(size, "Chunk size", 0L, "Minimum chunk size");
+    return (start, end) -> {
+      if (Long.compareUnsigned(end - start, size) <= 0) {
+        return end;
+      }
+      return start + size;
+    };
+  }
+
+  /**
+   * <p> A policy that produces chunks whose boundaries fall on multiples of
+   * {@code size}, such as disk blocks or pages. The first and last chunks may
+   * be smaller than {@code size} if the range of work is not itself
+   * aligned. </p>
+   *
+   * @param size The chunk size and alignment
+   *
+   * @return An aligned chunk policy
+   *
+   * @throws RangeCheckException If {@code size <= 0}
+   */
+
+  static RangeChunkPolicyType aligned(
+    final long size)
+  {
+    RangeCheck.checkGreaterLong(size, "Chunk size", 0L, "Minimum chunk size");
+    return (start, end) -> {
+      final long room = size - Math.floorMod(start, size);
+      if (Long.compareUnsigned(end - start, room) <= 0) {
+        return end;
+      }
+      return start + room;
+    };
+  }
+
+  /**
+   * <p> Determine the end of the chunk that begins at {@code start}. The
+   * result must be in the range {@code (start, end]}. </p>
+   *
+   * @param start The start of the chunk (inclusive)
+   * @param end   The end of the remaining work (exclusive)
+   *
+   * @return The end of the chunk (exclusive)
+   */
+
+  long chunkEnd(
+    long start,
+    long end);
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.Objects;
+
+/**
+ * <p> An immutable classifier that maps {@code int} values to one of a fixed
+ * list of disjoint inclusive buckets, such as latency histogram buckets or
+ * address regions. </p>
+ *
+ * <p> The lower bounds of the buckets are held in a single flat array in
+ * Eytzinger (breadth-first) order: the children of the element at position
+ * {@code k} are at positions {@code 2k} and {@code 2k + 1}. A search touches
+ * one element per level, the first few levels share a handful of cache lines
+ * that stay resident across lookups, and the loop body is a comparison
+ * feeding an index computation with no data-dependent branch, which the JIT
+ * compiles to a conditional move. Classifying a value takes
+ * {@code O(log n)} time and does not allocate. </p>
+ *
+ * @see RangeClassifierL
+ * @since 6.1.0
+ */
+
+public final class RangeClassifierI
+{
+  private final int[] tree;
+  private final int[] ranks;
+  private final int[] uppers;
+  private final int[] indices;
+  private final RangeInclusiveI[] buckets;
+  private final int count;
+
+  private RangeClassifierI(
+    final RangeInclusiveI[] inBuckets)
+  {
+    this.buckets = inBuckets.clone();
+
+    final int size = this.buckets.length;
+    if (size >= 1 << 30) {
+      throw new IllegalArgumentException(
+        "Too many buckets: %d".formatted(Integer.valueOf(size)));
+    }
+
+    final var lowers = new long[size];
+    for (int index = 0; index < size; ++index) {
+      final var bucket = Objects.requireNonNull(this.buckets[index], "Bucket");
+      lowers[index] = bucket.lower();
+    }
+
+    final var order = RangeSort.orderL(lowers);
+    this.count = size;
+    this.uppers = new int[size];
+    this.indices = new int[size];
+    final var sorted = new int[size];
+    for (int index = 0; index < size; ++index) {
+      final var bucket = this.buckets[order[index]];
+      if (index > 0 && this.uppers[index - 1] >= bucket.lower()) {
+        throw new IllegalArgumentException(
+          "Bucket %d (%s) overlaps bucket %d (%s)".formatted(
+            Integer.valueOf(this.indices[index - 1]),
+            this.buckets[this.indices[index - 1]],
+            Integer.valueOf(order[index]),
+            bucket));
+      }
+      sorted[index] = bucket.lower();
+      this.uppers[index] = bucket.upper();
+      this.indices[index] = order[index];
+    }
+
+    this.tree = new int[size + 1];
+    this.ranks = new int[size + 1];
+    layout(sorted, this.tree, this.ranks);
+  }
+
+  /**
+   * Build a classifier over the given buckets.
+   *
+   * @param buckets The buckets, in any order
+   *
+   * @return A classifier
+   *
+   * @throws IllegalArgumentException If any two buckets overlap
+   */
+
+  public static RangeClassifierI ofInclusive(
+    final RangeInclusiveI... buckets)
+  {
+    Objects.requireNonNull(buckets, "Buckets");
+    return new RangeClassifierI(buckets);
+  }
+
+  /**
+   * @return The number of buckets
+   */
+
+  public int size()
+  {
+    return this.buckets.length;
+  }
+
+  /**
+   * @param index The bucket index
+   *
+   * @return The bucket at the given index
+   */
+
+  public RangeInclusiveI bucket(
+    final int index)
+  {
+    return this.buckets[index];
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return The index of the bucket that includes {@code x}, or {@code -1}
+   * if no bucket includes {@code x}
+   */
+
+  public int classify(
+    final int x)
+  {
+    final int[] t = this.tree;
+    final int n = this.count;
+
+    int k = 1;
+    while (k <= n) {
+      k = (k << 1) + (t[k] <= x ? 1 : 0);
+    }
+
+    /*
+     * Strip the trailing right turns (and the final left turn) to find the
+     * position of the first lower bound greater than x. The bucket that can
+     * include x is the one immediately before it in sorted order.
+     */
+
+    k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+    final int rank = (k == 0 ? n : this.ranks[k]) - 1;
+    if (rank >= 0 && x <= this.uppers[rank]) {
+      return this.indices[rank];
+    }
+    return -1;
+  }
+
+  /**
+   * Classify each value in {@code values}, writing the bucket index (or
+   * {@code -1}) of {@code values[i]} to {@code output[i]}.
+   *
+   * @param values The values
+   * @param output The output array
+   *
+   * @throws IllegalArgumentException If {@code output} is shorter than
+   *                                  {@code values}
+   */
+
+  public void classifyAll(
+    final int[] values,
+    final int[] output)
+  {
+    Objects.requireNonNull(values, "Values");
+    Objects.requireNonNull(output, "Output");
+
+    if (output.length < values.length) {
+      throw new IllegalArgumentException(
+        "Output length %d is less than the value count %d".formatted(
+          Integer.valueOf(output.length),
+          Integer.valueOf(values.length)));
+    }
+    for (int index = 0; index < values.length; ++index) {
+      output[index] = this.classify(values[index]);
+    }
+  }
+
+  /**
+   * Place the sorted values into {@code tree} in Eytzinger order. An in-order
+   * walk of the implicit tree visits the positions in sorted order.
+   */
+
+  private static void layout(
+    final int[] sorted,
+    final int[] tree,
+    final int[] ranks)
+  {
+    final int size = sorted.length;
+    int next = 0;
+    int node = 1;
+    final var path = new int[32];
+    int depth = 0;
+
+    while (node <= size || depth > 0) {
+      if (node <= size) {
+        path[depth] = node;
+        ++depth;
+        node <<= 1;
+      } else {
+        --depth;
+        node = path[depth];
+        tree[node] = sorted[next];
+        ranks[node] = next;
+        ++next;
+        node = (node << 1) + 1;
+      }
+    }
+  }
+}
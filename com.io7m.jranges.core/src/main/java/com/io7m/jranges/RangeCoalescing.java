@@ -0,0 +1,396 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * <p> Streaming operators that coalesce sequences of ranges that are already
+ * sorted by lower bound. </p>
+ *
+ * <p> Each operator merges ranges that overlap, are adjacent, or are
+ * separated by at most {@code maximumGap} values that are not included in
+ * either range, and produces the resulting disjoint ranges in order. The
+ * iterator adapters hold only the range currently being merged, and so run
+ * in constant memory however long the input; a range that is not merged
+ * with any other is returned as the same instance. Empty half-open ranges
+ * include no values and are dropped. </p>
+ *
+ * <p> The input must be sorted by lower bound. A range with a lower bound
+ * less than that of the range being merged is rejected with an
+ * {@link IllegalArgumentException}. </p>
+ *
+ * @see RangeExternalCoalescer
+ * @since 6.1.0
+ */
+
+public final class RangeCoalescing
+{
+  private static final Kind<RangeInclusiveL> INCLUSIVE_L =
+    new Kind<>(
+      RangeInclusiveL::lower,
+      RangeInclusiveL::upper,
+      RangeInclusiveL::of,
+      true);
+
+  private static final Kind<RangeHalfOpenL> HALF_OPEN_L =
+    new Kind<>(
+      RangeHalfOpenL::lower,
+      RangeHalfOpenL::upper,
+      RangeHalfOpenL::of,
+      false);
+
+  private RangeCoalescing()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Coalesce overlapping and adjacent ranges.
+   *
+   * @param ranges The ranges, sorted by lower bound
+   *
+   * @return An iterator over the coalesced ranges
+   */
+
+  public static Iterator<RangeInclusiveL> coalesceInclusiveL(
+    final Iterator<RangeInclusiveL> ranges)
+  {
+    return coalesceInclusiveL(ranges, 0L);
+  }
+
+  /**
+   * Coalesce ranges separated by at most {@code maximumGap} values.
+   *
+   * @param ranges     The ranges, sorted by lower bound
+   * @param maximumGap The maximum gap between merged ranges
+   *
+   * @return An iterator over the coalesced ranges
+   */
+
+  public static Iterator<RangeInclusiveL> coalesceInclusiveL(
+    final Iterator<RangeInclusiveL> ranges,
+    final long maximumGap)
+  {
+    Objects.requireNonNull(ranges, "Ranges");
+    return new CoalescingIterator<>(ranges, INCLUSIVE_L, maximumGap);
+  }
+
+  /**
+   * Coalesce overlapping and adjacent ranges.
+   *
+   * @param ranges The ranges, sorted by lower bound
+   *
+   * @return An iterator over the coalesced ranges
+   */
+
+  public static Iterator<RangeHalfOpenL> coalesceHalfOpenL(
+    final Iterator<RangeHalfOpenL> ranges)
+  {
+    return coalesceHalfOpenL(ranges, 0L);
+  }
+
+  /**
+   * Coalesce ranges separated by at most {@code maximumGap} values.
+   *
+   * @param ranges     The ranges, sorted by lower bound
+   * @param maximumGap The maximum gap between merged ranges
+   *
+   * @return An iterator over the coalesced ranges
+   */
+
+  public static Iterator<RangeHalfOpenL> coalesceHalfOpenL(
+    final Iterator<RangeHalfOpenL> ranges,
+    final long maximumGap)
+  {
+    Objects.requireNonNull(ranges, "Ranges");
+    return new CoalescingIterator<>(ranges, HALF_OPEN_L, maximumGap);
+  }
+
+  /**
+   * @return A collector that coalesces overlapping and adjacent ranges
+   */
+
+  public static Collector<RangeInclusiveL, ?, List<RangeInclusiveL>>
+  toCoalescedInclusiveL()
+  {
+    return toCoalescedInclusiveL(0L);
+  }
+
+  /**
+   * @param maximumGap The maximum gap between merged ranges
+   *
+   * @return A collector that coalesces ranges separated by at most
+   * {@code maximumGap} values
+   */
+
+  public static Collector<RangeInclusiveL, ?, List<RangeInclusiveL>>
+  toCoalescedInclusiveL(
+    final long maximumGap)
+  {
+    return collector(INCLUSIVE_L, maximumGap);
+  }
+
+  /**
+   * @return A collector that coalesces overlapping and adjacent ranges
+   */
+
+  public static Collector<RangeHalfOpenL, ?, List<RangeHalfOpenL>>
+  toCoalescedHalfOpenL()
+  {
+    return toCoalescedHalfOpenL(0L);
+  }
+
+  /**
+   * @param maximumGap The maximum gap between merged ranges
+   *
+   * @return A collector that coalesces ranges separated by at most
+   * {@code maximumGap} values
+   */
+
+  public static Collector<RangeHalfOpenL, ?, List<RangeHalfOpenL>>
+  toCoalescedHalfOpenL(
+    final long maximumGap)
+  {
+    return collector(HALF_OPEN_L, maximumGap);
+  }
+
+  private static <T> Collector<T, ?, List<T>> collector(
+    final Kind<T> kind,
+    final long maximumGap)
+  {
+    checkMaximumGap(maximumGap);
+
+    return Collector.<T, ArrayList<T>, List<T>>of(
+      ArrayList::new,
+      (list, range) -> accumulate(kind, maximumGap, list, range),
+      (left, right) -> {
+        for (final var range : right) {
+          accumulate(kind, maximumGap, left, range);
+        }
+        return left;
+      },
+      Collections::unmodifiableList);
+  }
+
+  private static <T> void accumulate(
+    final Kind<T> kind,
+    final long maximumGap,
+    final List<T> list,
+    final T range)
+  {
+    Objects.requireNonNull(range, "Range");
+
+    if (kind.isEmpty(range)) {
+      return;
+    }
+    if (list.isEmpty()) {
+      list.add(range);
+      return;
+    }
+
+    final int lastIndex = list.size() - 1;
+    final T last = list.get(lastIndex);
+    final long lastLower = kind.lowerOf.applyAsLong(last);
+    final long lastUpper = kind.upperOf.applyAsLong(last);
+    final long lower = kind.lowerOf.applyAsLong(range);
+    final long upper = kind.upperOf.applyAsLong(range);
+    checkSorted(lastLower, lower);
+
+    if (kind.joins(lastUpper, lower, maximumGap)) {
+      if (upper > lastUpper) {
+        list.set(lastIndex, kind.constructor.create(lastLower, upper));
+      }
+    } else {
+      list.add(range);
+    }
+  }
+
+  private static void checkMaximumGap(
+    final long maximumGap)
+  {
+    if (maximumGap < 0L) {
+      throw new IllegalArgumentException(
+        "Maximum gap %d must be non-negative".formatted(
+          Long.valueOf(maximumGap)));
+    }
+  }
+
+  private static void checkSorted(
+    final long previousLower,
+    final long lower)
+  {
+    if (lower < previousLower) {
+      throw new IllegalArgumentException(
+        "Ranges are not sorted: lower bound %d follows lower bound %d"
+          .formatted(Long.valueOf(lower), Long.valueOf(previousLower)));
+    }
+  }
+
+  private interface ConstructorType<T>
+  {
+    T create(
+      long lower,
+      long upper);
+  }
+
+  /**
+   * The operations on a kind of range needed for coalescing.
+   */
+
+  private static final class Kind<T>
+  {
+    private final ToLongFunction<T> lowerOf;
+    private final ToLongFunction<T> upperOf;
+    private final ConstructorType<T> constructor;
+    private final boolean inclusive;
+
+    Kind(
+      final ToLongFunction<T> inLower,
+      final ToLongFunction<T> inUpper,
+      final ConstructorType<T> inConstructor,
+      final boolean inInclusive)
+    {
+      this.lowerOf = inLower;
+      this.upperOf = inUpper;
+      this.constructor = inConstructor;
+      this.inclusive = inInclusive;
+    }
+
+    boolean isEmpty(
+      final T range)
+    {
+      return !this.inclusive
+        && this.lowerOf.applyAsLong(range) == this.upperOf.applyAsLong(range);
+    }
+
+    /**
+     * @return {@code true} iff a range starting at {@code nextLower} should
+     * be merged into a range ending at {@code upper}
+     */
+
+    boolean joins(
+      final long upper,
+      final long nextLower,
+      final long maximumGap)
+    {
+      if (nextLower <= upper) {
+        return true;
+      }
+
+      /*
+       * The number of values strictly between the ranges, which may exceed
+       * Long.MAX_VALUE and so is compared as an unsigned value.
+       */
+
+      final long gap = nextLower - upper - (this.inclusive ? 1L : 0L);
+      return Long.compareUnsigned(gap, maximumGap) <= 0;
+    }
+  }
+
+  private static final class CoalescingIterator<T>
+    implements Iterator<T>
+  {
+    private final Iterator<T> source;
+    private final Kind<T> kind;
+    private final long maximumGap;
+    private T pending;
+
+    CoalescingIterator(
+      final Iterator<T> inSource,
+      final Kind<T> inKind,
+      final long inMaximumGap)
+    {
+      checkMaximumGap(inMaximumGap);
+      this.source = inSource;
+      this.kind = inKind;
+      this.maximumGap = inMaximumGap;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      if (this.pending != null) {
+        return true;
+      }
+      this.pending = this.fetch();
+      return this.pending != null;
+    }
+
+    @Override
+    public T next()
+    {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      final T first = this.pending;
+      this.pending = null;
+
+      final long lower = this.kind.lowerOf.applyAsLong(first);
+      long upper = this.kind.upperOf.applyAsLong(first);
+      boolean merged = false;
+
+      while (true) {
+        final T range = this.fetch();
+        if (range == null) {
+          break;
+        }
+
+        final long rangeLower = this.kind.lowerOf.applyAsLong(range);
+        checkSorted(lower, rangeLower);
+        if (!this.kind.joins(upper, rangeLower, this.maximumGap)) {
+          this.pending = range;
+          break;
+        }
+
+        final long rangeUpper = this.kind.upperOf.applyAsLong(range);
+        if (rangeUpper > upper) {
+          upper = rangeUpper;
+          merged = true;
+        }
+      }
+
+      return merged ? this.kind.constructor.create(lower, upper) : first;
+    }
+
+    /**
+     * @return The next non-empty range of the source, or {@code null}
+     */
+
+    private T fetch()
+    {
+      while (this.source.hasNext()) {
+        final T range = Objects.requireNonNull(this.source.next(), "Range");
+        if (!this.kind.isEmpty(range)) {
+          return range;
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p> A running execution of a {@link RangeExecutor}. </p>
+ *
+ * <p> The execution completes when every chunk has been processed, when a
+ * chunk fails, or when the execution is cancelled. In the latter two cases,
+ * no further chunks are started, and the execution completes once the chunks
+ * already in flight have finished. Chunk consumers that run for a long time
+ * may poll {@link #isCancelled()}. </p>
+ *
+ * <p> The set of values in chunks that have been processed successfully is
+ * available at any time from {@link #completed()}, and so an execution that
+ * was cancelled or failed can be resumed by processing the complement of the
+ * completed set. </p>
+ *
+ * @since 6.1.0
+ */
+
+public final class RangeExecution
+{
+  private final Executor executor;
+  private final int maximumInFlight;
+  private final RangeHalfOpenL work;
+  private final RangeChunkPolicyType policy;
+  private final RangeChunkConsumerType consumer;
+  private final Semaphore permits;
+  private final RangeSetL completed;
+  private final AtomicReference<Throwable> failure;
+  private final CompletableFuture<Void> future;
+  private volatile boolean cancelled;
+  private volatile Thread dispatcher;
+
+  RangeExecution(
+    final Executor inExecutor,
+    final int inMaximumInFlight,
+    final RangeHalfOpenL inWork,
+    final RangeChunkPolicyType inPolicy,
+    final RangeChunkConsumerType inConsumer)
+  {
+    this.executor = inExecutor;
+    this.maximumInFlight = inMaximumInFlight;
+    this.work = inWork;
+    this.policy = inPolicy;
+    this.consumer = inConsumer;
+    this.permits = new Semaphore(inMaximumInFlight);
+    this.completed = RangeSetL.create();
+    this.failure = new AtomicReference<>();
+    this.future = new CompletableFuture<>();
+  }
+
+  void start()
+  {
+    this.dispatcher = Thread.ofVirtual()
+      .name("com.io7m.jranges.RangeExecution")
+      .start(this::dispatch);
+  }
+
+  /**
+   * @return The range of work
+   */
+
+  public RangeHalfOpenL work()
+  {
+    return this.work;
+  }
+
+  /**
+   * @return A snapshot of the values in chunks that have been processed
+   * successfully
+   */
+
+  public RangeSetL completed()
+  {
+    synchronized (this.completed) {
+      return this.completed.copy();
+    }
+  }
+
+  /**
+   * @return {@code true} iff the execution has completed
+   */
+
+  public boolean isDone()
+  {
+    return this.future.isDone();
+  }
+
+  /**
+   * @return {@code true} iff {@link #cancel()} has been called, or a chunk
+   * has failed
+   */
+
+  public boolean isCancelled()
+  {
+    return this.cancelled;
+  }
+
+  /**
+   * Cancel the execution. No further chunks are started.
+   *
+   * @return {@code false} iff the execution had already completed
+   */
+
+  public boolean cancel()
+  {
+    if (this.future.isDone()) {
+      return false;
+    }
+    this.cancelled = true;
+    final var thread = this.dispatcher;
+    if (thread != null) {
+      thread.interrupt();
+    }
+    return true;
+  }
+
+  /**
+   * Wait for the execution to complete.
+   *
+   * @throws InterruptedException  If the calling thread is interrupted
+   * @throws ExecutionException    If a chunk failed; the cause is the first
+   *                               failure, with any later failures attached
+   *                               as suppressed exceptions
+   * @throws CancellationException If the execution was cancelled
+   */
+
+  public void await()
+    throws InterruptedException, ExecutionException
+  {
+    this.future.get();
+  }
+
+  /**
+   * @return A future that completes when the execution completes
+   */
+
+  public CompletableFuture<Void> toCompletableFuture()
+  {
+    return this.future.copy();
+  }
+
+  private void dispatch()
+  {
+    final long end = this.work.upper();
+    long next = this.work.lower();
+    try {
+      while (next != end && !this.cancelled) {
+        final long chunkEnd = this.policy.chunkEnd(next, end);
+        RangeCheck.checkGreaterLong(
+          chunkEnd, "Chunk end", next, "Chunk start");
+        RangeCheck.checkLessEqualLong(
+          chunkEnd, "Chunk end", end, "Work upper bound");
+
+        this.permits.acquire();
+        if (this.cancelled) {
+          this.permits.release();
+          break;
+        }
+        this.submit(RangeHalfOpenL.of(next, chunkEnd));
+        next = chunkEnd;
+      }
+    } catch (final InterruptedException e) {
+      this.cancelled = true;
+    } catch (final Throwable e) {
+      this.fail(e);
+    }
+
+    this.permits.acquireUninterruptibly(this.maximumInFlight);
+    this.finish();
+  }
+
+  private void submit(
+    final RangeHalfOpenL chunk)
+  {
+    try {
+      this.executor.execute(() -> this.run(chunk));
+    } catch (final RejectedExecutionException e) {
+      this.permits.release();
+      throw e;
+    }
+  }
+
+  private void run(
+    final RangeHalfOpenL chunk)
+  {
+    try {
+      if (!this.cancelled) {
+        this.consumer.accept(chunk);
+        synchronized (this.completed) {
+          this.completed.add(chunk.lower(), chunk.upper() - 1L);
+        }
+      }
+    } catch (final Throwable e) {
+      this.fail(e);
+    } finally {
+      this.permits.release();
+    }
+  }
+
+  private void fail(
+    final Throwable e)
+  {
+    if (!this.failure.compareAndSet(null, e)) {
+      final var first = this.failure.get();
+      if (first != e) {
+        synchronized (this.failure) {
+          first.addSuppressed(e);
+        }
+      }
+    }
+    this.cancelled = true;
+  }
+
+  private void finish()
+  {
+    final var error = this.failure.get();
+    if (error != null) {
+      this.future.completeExceptionally(error);
+    } else if (this.cancelled) {
+      this.future.cancel(false);
+    } else {
+      this.future.complete(null);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p> An executor that divides a half-open range of work, such as a range of
+ * file offsets or row identifiers, into chunks, and processes the chunks
+ * concurrently. </p>
+ *
+ * <p> At most {@link #maximumInFlight()} chunks are processed at any one
+ * time; chunks are produced lazily, so the size of the range of work does not
+ * affect memory use. Chunk boundaries are computed without overflow, so any
+ * {@link RangeHalfOpenL} may be used as the range of work. </p>
+ *
+ * <p> Instances are immutable and may be used to run any number of
+ * executions concurrently. </p>
+ *
+ * @see RangeExecution
+ * @since 6.1.0
+ */
+
+public final class RangeExecutor
+{
+  private final Executor executor;
+  private final int maximumInFlight;
+
+  private RangeExecutor(
+    final Executor inExecutor,
+    final int inMaximumInFlight)
+  {
+    this.executor = inExecutor;
+    this.maximumInFlight = inMaximumInFlight;
+  }
+
+  /**
+   * Create an executor that processes each chunk on a new virtual thread.
+   *
+   * @param maximumInFlight The maximum number of chunks processed at once
+   *
+   * @return An executor
+   *
+   * @throws RangeCheckException If {@code maximumInFlight < 1}
+   */
+
+  public static RangeExecutor createVirtual(
+    final int maximumInFlight)
+  {
+    return create(command -> Thread.ofVirtual().start(command), maximumInFlight);
+  }
+
+  /**
+   * Create an executor that processes each chunk as a task submitted to
+   * {@code executor}, such as a {@link ForkJoinPool}.
+   *
+   * @param executor        The underlying executor
+   * @param maximumInFlight The maximum number of chunks processed at once
+   *
+   * @return An executor
+   *
+   * @throws RangeCheckException If {@code maximumInFlight < 1}
+   */
+
+  public static RangeExecutor create(
+    final Executor executor,
+    final int maximumInFlight)
+  {
+    Objects.requireNonNull(executor, "Executor");
+    RangeCheck.checkGreaterEqualInteger(
+      maximumInFlight,
+      "Maximum in-flight chunks",
+      1,
+      "Minimum in-flight chunks");
+    return new RangeExecutor(executor, maximumInFlight);
+  }
+
+  /**
+   * @return The maximum number of chunks processed at once
+   */
+
+  public int maximumInFlight()
+  {
+    return this.maximumInFlight;
+  }
+
+  /**
+   * <p> Begin processing {@code work}. The chunks are passed to
+   * {@code consumer} in ascending order of their lower bounds, although they
+   * may complete in any order. The method returns immediately. </p>
+   *
+   * @param work     The range of work
+   * @param policy   The chunk policy
+   * @param consumer The chunk consumer
+   *
+   * @return The running execution
+   */
+
+  public RangeExecution execute(
+    final RangeHalfOpenL work,
+    final RangeChunkPolicyType policy,
+    final RangeChunkConsumerType consumer)
+  {
+    Objects.requireNonNull(work, "Work");
+    Objects.requireNonNull(policy, "Policy");
+    Objects.requireNonNull(consumer, "Consumer");
+
+    final var execution = new RangeExecution(
+      this.executor, this.maximumInFlight, work, policy, consumer);
+    execution.start();
+    return execution;
+  }
+}
@@ -0,0 +1,707 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p> A coalescer for collections of half-open {@code long} ranges that are
+ * too large to hold in memory. </p>
+ *
+ * <p> Ranges are accumulated in a fixed-size buffer of interleaved bounds.
+ * When the buffer fills, it is sorted with {@link RangeSort}, coalesced, and
+ * written to a temporary file as a sorted <i>run</i>. The runs (and whatever
+ * remains in the buffer) are then merged back with a k-way merge, producing
+ * the minimal sorted sequence of disjoint ranges that covers exactly the same
+ * values as the added ranges, or the gaps between them. The merge is a
+ * coalescing {@link RangeMerger}. Following the
+ * semantics of half-open ranges, ranges such as {@code [0, 4)} and
+ * {@code [4, 8)} are adjacent and coalesce into {@code [0, 8)}. Empty ranges
+ * cover no values and are ignored. </p>
+ *
+ * <p> Each run is stored as a sequence of unsigned LEB128 variable-length
+ * integers: for each range, the distance from the upper bound of the
+ * previous range (or from {@link Long#MIN_VALUE}), followed by the length of
+ * the range. Clustered ranges therefore take only a few bytes each. </p>
+ *
+ * <p> At most {@code 128} runs are merged at once, so that the number of
+ * files held open is bounded. When more runs than that have been written,
+ * the oldest runs are merged in groups of {@code 128} into intermediate
+ * runs, in as many passes as are needed, before the final merge. The
+ * intermediate runs replace the runs from which they were merged, so later
+ * merges do not repeat the work. </p>
+ *
+ * <p> Streams returned by the coalescer hold run files open, and should be
+ * closed after use. Run files that have been merged into intermediate runs
+ * are not deleted until no stream is open. Closing the coalescer closes any
+ * streams that are still open, and then deletes its temporary files;
+ * reading from such a stream afterwards raises an
+ * {@link UncheckedIOException}. </p>
+ *
+ * @since 6.1.0
+ */
+
+public final class RangeExternalCoalescer implements Closeable
+{
+  private static final int DEFAULT_RANGES_PER_RUN = 1 << 20;
+  private static final int IO_BUFFER_SIZE = 1 << 16;
+  private static final int MAX_FAN_IN = 128;
+
+  private final Path directory;
+  private final long[] buffer;
+  private final List<Path> runs;
+  private final List<Path> obsolete;
+  private final Set<OpenMerge> open;
+  private int buffered;
+  private long size;
+  private boolean closed;
+
+  private RangeExternalCoalescer(
+    final Path inDirectory,
+    final int inRangesPerRun)
+  {
+    this.directory = inDirectory;
+    this.buffer = new long[inRangesPerRun * 2];
+    this.runs = new ArrayList<>();
+    this.obsolete = new ArrayList<>();
+    this.open = new HashSet<>();
+  }
+
+  /**
+   * Create a coalescer that holds up to {@code 2^20} ranges in memory at
+   * once.
+   *
+   * @param directory The directory in which temporary files are created
+   *
+   * @return A new coalescer
+   */
+
+  public static RangeExternalCoalescer create(
+    final Path directory)
+  {
+    return create(directory, DEFAULT_RANGES_PER_RUN);
+  }
+
+  /**
+   * Create a coalescer.
+   *
+   * @param directory    The directory in which temporary files are created
+   * @param rangesPerRun The maximum number of ranges held in memory at once
+   *
+   * @return A new coalescer
+   *
+   * @throws IllegalArgumentException If {@code rangesPerRun} is not in
+   *                                  {@code [1, 2^30)}
+   */
+
+  public static RangeExternalCoalescer create(
+    final Path directory,
+    final int rangesPerRun)
+  {
+    Objects.requireNonNull(directory, "Directory");
+
+    if (rangesPerRun < 1 || rangesPerRun >= 1 << 30) {
+      throw new IllegalArgumentException(
+        "Ranges per run %d must be in [1, 2^30)".formatted(
+          Integer.valueOf(rangesPerRun)));
+    }
+    return new RangeExternalCoalescer(directory, rangesPerRun);
+  }
+
+  /**
+   * Add a range.
+   *
+   * @param range The range
+   *
+   * @throws IOException On I/O errors writing a run
+   */
+
+  public void add(
+    final RangeHalfOpenL range)
+    throws IOException
+  {
+    Objects.requireNonNull(range, "Range");
+    this.addUnchecked(range.lower(), range.upper());
+  }
+
+  /**
+   * Add the range {@code [lower, upper)}.
+   *
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @throws IOException         On I/O errors writing a run
+   * @throws RangeCheckException If {@code lower > upper}
+   */
+
+  public void add(
+    final long lower,
+    final long upper)
+    throws IOException
+  {
+    RangeCheck.checkLessEqualLong(lower, "lower", upper, "upper");
+    this.addUnchecked(lower, upper);
+  }
+
+  /**
+   * @return The number of non-empty ranges added so far
+   */
+
+  public long size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @return The number of runs currently held in temporary files
+   */
+
+  public int runCount()
+  {
+    return this.runs.size();
+  }
+
+  /**
+   * @return The minimal sorted sequence of disjoint ranges that covers the
+   * values of every range added so far
+   *
+   * @throws IOException On I/O errors opening the runs
+   */
+
+  public Stream<RangeHalfOpenL> coalesced()
+    throws IOException
+  {
+    final var merge = this.openMerge();
+    return this.stream(merge, merge);
+  }
+
+  /**
+   * @return The sorted sequence of non-empty ranges that lie between the
+   * ranges returned by {@link #coalesced()}
+   *
+   * @throws IOException On I/O errors opening the runs
+   */
+
+  public Stream<RangeHalfOpenL> gaps()
+    throws IOException
+  {
+    final var merge = this.openMerge();
+    return this.stream(new GapIterator(merge), merge);
+  }
+
+  @Override
+  public void close()
+    throws IOException
+  {
+    if (this.closed) {
+      return;
+    }
+    this.closed = true;
+
+    IOException failure = null;
+    for (final var merge : this.open) {
+      try {
+        merge.close();
+      } catch (final UncheckedIOException e) {
+        if (failure == null) {
+          failure = e.getCause();
+        } else {
+          failure.addSuppressed(e.getCause());
+        }
+      }
+    }
+    this.open.clear();
+
+    this.obsolete.addAll(this.runs);
+    this.runs.clear();
+    for (final var run : this.obsolete) {
+      try {
+        Files.deleteIfExists(run);
+      } catch (final IOException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    this.obsolete.clear();
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private void addUnchecked(
+    final long lower,
+    final long upper)
+    throws IOException
+  {
+    this.checkNotClosed();
+
+    if (lower == upper) {
+      return;
+    }
+    if (this.buffered * 2 == this.buffer.length) {
+      this.spill();
+    }
+    this.buffer[this.buffered * 2] = lower;
+    this.buffer[this.buffered * 2 + 1] = upper;
+    ++this.buffered;
+    ++this.size;
+  }
+
+  private void checkNotClosed()
+  {
+    if (this.closed) {
+      throw new IllegalStateException("Coalescer is closed.");
+    }
+  }
+
+  /**
+   * Sort and coalesce the buffer in place.
+   *
+   * @return The number of ranges in the buffer after coalescing
+   */
+
+  private int coalesceBuffer()
+  {
+    final long[] data;
+    if (this.buffered * 2 == this.buffer.length) {
+      data = this.buffer;
+    } else {
+      data = Arrays.copyOf(this.buffer, this.buffered * 2);
+    }
+    RangeSort.radixSortL(data);
+
+    int last = -1;
+    for (int index = 0; index < this.buffered; ++index) {
+      final long lower = data[index * 2];
+      final long upper = data[index * 2 + 1];
+      if (last >= 0 && lower <= this.buffer[last * 2 + 1]) {
+        this.buffer[last * 2 + 1] = Math.max(this.buffer[last * 2 + 1], upper);
+      } else {
+        ++last;
+        this.buffer[last * 2] = lower;
+        this.buffer[last * 2 + 1] = upper;
+      }
+    }
+    this.buffered = last + 1;
+    return this.buffered;
+  }
+
+  private void spill()
+    throws IOException
+  {
+    final int count = this.coalesceBuffer();
+    final var file =
+      Files.createTempFile(this.directory, "jranges-run-", ".bin");
+
+    try (var writer = new RunWriter(file)) {
+      for (int index = 0; index < count; ++index) {
+        writer.write(this.buffer[index * 2], this.buffer[index * 2 + 1]);
+      }
+    } catch (final IOException e) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (final IOException ex) {
+        e.addSuppressed(ex);
+      }
+      throw e;
+    }
+    this.runs.add(file);
+    this.buffered = 0;
+  }
+
+  private OpenMerge openMerge()
+    throws IOException
+  {
+    this.checkNotClosed();
+    this.compact();
+
+    final int count = this.coalesceBuffer();
+    final var merge = open(
+      this.runs,
+      new RangeMerger.BoundsSource(
+        this.runs.size(), Arrays.copyOf(this.buffer, count * 2), count));
+    this.open.add(merge);
+    return merge;
+  }
+
+  /**
+   * Close a merge opened by {@link #openMerge()}, unless the coalescer has
+   * already closed it.
+   */
+
+  private void release(
+    final OpenMerge merge)
+  {
+    if (this.open.remove(merge)) {
+      try {
+        merge.close();
+      } finally {
+        if (this.open.isEmpty()) {
+          this.deleteObsolete();
+        }
+      }
+    }
+  }
+
+  /**
+   * Merge the oldest runs into intermediate runs until few enough remain
+   * that they, and the buffer, can be merged at once.
+   */
+
+  private void compact()
+    throws IOException
+  {
+    while (this.runs.size() >= MAX_FAN_IN) {
+      final var group = this.runs.subList(0, MAX_FAN_IN);
+      final var merged = this.mergeRuns(group);
+      this.obsolete.addAll(group);
+      group.clear();
+      this.runs.add(merged);
+      if (this.open.isEmpty()) {
+        this.deleteObsolete();
+      }
+    }
+  }
+
+  private Path mergeRuns(
+    final List<Path> group)
+    throws IOException
+  {
+    final var file =
+      Files.createTempFile(this.directory, "jranges-run-", ".bin");
+
+    try (var merge = open(group, null);
+         var writer = new RunWriter(file)) {
+      final var merger = merge.merger;
+      while (merger.advance()) {
+        writer.write(merger.lower(), merger.upper());
+      }
+    } catch (final IOException | UncheckedIOException e) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (final IOException ex) {
+        e.addSuppressed(ex);
+      }
+      throw e;
+    }
+    return file;
+  }
+
+  /**
+   * Delete the files of runs that have been merged into other runs, which
+   * must not be held open by any merge. Files that cannot be deleted now are
+   * retried when the coalescer is closed, which reports any failure.
+   */
+
+  private void deleteObsolete()
+  {
+    this.obsolete.removeIf(run -> {
+      try {
+        Files.deleteIfExists(run);
+        return true;
+      } catch (final IOException e) {
+        return false;
+      }
+    });
+  }
+
+  /**
+   * Open a coalescing merge of the given runs, followed by {@code extra}
+   * (if not {@code null}), which must have been created with the index
+   * {@code runs.size()}.
+   */
+
+  private static OpenMerge open(
+    final List<Path> runs,
+    final RangeMerger.Source extra)
+    throws IOException
+  {
+    final int fileCount = runs.size();
+    final var sources =
+      new RangeMerger.Source[extra == null ? fileCount : fileCount + 1];
+    final var files = new ArrayList<FileRunSource>(fileCount);
+    try {
+      for (final var run : runs) {
+        final var file = new FileRunSource(files.size(), run);
+        sources[files.size()] = file;
+        files.add(file);
+      }
+      if (extra != null) {
+        sources[fileCount] = extra;
+      }
+      return new OpenMerge(RangeMerger.ofSources(sources, true), files);
+    } catch (final IOException | UncheckedIOException e) {
+      for (final var file : files) {
+        try {
+          file.close();
+        } catch (final IOException ex) {
+          e.addSuppressed(ex);
+        }
+      }
+      throw e;
+    }
+  }
+
+  private Stream<RangeHalfOpenL> stream(
+    final Iterator<RangeHalfOpenL> iterator,
+    final OpenMerge merge)
+  {
+    final var spliterator =
+      Spliterators.spliteratorUnknownSize(
+        iterator,
+        Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false)
+      .onClose(() -> this.release(merge));
+  }
+
+  private static void writeVarLong(
+    final OutputStream output,
+    final long value)
+    throws IOException
+  {
+    long remaining = value;
+    while ((remaining & ~0x7fL) != 0L) {
+      output.write((int) ((remaining & 0x7fL) | 0x80L));
+      remaining >>>= 7;
+    }
+    output.write((int) remaining);
+  }
+
+  private static long readVarLong(
+    final InputStream input)
+    throws IOException
+  {
+    long result = 0L;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      final int b = input.read();
+      if (b < 0) {
+        throw new EOFException("Truncated run file.");
+      }
+      result |= (long) (b & 0x7f) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new IOException("Malformed run file.");
+  }
+
+  /**
+   * A writer of a run file. Each range is written as the distance from the
+   * upper bound of the previous range, followed by its length.
+   */
+
+  private static final class RunWriter implements Closeable
+  {
+    private final OutputStream output;
+    private long previous;
+
+    RunWriter(
+      final Path file)
+      throws IOException
+    {
+      this.output =
+        new BufferedOutputStream(Files.newOutputStream(file), IO_BUFFER_SIZE);
+      this.previous = Long.MIN_VALUE;
+    }
+
+    void write(
+      final long lower,
+      final long upper)
+      throws IOException
+    {
+      writeVarLong(this.output, lower - this.previous);
+      writeVarLong(this.output, upper - lower);
+      this.previous = upper;
+    }
+
+    @Override
+    public void close()
+      throws IOException
+    {
+      this.output.close();
+    }
+  }
+
+  /**
+   * A sorted, coalesced run of ranges read from a file.
+   */
+
+  private static final class FileRunSource extends RangeMerger.Source
+  {
+    private final InputStream input;
+    private long previous;
+
+    FileRunSource(
+      final int inIndex,
+      final Path file)
+      throws IOException
+    {
+      super(inIndex);
+      this.input =
+        new BufferedInputStream(Files.newInputStream(file), IO_BUFFER_SIZE);
+      this.previous = Long.MIN_VALUE;
+    }
+
+    @Override
+    boolean fetch()
+    {
+      try {
+        this.input.mark(1);
+        if (this.input.read() < 0) {
+          return false;
+        }
+        this.input.reset();
+
+        final long lower = this.previous + readVarLong(this.input);
+        final long upper = lower + readVarLong(this.input);
+        this.set(lower, upper, null);
+        this.previous = upper;
+        return true;
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    void close()
+      throws IOException
+    {
+      this.input.close();
+    }
+  }
+
+  /**
+   * A coalescing merge of the runs, and the files that it holds open.
+   */
+
+  private static final class OpenMerge
+    implements Iterator<RangeHalfOpenL>, AutoCloseable
+  {
+    private final RangeMerger merger;
+    private final List<FileRunSource> files;
+    private boolean ready;
+
+    OpenMerge(
+      final RangeMerger inMerger,
+      final List<FileRunSource> inFiles)
+    {
+      this.merger = inMerger;
+      this.files = inFiles;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      if (!this.ready) {
+        this.ready = this.merger.advance();
+      }
+      return this.ready;
+    }
+
+    @Override
+    public RangeHalfOpenL next()
+    {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      this.ready = false;
+      return this.merger.range();
+    }
+
+    @Override
+    public void close()
+    {
+      IOException failure = null;
+      for (final var file : this.files) {
+        try {
+          file.close();
+        } catch (final IOException e) {
+          if (failure == null) {
+            failure = e;
+          } else {
+            failure.addSuppressed(e);
+          }
+        }
+      }
+      if (failure != null) {
+        throw new UncheckedIOException(failure);
+      }
+    }
+  }
+
+  private static final class GapIterator
+    implements Iterator<RangeHalfOpenL>
+  {
+    private final OpenMerge merge;
+    private RangeHalfOpenL previous;
+    private boolean started;
+
+    GapIterator(
+      final OpenMerge inMerge)
+    {
+      this.merge = inMerge;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      if (!this.started) {
+        this.started = true;
+        if (this.merge.hasNext()) {
+          this.previous = this.merge.next();
+        }
+      }
+      return this.previous != null && this.merge.hasNext();
+    }
+
+    @Override
+    public RangeHalfOpenL next()
+    {
+      if (!this.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      final var current = this.merge.next();
+      final var gap = RangeHalfOpenL.of(this.previous.upper(), current.lower());
+      this.previous = current;
+      return gap;
+    }
+  }
+}
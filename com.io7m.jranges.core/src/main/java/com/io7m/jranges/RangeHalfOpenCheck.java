@@ -59,23 +59,10 @@ public final class RangeHalfOpenCheck
     final RangeHalfOpenL range,
     final String range_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(range, "Range");
-    Objects.requireNonNull(range_name, "Range name");
-
-    if (range.includesValue(x)) {
+    if (range.includesValue(x) && x_name != null && range_name != null) {
       return x;
     }
-
-    final var message = String.format(
-      "%s <= %s (%s) <= %s (%s) == false",
-      Long.valueOf(range.lower()),
-      x_name,
-      Long.valueOf(x),
-      Long.valueOf(range.upper()),
-      range_name);
-
-    throw new RangeCheckException(message);
+    throw failIncludedInLong(x, x_name, range, range_name);
   }
 
   /**
@@ -98,23 +85,10 @@ public final class RangeHalfOpenCheck
     final RangeHalfOpenI range,
     final String range_name)
   {
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(range, "Range");
-    Objects.requireNonNull(range_name, "Range name");
-
-    if (range.includesValue(x)) {
+    if (range.includesValue(x) && x_name != null && range_name != null) {
       return x;
     }
-
-    final var message = String.format(
-      "%s <= %s (%s) <= %s (%s) == false",
-      Integer.valueOf(range.lower()),
-      x_name,
-      Integer.valueOf(x),
-      Integer.valueOf(range.upper()),
-      range_name);
-
-    throw new RangeCheckException(message);
+    throw failIncludedInInteger(x, x_name, range, range_name);
   }
 
   /**
@@ -135,24 +109,72 @@ public final class RangeHalfOpenCheck
     final RangeHalfOpenB range,
     final String range_name)
   {
-    Objects.requireNonNull(x, "Value");
-    Objects.requireNonNull(x_name, "Value name");
-    Objects.requireNonNull(range, "Range");
-    Objects.requireNonNull(range_name, "Range name");
+    if (range.includesValue(x) && x_name != null && range_name != null) {
+      return x;
+    }
+    throw failIncludedInBig(x, x_name, range, range_name);
+  }
+
+  /**
+   * <p> Assert that {@code x} (named {@code x_name}) is included in the
+   * half-open range {@code [in_lower, in_upper)} (named {@code range_name}). This
+   * is equivalent to the variant that takes a range object, but does not
+   * require one to be constructed. If {@code in_lower &gt;= in_upper},
+   * the range is empty and the check always fails. </p>
+   *
+   * @param x          The checked value
+   * @param x_name     The name of the checked value
+   * @param in_lower   The lower bound of the range (inclusive)
+   * @param in_upper   The upper bound of the range (exclusive)
+   * @param range_name The name of the range
+   *
+   * @return x
+   *
+   * @since 6.1.0
+   */
 
-    if (range.includesValue(x)) {
+  public static long checkIncludedInLong(
+    final long x,
+    final String x_name,
+    final long in_lower,
+    final long in_upper,
+    final String range_name)
+  {
+    if (RangeHalfOpenTest.isIncludedInLong(x, in_lower, in_upper) && x_name != null && range_name != null) {
       return x;
     }
+    throw failIncludedInLong(x, x_name, in_lower, in_upper, range_name);
+  }
 
-    final var message = String.format(
-      "%s <= %s (%s) <= %s (%s) == false",
-      range.lower(),
-      x_name,
-      x,
-      range.upper(),
-      range_name);
+  /**
+   * <p> Assert that {@code x} (named {@code x_name}) is included in the
+   * half-open range {@code [in_lower, in_upper)} (named {@code range_name}). This
+   * is equivalent to the variant that takes a range object, but does not
+   * require one to be constructed. If {@code in_lower &gt;= in_upper},
+   * the range is empty and the check always fails. </p>
+   *
+   * @param x          The checked value
+   * @param x_name     The name of the checked value
+   * @param in_lower   The lower bound of the range (inclusive)
+   * @param in_upper   The upper bound of the range (exclusive)
+   * @param range_name The name of the range
+   *
+   * @return x
+   *
+   * @since 6.1.0
+   */
 
-    throw new RangeCheckException(message);
+  public static int checkIncludedInInteger(
+    final int x,
+    final String x_name,
+    final int in_lower,
+    final int in_upper,
+    final String range_name)
+  {
+    if (RangeHalfOpenTest.isIncludedInInteger(x, in_lower, in_upper) && x_name != null && range_name != null) {
+      return x;
+    }
+    throw failIncludedInInteger(x, x_name, in_lower, in_upper, range_name);
   }
 
   /**
@@ -175,23 +197,10 @@ public final class RangeHalfOpenCheck
     final RangeHalfOpenL outer,
     final String outer_name)
   {
-    Objects.requireNonNull(inner, "Inner range");
-    Objects.requireNonNull(inner_name, "Inner range name");
-    Objects.requireNonNull(outer, "Outer range");
-    Objects.requireNonNull(outer_name, "Outer range name");
-
-    if (inner.isIncludedIn(outer)) {
+    if (inner.isIncludedIn(outer) && inner_name != null && outer_name != null) {
       return inner;
     }
-
-    final var message = String.format(
-      "Inner range %s (%s) not included in outer range %s (%s)",
-      inner_name,
-      inner,
-      outer_name,
-      outer);
-
-    throw new RangeCheckException(message);
+    throw failRangeIncludedInLong(inner, inner_name, outer, outer_name);
   }
 
   /**
@@ -214,23 +223,10 @@ public final class RangeHalfOpenCheck
     final RangeHalfOpenI outer,
     final String outer_name)
   {
-    Objects.requireNonNull(inner, "Inner range");
-    Objects.requireNonNull(inner_name, "Inner range name");
-    Objects.requireNonNull(outer, "Outer range");
-    Objects.requireNonNull(outer_name, "Outer range name");
-
-    if (inner.isIncludedIn(outer)) {
+    if (inner.isIncludedIn(outer) && inner_name != null && outer_name != null) {
       return inner;
     }
-
-    final var message = String.format(
-      "Inner range %s (%s) not included in outer range %s (%s)",
-      inner_name,
-      inner,
-      outer_name,
-      outer);
-
-    throw new RangeCheckException(message);
+    throw failRangeIncludedInInteger(inner, inner_name, outer, outer_name);
   }
 
   /**
@@ -250,23 +246,346 @@ public final class RangeHalfOpenCheck
     final String inner_name,
     final RangeHalfOpenB outer,
     final String outer_name)
+  {
+    if (inner.isIncludedIn(outer) && inner_name != null && outer_name != null) {
+      return inner;
+    }
+    throw failRangeIncludedInBig(inner, inner_name, outer, outer_name);
+  }
+
+  /**
+   * <p> Assert that every element of {@code values} (named
+   * {@code values_name}) in the index range {@code [from, to)} is included
+   * in the given range {@code range} (named {@code range_name}). If any
+   * element is not included, the exception describes the first such element.
+   * </p>
+   *
+   * <p> This is equivalent to, but substantially faster than, calling
+   * {@link #checkIncludedInLong} for each element. </p>
+   *
+   * @param values      The checked values
+   * @param from        The starting index (inclusive)
+   * @param to          The ending index (exclusive)
+   * @param values_name The name of the checked values
+   * @param range       The half-open range
+   * @param range_name  The name of the half-open range
+   *
+   * @return values
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}
+   * @see RangeHalfOpenTest#findFirstNotIncludedInLong
+   * @since 6.1.0
+   */
+
+  public static long[] checkAllIncludedInLong(
+    final long[] values,
+    final int from,
+    final int to,
+    final String values_name,
+    final RangeHalfOpenL range,
+    final String range_name)
+  {
+    final int index =
+      RangeHalfOpenTest.findFirstNotIncludedInLong(values, from, to, range);
+    if (index < 0 && values_name != null && range_name != null) {
+      return values;
+    }
+    throw failAllIncludedInLong(
+      values, index, values_name, range, range_name);
+  }
+
+  /**
+   * <p> Assert that every element of {@code values} (named
+   * {@code values_name}) in the index range {@code [from, to)} is included
+   * in the given range {@code range} (named {@code range_name}). If any
+   * element is not included, the exception describes the first such element.
+   * </p>
+   *
+   * <p> This is equivalent to, but substantially faster than, calling
+   * {@link #checkIncludedInInteger} for each element. </p>
+   *
+   * @param values      The checked values
+   * @param from        The starting index (inclusive)
+   * @param to          The ending index (exclusive)
+   * @param values_name The name of the checked values
+   * @param range       The half-open range
+   * @param range_name  The name of the half-open range
+   *
+   * @return values
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}
+   * @see RangeHalfOpenTest#findFirstNotIncludedInInteger
+   * @since 6.1.0
+   */
+
+  public static int[] checkAllIncludedInInteger(
+    final int[] values,
+    final int from,
+    final int to,
+    final String values_name,
+    final RangeHalfOpenI range,
+    final String range_name)
+  {
+    final int index =
+      RangeHalfOpenTest.findFirstNotIncludedInInteger(values, from, to, range);
+    if (index < 0 && values_name != null && range_name != null) {
+      return values;
+    }
+    throw failAllIncludedInInteger(
+      values, index, values_name, range, range_name);
+  }
+
+  /**
+   * <p> Assert that every element of {@code values} (named
+   * {@code values_name}) in the index range {@code [from, to)} is included
+   * in the given range {@code range} (named {@code range_name}). If any
+   * element is not included, the exception describes the first such element.
+   * </p>
+   *
+   * @param values      The checked values
+   * @param from        The starting index (inclusive)
+   * @param to          The ending index (exclusive)
+   * @param values_name The name of the checked values
+   * @param range       The half-open range
+   * @param range_name  The name of the half-open range
+   *
+   * @return values
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}
+   * @see RangeHalfOpenTest#findFirstNotIncludedInDouble
+   * @since 6.1.0
+   */
+
+  public static double[] checkAllIncludedInDouble(
+    final double[] values,
+    final int from,
+    final int to,
+    final String values_name,
+    final RangeHalfOpenD range,
+    final String range_name)
+  {
+    final int index =
+      RangeHalfOpenTest.findFirstNotIncludedInDouble(values, from, to, range);
+    if (index < 0 && values_name != null && range_name != null) {
+      return values;
+    }
+    throw failAllIncludedInDouble(
+      values, index, values_name, range, range_name);
+  }
+
+  /*
+   * Failure paths. See the corresponding comment in RangeCheck.
+   */
+
+  private static RangeCheckException failIncludedInLong(
+    final long x,
+    final String x_name,
+    final RangeHalfOpenL range,
+    final String range_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(range, "Range");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofLong(
+      RangeCheckKind.INCLUDED_IN_HALF_OPEN,
+      x,
+      x_name,
+      range.lower(),
+      range.upper(),
+      range_name);
+  }
+
+  private static RangeCheckException failIncludedInInteger(
+    final int x,
+    final String x_name,
+    final RangeHalfOpenI range,
+    final String range_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(range, "Range");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofInteger(
+      RangeCheckKind.INCLUDED_IN_HALF_OPEN,
+      x,
+      x_name,
+      range.lower(),
+      range.upper(),
+      range_name);
+  }
+
+  private static RangeCheckException failIncludedInLong(
+    final long x,
+    final String x_name,
+    final long in_lower,
+    final long in_upper,
+    final String range_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofLong(
+      RangeCheckKind.INCLUDED_IN_HALF_OPEN,
+      x,
+      x_name,
+      in_lower,
+      in_upper,
+      range_name);
+  }
+
+  private static RangeCheckException failIncludedInInteger(
+    final int x,
+    final String x_name,
+    final int in_lower,
+    final int in_upper,
+    final String range_name)
+  {
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofInteger(
+      RangeCheckKind.INCLUDED_IN_HALF_OPEN,
+      x,
+      x_name,
+      in_lower,
+      in_upper,
+      range_name);
+  }
+
+  private static RangeCheckException failIncludedInBig(
+    final BigInteger x,
+    final String x_name,
+    final RangeHalfOpenB range,
+    final String range_name)
+  {
+    Objects.requireNonNull(x, "Value");
+    Objects.requireNonNull(x_name, "Value name");
+    Objects.requireNonNull(range, "Range");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofBig(
+      RangeCheckKind.INCLUDED_IN_HALF_OPEN, x, x_name, range, range_name);
+  }
+
+  private static RangeCheckException failRangeIncludedInLong(
+    final RangeHalfOpenL inner,
+    final String inner_name,
+    final RangeHalfOpenL outer,
+    final String outer_name)
   {
     Objects.requireNonNull(inner, "Inner range");
     Objects.requireNonNull(inner_name, "Inner range name");
     Objects.requireNonNull(outer, "Outer range");
     Objects.requireNonNull(outer_name, "Outer range name");
 
-    if (inner.isIncludedIn(outer)) {
-      return inner;
-    }
+    return RangeCheckException.ofRangeLong(
+      RangeCheckKind.RANGE_INCLUDED_IN_HALF_OPEN,
+      inner,
+      inner_name,
+      outer,
+      outer.lower(),
+      outer.upper(),
+      outer_name);
+  }
 
-    final var message = String.format(
-      "Inner range %s (%s) not included in outer range %s (%s)",
+  private static RangeCheckException failRangeIncludedInInteger(
+    final RangeHalfOpenI inner,
+    final String inner_name,
+    final RangeHalfOpenI outer,
+    final String outer_name)
+  {
+    Objects.requireNonNull(inner, "Inner range");
+    Objects.requireNonNull(inner_name, "Inner range name");
+    Objects.requireNonNull(outer, "Outer range");
+    Objects.requireNonNull(outer_name, "Outer range name");
+
+    return RangeCheckException.ofRangeInteger(
+      RangeCheckKind.RANGE_INCLUDED_IN_HALF_OPEN,
+      inner,
       inner_name,
+      outer,
+      outer.lower(),
+      outer.upper(),
+      outer_name);
+  }
+
+  private static RangeCheckException failRangeIncludedInBig(
+    final RangeHalfOpenB inner,
+    final String inner_name,
+    final RangeHalfOpenB outer,
+    final String outer_name)
+  {
+    Objects.requireNonNull(inner, "Inner range");
+    Objects.requireNonNull(inner_name, "Inner range name");
+    Objects.requireNonNull(outer, "Outer range");
+    Objects.requireNonNull(outer_name, "Outer range name");
+
+    return RangeCheckException.ofRangeBig(
+      RangeCheckKind.RANGE_INCLUDED_IN_HALF_OPEN,
       inner,
-      outer_name,
-      outer);
+      inner_name,
+      outer,
+      outer_name);
+  }
+
+  private static RangeCheckException failAllIncludedInLong(
+    final long[] values,
+    final int index,
+    final String values_name,
+    final RangeHalfOpenL range,
+    final String range_name)
+  {
+    Objects.requireNonNull(values_name, "Value name");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofLong(
+      RangeCheckKind.INCLUDED_IN_HALF_OPEN,
+      values[index],
+      values_name + "[" + index + "]",
+      range.lower(),
+      range.upper(),
+      range_name);
+  }
 
-    throw new RangeCheckException(message);
+  private static RangeCheckException failAllIncludedInInteger(
+    final int[] values,
+    final int index,
+    final String values_name,
+    final RangeHalfOpenI range,
+    final String range_name)
+  {
+    Objects.requireNonNull(values_name, "Value name");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofInteger(
+      RangeCheckKind.INCLUDED_IN_HALF_OPEN,
+      values[index],
+      values_name + "[" + index + "]",
+      range.lower(),
+      range.upper(),
+      range_name);
+  }
+
+  private static RangeCheckException failAllIncludedInDouble(
+    final double[] values,
+    final int index,
+    final String values_name,
+    final RangeHalfOpenD range,
+    final String range_name)
+  {
+    Objects.requireNonNull(values_name, "Value name");
+    Objects.requireNonNull(range_name, "Range name");
+
+    return RangeCheckException.ofDouble(
+      RangeCheckKind.INCLUDED_IN_HALF_OPEN,
+      values[index],
+      values_name + "[" + index + "]",
+      range.lower(),
+      range.upper(),
+      range_name);
   }
 }
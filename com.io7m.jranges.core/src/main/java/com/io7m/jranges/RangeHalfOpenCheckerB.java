@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * <p> A reusable check that values are included in a fixed half-open range.
+ * The range and the names used in error messages are validated once, when
+ * the checker is created. </p>
+ *
+ * @see RangeHalfOpenCheck#checkIncludedInBig(BigInteger, String, RangeHalfOpenB, String)
+ * @since 6.1.0
+ */
+
+public final class RangeHalfOpenCheckerB
+{
+  private final RangeHalfOpenB range;
+  private final String valueName;
+  private final String rangeName;
+
+  private RangeHalfOpenCheckerB(
+    final RangeHalfOpenB inRange,
+    final String inValueName,
+    final String inRangeName)
+  {
+    this.range = inRange;
+    this.valueName = inValueName;
+    this.rangeName = inRangeName;
+  }
+
+  /**
+   * Create a checker.
+   *
+   * @param range      The half-open range
+   * @param value_name The name of the checked values
+   * @param range_name The name of the range
+   *
+   * @return A checker
+   */
+
+  public static RangeHalfOpenCheckerB of(
+    final RangeHalfOpenB range,
+    final String value_name,
+    final String range_name)
+  {
+    return new RangeHalfOpenCheckerB(
+      Objects.requireNonNull(range, "Range"),
+      Objects.requireNonNull(value_name, "Value name"),
+      Objects.requireNonNull(range_name, "Range name"));
+  }
+
+  /**
+   * @return The range
+   */
+
+  public RangeHalfOpenB range()
+  {
+    return this.range;
+  }
+
+  /**
+   * @return The name of the checked values
+   */
+
+  public String valueName()
+  {
+    return this.valueName;
+  }
+
+  /**
+   * @return The name of the range
+   */
+
+  public String rangeName()
+  {
+    return this.rangeName;
+  }
+
+  /**
+   * @param x The tested value
+   *
+   * @return {@code true} iff {@code x} is included in the range
+   * @throws NullPointerException If {@code x} is {@code null}
+   */
+
+  public boolean includes(
+    final BigInteger x)
+  {
+    return RangeHalfOpenTest.isIncludedInBig(x, this.range);
+  }
+
+  /**
+   * <p> Assert that {@code x} is included in the range. </p>
+   *
+   * @param x The checked value
+   *
+   * @return x
+   *
+   * @throws RangeCheckException If {@code x} is not included in the range
+   * @throws NullPointerException If {@code x} is {@code null}
+   */
+
+  public BigInteger check(
+    final BigInteger x)
+  {
+    if (RangeHalfOpenTest.isIncludedInBig(x, this.range)) {
+      return x;
+    }
+    throw this.fail(x);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[RangeHalfOpenCheckerB %s %s %s]", this.valueName, this.range, this.rangeName);
+  }
+
+  private RangeCheckException fail(
+    final BigInteger x)
+  {
+    return RangeCheckException.ofBig(
+      RangeCheckKind.INCLUDED_IN_HALF_OPEN, x, this.valueName, this.range, this.rangeName);
+  }
+}
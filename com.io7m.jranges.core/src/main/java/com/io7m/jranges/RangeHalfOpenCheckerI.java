@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.Objects;
+
+/**
+ * <p> A reusable check that values are included in a fixed half-open range.
+ * The range and the names used in error messages are validated once, when the
+ * checker is created. The bounds are record components, and HotSpot trusts
+ * the final fields of records, so the bounds of a checker stored in a
+ * {@code static final} field are treated as constants by the JIT. </p>
+ *
+ * @param lower     The lower bound (inclusive)
+ * @param upper     The upper bound (exclusive)
+ * @param valueName The name of the checked values
+ * @param rangeName The name of the range
+ *
+ * @see RangeHalfOpenCheck#checkIncludedInInteger(int, String, RangeHalfOpenI, String)
+ * @since 6.1.0
+ */
+
+public record RangeHalfOpenCheckerI(
+  int lower,
+  int upper,
+  String valueName,
+  String rangeName)
+{
+  /**
+   * Create a checker.
+   *
+   * @param lower     The lower bound (inclusive)
+   * @param upper     The upper bound (exclusive)
+   * @param valueName The name of the checked values
+   * @param rangeName The name of the range
+   *
+   * @throws RangeCheckException If {@code lower &gt; upper}
+   */
+
+  public RangeHalfOpenCheckerI
+  {
+    RangeCheck.checkLessEqualInteger(lower, "lower", upper, "upper");
+    Objects.requireNonNull(valueName, "Value name");
+    Objects.requireNonNull(rangeName, "Range name");
+  }
+
+  /**
+   * Create a checker.
+   *
+   * @param range      The half-open range
+   * @param value_name The name of the checked values
+   * @param range_name The name of the range
+   *
+   * @return A checker
+   */
+
+  public static RangeHalfOpenCheckerI of(
+    final RangeHalfOpenI range,
+    final String value_name,
+    final String range_name)
+  {
+    Objects.requireNonNull(range, "Range");
+    return new RangeHalfOpenCheckerI(range.lower(), range.upper(), value_name, range_name);
+  }
+
+  /**
+   * @return The range
+   */
+
+  public RangeHalfOpenI range()
+  {
+    return RangeHalfOpenI.of(this.lower, this.upper);
+  }
+
+  /**
+   * @param x The tested value
+   *
+   * @return {@code true} iff {@code x} is included in the range
+   */
+
+  public boolean includes(
+    final int x)
+  {
+    return RangeHalfOpenTest.isIncludedInInteger(x, this.lower, this.upper);
+  }
+
+  /**
+   * <p> Assert that {@code x} is included in the range. </p>
+   *
+   * @param x The checked value
+   *
+   * @return x
+   *
+   * @throws RangeCheckException If {@code x} is not included in the range
+   */
+
+  public int check(
+    final int x)
+  {
+    if (RangeHalfOpenTest.isIncludedInInteger(x, this.lower, this.upper)) {
+      return x;
+    }
+    throw this.fail(x);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[RangeHalfOpenCheckerI %s %s %s]", this.valueName, this.range(), this.rangeName);
+  }
+
+  private RangeCheckException fail(
+    final int x)
+  {
+    return RangeCheckException.ofInteger(
+      RangeCheckKind.INCLUDED_IN_HALF_OPEN,
+      x,
+      this.valueName,
+      this.lower,
+      this.upper,
+      this.rangeName);
+  }
+}
@@ -69,7 +69,7 @@ public interface RangeHalfOpenDType
   default boolean includesValue(
     final double value)
   {
-    return (value >= this.lower()) && (value < this.upper());
+    return RangeHalfOpenTest.isIncludedInDouble(value, this.lower(), this.upper());
   }
 
   /**
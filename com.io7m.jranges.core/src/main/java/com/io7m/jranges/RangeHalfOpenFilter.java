@@ -0,0 +1,365 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p> Functions for selecting the elements of primitive arrays that are
+ * included in half-open ranges. </p> <p> The functions write either the indices
+ * of the included elements (a <i>selection vector</i>), or a bitmap with one
+ * bit set for each included element, into caller-provided arrays, and do not
+ * allocate. The loops do not branch on the values being filtered, and so
+ * their performance does not depend on the selectivity of the range. </p>
+ *
+ * @see RangeFilter
+ * @see RangeHalfOpenTest
+ * @since 6.1.0
+ */
+
+public final class RangeHalfOpenFilter
+{
+  private RangeHalfOpenFilter()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * <p> Write the indices of the elements of {@code values} in the index
+   * range {@code [from, to)} that are included in the half-open range
+   * {@code range} to {@code selection}, starting at
+   * {@code selection[offset]}. The indices are written in ascending order.
+   * </p>
+   *
+   * <p> The function may write to any element of {@code selection} in
+   * {@code [offset, offset + (to - from))}, and so {@code selection} must
+   * have room for {@code to - from} indices even if fewer are selected.
+   * Elements after the last written index have unspecified values. </p>
+   *
+   * @param values    The filtered values
+   * @param from      The starting index (inclusive)
+   * @param to        The ending index (exclusive)
+   * @param range     The half-open range
+   * @param selection The output selection vector
+   * @param offset    The starting offset in {@code selection}
+   *
+   * @return The number of indices written
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}, or
+   *                                   {@code selection} is too small
+   * @see RangeHalfOpenL#includesValue(long)
+   * @since 6.1.0
+   */
+
+  public static int selectIncludedInLong(
+    final long[] values,
+    final int from,
+    final int to,
+    final RangeHalfOpenL range,
+    final int[] selection,
+    final int offset)
+  {
+    Objects.checkFromToIndex(from, to, values.length);
+    Objects.checkFromIndexSize(offset, to - from, selection.length);
+
+    final long lower = range.lower();
+    final long upper = range.upper();
+    final long span = upper - lower;
+
+    int count = offset;
+    for (int index = from; index < to; ++index) {
+      final long x = values[index];
+      selection[count] = index;
+      count += RangeScan.unsignedLess(x - lower, span);
+    }
+    return count - offset;
+  }
+
+  /**
+   * <p> Write a bitmap of the elements of {@code values} in the index range
+   * {@code [from, to)} that are included in the half-open range
+   * {@code range} to {@code bitmap}. Bit {@code k % 64} of
+   * {@code bitmap[k / 64]} is set iff {@code values[from + k]} is
+   * included. The first {@code ceil((to - from) / 64)} elements of
+   * {@code bitmap} are overwritten, and any bits beyond {@code to - from}
+   * in the last element are cleared. </p>
+   *
+   * @param values The filtered values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param range  The half-open range
+   * @param bitmap The output bitmap
+   *
+   * @return The number of bits set
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}, or
+   *                                   {@code bitmap} is too small
+   * @see RangeHalfOpenL#includesValue(long)
+   * @since 6.1.0
+   */
+
+  public static int maskIncludedInLong(
+    final long[] values,
+    final int from,
+    final int to,
+    final RangeHalfOpenL range,
+    final long[] bitmap)
+  {
+    Objects.checkFromToIndex(from, to, values.length);
+    Objects.checkFromIndexSize(
+      0, RangeScan.bitmapWords(to - from), bitmap.length);
+
+    final long lower = range.lower();
+    final long upper = range.upper();
+    final long span = upper - lower;
+
+    int count = 0;
+    int word = 0;
+    for (int block = from; block < to; block += 64) {
+      final int end = block + Math.min(64, to - block);
+
+      long bits = 0L;
+      for (int index = block; index < end; ++index) {
+        final long x = values[index];
+        bits |= (long) (RangeScan.unsignedLess(x - lower, span)) << (index - block);
+      }
+      bitmap[word] = bits;
+      count += Long.bitCount(bits);
+      ++word;
+    }
+    return count;
+  }
+
+  /**
+   * <p> Write the indices of the elements of {@code values} in the index
+   * range {@code [from, to)} that are included in the half-open range
+   * {@code range} to {@code selection}, starting at
+   * {@code selection[offset]}. The indices are written in ascending order.
+   * </p>
+   *
+   * <p> The function may write to any element of {@code selection} in
+   * {@code [offset, offset + (to - from))}, and so {@code selection} must
+   * have room for {@code to - from} indices even if fewer are selected.
+   * Elements after the last written index have unspecified values. </p>
+   *
+   * @param values    The filtered values
+   * @param from      The starting index (inclusive)
+   * @param to        The ending index (exclusive)
+   * @param range     The half-open range
+   * @param selection The output selection vector
+   * @param offset    The starting offset in {@code selection}
+   *
+   * @return The number of indices written
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}, or
+   *                                   {@code selection} is too small
+   * @see RangeHalfOpenI#includesValue(int)
+   * @since 6.1.0
+   */
+
+  public static int selectIncludedInInteger(
+    final int[] values,
+    final int from,
+    final int to,
+    final RangeHalfOpenI range,
+    final int[] selection,
+    final int offset)
+  {
+    Objects.checkFromToIndex(from, to, values.length);
+    Objects.checkFromIndexSize(offset, to - from, selection.length);
+
+    final int lower = range.lower();
+    final int upper = range.upper();
+    final int span = upper - lower;
+
+    int count = offset;
+    for (int index = from; index < to; ++index) {
+      final int x = values[index];
+      selection[count] = index;
+      count += RangeScan.unsignedLess(x - lower, span);
+    }
+    return count - offset;
+  }
+
+  /**
+   * <p> Write a bitmap of the elements of {@code values} in the index range
+   * {@code [from, to)} that are included in the half-open range
+   * {@code range} to {@code bitmap}. Bit {@code k % 64} of
+   * {@code bitmap[k / 64]} is set iff {@code values[from + k]} is
+   * included. The first {@code ceil((to - from) / 64)} elements of
+   * {@code bitmap} are overwritten, and any bits beyond {@code to - from}
+   * in the last element are cleared. </p>
+   *
+   * @param values The filtered values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param range  The half-open range
+   * @param bitmap The output bitmap
+   *
+   * @return The number of bits set
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}, or
+   *                                   {@code bitmap} is too small
+   * @see RangeHalfOpenI#includesValue(int)
+   * @since 6.1.0
+   */
+
+  public static int maskIncludedInInteger(
+    final int[] values,
+    final int from,
+    final int to,
+    final RangeHalfOpenI range,
+    final long[] bitmap)
+  {
+    Objects.checkFromToIndex(from, to, values.length);
+    Objects.checkFromIndexSize(
+      0, RangeScan.bitmapWords(to - from), bitmap.length);
+
+    final int lower = range.lower();
+    final int upper = range.upper();
+    final int span = upper - lower;
+
+    int count = 0;
+    int word = 0;
+    for (int block = from; block < to; block += 64) {
+      final int end = block + Math.min(64, to - block);
+
+      long bits = 0L;
+      for (int index = block; index < end; ++index) {
+        final int x = values[index];
+        bits |= (long) (RangeScan.unsignedLess(x - lower, span)) << (index - block);
+      }
+      bitmap[word] = bits;
+      count += Long.bitCount(bits);
+      ++word;
+    }
+    return count;
+  }
+
+  /**
+   * <p> Write the indices of the elements of {@code values} in the index
+   * range {@code [from, to)} that are included in the half-open range
+   * {@code range} to {@code selection}, starting at
+   * {@code selection[offset]}. The indices are written in ascending order.
+   * </p>
+   *
+   * <p> The function may write to any element of {@code selection} in
+   * {@code [offset, offset + (to - from))}, and so {@code selection} must
+   * have room for {@code to - from} indices even if fewer are selected.
+   * Elements after the last written index have unspecified values. </p>
+   *
+   * @param values    The filtered values
+   * @param from      The starting index (inclusive)
+   * @param to        The ending index (exclusive)
+   * @param range     The half-open range
+   * @param selection The output selection vector
+   * @param offset    The starting offset in {@code selection}
+   *
+   * @return The number of indices written
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}, or
+   *                                   {@code selection} is too small
+   * @see RangeHalfOpenD#includesValue(double)
+   * @since 6.1.0
+   */
+
+  public static int selectIncludedInDouble(
+    final double[] values,
+    final int from,
+    final int to,
+    final RangeHalfOpenD range,
+    final int[] selection,
+    final int offset)
+  {
+    Objects.checkFromToIndex(from, to, values.length);
+    Objects.checkFromIndexSize(offset, to - from, selection.length);
+
+    final double lower = range.lower();
+    final double upper = range.upper();
+
+    int count = offset;
+    for (int index = from; index < to; ++index) {
+      final double x = values[index];
+      selection[count] = index;
+      count += RangeHalfOpenTest.isIncludedInDouble(x, lower, upper) ? 1 : 0;
+    }
+    return count - offset;
+  }
+
+  /**
+   * <p> Write a bitmap of the elements of {@code values} in the index range
+   * {@code [from, to)} that are included in the half-open range
+   * {@code range} to {@code bitmap}. Bit {@code k % 64} of
+   * {@code bitmap[k / 64]} is set iff {@code values[from + k]} is
+   * included. The first {@code ceil((to - from) / 64)} elements of
+   * {@code bitmap} are overwritten, and any bits beyond {@code to - from}
+   * in the last element are cleared. </p>
+   *
+   * @param values The filtered values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param range  The half-open range
+   * @param bitmap The output bitmap
+   *
+   * @return The number of bits set
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}, or
+   *                                   {@code bitmap} is too small
+   * @see RangeHalfOpenD#includesValue(double)
+   * @since 6.1.0
+   */
+
+  public static int maskIncludedInDouble(
+    final double[] values,
+    final int from,
+    final int to,
+    final RangeHalfOpenD range,
+    final long[] bitmap)
+  {
+    Objects.checkFromToIndex(from, to, values.length);
+    Objects.checkFromIndexSize(
+      0, RangeScan.bitmapWords(to - from), bitmap.length);
+
+    final double lower = range.lower();
+    final double upper = range.upper();
+
+    int count = 0;
+    int word = 0;
+    for (int block = from; block < to; block += 64) {
+      final int end = block + Math.min(64, to - block);
+
+      long bits = 0L;
+      for (int index = block; index < end; ++index) {
+        final double x = values[index];
+        bits |= (long) (RangeHalfOpenTest.isIncludedInDouble(x, lower, upper) ? 1 : 0) << (index - block);
+      }
+      bitmap[word] = bits;
+      count += Long.bitCount(bits);
+      ++word;
+    }
+    return count;
+  }
+}
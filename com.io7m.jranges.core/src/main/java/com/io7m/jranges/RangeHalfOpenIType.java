@@ -20,6 +20,9 @@ import com.io7m.immutables.styles.ImmutablesStyleType;
 import org.immutables.value.Value;
 
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /**
  * A half open (inclusive lower, exclusive upper) range with {@code int} components.
@@ -69,7 +72,7 @@ public interface RangeHalfOpenIType
   default boolean includesValue(
     final int value)
   {
-    return (value >= this.lower()) && (value < this.upper());
+    return RangeHalfOpenTest.isIncludedInInteger(value, this.lower(), this.upper());
   }
 
   /**
@@ -104,6 +107,46 @@ public interface RangeHalfOpenIType
     return (this.lower() >= other.lower()) && (this.upper() <= other.upper());
   }
 
+  /**
+   * <p> Retrieve a spliterator over the values in the range {@code [lower, upper)},
+   * in ascending order. The spliterator splits by halving the remaining
+   * values, and does not overflow for ranges that span every {@code int}
+   * value. </p>
+   *
+   * @return A spliterator over the values in the range
+   *
+   * @since 6.1.0
+   */
+
+  default Spliterator.OfInt spliterator()
+  {
+    return RangeSpliteratorI.ofHalfOpen(this.lower(), this.upper());
+  }
+
+  /**
+   * @return A sequential stream of the values in the range, in ascending order
+   *
+   * @see #spliterator()
+   * @since 6.1.0
+   */
+
+  default IntStream stream()
+  {
+    return StreamSupport.intStream(this.spliterator(), false);
+  }
+
+  /**
+   * @return A parallel stream of the values in the range
+   *
+   * @see #spliterator()
+   * @since 6.1.0
+   */
+
+  default IntStream parallelStream()
+  {
+    return StreamSupport.intStream(this.spliterator(), true);
+  }
+
   /**
    * Check preconditions for the type.
    */
@@ -20,6 +20,9 @@ import com.io7m.immutables.styles.ImmutablesStyleType;
 import org.immutables.value.Value;
 
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 /**
  * A half open (inclusive lower, exclusive upper) range with {@code long} components.
@@ -69,7 +72,7 @@ public interface RangeHalfOpenLType
   default boolean includesValue(
     final long value)
   {
-    return (value >= this.lower()) && (value < this.upper());
+    return RangeHalfOpenTest.isIncludedInLong(value, this.lower(), this.upper());
   }
 
   /**
@@ -104,6 +107,46 @@ public interface RangeHalfOpenLType
     return (this.lower() >= other.lower()) && (this.upper() <= other.upper());
   }
 
+  /**
+   * <p> Retrieve a spliterator over the values in the range {@code [lower, upper)},
+   * in ascending order. The spliterator splits by halving the remaining
+   * values, and does not overflow for ranges that span every {@code long}
+   * value. </p>
+   *
+   * @return A spliterator over the values in the range
+   *
+   * @since 6.1.0
+   */
+
+  default Spliterator.OfLong spliterator()
+  {
+    return RangeSpliteratorL.ofHalfOpen(this.lower(), this.upper());
+  }
+
+  /**
+   * @return A sequential stream of the values in the range, in ascending order
+   *
+   * @see #spliterator()
+   * @since 6.1.0
+   */
+
+  default LongStream stream()
+  {
+    return StreamSupport.longStream(this.spliterator(), false);
+  }
+
+  /**
+   * @return A parallel stream of the values in the range
+   *
+   * @see #spliterator()
+   * @since 6.1.0
+   */
+
+  default LongStream parallelStream()
+  {
+    return StreamSupport.longStream(this.spliterator(), true);
+  }
+
   /**
    * Check preconditions for the type.
    */
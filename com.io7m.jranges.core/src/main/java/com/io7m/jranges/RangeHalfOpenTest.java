@@ -0,0 +1,404 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jranges;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.math.BigInteger;
+
+/**
+ * <p> Functions for testing half-open range constraints without raising
+ * exceptions. </p> <p> The functions are the non-throwing counterparts of the
+ * functions in {@link RangeHalfOpenCheck}. Inclusion tests are defined in
+ * terms of the {@code includesValue} methods of the range types, and so
+ * cannot disagree with them. </p>
+ *
+ * @see RangeHalfOpenCheck
+ * @see RangeTest
+ * @since 6.1.0
+ */
+
+public final class RangeHalfOpenTest
+{
+  private RangeHalfOpenTest()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the half-open range
+   * {@code range}. This is the
+   * non-throwing equivalent of {@link RangeHalfOpenCheck#checkIncludedInLong}. </p>
+   *
+   * @param x     The tested value
+   * @param range The half-open range
+   *
+   * @return {@code range.includesValue(x)}
+   *
+   * @see RangeHalfOpenL#includesValue(long)
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInLong(
+    final long x,
+    final RangeHalfOpenL range)
+  {
+    return range.includesValue(x);
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the half-open range
+   * {@code range}. This is the
+   * non-throwing equivalent of {@link RangeHalfOpenCheck#checkIncludedInInteger}. </p>
+   *
+   * @param x     The tested value
+   * @param range The half-open range
+   *
+   * @return {@code range.includesValue(x)}
+   *
+   * @see RangeHalfOpenI#includesValue(int)
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInInteger(
+    final int x,
+    final RangeHalfOpenI range)
+  {
+    return range.includesValue(x);
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the half-open range
+   * {@code range}. </p>
+   *
+   * @param x     The tested value
+   * @param range The half-open range
+   *
+   * @return {@code range.includesValue(x)}
+   *
+   * @see RangeHalfOpenD#includesValue(double)
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInDouble(
+    final double x,
+    final RangeHalfOpenD range)
+  {
+    return range.includesValue(x);
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the half-open range
+   * {@code range}. This is the
+   * non-throwing equivalent of {@link RangeHalfOpenCheck#checkIncludedInBig}. </p>
+   *
+   * @param x     The tested value
+   * @param range The half-open range
+   *
+   * @return {@code range.includesValue(x)}
+   *
+   * @see RangeHalfOpenB#includesValue(BigInteger)
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInBig(
+    final BigInteger x,
+    final RangeHalfOpenB range)
+  {
+    return range.includesValue(x);
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the half-open range
+   * {@code [in_lower, in_upper)}, without requiring a range object.
+   * This is the non-throwing equivalent of
+   * {@link RangeHalfOpenCheck#checkIncludedInLong(long, String, long, long, String)}.
+   * If {@code in_lower &gt;= in_upper}, the range is empty and no value is included. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound (inclusive)
+   * @param in_upper The upper bound (exclusive)
+   *
+   * @return {@code x &gt;= in_lower &amp;&amp; x &lt; in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInLong(
+    final long x,
+    final long in_lower,
+    final long in_upper)
+  {
+    return (x >= in_lower) & (x < in_upper);
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the half-open range
+   * {@code [in_lower, in_upper)}, without requiring a range object.
+   * This is the non-throwing equivalent of
+   * {@link RangeHalfOpenCheck#checkIncludedInInteger(int, String, int, int, String)}.
+   * If {@code in_lower &gt;= in_upper}, the range is empty and no value is included. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound (inclusive)
+   * @param in_upper The upper bound (exclusive)
+   *
+   * @return {@code x &gt;= in_lower &amp;&amp; x &lt; in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInInteger(
+    final int x,
+    final int in_lower,
+    final int in_upper)
+  {
+    return (x >= in_lower) & (x < in_upper);
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the half-open range
+   * {@code [in_lower, in_upper)}, without requiring a range object.
+   * Values that are {@code NaN} are not included in any range. If
+   * {@code in_lower &gt;= in_upper}, the range is empty and no value is
+   * included. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound (inclusive)
+   * @param in_upper The upper bound (exclusive)
+   *
+   * @return {@code x &gt;= in_lower &amp;&amp; x &lt; in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInDouble(
+    final double x,
+    final double in_lower,
+    final double in_upper)
+  {
+    return (x >= in_lower) & (x < in_upper);
+  }
+
+  /**
+   * <p> Classify {@code x} with respect to the half-open range {@code range}.
+   * A value is {@link RangeTest#INSIDE} iff {@code range.includesValue(x)},
+   * {@link RangeTest#BELOW} if it is less than the lower bound (and therefore
+   * violates the lower bound), and {@link RangeTest#ABOVE} otherwise (and
+   * therefore violates the upper bound). </p>
+   *
+   * @param x     The tested value
+   * @param range The half-open range
+   *
+   * @return One of {@link RangeTest#BELOW}, {@link RangeTest#INSIDE}, or
+   * {@link RangeTest#ABOVE}
+   *
+   * @since 6.1.0
+   */
+
+  public static int classifyLong(
+    final long x,
+    final RangeHalfOpenL range)
+  {
+    if (range.includesValue(x)) {
+      return RangeTest.INSIDE;
+    }
+    if (x < range.lower()) {
+      return RangeTest.BELOW;
+    }
+    return RangeTest.ABOVE;
+  }
+
+  /**
+   * <p> Classify {@code x} with respect to the half-open range {@code range}.
+   * A value is {@link RangeTest#INSIDE} iff {@code range.includesValue(x)},
+   * {@link RangeTest#BELOW} if it is less than the lower bound (and therefore
+   * violates the lower bound), and {@link RangeTest#ABOVE} otherwise (and
+   * therefore violates the upper bound). </p>
+   *
+   * @param x     The tested value
+   * @param range The half-open range
+   *
+   * @return One of {@link RangeTest#BELOW}, {@link RangeTest#INSIDE}, or
+   * {@link RangeTest#ABOVE}
+   *
+   * @since 6.1.0
+   */
+
+  public static int classifyInteger(
+    final int x,
+    final RangeHalfOpenI range)
+  {
+    if (range.includesValue(x)) {
+      return RangeTest.INSIDE;
+    }
+    if (x < range.lower()) {
+      return RangeTest.BELOW;
+    }
+    return RangeTest.ABOVE;
+  }
+
+  /**
+   * <p> Classify {@code x} with respect to the half-open range {@code range}.
+   * A value is {@link RangeTest#INSIDE} iff {@code range.includesValue(x)},
+   * {@link RangeTest#BELOW} if it is less than the lower bound (and therefore
+   * violates the lower bound), and {@link RangeTest#ABOVE} otherwise (and
+   * therefore violates the upper bound).
+   * Values that are {@code NaN} are not included in any range, and are
+   * classified as {@link RangeTest#ABOVE}. </p>
+   *
+   * @param x     The tested value
+   * @param range The half-open range
+   *
+   * @return One of {@link RangeTest#BELOW}, {@link RangeTest#INSIDE}, or
+   * {@link RangeTest#ABOVE}
+   *
+   * @since 6.1.0
+   */
+
+  public static int classifyDouble(
+    final double x,
+    final RangeHalfOpenD range)
+  {
+    if (range.includesValue(x)) {
+      return RangeTest.INSIDE;
+    }
+    if (x < range.lower()) {
+      return RangeTest.BELOW;
+    }
+    return RangeTest.ABOVE;
+  }
+
+  /**
+   * <p> Classify {@code x} with respect to the half-open range {@code range}.
+   * A value is {@link RangeTest#INSIDE} iff {@code range.includesValue(x)},
+   * {@link RangeTest#BELOW} if it is less than the lower bound (and therefore
+   * violates the lower bound), and {@link RangeTest#ABOVE} otherwise (and
+   * therefore violates the upper bound). </p>
+   *
+   * @param x     The tested value
+   * @param range The half-open range
+   *
+   * @return One of {@link RangeTest#BELOW}, {@link RangeTest#INSIDE}, or
+   * {@link RangeTest#ABOVE}
+   *
+   * @since 6.1.0
+   */
+
+  public static int classifyBig(
+    final BigInteger x,
+    final RangeHalfOpenB range)
+  {
+    if (range.includesValue(x)) {
+      return RangeTest.INSIDE;
+    }
+    if (x.compareTo(range.lower()) < 0) {
+      return RangeTest.BELOW;
+    }
+    return RangeTest.ABOVE;
+  }
+
+  /**
+   * <p> Find the first element of {@code values} in the index range
+   * {@code [from, to)} that is not included in the half-open range
+   * {@code range}. This is the non-throwing equivalent of
+   * {@link RangeHalfOpenCheck#checkAllIncludedInLong}. </p>
+   *
+   * @param values The tested values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param range  The half-open range
+   *
+   * @return The index of the first element {@code i} such that
+   * {@code !range.includesValue(values[i])}, or {@code -1} if all of
+   * the elements are included
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}
+   * @since 6.1.0
+   */
+
+  public static int findFirstNotIncludedInLong(
+    final long[] values,
+    final int from,
+    final int to,
+    final RangeHalfOpenL range)
+  {
+    return RangeScan.firstNotIncludedInHalfOpenLong(
+      values, from, to, range.lower(), range.upper());
+  }
+
+  /**
+   * <p> Find the first element of {@code values} in the index range
+   * {@code [from, to)} that is not included in the half-open range
+   * {@code range}. This is the non-throwing equivalent of
+   * {@link RangeHalfOpenCheck#checkAllIncludedInInteger}. </p>
+   *
+   * @param values The tested values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param range  The half-open range
+   *
+   * @return The index of the first element {@code i} such that
+   * {@code !range.includesValue(values[i])}, or {@code -1} if all of
+   * the elements are included
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}
+   * @since 6.1.0
+   */
+
+  public static int findFirstNotIncludedInInteger(
+    final int[] values,
+    final int from,
+    final int to,
+    final RangeHalfOpenI range)
+  {
+    return RangeScan.firstNotIncludedInHalfOpenInteger(
+      values, from, to, range.lower(), range.upper());
+  }
+
+  /**
+   * <p> Find the first element of {@code values} in the index range
+   * {@code [from, to)} that is not included in the half-open range
+   * {@code range}. This is the non-throwing equivalent of
+   * {@link RangeHalfOpenCheck#checkAllIncludedInDouble}. </p>
+   *
+   * @param values The tested values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param range  The half-open range
+   *
+   * @return The index of the first element {@code i} such that
+   * {@code !range.includesValue(values[i])}, or {@code -1} if all of
+   * the elements are included
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}
+   * @since 6.1.0
+   */
+
+  public static int findFirstNotIncludedInDouble(
+    final double[] values,
+    final int from,
+    final int to,
+    final RangeHalfOpenD range)
+  {
+    return RangeScan.firstNotIncludedInHalfOpenDouble(
+      values, from, to, range.lower(), range.upper());
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * <p> A reusable check that values are included in a fixed inclusive range.
+ * The range and the names used in error messages are validated once, when
+ * the checker is created. </p>
+ *
+ * @see RangeCheck#checkIncludedInBig(BigInteger, String, RangeInclusiveB, String)
+ * @since 6.1.0
+ */
+
+public final class RangeInclusiveCheckerB
+{
+  private final RangeInclusiveB range;
+  private final String valueName;
+  private final String rangeName;
+
+  private RangeInclusiveCheckerB(
+    final RangeInclusiveB inRange,
+    final String inValueName,
+    final String inRangeName)
+  {
+    this.range = inRange;
+    this.valueName = inValueName;
+    this.rangeName = inRangeName;
+  }
+
+  /**
+   * Create a checker.
+   *
+   * @param range      The inclusive range
+   * @param value_name The name of the checked values
+   * @param range_name The name of the range
+   *
+   * @return A checker
+   */
+
+  public static RangeInclusiveCheckerB of(
+    final RangeInclusiveB range,
+    final String value_name,
+    final String range_name)
+  {
+    return new RangeInclusiveCheckerB(
+      Objects.requireNonNull(range, "Range"),
+      Objects.requireNonNull(value_name, "Value name"),
+      Objects.requireNonNull(range_name, "Range name"));
+  }
+
+  /**
+   * @return The range
+   */
+
+  public RangeInclusiveB range()
+  {
+    return this.range;
+  }
+
+  /**
+   * @return The name of the checked values
+   */
+
+  public String valueName()
+  {
+    return this.valueName;
+  }
+
+  /**
+   * @return The name of the range
+   */
+
+  public String rangeName()
+  {
+    return this.rangeName;
+  }
+
+  /**
+   * @param x The tested value
+   *
+   * @return {@code true} iff {@code x} is included in the range
+   * @throws NullPointerException If {@code x} is {@code null}
+   */
+
+  public boolean includes(
+    final BigInteger x)
+  {
+    return RangeTest.isIncludedInBig(x, this.range);
+  }
+
+  /**
+   * <p> Assert that {@code x} is included in the range. </p>
+   *
+   * @param x The checked value
+   *
+   * @return x
+   *
+   * @throws RangeCheckException If {@code x} is not included in the range
+   * @throws NullPointerException If {@code x} is {@code null}
+   */
+
+  public BigInteger check(
+    final BigInteger x)
+  {
+    if (RangeTest.isIncludedInBig(x, this.range)) {
+      return x;
+    }
+    throw this.fail(x);
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[RangeInclusiveCheckerB %s %s %s]", this.valueName, this.range, this.rangeName);
+  }
+
+  private RangeCheckException fail(
+    final BigInteger x)
+  {
+    return RangeCheckException.ofBig(
+      RangeCheckKind.INCLUDED_IN, x, this.valueName, this.range, this.rangeName);
+  }
+}
@@ -67,7 +67,7 @@ public interface RangeInclusiveDType
   default boolean includesValue(
     final double value)
   {
-    return (value >= this.lower()) && (value <= this.upper());
+    return RangeTest.isIncludedInDouble(value, this.lower(), this.upper());
   }
 
   /**
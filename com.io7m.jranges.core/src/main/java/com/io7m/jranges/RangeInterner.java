@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.lang.ref.SoftReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p> Bounded interning caches for frequently constructed ranges. </p>
+ *
+ * <p> Each function returns a canonical instance for the given bounds when
+ * one is cached, without allocating and without re-checking the bounds.
+ * Otherwise, a new range is constructed (and so checked) in the usual way and
+ * cached. The ranges in {@link Ranges} are always returned for their
+ * bounds. </p>
+ *
+ * <p> Each cache is a fixed-size, direct-mapped table: a range replaces
+ * whichever range previously occupied its slot, and so the caches never grow.
+ * Lookups are lock-free. Entries are held by soft references, and so may be
+ * cleared by the garbage collector under memory pressure. Two calls with the
+ * same bounds are therefore not guaranteed to return the same instance, and
+ * interned ranges must still be compared with {@code equals}. </p>
+ *
+ * @since 6.1.0
+ */
+
+public final class RangeInterner
+{
+  private static final int SLOTS = 1024;
+  private static final long MULTIPLIER = 0x9e37_79b9_7f4a_7c15L;
+
+  private static final RangeInclusiveI[] PREDEFINED_INCLUSIVE_I = {
+    Ranges.NATURAL_INTEGER,
+    Ranges.POSITIVE_INTEGER,
+    Ranges.UNSIGNED_BYTE_INTEGER,
+    Ranges.UNSIGNED_SHORT_INTEGER,
+  };
+
+  private static final RangeInclusiveL[] PREDEFINED_INCLUSIVE_L = {
+    Ranges.NATURAL_LONG,
+    Ranges.POSITIVE_LONG,
+    Ranges.UNSIGNED_BYTE_LONG,
+    Ranges.UNSIGNED_SHORT_LONG,
+    Ranges.UNSIGNED_INTEGER_LONG,
+  };
+
+  private static final AtomicReferenceArray<SoftReference<RangeInclusiveI>> INCLUSIVE_I =
+    new AtomicReferenceArray<>(SLOTS);
+  private static final AtomicReferenceArray<SoftReference<RangeInclusiveL>> INCLUSIVE_L =
+    new AtomicReferenceArray<>(SLOTS);
+  private static final AtomicReferenceArray<SoftReference<RangeHalfOpenI>> HALF_OPEN_I =
+    new AtomicReferenceArray<>(SLOTS);
+  private static final AtomicReferenceArray<SoftReference<RangeHalfOpenL>> HALF_OPEN_L =
+    new AtomicReferenceArray<>(SLOTS);
+
+  private RangeInterner()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @return A range equal to {@code RangeInclusiveI.of(lower, upper)}
+   *
+   * @throws RangeCheckException If {@code lower > upper}
+   */
+
+  public static RangeInclusiveI inclusiveI(
+    final int lower,
+    final int upper)
+  {
+    final int slot = slot(lower, upper);
+    final var existing = cached(INCLUSIVE_I, slot);
+    if (existing != null
+        && existing.lower() == lower
+        && existing.upper() == upper) {
+      return existing;
+    }
+
+    for (final var predefined : PREDEFINED_INCLUSIVE_I) {
+      if (predefined.lower() == lower && predefined.upper() == upper) {
+        return store(INCLUSIVE_I, slot, predefined);
+      }
+    }
+    return store(INCLUSIVE_I, slot, RangeInclusiveI.of(lower, upper));
+  }
+
+  /**
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @return A range equal to {@code RangeInclusiveL.of(lower, upper)}
+   *
+   * @throws RangeCheckException If {@code lower > upper}
+   */
+
+  public static RangeInclusiveL inclusiveL(
+    final long lower,
+    final long upper)
+  {
+    final int slot = slot(lower, upper);
+    final var existing = cached(INCLUSIVE_L, slot);
+    if (existing != null
+        && existing.lower() == lower
+        && existing.upper() == upper) {
+      return existing;
+    }
+
+    for (final var predefined : PREDEFINED_INCLUSIVE_L) {
+      if (predefined.lower() == lower && predefined.upper() == upper) {
+        return store(INCLUSIVE_L, slot, predefined);
+      }
+    }
+    return store(INCLUSIVE_L, slot, RangeInclusiveL.of(lower, upper));
+  }
+
+  /**
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @return A range equal to {@code RangeHalfOpenI.of(lower, upper)}
+   *
+   * @throws RangeCheckException If {@code lower > upper}
+   */
+
+  public static RangeHalfOpenI halfOpenI(
+    final int lower,
+    final int upper)
+  {
+    final int slot = slot(lower, upper);
+    final var existing = cached(HALF_OPEN_I, slot);
+    if (existing != null
+        && existing.lower() == lower
+        && existing.upper() == upper) {
+      return existing;
+    }
+    return store(HALF_OPEN_I, slot, RangeHalfOpenI.of(lower, upper));
+  }
+
+  /**
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @return A range equal to {@code RangeHalfOpenL.of(lower, upper)}
+   *
+   * @throws RangeCheckException If {@code lower > upper}
+   */
+
+  public static RangeHalfOpenL halfOpenL(
+    final long lower,
+    final long upper)
+  {
+    final int slot = slot(lower, upper);
+    final var existing = cached(HALF_OPEN_L, slot);
+    if (existing != null
+        && existing.lower() == lower
+        && existing.upper() == upper) {
+      return existing;
+    }
+    return store(HALF_OPEN_L, slot, RangeHalfOpenL.of(lower, upper));
+  }
+
+  private static int slot(
+    final long lower,
+    final long upper)
+  {
+    final long h = (lower * MULTIPLIER + upper) * MULTIPLIER;
+    return (int) (h >>> 54);
+  }
+
+  private static <T> T cached(
+    final AtomicReferenceArray<SoftReference<T>> table,
+    final int slot)
+  {
+    final var reference = table.getAcquire(slot);
+    return reference == null ? null : reference.get();
+  }
+
+  private static <T> T store(
+    final AtomicReferenceArray<SoftReference<T>> table,
+    final int slot,
+    final T value)
+  {
+    table.setRelease(slot, new SoftReference<>(value));
+    return value;
+  }
+}
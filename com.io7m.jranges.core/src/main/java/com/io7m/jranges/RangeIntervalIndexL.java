@@ -0,0 +1,356 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * <p> An immutable index of possibly-overlapping {@code long} ranges that
+ * answers stabbing queries ("which ranges contain {@code x}?") and overlap
+ * queries ("which ranges overlap {@code r}?"). </p>
+ *
+ * <p> The index is built in bulk from an unsorted array of ranges. Queries
+ * report matching ranges by their index in that array, in ascending order of
+ * lower bound, and do not allocate. </p>
+ *
+ * <p> The ranges are held in flat arrays sorted by lower bound. The ranges
+ * that can possibly match a query are therefore a prefix of the arrays,
+ * located by binary search. The upper bounds are stored in the leaves of an
+ * implicit binary tree (a segment tree laid out in a single array) in which
+ * every interior node holds the maximum upper bound of its subtree; a query
+ * descends only into subtrees whose maximum upper bound reaches the query.
+ * A query that reports {@code k} ranges out of {@code n} takes
+ * {@code O(log n + k log(n / k))} time: {@code O(log n)} when few ranges
+ * match, and {@code O(k)} when a large fraction of them do. </p>
+ *
+ * <p> This is not the {@code O(log n + k)} bound of a priority search tree
+ * or of a range-maximum query over a sparse table. A priority search tree
+ * reports matches in heap order rather than in order of lower bound, and
+ * the sorted order would then cost {@code O(k log k)} to restore. A sparse
+ * table needs {@code O(n log n)} space, and its recursive in-order
+ * traversal needs a stack that can grow to {@code O(k)} entries. The
+ * segment tree keeps the index at {@code O(n)} space. Its matches come out
+ * already sorted, and a query recurses at most {@code O(log n)} deep and
+ * allocates nothing. </p>
+ *
+ * @since 6.1.0
+ */
+
+public final class RangeIntervalIndexL
+{
+  private final long[] lowers;
+  private final int[] indices;
+  private final long[] maxUppers;
+  private final int leaves;
+  private final int count;
+
+  private RangeIntervalIndexL(
+    final long[] inLowers,
+    final long[] inUppers,
+    final int[] inIndices,
+    final int inCount)
+  {
+    this.count = inCount;
+
+    final var order = RangeSort.orderL(inLowers, inCount);
+    this.lowers = new long[inCount];
+    this.indices = new int[inCount];
+
+    this.leaves =
+      inCount <= 1 ? 1 : Integer.highestOneBit(inCount - 1) << 1;
+    this.maxUppers = new long[this.leaves << 1];
+    Arrays.fill(this.maxUppers, Long.MIN_VALUE);
+
+    for (int index = 0; index < inCount; ++index) {
+      final int source = order[index];
+      this.lowers[index] = inLowers[source];
+      this.indices[index] = inIndices[source];
+      this.maxUppers[this.leaves + index] = inUppers[source];
+    }
+    for (int node = this.leaves - 1; node > 0; --node) {
+      this.maxUppers[node] = Math.max(
+        this.maxUppers[node << 1],
+        this.maxUppers[(node << 1) + 1]);
+    }
+  }
+
+  /**
+   * Build an index of inclusive ranges.
+   *
+   * @param ranges The ranges, in any order
+   *
+   * @return An index of the ranges
+   */
+
+  public static RangeIntervalIndexL ofInclusive(
+    final RangeInclusiveL... ranges)
+  {
+    Objects.requireNonNull(ranges, "Ranges");
+
+    final var size = ranges.length;
+    final var lowers = new long[size];
+    final var uppers = new long[size];
+    final var indices = new int[size];
+    for (int index = 0; index < size; ++index) {
+      final var range = Objects.requireNonNull(ranges[index], "Range");
+      lowers[index] = range.lower();
+      uppers[index] = range.upper();
+      indices[index] = index;
+    }
+    return new RangeIntervalIndexL(lowers, uppers, indices, size);
+  }
+
+  /**
+   * Build an index of half-open ranges. Empty ranges are accepted, but can
+   * never be reported by a query.
+   *
+   * @param ranges The ranges, in any order
+   *
+   * @return An index of the ranges
+   */
+
+  public static RangeIntervalIndexL ofHalfOpen(
+    final RangeHalfOpenL... ranges)
+  {
+    Objects.requireNonNull(ranges, "Ranges");
+
+    final var size = ranges.length;
+    final var lowers = new long[size];
+    final var uppers = new long[size];
+    final var indices = new int[size];
+
+    int count = 0;
+    for (int index = 0; index < size; ++index) {
+      final var range = Objects.requireNonNull(ranges[index], "Range");
+      if (range.upper() > range.lower()) {
+        lowers[count] = range.lower();
+        uppers[count] = range.upper() - 1L;
+        indices[count] = index;
+        ++count;
+      }
+    }
+    return new RangeIntervalIndexL(lowers, uppers, indices, count);
+  }
+
+  /**
+   * Build an index of inclusive ranges {@code [lowers[i], uppers[i]]}.
+   *
+   * @param lowers The lower bounds, in any order
+   * @param uppers The upper bounds
+   *
+   * @return An index of the ranges
+   *
+   * @throws IllegalArgumentException If the arrays differ in length
+   * @throws RangeCheckException      If any {@code lowers[i] > uppers[i]}
+   */
+
+  public static RangeIntervalIndexL ofBounds(
+    final long[] lowers,
+    final long[] uppers)
+  {
+    Objects.requireNonNull(lowers, "Lowers");
+    Objects.requireNonNull(uppers, "Uppers");
+
+    if (lowers.length != uppers.length) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Bounds arrays must have the same length (%d != %d)",
+          Integer.valueOf(lowers.length),
+          Integer.valueOf(uppers.length)));
+    }
+
+    final var size = lowers.length;
+    final var indices = new int[size];
+    for (int index = 0; index < size; ++index) {
+      RangeCheck.checkLessEqualLong(
+        lowers[index], "lower", uppers[index], "upper");
+      indices[index] = index;
+    }
+    return new RangeIntervalIndexL(
+      lowers.clone(), uppers.clone(), indices, size);
+  }
+
+  /**
+   * @return The number of (non-empty) ranges in the index
+   */
+
+  public int size()
+  {
+    return this.count;
+  }
+
+  /**
+   * Report every range that contains {@code x}.
+   *
+   * @param x        The value
+   * @param receiver A receiver of range indices
+   *
+   * @return The number of ranges reported
+   */
+
+  public int containing(
+    final long x,
+    final IntConsumer receiver)
+  {
+    Objects.requireNonNull(receiver, "Receiver");
+    return this.visit(this.prefixAtMost(x), x, receiver);
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return {@code true} iff at least one range contains {@code x}
+   */
+
+  public boolean containsAny(
+    final long x)
+  {
+    final int prefix = this.prefixAtMost(x);
+    return prefix > 0 && this.prefixMaxUpper(prefix) >= x;
+  }
+
+  /**
+   * Report every range that overlaps {@code range}; that is, every range
+   * that contains at least one value of {@code range}.
+   *
+   * @param range    The range
+   * @param receiver A receiver of range indices
+   *
+   * @return The number of ranges reported
+   */
+
+  public int overlapping(
+    final RangeInclusiveL range,
+    final IntConsumer receiver)
+  {
+    Objects.requireNonNull(range, "Range");
+    Objects.requireNonNull(receiver, "Receiver");
+    return this.visit(
+      this.prefixAtMost(range.upper()), range.lower(), receiver);
+  }
+
+  /**
+   * Report every range that overlaps {@code range}; that is, every range
+   * that contains at least one value of {@code range}. An empty range
+   * overlaps nothing.
+   *
+   * @param range    The range
+   * @param receiver A receiver of range indices
+   *
+   * @return The number of ranges reported
+   */
+
+  public int overlapping(
+    final RangeHalfOpenL range,
+    final IntConsumer receiver)
+  {
+    Objects.requireNonNull(range, "Range");
+    Objects.requireNonNull(receiver, "Receiver");
+
+    if (range.upper() <= range.lower()) {
+      return 0;
+    }
+    return this.visit(
+      this.prefixAtMost(range.upper() - 1L), range.lower(), receiver);
+  }
+
+  /**
+   * @return The number of ranges with a lower bound {@code <= x}
+   */
+
+  private int prefixAtMost(
+    final long x)
+  {
+    int low = 0;
+    int high = this.count;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (this.lowers[middle] <= x) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * @return The maximum upper bound of the first {@code prefix} ranges
+   */
+
+  private long prefixMaxUpper(
+    final int prefix)
+  {
+    long result = Long.MIN_VALUE;
+    int low = this.leaves;
+    int high = this.leaves + prefix;
+    while (low < high) {
+      if ((low & 1) == 1) {
+        result = Math.max(result, this.maxUppers[low]);
+        ++low;
+      }
+      if ((high & 1) == 1) {
+        --high;
+        result = Math.max(result, this.maxUppers[high]);
+      }
+      low >>>= 1;
+      high >>>= 1;
+    }
+    return result;
+  }
+
+  /**
+   * Report every range among the first {@code prefix} ranges with an upper
+   * bound {@code >= threshold}, in order.
+   */
+
+  private int visit(
+    final int prefix,
+    final long threshold,
+    final IntConsumer receiver)
+  {
+    if (prefix == 0) {
+      return 0;
+    }
+    return this.visitNode(1, 0, this.leaves, prefix, threshold, receiver);
+  }
+
+  private int visitNode(
+    final int node,
+    final int nodeStart,
+    final int nodeEnd,
+    final int prefix,
+    final long threshold,
+    final IntConsumer receiver)
+  {
+    if (nodeStart >= prefix || this.maxUppers[node] < threshold) {
+      return 0;
+    }
+    if (node >= this.leaves) {
+      receiver.accept(this.indices[nodeStart]);
+      return 1;
+    }
+
+    final int middle = (nodeStart + nodeEnd) >>> 1;
+    final int left = node << 1;
+    return this.visitNode(left, nodeStart, middle, prefix, threshold, receiver)
+      + this.visitNode(left + 1, middle, nodeEnd, prefix, threshold, receiver);
+  }
+}
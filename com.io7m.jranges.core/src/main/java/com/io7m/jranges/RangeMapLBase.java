@@ -0,0 +1,366 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p> The base of maps from disjoint half-open {@code long} ranges to
+ * values. </p>
+ *
+ * <p> The bounds of the ranges are packed into a single {@code long[]}
+ * array, with the lower bound of entry {@code i} at {@code 2i} and the
+ * (exclusive) upper bound at {@code 2i + 1}, sorted by lower bound. Finding
+ * the entry that covers a point is a single binary search over the packed
+ * array, and touches the upper bound in the same cache line as the lower
+ * bound. Subclasses hold the values in a parallel array, and are told how
+ * to move them as entries are inserted, split, and removed. </p>
+ */
+
+abstract class RangeMapLBase
+{
+  static final int INITIAL_CAPACITY = 8;
+
+  private long[] bounds;
+  private int count;
+
+  RangeMapLBase()
+  {
+    this.bounds = new long[INITIAL_CAPACITY << 1];
+    this.count = 0;
+  }
+
+  /**
+   * Resize the value array to {@code capacity} values.
+   *
+   * @param capacity The new capacity
+   */
+
+  abstract void valuesResize(int capacity);
+
+  /**
+   * Move {@code length} values starting at {@code source} to
+   * {@code target}, as if by {@link System#arraycopy}.
+   *
+   * @param source The source index
+   * @param target The target index
+   * @param length The number of values
+   */
+
+  abstract void valuesMove(
+    int source,
+    int target,
+    int length);
+
+  /**
+   * Release the values in {@code [from, to)}, which are no longer used.
+   *
+   * @param from The starting index (inclusive)
+   * @param to   The ending index (exclusive)
+   */
+
+  abstract void valuesRelease(
+    int from,
+    int to);
+
+  /**
+   * Append the value at {@code index} to {@code text}.
+   *
+   * @param text  The output
+   * @param index The index
+   */
+
+  abstract void valueFormat(
+    StringBuilder text,
+    int index);
+
+  /**
+   * @return The number of entries in the map
+   */
+
+  public final int size()
+  {
+    return this.count;
+  }
+
+  /**
+   * @return {@code true} iff the map has no entries
+   */
+
+  public final boolean isEmpty()
+  {
+    return this.count == 0;
+  }
+
+  /**
+   * Remove all entries from the map.
+   */
+
+  public final void clear()
+  {
+    this.valuesRelease(0, this.count);
+    this.count = 0;
+  }
+
+  /**
+   * @param index The index of the entry, in {@code [0, size())}
+   *
+   * @return The lower bound (inclusive) of the range of entry {@code index}
+   */
+
+  public final long lower(
+    final int index)
+  {
+    return this.bounds[Objects.checkIndex(index, this.count) << 1];
+  }
+
+  /**
+   * @param index The index of the entry, in {@code [0, size())}
+   *
+   * @return The upper bound (exclusive) of the range of entry {@code index}
+   */
+
+  public final long upper(
+    final int index)
+  {
+    return this.bounds[(Objects.checkIndex(index, this.count) << 1) + 1];
+  }
+
+  /**
+   * @param index The index of the entry, in {@code [0, size())}
+   *
+   * @return The range of entry {@code index}
+   */
+
+  public final RangeHalfOpenL range(
+    final int index)
+  {
+    Objects.checkIndex(index, this.count);
+    return RangeHalfOpenL.of(
+      this.bounds[index << 1],
+      this.bounds[(index << 1) + 1]);
+  }
+
+  /**
+   * Find the entry whose range includes {@code x}. Entries are numbered in
+   * ascending order of their ranges.
+   *
+   * @param x The value
+   *
+   * @return The index of the entry, or {@code -1} if no entry includes
+   * {@code x}
+   */
+
+  public final int find(
+    final long x)
+  {
+    final long[] b = this.bounds;
+    int low = 0;
+    int high = this.count;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (b[middle << 1] <= x) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+
+    final int index = low - 1;
+    if (index >= 0 && x < b[(index << 1) + 1]) {
+      return index;
+    }
+    return -1;
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return {@code true} iff an entry's range includes {@code x}
+   */
+
+  public final boolean containsKey(
+    final long x)
+  {
+    return this.find(x) >= 0;
+  }
+
+  /**
+   * Remove the values in {@code range} from the ranges of all entries. An
+   * entry whose range partially overlaps {@code range} is trimmed, or split
+   * into two entries with the same value.
+   *
+   * @param range The range
+   */
+
+  public final void remove(
+    final RangeHalfOpenL range)
+  {
+    Objects.requireNonNull(range, "Range");
+    if (range.lower() < range.upper()) {
+      this.carve(range.lower(), range.upper(), 0);
+    }
+  }
+
+  /**
+   * Remove the values in {@code [lower, upper)} from the ranges of all
+   * entries, and then optionally make room for a new entry with the range
+   * {@code [lower, upper)}.
+   *
+   * @param lower    The lower bound (inclusive)
+   * @param upper    The upper bound (exclusive)
+   * @param inserted {@code 1} to insert a new entry, {@code 0} otherwise
+   *
+   * @return The index of the new entry, if one was inserted
+   */
+
+  final int carve(
+    final long lower,
+    final long upper,
+    final int inserted)
+  {
+    final int first = this.firstUpperAbove(lower);
+    final int last = this.lastLowerBelow(upper);
+
+    boolean left = false;
+    boolean right = false;
+    if (first <= last) {
+      left = this.bounds[first << 1] < lower;
+      right = this.bounds[(last << 1) + 1] > upper;
+    }
+
+    /*
+     * Entries before keepEnd are unchanged (the first of which may be
+     * trimmed), and entries from tailStart onwards are shifted to follow
+     * the inserted entry (the first of which may be trimmed). If a single
+     * entry is split in two, tailStart < keepEnd, and the shift duplicates
+     * the entry.
+     */
+
+    final int keepEnd = left ? first + 1 : first;
+    final int tailStart = right ? last : last + 1;
+    final int target = keepEnd + inserted;
+    this.shift(tailStart, target);
+
+    if (left) {
+      this.bounds[(first << 1) + 1] = lower;
+    }
+    if (right) {
+      this.bounds[target << 1] = upper;
+    }
+    if (inserted > 0) {
+      this.bounds[keepEnd << 1] = lower;
+      this.bounds[(keepEnd << 1) + 1] = upper;
+    }
+    return keepEnd;
+  }
+
+  private void shift(
+    final int source,
+    final int target)
+  {
+    final int oldCount = this.count;
+    final int newCount = oldCount + (target - source);
+    this.ensureCapacity(newCount);
+
+    final int length = oldCount - source;
+    System.arraycopy(
+      this.bounds, source << 1, this.bounds, target << 1, length << 1);
+    this.valuesMove(source, target, length);
+
+    if (newCount < oldCount) {
+      this.valuesRelease(newCount, oldCount);
+    }
+    this.count = newCount;
+  }
+
+  private void ensureCapacity(
+    final int capacity)
+  {
+    final int current = this.bounds.length >> 1;
+    if (capacity > current) {
+      final int newCapacity = Math.max(capacity, current + (current >> 1));
+      this.bounds = Arrays.copyOf(this.bounds, newCapacity << 1);
+      this.valuesResize(newCapacity);
+    }
+  }
+
+  /**
+   * @return The index of the first entry with an upper bound {@code > x},
+   * or {@code count} if there is no such entry
+   */
+
+  private int firstUpperAbove(
+    final long x)
+  {
+    int low = 0;
+    int high = this.count;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (this.bounds[(middle << 1) + 1] <= x) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * @return The index of the last entry with a lower bound {@code < x}, or
+   * {@code -1} if there is no such entry
+   */
+
+  private int lastLowerBelow(
+    final long x)
+  {
+    int low = 0;
+    int high = this.count;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (this.bounds[middle << 1] < x) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low - 1;
+  }
+
+  @Override
+  public final String toString()
+  {
+    final var text = new StringBuilder(32 + this.count * 32);
+    text.append(this.getClass().getSimpleName());
+    text.append('{');
+    for (int index = 0; index < this.count; ++index) {
+      if (index > 0) {
+        text.append(", ");
+      }
+      text.append('[');
+      text.append(this.bounds[index << 1]);
+      text.append(", ");
+      text.append(this.bounds[(index << 1) + 1]);
+      text.append(")=");
+      this.valueFormat(text, index);
+    }
+    text.append('}');
+    return text.toString();
+  }
+}
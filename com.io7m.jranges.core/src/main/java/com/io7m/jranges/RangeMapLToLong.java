@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * <p> A mutable map from disjoint half-open {@code long} ranges to
+ * {@code long} values. </p>
+ *
+ * <p> Looking up the value for a point is a single binary search over a
+ * packed array of range bounds, and does not allocate (when using
+ * {@link #getOrDefault(long, long)}). Putting a
+ * range overwrites the parts of any existing entries that it overlaps,
+ * trimming or splitting them as necessary. </p>
+ *
+ * <p> Instances are not thread-safe. </p>
+ *
+ * @since 6.1.0
+ */
+
+public final class RangeMapLToLong extends RangeMapLBase
+{
+  private long[] values;
+
+  private RangeMapLToLong()
+  {
+    this.values = new long[INITIAL_CAPACITY];
+  }
+
+  /**
+   * @return A new empty map
+   */
+
+  public static RangeMapLToLong create()
+  {
+    return new RangeMapLToLong();
+  }
+
+  /**
+   * Associate every value in {@code range} with {@code value}, replacing
+   * any existing associations. Putting an empty range has no effect.
+   *
+   * @param range The range
+   * @param value The value
+   */
+
+  public void put(
+    final RangeHalfOpenL range,
+    final long value)
+  {
+    Objects.requireNonNull(range, "Range");
+
+    if (range.lower() < range.upper()) {
+      final int index = this.carve(range.lower(), range.upper(), 1);
+      this.values[index] = value;
+    }
+  }
+
+  /**
+   * @param index The index of the entry, in {@code [0, size())}
+   *
+   * @return The value of entry {@code index}
+   */
+
+  public long value(
+    final int index)
+  {
+    return this.values[Objects.checkIndex(index, this.size())];
+  }
+
+  /**
+   * @param x The key
+   *
+   * @return The value associated with {@code x}, if any
+   */
+
+  public OptionalLong get(
+    final long x)
+  {
+    final int index = this.find(x);
+    if (index >= 0) {
+      return OptionalLong.of(this.values[index]);
+    }
+    return OptionalLong.empty();
+  }
+
+  /**
+   * @param x            The key
+   * @param defaultValue The value returned if no value is associated with
+   *                     {@code x}
+   *
+   * @return The value associated with {@code x}, or {@code defaultValue}
+   */
+
+  public long getOrDefault(
+    final long x,
+    final long defaultValue)
+  {
+    final int index = this.find(x);
+    if (index >= 0) {
+      return this.values[index];
+    }
+    return defaultValue;
+  }
+
+  @Override
+  void valuesResize(
+    final int capacity)
+  {
+    this.values = Arrays.copyOf(this.values, capacity);
+  }
+
+  @Override
+  void valuesMove(
+    final int source,
+    final int target,
+    final int length)
+  {
+    System.arraycopy(this.values, source, this.values, target, length);
+  }
+
+  @Override
+  void valuesRelease(
+    final int from,
+    final int to)
+  {
+    // Primitive values need not be released.
+  }
+
+  @Override
+  void valueFormat(
+    final StringBuilder text,
+    final int index)
+  {
+    text.append(this.values[index]);
+  }
+}
@@ -0,0 +1,523 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p> A k-way merge of sources of half-open {@code long} ranges, each sorted
+ * by lower bound, into a single sequence sorted by lower bound. Each range
+ * produced by the merge is tagged with the index of the source from which it
+ * came. The merge is stable: ranges with equal lower bounds are produced in
+ * order of source index, and in their original order within a source. </p>
+ *
+ * <p> The merger is a cursor: each call to {@link #advance()} moves to the
+ * next range, which is then available as primitive bounds through
+ * {@link #lower()}, {@link #upper()}, and {@link #source()}. The sources are
+ * held in a binary min-heap of source indices whose keys are read from
+ * primitive fields, so advancing allocates nothing; merging {@code n} ranges
+ * from {@code k} sources takes {@code O(n log k)} time. Sources may be
+ * iterators, or {@link RangeArrayL} arrays, in which case the whole merge
+ * runs without creating range objects. </p>
+ *
+ * <p> A coalescing merger additionally merges ranges that overlap or are
+ * adjacent, producing the minimal sorted sequence of disjoint ranges that
+ * covers the same values, and drops empty ranges. A coalesced range is
+ * tagged with the source of the range with which it begins. </p>
+ *
+ * @see RangeCoalescing
+ * @see RangeExternalCoalescer
+ * @since 6.1.0
+ */
+
+public final class RangeMerger
+{
+  private final Source[] sources;
+  private final int[] heap;
+  private final boolean coalesce;
+  private int heapSize;
+  private long lower;
+  private long upper;
+  private int source;
+  private RangeHalfOpenL range;
+  private boolean positioned;
+
+  private RangeMerger(
+    final Source[] inSources,
+    final boolean inCoalesce)
+  {
+    this.sources = inSources;
+    this.coalesce = inCoalesce;
+    this.heap = new int[inSources.length];
+    this.source = -1;
+
+    for (int index = 0; index < inSources.length; ++index) {
+      if (inSources[index].advance(inCoalesce)) {
+        this.heap[this.heapSize] = index;
+        ++this.heapSize;
+      }
+    }
+    for (int node = (this.heapSize >>> 1) - 1; node >= 0; --node) {
+      this.siftDown(node);
+    }
+  }
+
+  /**
+   * A receiver of tagged ranges as pairs of primitive bounds.
+   */
+
+  @FunctionalInterface
+  public interface ReceiverType
+  {
+    /**
+     * Receive a range.
+     *
+     * @param source The index of the source of the range
+     * @param lower  The lower bound
+     * @param upper  The upper bound
+     */
+
+    void receive(
+      int source,
+      long lower,
+      long upper);
+  }
+
+  /**
+   * Merge sources given as iterators.
+   *
+   * @param sources  The sources, each sorted by lower bound
+   * @param coalesce {@code true} if overlapping and adjacent ranges should be
+   *                 coalesced
+   *
+   * @return A merger
+   */
+
+  public static RangeMerger ofIterators(
+    final List<? extends Iterator<RangeHalfOpenL>> sources,
+    final boolean coalesce)
+  {
+    Objects.requireNonNull(sources, "Sources");
+
+    final var array = new Source[sources.size()];
+    for (int index = 0; index < array.length; ++index) {
+      array[index] = new IteratorSource(
+        index, Objects.requireNonNull(sources.get(index), "Source"));
+    }
+    return new RangeMerger(array, coalesce);
+  }
+
+  /**
+   * Merge sources given as arrays of inclusive ranges. Each inclusive range
+   * {@code [lower, upper]} is merged as the half-open range
+   * {@code [lower, upper + 1)}, so an array range with an upper bound of
+   * {@link Long#MAX_VALUE} cannot be merged. The arrays are not copied, and
+   * must not be modified during the merge.
+   *
+   * @param sources  The sources, each sorted by lower bound
+   * @param coalesce {@code true} if overlapping and adjacent ranges should be
+   *                 coalesced
+   *
+   * @return A merger
+   *
+   * @see RangeArrayL#sort()
+   */
+
+  public static RangeMerger ofArrays(
+    final List<RangeArrayL> sources,
+    final boolean coalesce)
+  {
+    Objects.requireNonNull(sources, "Sources");
+
+    final var array = new Source[sources.size()];
+    for (int index = 0; index < array.length; ++index) {
+      array[index] = new ArraySource(
+        index, Objects.requireNonNull(sources.get(index), "Source"));
+    }
+    return new RangeMerger(array, coalesce);
+  }
+
+  /**
+   * Merge the given sources, in which the source at position {@code i} of
+   * {@code sources} was created with index {@code i}.
+   *
+   * @param sources  The sources, each sorted by lower bound
+   * @param coalesce {@code true} if overlapping and adjacent ranges should be
+   *                 coalesced
+   *
+   * @return A merger
+   */
+
+  static RangeMerger ofSources(
+    final Source[] sources,
+    final boolean coalesce)
+  {
+    return new RangeMerger(sources.clone(), coalesce);
+  }
+
+  /**
+   * @return The number of sources
+   */
+
+  public int sourceCount()
+  {
+    return this.sources.length;
+  }
+
+  /**
+   * Move to the next range of the merge.
+   *
+   * @return {@code false} if the merge is exhausted
+   *
+   * @throws IllegalArgumentException If a source is not sorted by lower
+   *                                  bound, or an array source contains a
+   *                                  range with an upper bound of
+   *                                  {@link Long#MAX_VALUE}
+   */
+
+  public boolean advance()
+  {
+    if (this.heapSize == 0) {
+      this.positioned = false;
+      return false;
+    }
+
+    final int top = this.heap[0];
+    final var first = this.sources[top];
+    this.source = top;
+    this.lower = first.lower;
+    this.upper = first.upper;
+    this.range = first.range;
+    this.positioned = true;
+    this.advanceTop();
+
+    if (this.coalesce) {
+      while (this.heapSize > 0) {
+        final var next = this.sources[this.heap[0]];
+        if (next.lower > this.upper) {
+          break;
+        }
+        if (next.upper > this.upper) {
+          this.upper = next.upper;
+          this.range = null;
+        }
+        this.advanceTop();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return The lower bound of the current range
+   *
+   * @throws IllegalStateException If there is no current range
+   */
+
+  public long lower()
+  {
+    this.checkPositioned();
+    return this.lower;
+  }
+
+  /**
+   * @return The exclusive upper bound of the current range
+   *
+   * @throws IllegalStateException If there is no current range
+   */
+
+  public long upper()
+  {
+    this.checkPositioned();
+    return this.upper;
+  }
+
+  /**
+   * @return The index of the source of the current range
+   *
+   * @throws IllegalStateException If there is no current range
+   */
+
+  public int source()
+  {
+    this.checkPositioned();
+    return this.source;
+  }
+
+  /**
+   * @return The current range. Where the range came unchanged from an
+   * iterator source, this is the instance that the iterator returned.
+   *
+   * @throws IllegalStateException If there is no current range
+   */
+
+  public RangeHalfOpenL range()
+  {
+    this.checkPositioned();
+    if (this.range == null) {
+      this.range = RangeHalfOpenL.of(this.lower, this.upper);
+    }
+    return this.range;
+  }
+
+  /**
+   * Pass each remaining range of the merge to {@code receiver}, in order.
+   *
+   * @param receiver The receiver
+   */
+
+  public void forEachRemaining(
+    final ReceiverType receiver)
+  {
+    Objects.requireNonNull(receiver, "Receiver");
+
+    while (this.advance()) {
+      receiver.receive(this.source, this.lower, this.upper);
+    }
+  }
+
+  private void checkPositioned()
+  {
+    if (!this.positioned) {
+      throw new IllegalStateException("The merger has no current range.");
+    }
+  }
+
+  private void advanceTop()
+  {
+    if (!this.sources[this.heap[0]].advance(this.coalesce)) {
+      --this.heapSize;
+      this.heap[0] = this.heap[this.heapSize];
+    }
+    if (this.heapSize > 0) {
+      this.siftDown(0);
+    }
+  }
+
+  private void siftDown(
+    final int start)
+  {
+    final int item = this.heap[start];
+
+    int node = start;
+    while (true) {
+      int child = (node << 1) + 1;
+      if (child >= this.heapSize) {
+        break;
+      }
+      final int right = child + 1;
+      if (right < this.heapSize && this.less(this.heap[right], this.heap[child])) {
+        child = right;
+      }
+      if (!this.less(this.heap[child], item)) {
+        break;
+      }
+      this.heap[node] = this.heap[child];
+      node = child;
+    }
+    this.heap[node] = item;
+  }
+
+  /**
+   * @return {@code true} iff the current range of source {@code a} orders
+   * before that of source {@code b}
+   */
+
+  private boolean less(
+    final int a,
+    final int b)
+  {
+    final var sa = this.sources[a];
+    final var sb = this.sources[b];
+    if (sa.lower != sb.lower) {
+      return sa.lower < sb.lower;
+    }
+    return a < b;
+  }
+
+  /**
+   * A sorted source of ranges, positioned at its current range.
+   */
+
+  abstract static class Source
+  {
+    private final int index;
+    private long lower;
+    private long upper;
+    private RangeHalfOpenL range;
+    private boolean started;
+
+    Source(
+      final int inIndex)
+    {
+      this.index = inIndex;
+    }
+
+    /**
+     * @return The position of this source in the merger's list of sources
+     */
+
+    final int index()
+    {
+      return this.index;
+    }
+
+    /**
+     * Move to the next range, skipping empty ranges if requested.
+     *
+     * @param skipEmpty {@code true} if empty ranges should be skipped
+     *
+     * @return {@code false} if the source is exhausted
+     */
+
+    final boolean advance(
+      final boolean skipEmpty)
+    {
+      while (this.fetch()) {
+        if (!skipEmpty || this.lower != this.upper) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    final void set(
+      final long inLower,
+      final long inUpper,
+      final RangeHalfOpenL inRange)
+    {
+      if (this.started && inLower < this.lower) {
+        throw new IllegalArgumentException(
+          "Source %d is not sorted: lower bound %d follows lower bound %d"
+            .formatted(
+              Integer.valueOf(this.index),
+              Long.valueOf(inLower),
+              Long.valueOf(this.lower)));
+      }
+      this.started = true;
+      this.lower = inLower;
+      this.upper = inUpper;
+      this.range = inRange;
+    }
+
+    /**
+     * Move to the next range, and pass it to {@link #set}.
+     *
+     * @return {@code false} if the source is exhausted
+     */
+
+    abstract boolean fetch();
+  }
+
+  private static final class IteratorSource extends Source
+  {
+    private final Iterator<RangeHalfOpenL> iterator;
+
+    IteratorSource(
+      final int inIndex,
+      final Iterator<RangeHalfOpenL> inIterator)
+    {
+      super(inIndex);
+      this.iterator = inIterator;
+    }
+
+    @Override
+    boolean fetch()
+    {
+      if (!this.iterator.hasNext()) {
+        return false;
+      }
+      final var next = Objects.requireNonNull(this.iterator.next(), "Range");
+      this.set(next.lower(), next.upper(), next);
+      return true;
+    }
+  }
+
+  /**
+   * A source of half-open ranges held as interleaved bounds: the range at
+   * index {@code i} has its lower bound at element {@code 2i} and its upper
+   * bound at element {@code 2i + 1}.
+   */
+
+  static final class BoundsSource extends Source
+  {
+    private final long[] bounds;
+    private final int count;
+    private int position;
+
+    BoundsSource(
+      final int inIndex,
+      final long[] inBounds,
+      final int inCount)
+    {
+      super(inIndex);
+      this.bounds = inBounds;
+      this.count = inCount;
+    }
+
+    @Override
+    boolean fetch()
+    {
+      if (this.position >= this.count) {
+        return false;
+      }
+
+      final int at = this.position << 1;
+      this.set(this.bounds[at], this.bounds[at + 1], null);
+      ++this.position;
+      return true;
+    }
+  }
+
+  private static final class ArraySource extends Source
+  {
+    private final RangeArrayL array;
+    private int position;
+
+    ArraySource(
+      final int inIndex,
+      final RangeArrayL inArray)
+    {
+      super(inIndex);
+      this.array = inArray;
+    }
+
+    @Override
+    boolean fetch()
+    {
+      if (this.position >= this.array.size()) {
+        return false;
+      }
+
+      final long nextLower = this.array.lower(this.position);
+      final long nextUpper = this.array.upper(this.position);
+      if (nextUpper == Long.MAX_VALUE) {
+        throw new IllegalArgumentException(
+          "Range %d of source %d has upper bound %d, with no half-open equivalent"
+            .formatted(
+              Integer.valueOf(this.position),
+              Integer.valueOf(this.index()),
+              Long.valueOf(nextUpper)));
+      }
+      this.set(nextLower, nextUpper + 1L, null);
+      ++this.position;
+      return true;
+    }
+  }
+}
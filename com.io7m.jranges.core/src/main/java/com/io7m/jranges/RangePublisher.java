@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p> A publisher that emits successive chunks of a half-open range, in
+ * ascending order, as divided by a {@link RangeChunkPolicyType}. </p>
+ *
+ * <p> Each subscriber receives its own independent sequence of chunks. Chunks
+ * are produced lazily, and a subscriber never receives more chunks than it
+ * has requested. Chunks are emitted on whichever thread calls
+ * {@link Flow.Subscription#request(long)}; a subscriber may request more
+ * chunks from within {@link Flow.Subscriber#onNext(Object)} without
+ * recursion. </p>
+ *
+ * <p> A request for a non-positive number of chunks, or a chunk policy that
+ * returns a chunk end outside of {@code (start, end]}, causes the
+ * subscription to fail with an exception. </p>
+ *
+ * <p> If {@link Flow.Subscriber#onNext(Object)} throws an exception, the
+ * subscription is cancelled and the exception is passed to
+ * {@link Flow.Subscriber#onError(Throwable)}, in the manner of
+ * {@link java.util.concurrent.SubmissionPublisher}. </p>
+ *
+ * @since 6.1.0
+ */
+
+public final class RangePublisher implements Flow.Publisher<RangeHalfOpenL>
+{
+  private final RangeHalfOpenL range;
+  private final RangeChunkPolicyType policy;
+
+  private RangePublisher(
+    final RangeHalfOpenL inRange,
+    final RangeChunkPolicyType inPolicy)
+  {
+    this.range = Objects.requireNonNull(inRange, "Range");
+    this.policy = Objects.requireNonNull(inPolicy, "Policy");
+  }
+
+  /**
+   * @param range  The range
+   * @param policy The chunk policy
+   *
+   * @return A publisher of the chunks of {@code range}
+   */
+
+  public static RangePublisher create(
+    final RangeHalfOpenL range,
+    final RangeChunkPolicyType policy)
+  {
+    return new RangePublisher(range, policy);
+  }
+
+  /**
+   * @param range     The range
+   * @param chunkSize The chunk size
+   *
+   * @return A publisher of the chunks of {@code range}
+   *
+   * @throws RangeCheckException If {@code chunkSize <= 0}
+   * @see RangeChunkPolicyType#fixed(long)
+   */
+
+  public static RangePublisher create(
+    final RangeHalfOpenL range,
+    final long chunkSize)
+  {
+    return new RangePublisher(range, RangeChunkPolicyType.fixed(chunkSize));
+  }
+
+  /**
+   * @return The range
+   */
+
+  public RangeHalfOpenL range()
+  {
+    return this.range;
+  }
+
+  @Override
+  public void subscribe(
+    final Flow.Subscriber<? super RangeHalfOpenL> subscriber)
+  {
+    Objects.requireNonNull(subscriber, "Subscriber");
+
+    final var subscription =
+      new RangeSubscription(subscriber, this.range, this.policy);
+    subscriber.onSubscribe(subscription);
+    subscription.drain();
+  }
+
+  private static final class RangeSubscription
+    implements Flow.Subscription
+  {
+    private final Flow.Subscriber<? super RangeHalfOpenL> subscriber;
+    private final RangeChunkPolicyType policy;
+    private final long end;
+    private final AtomicLong requested;
+    private final AtomicInteger work;
+    private volatile boolean cancelled;
+    private volatile Throwable error;
+    private long next;
+    private boolean terminated;
+
+    RangeSubscription(
+      final Flow.Subscriber<? super RangeHalfOpenL> inSubscriber,
+      final RangeHalfOpenL range,
+      final RangeChunkPolicyType inPolicy)
+    {
+      this.subscriber = inSubscriber;
+      this.policy = inPolicy;
+      this.next = range.lower();
+      this.end = range.upper();
+      this.requested = new AtomicLong();
+      this.work = new AtomicInteger();
+    }
+
+    @Override
+    public void request(
+      final long n)
+    {
+      if (n <= 0L) {
+        this.error = new IllegalArgumentException(
+          "Requested chunk count must be positive (received %d)".formatted(
+            Long.valueOf(n)));
+      } else {
+        this.requested.getAndUpdate(r -> {
+          final long sum = r + n;
+          return sum < 0L ? Long.MAX_VALUE : sum;
+        });
+      }
+      this.drain();
+    }
+
+    @Override
+    public void cancel()
+    {
+      this.cancelled = true;
+    }
+
+    /**
+     * Emit as many chunks as demand allows. Only one thread at a time
+     * emits; a thread that calls this method while another thread is
+     * emitting causes that thread to loop again.
+     */
+
+    void drain()
+    {
+      if (this.work.getAndIncrement() != 0) {
+        return;
+      }
+
+      int missed = 1;
+      while (missed != 0) {
+        this.emit();
+        missed = this.work.addAndGet(-missed);
+      }
+    }
+
+    private void emit()
+    {
+      if (this.terminated) {
+        return;
+      }
+
+      while (!this.cancelled) {
+        final var failure = this.error;
+        if (failure != null) {
+          this.terminated = true;
+          this.subscriber.onError(failure);
+          return;
+        }
+
+        if (this.next == this.end) {
+          this.terminated = true;
+          this.subscriber.onComplete();
+          return;
+        }
+
+        final long r = this.requested.get();
+        if (r == 0L) {
+          return;
+        }
+
+        final long start = this.next;
+        final long chunkEnd;
+        try {
+          chunkEnd = this.policy.chunkEnd(start, this.end);
+          RangeCheck.checkGreaterLong(
+            chunkEnd, "Chunk end", start, "Chunk start");
+          RangeCheck.checkLessEqualLong(
+            chunkEnd, "Chunk end", this.end, "Range upper bound");
+        } catch (final RuntimeException e) {
+          this.terminated = true;
+          this.subscriber.onError(e);
+          return;
+        }
+
+        if (r != Long.MAX_VALUE) {
+          this.requested.decrementAndGet();
+        }
+        this.next = chunkEnd;
+        this.deliver(RangeHalfOpenL.of(start, chunkEnd));
+      }
+    }
+
+    /**
+     * Pass a chunk to the subscriber. An exception raised by the subscriber
+     * cancels the subscription and is passed to the subscriber's
+     * {@code onError} method.
+     */
+
+    private void deliver(
+      final RangeHalfOpenL chunk)
+    {
+      try {
+        this.subscriber.onNext(chunk);
+      } catch (final Throwable e) {
+        this.cancelled = true;
+        this.terminated = true;
+        this.subscriber.onError(e);
+      }
+    }
+  }
+}
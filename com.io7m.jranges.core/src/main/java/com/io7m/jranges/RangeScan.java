@@ -0,0 +1,427 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p> Bulk scans over primitive arrays, shared by the bulk check and test
+ * functions. </p>
+ *
+ * <p> Each scan examines the array in fixed-size blocks. Within a block of
+ * {@code int} or {@code double} values, only the minimum and maximum values
+ * are computed; the loop contains no branches and is a plain reduction,
+ * which the JIT can unroll and (where the platform allows it) vectorize. Only a block that
+ * contains a value outside the range is scanned again element by element to
+ * locate the first such value. A NaN value propagates through
+ * {@link Math#min(double, double)} and so marks its block as containing a
+ * value outside the range. </p>
+ *
+ * <p> Minimum and maximum reductions over {@code long} values are not
+ * vectorized on common hardware, so the {@code long} scans instead test each
+ * value with an unsigned comparison of its offset from the lower bound
+ * against the width of the range, computing the borrow of the subtraction
+ * with bitwise operations (Hacker's Delight, 2-12) and accumulating it with
+ * a bitwise reduction. </p>
+ *
+ * <p> Individual values, and the block minimum and maximum, are tested with
+ * the predicates in {@link RangeTest} and {@link RangeHalfOpenTest}. </p>
+ */
+
+final class RangeScan
+{
+  private static final int BLOCK_SIZE = 256;
+
+  private RangeScan()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Find the first element of {@code values} in {@code [from, to)} that is
+   * not included in the inclusive range {@code [lower, upper]}.
+   *
+   * @param values The values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param lower  The lower bound
+   * @param upper  The upper bound
+   *
+   * @return The index of the first such element, or {@code -1}
+   */
+
+  static int firstNotIncludedInInclusiveLong(
+    final long[] values,
+    final int from,
+    final int to,
+    final long lower,
+    final long upper)
+  {
+    Objects.checkFromToIndex(from, to, values.length);
+
+    final long span = upper - lower;
+
+    int block = from;
+    while (block < to) {
+      final int end = block + Math.min(BLOCK_SIZE, to - block);
+
+      long borrow = 0L;
+      for (int index = block; index < end; ++index) {
+        final long offset = values[index] - lower;
+        final long same = ~(span ^ offset) & (span - offset);
+        borrow |= (~span & offset) | same;
+      }
+
+      if (borrow < 0L) {
+        for (int index = block; index < end; ++index) {
+          final long x = values[index];
+          if (!RangeTest.isIncludedInLong(x, lower, upper)) {
+            return index;
+          }
+        }
+      }
+      block = end;
+    }
+    return -1;
+  }
+
+  /**
+   * Find the first element of {@code values} in {@code [from, to)} that is
+   * not included in the inclusive range {@code [lower, upper]}.
+   *
+   * @param values The values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param lower  The lower bound
+   * @param upper  The upper bound
+   *
+   * @return The index of the first such element, or {@code -1}
+   */
+
+  static int firstNotIncludedInInclusiveInteger(
+    final int[] values,
+    final int from,
+    final int to,
+    final int lower,
+    final int upper)
+  {
+    Objects.checkFromToIndex(from, to, values.length);
+
+    int block = from;
+    while (block < to) {
+      final int end = block + Math.min(BLOCK_SIZE, to - block);
+
+      int min = Integer.MAX_VALUE;
+      int max = Integer.MIN_VALUE;
+      for (int index = block; index < end; ++index) {
+        final int x = values[index];
+        min = Math.min(min, x);
+        max = Math.max(max, x);
+      }
+
+      if (!RangeTest.isIncludedInInteger(min, lower, upper)
+        || !RangeTest.isIncludedInInteger(max, lower, upper)) {
+        for (int index = block; index < end; ++index) {
+          final int x = values[index];
+          if (!RangeTest.isIncludedInInteger(x, lower, upper)) {
+            return index;
+          }
+        }
+      }
+      block = end;
+    }
+    return -1;
+  }
+
+  /**
+   * Find the first element of {@code values} in {@code [from, to)} that is
+   * not included in the inclusive range {@code [lower, upper]}.
+   *
+   * @param values The values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param lower  The lower bound
+   * @param upper  The upper bound
+   *
+   * @return The index of the first such element, or {@code -1}
+   */
+
+  static int firstNotIncludedInInclusiveDouble(
+    final double[] values,
+    final int from,
+    final int to,
+    final double lower,
+    final double upper)
+  {
+    Objects.checkFromToIndex(from, to, values.length);
+
+    int block = from;
+    while (block < to) {
+      final int end = block + Math.min(BLOCK_SIZE, to - block);
+
+      double min = Double.POSITIVE_INFINITY;
+      double max = Double.NEGATIVE_INFINITY;
+      for (int index = block; index < end; ++index) {
+        final double x = values[index];
+        min = Math.min(min, x);
+        max = Math.max(max, x);
+      }
+
+      if (!RangeTest.isIncludedInDouble(min, lower, upper)
+        || !RangeTest.isIncludedInDouble(max, lower, upper)) {
+        for (int index = block; index < end; ++index) {
+          final double x = values[index];
+          if (!RangeTest.isIncludedInDouble(x, lower, upper)) {
+            return index;
+          }
+        }
+      }
+      block = end;
+    }
+    return -1;
+  }
+
+  /**
+   * Find the first element of {@code values} in {@code [from, to)} that is
+   * not included in the half-open range {@code [lower, upper)}.
+   *
+   * @param values The values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param lower  The lower bound
+   * @param upper  The upper bound
+   *
+   * @return The index of the first such element, or {@code -1}
+   */
+
+  static int firstNotIncludedInHalfOpenLong(
+    final long[] values,
+    final int from,
+    final int to,
+    final long lower,
+    final long upper)
+  {
+    Objects.checkFromToIndex(from, to, values.length);
+
+    final long span = upper - lower;
+
+    int block = from;
+    while (block < to) {
+      final int end = block + Math.min(BLOCK_SIZE, to - block);
+
+      long borrow = -1L;
+      for (int index = block; index < end; ++index) {
+        final long offset = values[index] - lower;
+        final long same = ~(offset ^ span) & (offset - span);
+        borrow &= (~offset & span) | same;
+      }
+
+      if (borrow >= 0L) {
+        for (int index = block; index < end; ++index) {
+          final long x = values[index];
+          if (!RangeHalfOpenTest.isIncludedInLong(x, lower, upper)) {
+            return index;
+          }
+        }
+      }
+      block = end;
+    }
+    return -1;
+  }
+
+  /**
+   * Find the first element of {@code values} in {@code [from, to)} that is
+   * not included in the half-open range {@code [lower, upper)}.
+   *
+   * @param values The values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param lower  The lower bound
+   * @param upper  The upper bound
+   *
+   * @return The index of the first such element, or {@code -1}
+   */
+
+  static int firstNotIncludedInHalfOpenInteger(
+    final int[] values,
+    final int from,
+    final int to,
+    final int lower,
+    final int upper)
+  {
+    Objects.checkFromToIndex(from, to, values.length);
+
+    int block = from;
+    while (block < to) {
+      final int end = block + Math.min(BLOCK_SIZE, to - block);
+
+      int min = Integer.MAX_VALUE;
+      int max = Integer.MIN_VALUE;
+      for (int index = block; index < end; ++index) {
+        final int x = values[index];
+        min = Math.min(min, x);
+        max = Math.max(max, x);
+      }
+
+      if (!RangeHalfOpenTest.isIncludedInInteger(min, lower, upper)
+        || !RangeHalfOpenTest.isIncludedInInteger(max, lower, upper)) {
+        for (int index = block; index < end; ++index) {
+          final int x = values[index];
+          if (!RangeHalfOpenTest.isIncludedInInteger(x, lower, upper)) {
+            return index;
+          }
+        }
+      }
+      block = end;
+    }
+    return -1;
+  }
+
+  /**
+   * Find the first element of {@code values} in {@code [from, to)} that is
+   * not included in the half-open range {@code [lower, upper)}.
+   *
+   * @param values The values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param lower  The lower bound
+   * @param upper  The upper bound
+   *
+   * @return The index of the first such element, or {@code -1}
+   */
+
+  static int firstNotIncludedInHalfOpenDouble(
+    final double[] values,
+    final int from,
+    final int to,
+    final double lower,
+    final double upper)
+  {
+    Objects.checkFromToIndex(from, to, values.length);
+
+    int block = from;
+    while (block < to) {
+      final int end = block + Math.min(BLOCK_SIZE, to - block);
+
+      double min = Double.POSITIVE_INFINITY;
+      double max = Double.NEGATIVE_INFINITY;
+      for (int index = block; index < end; ++index) {
+        final double x = values[index];
+        min = Math.min(min, x);
+        max = Math.max(max, x);
+      }
+
+      if (!RangeHalfOpenTest.isIncludedInDouble(min, lower, upper)
+        || !RangeHalfOpenTest.isIncludedInDouble(max, lower, upper)) {
+        for (int index = block; index < end; ++index) {
+          final double x = values[index];
+          if (!RangeHalfOpenTest.isIncludedInDouble(x, lower, upper)) {
+            return index;
+          }
+        }
+      }
+      block = end;
+    }
+    return -1;
+  }
+
+  /**
+   * @param count The number of bits
+   *
+   * @return The number of {@code long} values required to hold a bitmap of
+   * {@code count} bits
+   */
+
+  static int bitmapWords(
+    final int count)
+  {
+    return (count + 63) >>> 6;
+  }
+
+  /**
+   * Compare two values as unsigned values without branching.
+   *
+   * @param a The left value
+   * @param b The right value
+   *
+   * @return {@code 1} if {@code a < b} when treated as unsigned values,
+   * otherwise {@code 0}
+   */
+
+  static int unsignedLess(
+    final long a,
+    final long b)
+  {
+    final long same = ~(a ^ b) & (a - b);
+    return (int) (((~a & b) | same) >>> 63);
+  }
+
+  /**
+   * Compare two values as unsigned values without branching.
+   *
+   * @param a The left value
+   * @param b The right value
+   *
+   * @return {@code 1} if {@code a <= b} when treated as unsigned values,
+   * otherwise {@code 0}
+   */
+
+  static int unsignedLessEqual(
+    final long a,
+    final long b)
+  {
+    return 1 - unsignedLess(b, a);
+  }
+
+  /**
+   * Compare two values as unsigned values without branching.
+   *
+   * @param a The left value
+   * @param b The right value
+   *
+   * @return {@code 1} if {@code a < b} when treated as unsigned values,
+   * otherwise {@code 0}
+   */
+
+  static int unsignedLess(
+    final int a,
+    final int b)
+  {
+    final int same = ~(a ^ b) & (a - b);
+    return (((~a & b) | same) >>> 31);
+  }
+
+  /**
+   * Compare two values as unsigned values without branching.
+   *
+   * @param a The left value
+   * @param b The right value
+   *
+   * @return {@code 1} if {@code a <= b} when treated as unsigned values,
+   * otherwise {@code 0}
+   */
+
+  static int unsignedLessEqual(
+    final int a,
+    final int b)
+  {
+    return 1 - unsignedLess(b, a);
+  }
+}
@@ -0,0 +1,661 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p> A mutable set of {@code long} values, represented as a sorted sequence
+ * of disjoint, coalesced inclusive ranges. </p>
+ *
+ * <p> The ranges are stored as a pair of parallel {@code long[]} arrays rather
+ * than as individual range objects, and so each range in the set costs
+ * {@code 16} bytes. Ranges that overlap or are adjacent (such as
+ * {@code [0, 3]} and {@code [4, 7]}) are always coalesced into a single
+ * range, so the representation of a given set of values is unique. </p>
+ *
+ * <p> Membership queries take {@code O(log n)} time, where {@code n} is the
+ * number of ranges in the set. Adding or removing a range takes
+ * {@code O(log n)} time plus the time taken to shift the ranges that
+ * follow it; adding ranges in ascending order therefore takes amortized
+ * constant time per range. The set operations {@link #union},
+ * {@link #intersection}, {@link #difference}, and {@link #complement} take
+ * time linear in the sizes of their arguments, and return new sets. </p>
+ *
+ * <p> Instances are not thread-safe. </p>
+ *
+ * @since 6.1.0
+ */
+
+public final class RangeSetL
+{
+  private static final int INITIAL_CAPACITY = 8;
+
+  private long[] lowers;
+  private long[] uppers;
+  private int count;
+
+  private RangeSetL(
+    final int capacity)
+  {
+    this.lowers = new long[capacity];
+    this.uppers = new long[capacity];
+    this.count = 0;
+  }
+
+  /**
+   * @return A new empty set
+   */
+
+  public static RangeSetL create()
+  {
+    return new RangeSetL(INITIAL_CAPACITY);
+  }
+
+  /**
+   * @param ranges The ranges
+   *
+   * @return A new set containing the values in all of the given ranges
+   */
+
+  public static RangeSetL of(
+    final RangeInclusiveL... ranges)
+  {
+    Objects.requireNonNull(ranges, "Ranges");
+
+    final var set = create();
+    for (final var range : ranges) {
+      set.add(range);
+    }
+    return set;
+  }
+
+  /**
+   * @return A copy of this set
+   */
+
+  public RangeSetL copy()
+  {
+    final var result = new RangeSetL(Math.max(INITIAL_CAPACITY, this.count));
+    System.arraycopy(this.lowers, 0, result.lowers, 0, this.count);
+    System.arraycopy(this.uppers, 0, result.uppers, 0, this.count);
+    result.count = this.count;
+    return result;
+  }
+
+  /**
+   * @return The number of disjoint ranges in the set
+   */
+
+  public int rangeCount()
+  {
+    return this.count;
+  }
+
+  /**
+   * @return {@code true} iff the set contains no values
+   */
+
+  public boolean isEmpty()
+  {
+    return this.count == 0;
+  }
+
+  /**
+   * Remove all values from the set.
+   */
+
+  public void clear()
+  {
+    this.count = 0;
+  }
+
+  /**
+   * @param index The index of the range, in {@code [0, rangeCount())}
+   *
+   * @return The lower bound of the range at {@code index}
+   */
+
+  public long lower(
+    final int index)
+  {
+    return this.lowers[Objects.checkIndex(index, this.count)];
+  }
+
+  /**
+   * @param index The index of the range, in {@code [0, rangeCount())}
+   *
+   * @return The upper bound of the range at {@code index}
+   */
+
+  public long upper(
+    final int index)
+  {
+    return this.uppers[Objects.checkIndex(index, this.count)];
+  }
+
+  /**
+   * @param index The index of the range, in {@code [0, rangeCount())}
+   *
+   * @return The range at {@code index}
+   */
+
+  public RangeInclusiveL range(
+    final int index)
+  {
+    Objects.checkIndex(index, this.count);
+    return RangeInclusiveL.of(this.lowers[index], this.uppers[index]);
+  }
+
+  /**
+   * @return The disjoint ranges of the set, in ascending order
+   */
+
+  public List<RangeInclusiveL> ranges()
+  {
+    final var result = new ArrayList<RangeInclusiveL>(this.count);
+    for (int index = 0; index < this.count; ++index) {
+      result.add(RangeInclusiveL.of(this.lowers[index], this.uppers[index]));
+    }
+    return List.copyOf(result);
+  }
+
+  /**
+   * @return The smallest range that includes every value in the set, if the
+   * set is not empty
+   */
+
+  public Optional<RangeInclusiveL> span()
+  {
+    if (this.count == 0) {
+      return Optional.empty();
+    }
+    return Optional.of(
+      RangeInclusiveL.of(this.lowers[0], this.uppers[this.count - 1]));
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return {@code true} iff {@code x} is in the set
+   */
+
+  public boolean contains(
+    final long x)
+  {
+    final int index = this.lastLowerAtMost(x);
+    return index >= 0 && this.uppers[index] >= x;
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return The range of the set that contains {@code x}, if any
+   */
+
+  public Optional<RangeInclusiveL> rangeContaining(
+    final long x)
+  {
+    final int index = this.lastLowerAtMost(x);
+    if (index >= 0 && this.uppers[index] >= x) {
+      return Optional.of(this.range(index));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @param range The range
+   *
+   * @return {@code true} iff every value in {@code range} is in the set
+   */
+
+  public boolean encloses(
+    final RangeInclusiveL range)
+  {
+    Objects.requireNonNull(range, "Range");
+
+    final int index = this.lastLowerAtMost(range.lower());
+    return index >= 0 && this.uppers[index] >= range.upper();
+  }
+
+  /**
+   * @param range The range
+   *
+   * @return {@code true} iff at least one value in {@code range} is in the
+   * set
+   */
+
+  public boolean intersects(
+    final RangeInclusiveL range)
+  {
+    Objects.requireNonNull(range, "Range");
+
+    final int index = this.firstUpperAtLeast(range.lower());
+    return index < this.count && this.lowers[index] <= range.upper();
+  }
+
+  /**
+   * Add all of the values in {@code range} to the set.
+   *
+   * @param range The range
+   */
+
+  public void add(
+    final RangeInclusiveL range)
+  {
+    Objects.requireNonNull(range, "Range");
+    this.addUnchecked(range.lower(), range.upper());
+  }
+
+  /**
+   * Add all of the values in {@code [lower, upper]} to the set.
+   *
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @throws RangeCheckException If {@code lower > upper}
+   */
+
+  public void add(
+    final long lower,
+    final long upper)
+  {
+    RangeCheck.checkLessEqualLong(lower, "lower", upper, "upper");
+    this.addUnchecked(lower, upper);
+  }
+
+  private void addUnchecked(
+    final long lower,
+    final long upper)
+  {
+    final int first =
+      this.firstUpperAtLeast(lower == Long.MIN_VALUE ? lower : lower - 1L);
+    final int last =
+      this.lastLowerAtMost(upper == Long.MAX_VALUE ? upper : upper + 1L);
+
+    if (first > last) {
+      this.splice(first, first, 1);
+      this.lowers[first] = lower;
+      this.uppers[first] = upper;
+      return;
+    }
+
+    final long newLower = Math.min(lower, this.lowers[first]);
+    final long newUpper = Math.max(upper, this.uppers[last]);
+    this.splice(first, last + 1, 1);
+    this.lowers[first] = newLower;
+    this.uppers[first] = newUpper;
+  }
+
+  /**
+   * Add all of the values in {@code other} to the set.
+   *
+   * @param other The other set
+   */
+
+  public void addAll(
+    final RangeSetL other)
+  {
+    this.replaceWith(this.union(other));
+  }
+
+  /**
+   * Remove all of the values in {@code range} from the set.
+   *
+   * @param range The range
+   */
+
+  public void remove(
+    final RangeInclusiveL range)
+  {
+    Objects.requireNonNull(range, "Range");
+    this.removeUnchecked(range.lower(), range.upper());
+  }
+
+  /**
+   * Remove all of the values in {@code [lower, upper]} from the set.
+   *
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @throws RangeCheckException If {@code lower > upper}
+   */
+
+  public void remove(
+    final long lower,
+    final long upper)
+  {
+    RangeCheck.checkLessEqualLong(lower, "lower", upper, "upper");
+    this.removeUnchecked(lower, upper);
+  }
+
+  private void removeUnchecked(
+    final long lower,
+    final long upper)
+  {
+    final int first = this.firstUpperAtLeast(lower);
+    final int last = this.lastLowerAtMost(upper);
+    if (first > last) {
+      return;
+    }
+
+    final long leftLower = this.lowers[first];
+    final long rightUpper = this.uppers[last];
+    final boolean left = leftLower < lower;
+    final boolean right = rightUpper > upper;
+
+    this.splice(first, last + 1, (left ? 1 : 0) + (right ? 1 : 0));
+
+    int index = first;
+    if (left) {
+      this.lowers[index] = leftLower;
+      this.uppers[index] = lower - 1L;
+      ++index;
+    }
+    if (right) {
+      this.lowers[index] = upper + 1L;
+      this.uppers[index] = rightUpper;
+    }
+  }
+
+  /**
+   * Remove all of the values in {@code other} from the set.
+   *
+   * @param other The other set
+   */
+
+  public void removeAll(
+    final RangeSetL other)
+  {
+    this.replaceWith(this.difference(other));
+  }
+
+  /**
+   * @param other The other set
+   *
+   * @return A new set containing the values that are in either set
+   */
+
+  public RangeSetL union(
+    final RangeSetL other)
+  {
+    Objects.requireNonNull(other, "Other");
+
+    final var result = new RangeSetL(
+      Math.max(INITIAL_CAPACITY, this.count + other.count));
+
+    int i = 0;
+    int j = 0;
+    while (i < this.count && j < other.count) {
+      if (this.lowers[i] <= other.lowers[j]) {
+        result.append(this.lowers[i], this.uppers[i]);
+        ++i;
+      } else {
+        result.append(other.lowers[j], other.uppers[j]);
+        ++j;
+      }
+    }
+    for (; i < this.count; ++i) {
+      result.append(this.lowers[i], this.uppers[i]);
+    }
+    for (; j < other.count; ++j) {
+      result.append(other.lowers[j], other.uppers[j]);
+    }
+    return result;
+  }
+
+  /**
+   * @param other The other set
+   *
+   * @return A new set containing the values that are in both sets
+   */
+
+  public RangeSetL intersection(
+    final RangeSetL other)
+  {
+    Objects.requireNonNull(other, "Other");
+
+    final var result = create();
+
+    int i = 0;
+    int j = 0;
+    while (i < this.count && j < other.count) {
+      final long lower = Math.max(this.lowers[i], other.lowers[j]);
+      final long upper = Math.min(this.uppers[i], other.uppers[j]);
+      if (lower <= upper) {
+        result.append(lower, upper);
+      }
+      if (this.uppers[i] < other.uppers[j]) {
+        ++i;
+      } else {
+        ++j;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param other The other set
+   *
+   * @return A new set containing the values that are in this set but not in
+   * {@code other}
+   */
+
+  public RangeSetL difference(
+    final RangeSetL other)
+  {
+    Objects.requireNonNull(other, "Other");
+
+    final var result = create();
+
+    int j = 0;
+    for (int i = 0; i < this.count; ++i) {
+      final long upper = this.uppers[i];
+      long current = this.lowers[i];
+
+      while (j < other.count && other.uppers[j] < current) {
+        ++j;
+      }
+
+      boolean remaining = true;
+      while (j < other.count && other.lowers[j] <= upper) {
+        if (other.lowers[j] > current) {
+          result.append(current, other.lowers[j] - 1L);
+        }
+        if (other.uppers[j] >= upper) {
+          remaining = false;
+          break;
+        }
+        current = other.uppers[j] + 1L;
+        ++j;
+      }
+
+      if (remaining) {
+        result.append(current, upper);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param bounds The bounding range
+   *
+   * @return A new set containing the values in {@code bounds} that are not
+   * in this set
+   */
+
+  public RangeSetL complement(
+    final RangeInclusiveL bounds)
+  {
+    return of(bounds).difference(this);
+  }
+
+  /**
+   * Append a range that does not precede any range in the set, coalescing it
+   * with the last range if necessary.
+   */
+
+  private void append(
+    final long lower,
+    final long upper)
+  {
+    if (this.count > 0) {
+      final int last = this.count - 1;
+      final long lastUpper = this.uppers[last];
+      if (lastUpper >= lower || lastUpper + 1L == lower) {
+        this.uppers[last] = Math.max(lastUpper, upper);
+        return;
+      }
+    }
+
+    this.ensureCapacity(this.count + 1);
+    this.lowers[this.count] = lower;
+    this.uppers[this.count] = upper;
+    ++this.count;
+  }
+
+  /**
+   * Replace the ranges in {@code [start, end)} with {@code inserted}
+   * unspecified ranges, shifting the ranges that follow.
+   */
+
+  private void splice(
+    final int start,
+    final int end,
+    final int inserted)
+  {
+    final int newCount = this.count - (end - start) + inserted;
+    this.ensureCapacity(newCount);
+
+    final int tail = this.count - end;
+    System.arraycopy(this.lowers, end, this.lowers, start + inserted, tail);
+    System.arraycopy(this.uppers, end, this.uppers, start + inserted, tail);
+    this.count = newCount;
+  }
+
+  private void ensureCapacity(
+    final int capacity)
+  {
+    if (capacity > this.lowers.length) {
+      final int newCapacity =
+        Math.max(capacity, this.lowers.length + (this.lowers.length >> 1));
+      this.lowers = Arrays.copyOf(this.lowers, newCapacity);
+      this.uppers = Arrays.copyOf(this.uppers, newCapacity);
+    }
+  }
+
+  private void replaceWith(
+    final RangeSetL other)
+  {
+    this.lowers = other.lowers;
+    this.uppers = other.uppers;
+    this.count = other.count;
+  }
+
+  /**
+   * @return The index of the first range with an upper bound
+   * {@code >= x}, or {@code count} if there is no such range
+   */
+
+  private int firstUpperAtLeast(
+    final long x)
+  {
+    int low = 0;
+    int high = this.count;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (this.uppers[middle] < x) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * @return The index of the last range with a lower bound {@code <= x}, or
+   * {@code -1} if there is no such range
+   */
+
+  private int lastLowerAtMost(
+    final long x)
+  {
+    int low = 0;
+    int high = this.count;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (this.lowers[middle] <= x) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low - 1;
+  }
+
+  @Override
+  public boolean equals(
+    final Object other)
+  {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof final RangeSetL that)) {
+      return false;
+    }
+    return Arrays.equals(
+      this.lowers, 0, this.count, that.lowers, 0, that.count)
+      && Arrays.equals(
+      this.uppers, 0, this.count, that.uppers, 0, that.count);
+  }
+
+  @Override
+  public int hashCode()
+  {
+    int result = 1;
+    for (int index = 0; index < this.count; ++index) {
+      result = 31 * result + Long.hashCode(this.lowers[index]);
+      result = 31 * result + Long.hashCode(this.uppers[index]);
+    }
+    return result;
+  }
+
+  @Override
+  public String toString()
+  {
+    final var text = new StringBuilder(16 + this.count * 16);
+    text.append("RangeSetL{");
+    for (int index = 0; index < this.count; ++index) {
+      if (index > 0) {
+        text.append(", ");
+      }
+      text.append('[');
+      text.append(this.lowers[index]);
+      text.append(", ");
+      text.append(this.uppers[index]);
+      text.append(']');
+    }
+    text.append('}');
+    return text.toString();
+  }
+}
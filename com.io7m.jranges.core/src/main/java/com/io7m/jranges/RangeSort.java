@@ -0,0 +1,748 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p> Sorting functions for large collections of ranges held in packed
+ * primitive arrays, avoiding the per-range objects and comparator calls of
+ * sorting {@code RangeInclusiveL} values. </p>
+ *
+ * <p> Ranges over {@code long} values are held as interleaved bounds: the
+ * range at index {@code i} has its lower bound at element {@code 2i} and its
+ * upper bound at element {@code 2i + 1}. Ranges over {@code int} values (such
+ * as {@link RangeHalfOpenI} or {@link RangeInclusiveI}) are packed into a
+ * single {@code long} each with {@link #packI(int, int)}. In all cases, the
+ * ranges are sorted by lower bound, and then by upper bound, under either
+ * signed or unsigned ordering of the bounds. </p>
+ *
+ * <p> The {@code radixSort} functions perform a least-significant-digit radix
+ * sort with 8-bit digits. Passes in which every value has the same digit are
+ * skipped, so bounds that span a narrow range of values are sorted in fewer
+ * passes. The {@code parallelSort} functions divide the array between the
+ * tasks of the common fork-join pool, radix sort the pieces, and merge them.
+ * All of the functions are stable, and allocate a single scratch array the
+ * size of the input. </p>
+ *
+ * @since 6.1.0
+ */
+
+public final class RangeSort
+{
+  private static final int RADIX_BITS = 8;
+  private static final int RADIX = 1 << RADIX_BITS;
+  private static final int PASSES_L = Long.SIZE / RADIX_BITS;
+  private static final int PASSES_I = Integer.SIZE / RADIX_BITS;
+  private static final int PARALLEL_THRESHOLD = 1 << 13;
+  private static final long SIGNED_PACKED_I = 0x8000_0000_8000_0000L;
+
+  private RangeSort()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Pack an {@code int} range into a {@code long}.
+   *
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @return The packed range
+   *
+   * @see #packedLowerI(long)
+   * @see #packedUpperI(long)
+   */
+
+  public static long packI(
+    final int lower,
+    final int upper)
+  {
+    return ((long) lower << 32) | (upper & 0xffff_ffffL);
+  }
+
+  /**
+   * Pack a half-open {@code int} range into a {@code long}.
+   *
+   * @param range The range
+   *
+   * @return The packed range
+   */
+
+  public static long packI(
+    final RangeHalfOpenI range)
+  {
+    Objects.requireNonNull(range, "Range");
+    return packI(range.lower(), range.upper());
+  }
+
+  /**
+   * @param packed A range packed with {@link #packI(int, int)}
+   *
+   * @return The lower bound of the range
+   */
+
+  public static int packedLowerI(
+    final long packed)
+  {
+    return (int) (packed >>> 32);
+  }
+
+  /**
+   * @param packed A range packed with {@link #packI(int, int)}
+   *
+   * @return The upper bound of the range
+   */
+
+  public static int packedUpperI(
+    final long packed)
+  {
+    return (int) packed;
+  }
+
+  /**
+   * @param packed A range packed with {@link #packI(RangeHalfOpenI)}
+   *
+   * @return The half-open range
+   */
+
+  public static RangeHalfOpenI unpackHalfOpenI(
+    final long packed)
+  {
+    return RangeHalfOpenI.of(packedLowerI(packed), packedUpperI(packed));
+  }
+
+  /**
+   * Sort interleaved {@code long} ranges by signed lower bound, and then by
+   * signed upper bound.
+   *
+   * @param bounds The interleaved bounds
+   *
+   * @throws IllegalArgumentException If {@code bounds} has an odd length
+   */
+
+  public static void radixSortL(
+    final long[] bounds)
+  {
+    sortInterleaved(bounds, Long.MIN_VALUE, false);
+  }
+
+  /**
+   * Sort interleaved {@code long} ranges by unsigned lower bound, and then by
+   * unsigned upper bound.
+   *
+   * @param bounds The interleaved bounds
+   *
+   * @throws IllegalArgumentException If {@code bounds} has an odd length
+   */
+
+  public static void radixSortUnsignedL(
+    final long[] bounds)
+  {
+    sortInterleaved(bounds, 0L, false);
+  }
+
+  /**
+   * Sort interleaved {@code long} ranges by signed lower bound, and then by
+   * signed upper bound, in parallel.
+   *
+   * @param bounds The interleaved bounds
+   *
+   * @throws IllegalArgumentException If {@code bounds} has an odd length
+   */
+
+  public static void parallelSortL(
+    final long[] bounds)
+  {
+    sortInterleaved(bounds, Long.MIN_VALUE, true);
+  }
+
+  /**
+   * Sort interleaved {@code long} ranges by unsigned lower bound, and then by
+   * unsigned upper bound, in parallel.
+   *
+   * @param bounds The interleaved bounds
+   *
+   * @throws IllegalArgumentException If {@code bounds} has an odd length
+   */
+
+  public static void parallelSortUnsignedL(
+    final long[] bounds)
+  {
+    sortInterleaved(bounds, 0L, true);
+  }
+
+  /**
+   * Sort packed {@code int} ranges by signed lower bound, and then by signed
+   * upper bound.
+   *
+   * @param packed The packed ranges
+   */
+
+  public static void radixSortPackedI(
+    final long[] packed)
+  {
+    sortPacked(packed, SIGNED_PACKED_I, false);
+  }
+
+  /**
+   * Sort packed {@code int} ranges by unsigned lower bound, and then by
+   * unsigned upper bound.
+   *
+   * @param packed The packed ranges
+   */
+
+  public static void radixSortPackedUnsignedI(
+    final long[] packed)
+  {
+    sortPacked(packed, 0L, false);
+  }
+
+  /**
+   * Sort packed {@code int} ranges by signed lower bound, and then by signed
+   * upper bound, in parallel.
+   *
+   * @param packed The packed ranges
+   */
+
+  public static void parallelSortPackedI(
+    final long[] packed)
+  {
+    sortPacked(packed, SIGNED_PACKED_I, true);
+  }
+
+  /**
+   * Sort packed {@code int} ranges by unsigned lower bound, and then by
+   * unsigned upper bound, in parallel.
+   *
+   * @param packed The packed ranges
+   */
+
+  public static void parallelSortPackedUnsignedI(
+    final long[] packed)
+  {
+    sortPacked(packed, 0L, true);
+  }
+
+  /**
+   * @param keys The keys
+   *
+   * @return The indices of {@code keys} in ascending order of key, with
+   * equal keys in index order
+   */
+
+  static int[] orderL(
+    final long[] keys)
+  {
+    return orderL(keys, keys.length);
+  }
+
+  /**
+   * @param keys The keys
+   * @param size The number of leading keys to order
+   *
+   * @return The indices {@code [0, size)} of {@code keys} in ascending order
+   * of key, with equal keys in index order
+   */
+
+  static int[] orderL(
+    final long[] keys,
+    final int size)
+  {
+    int[] order = new int[size];
+    int[] scratch = new int[size];
+    for (int index = 0; index < size; ++index) {
+      order[index] = index;
+    }
+
+    for (int width = 1; width < size; width <<= 1) {
+      for (int start = 0; start < size; start += width << 1) {
+        final int middle = Math.min(start + width, size);
+        final int end = Math.min(start + (width << 1), size);
+
+        int i = start;
+        int j = middle;
+        for (int k = start; k < end; ++k) {
+          if (j >= end || (i < middle && keys[order[i]] <= keys[order[j]])) {
+            scratch[k] = order[i];
+            ++i;
+          } else {
+            scratch[k] = order[j];
+            ++j;
+          }
+        }
+      }
+
+      final int[] swap = order;
+      order = scratch;
+      scratch = swap;
+    }
+    return order;
+  }
+
+  /**
+   * Sort the first {@code count} ranges held in the parallel columns
+   * {@code lowers} and {@code uppers} by signed lower bound, and then by
+   * signed upper bound. The sort is a stable radix sort that allocates two
+   * scratch columns of {@code count} elements.
+   *
+   * @param lowers The lower bounds
+   * @param uppers The upper bounds
+   * @param count  The number of ranges
+   */
+
+  static void radixSortColumnsL(
+    final long[] lowers,
+    final long[] uppers,
+    final int count)
+  {
+    if (count < 2) {
+      return;
+    }
+
+    final var counts = new int[RADIX];
+    long[] srcLowers = lowers;
+    long[] srcUppers = uppers;
+    long[] dstLowers = new long[count];
+    long[] dstUppers = new long[count];
+
+    for (int pass = 0; pass < PASSES_L * 2; ++pass) {
+      final long[] keys = pass < PASSES_L ? srcUppers : srcLowers;
+      final int shift = (pass % PASSES_L) * RADIX_BITS;
+
+      Arrays.fill(counts, 0);
+      for (int r = 0; r < count; ++r) {
+        ++counts[digit(keys[r] ^ Long.MIN_VALUE, shift)];
+      }
+      if (!offsets(counts, count)) {
+        continue;
+      }
+
+      for (int r = 0; r < count; ++r) {
+        final int d = digit(keys[r] ^ Long.MIN_VALUE, shift);
+        final int target = counts[d];
+        counts[d] = target + 1;
+        dstLowers[target] = srcLowers[r];
+        dstUppers[target] = srcUppers[r];
+      }
+
+      final long[] swapLowers = srcLowers;
+      final long[] swapUppers = srcUppers;
+      srcLowers = dstLowers;
+      srcUppers = dstUppers;
+      dstLowers = swapLowers;
+      dstUppers = swapUppers;
+    }
+
+    if (srcLowers != lowers) {
+      System.arraycopy(srcLowers, 0, lowers, 0, count);
+      System.arraycopy(srcUppers, 0, uppers, 0, count);
+    }
+  }
+
+  /**
+   * Sort the first {@code count} ranges held in the parallel columns
+   * {@code lowers} and {@code uppers} by signed lower bound, and then by
+   * signed upper bound. The sort is a stable radix sort that allocates two
+   * scratch columns of {@code count} elements.
+   *
+   * @param lowers The lower bounds
+   * @param uppers The upper bounds
+   * @param count  The number of ranges
+   */
+
+  static void radixSortColumnsI(
+    final int[] lowers,
+    final int[] uppers,
+    final int count)
+  {
+    if (count < 2) {
+      return;
+    }
+
+    final var counts = new int[RADIX];
+    int[] srcLowers = lowers;
+    int[] srcUppers = uppers;
+    int[] dstLowers = new int[count];
+    int[] dstUppers = new int[count];
+
+    for (int pass = 0; pass < PASSES_I * 2; ++pass) {
+      final int[] keys = pass < PASSES_I ? srcUppers : srcLowers;
+      final int shift = (pass % PASSES_I) * RADIX_BITS;
+
+      Arrays.fill(counts, 0);
+      for (int r = 0; r < count; ++r) {
+        ++counts[digit(keys[r] ^ Integer.MIN_VALUE, shift)];
+      }
+      if (!offsets(counts, count)) {
+        continue;
+      }
+
+      for (int r = 0; r < count; ++r) {
+        final int d = digit(keys[r] ^ Integer.MIN_VALUE, shift);
+        final int target = counts[d];
+        counts[d] = target + 1;
+        dstLowers[target] = srcLowers[r];
+        dstUppers[target] = srcUppers[r];
+      }
+
+      final int[] swapLowers = srcLowers;
+      final int[] swapUppers = srcUppers;
+      srcLowers = dstLowers;
+      srcUppers = dstUppers;
+      dstLowers = swapLowers;
+      dstUppers = swapUppers;
+    }
+
+    if (srcLowers != lowers) {
+      System.arraycopy(srcLowers, 0, lowers, 0, count);
+      System.arraycopy(srcUppers, 0, uppers, 0, count);
+    }
+  }
+
+  /**
+   * Sort the first {@code count} ranges held in the parallel columns
+   * {@code lowers} and {@code uppers} by lower bound, and then by upper
+   * bound, in the order of {@link Double#compare(double, double)}. The sort
+   * is a stable radix sort that allocates two scratch columns of
+   * {@code count} elements.
+   *
+   * @param lowers The lower bounds
+   * @param uppers The upper bounds
+   * @param count  The number of ranges
+   */
+
+  static void radixSortColumnsD(
+    final double[] lowers,
+    final double[] uppers,
+    final int count)
+  {
+    if (count < 2) {
+      return;
+    }
+
+    final var counts = new int[RADIX];
+    double[] srcLowers = lowers;
+    double[] srcUppers = uppers;
+    double[] dstLowers = new double[count];
+    double[] dstUppers = new double[count];
+
+    for (int pass = 0; pass < PASSES_L * 2; ++pass) {
+      final double[] keys = pass < PASSES_L ? srcUppers : srcLowers;
+      final int shift = (pass % PASSES_L) * RADIX_BITS;
+
+      Arrays.fill(counts, 0);
+      for (int r = 0; r < count; ++r) {
+        ++counts[digit(orderedBits(keys[r]), shift)];
+      }
+      if (!offsets(counts, count)) {
+        continue;
+      }
+
+      for (int r = 0; r < count; ++r) {
+        final int d = digit(orderedBits(keys[r]), shift);
+        final int target = counts[d];
+        counts[d] = target + 1;
+        dstLowers[target] = srcLowers[r];
+        dstUppers[target] = srcUppers[r];
+      }
+
+      final double[] swapLowers = srcLowers;
+      final double[] swapUppers = srcUppers;
+      srcLowers = dstLowers;
+      srcUppers = dstUppers;
+      dstLowers = swapLowers;
+      dstUppers = swapUppers;
+    }
+
+    if (srcLowers != lowers) {
+      System.arraycopy(srcLowers, 0, lowers, 0, count);
+      System.arraycopy(srcUppers, 0, uppers, 0, count);
+    }
+  }
+
+  /**
+   * Map a {@code double} to a {@code long} whose unsigned order is the order
+   * of {@link Double#compare(double, double)}: negative values have all of
+   * their bits flipped, and other values have their sign bit set.
+   */
+
+  private static long orderedBits(
+    final double x)
+  {
+    final long bits = Double.doubleToLongBits(x);
+    return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+  }
+
+  /**
+   * Turn the digit counts of a pass over {@code count} records into the
+   * starting offset of each digit.
+   *
+   * @return {@code false} if every record has the same digit, in which case
+   * the pass can be skipped
+   */
+
+  private static boolean offsets(
+    final int[] counts,
+    final int count)
+  {
+    int offset = 0;
+    for (int d = 0; d < RADIX; ++d) {
+      final int n = counts[d];
+      if (n == count) {
+        return false;
+      }
+      counts[d] = offset;
+      offset += n;
+    }
+    return true;
+  }
+
+  private static void sortInterleaved(
+    final long[] bounds,
+    final long flip,
+    final boolean parallel)
+  {
+    Objects.requireNonNull(bounds, "Bounds");
+
+    if ((bounds.length & 1) != 0) {
+      throw new IllegalArgumentException(
+        "Interleaved bounds must have an even length (received %d)"
+          .formatted(Integer.valueOf(bounds.length)));
+    }
+    sort(bounds, 2, flip, parallel);
+  }
+
+  private static void sortPacked(
+    final long[] packed,
+    final long flip,
+    final boolean parallel)
+  {
+    Objects.requireNonNull(packed, "Packed");
+    sort(packed, 1, flip, parallel);
+  }
+
+  /**
+   * Sort records of {@code width} values. Flipping the given bits of every
+   * value turns the requested ordering into unsigned ordering, which is the
+   * ordering that the radix sort and the merge produce.
+   */
+
+  private static void sort(
+    final long[] data,
+    final int width,
+    final long flip,
+    final boolean parallel)
+  {
+    final int records = data.length / width;
+    if (records < 2) {
+      return;
+    }
+
+    flip(data, flip);
+    final var scratch = new long[data.length];
+    if (parallel && records > PARALLEL_THRESHOLD) {
+      new SortTask(data, scratch, width, 0, records).invoke();
+    } else {
+      radixSort(data, scratch, width, 0, records);
+    }
+    flip(data, flip);
+  }
+
+  private static void flip(
+    final long[] data,
+    final long flip)
+  {
+    if (flip != 0L) {
+      for (int index = 0; index < data.length; ++index) {
+        data[index] ^= flip;
+      }
+    }
+  }
+
+  /**
+   * Radix sort the records in {@code [from, to)} of {@code data} into
+   * unsigned order, using the same region of {@code scratch}.
+   */
+
+  private static void radixSort(
+    final long[] data,
+    final long[] scratch,
+    final int width,
+    final int from,
+    final int to)
+  {
+    final var counts = new int[RADIX];
+    final int records = to - from;
+
+    long[] src = data;
+    long[] dst = scratch;
+    for (int key = width - 1; key >= 0; --key) {
+      for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+        Arrays.fill(counts, 0);
+        for (int r = from; r < to; ++r) {
+          ++counts[digit(src[r * width + key], shift)];
+        }
+        if (counts[digit(src[from * width + key], shift)] == records) {
+          continue;
+        }
+
+        int offset = from;
+        for (int d = 0; d < RADIX; ++d) {
+          final int count = counts[d];
+          counts[d] = offset;
+          offset += count;
+        }
+
+        for (int r = from; r < to; ++r) {
+          final int d = digit(src[r * width + key], shift);
+          final int target = counts[d];
+          counts[d] = target + 1;
+          copyRecord(src, r, dst, target, width);
+        }
+
+        final long[] swap = src;
+        src = dst;
+        dst = swap;
+      }
+    }
+
+    if (src != data) {
+      System.arraycopy(src, from * width, data, from * width, records * width);
+    }
+  }
+
+  private static int digit(
+    final long value,
+    final int shift)
+  {
+    return (int) (value >>> shift) & (RADIX - 1);
+  }
+
+  private static int digit(
+    final int value,
+    final int shift)
+  {
+    return (value >>> shift) & (RADIX - 1);
+  }
+
+  private static void copyRecord(
+    final long[] src,
+    final int i,
+    final long[] dst,
+    final int j,
+    final int width)
+  {
+    if (width == 1) {
+      dst[j] = src[i];
+    } else {
+      dst[j * 2] = src[i * 2];
+      dst[j * 2 + 1] = src[i * 2 + 1];
+    }
+  }
+
+  private static int compareRecords(
+    final long[] a,
+    final int i,
+    final long[] b,
+    final int j,
+    final int width)
+  {
+    for (int key = 0; key < width; ++key) {
+      final int c = Long.compareUnsigned(a[i * width + key], b[j * width + key]);
+      if (c != 0) {
+        return c;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Merge the sorted records {@code [from, middle)} and {@code [middle, to)}
+   * of {@code data}, using the same region of {@code scratch}.
+   */
+
+  private static void merge(
+    final long[] data,
+    final long[] scratch,
+    final int width,
+    final int from,
+    final int middle,
+    final int to)
+  {
+    if (compareRecords(data, middle - 1, data, middle, width) <= 0) {
+      return;
+    }
+
+    int i = from;
+    int j = middle;
+    for (int k = from; k < to; ++k) {
+      if (j >= to || (i < middle && compareRecords(data, i, data, j, width) <= 0)) {
+        copyRecord(data, i, scratch, k, width);
+        ++i;
+      } else {
+        copyRecord(data, j, scratch, k, width);
+        ++j;
+      }
+    }
+    System.arraycopy(
+      scratch, from * width, data, from * width, (to - from) * width);
+  }
+
+  private static final class SortTask extends RecursiveAction
+  {
+    private final long[] data;
+    private final long[] scratch;
+    private final int width;
+    private final int from;
+    private final int to;
+
+    SortTask(
+      final long[] inData,
+      final long[] inScratch,
+      final int inWidth,
+      final int inFrom,
+      final int inTo)
+    {
+      this.data = inData;
+      this.scratch = inScratch;
+      this.width = inWidth;
+      this.from = inFrom;
+      this.to = inTo;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (this.to - this.from <= PARALLEL_THRESHOLD) {
+        radixSort(this.data, this.scratch, this.width, this.from, this.to);
+        return;
+      }
+
+      final int middle = (this.from + this.to) >>> 1;
+      invokeAll(
+        new SortTask(this.data, this.scratch, this.width, this.from, middle),
+        new SortTask(this.data, this.scratch, this.width, middle, this.to));
+      merge(this.data, this.scratch, this.width, this.from, middle, this.to);
+    }
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * <p> A spliterator over the values of an inclusive {@code int} range. </p>
+ *
+ * <p> The bounds are held as {@code long} values, so the number of remaining
+ * values is always exact, even for the full range
+ * {@code [Integer.MIN_VALUE, Integer.MAX_VALUE]}. </p>
+ */
+
+final class RangeSpliteratorI implements Spliterator.OfInt
+{
+  private static final int CHARACTERISTICS =
+    Spliterator.ORDERED
+      | Spliterator.DISTINCT
+      | Spliterator.SORTED
+      | Spliterator.NONNULL
+      | Spliterator.IMMUTABLE
+      | Spliterator.SIZED
+      | Spliterator.SUBSIZED;
+
+  private long from;
+  private final long to;
+
+  private RangeSpliteratorI(
+    final long inFrom,
+    final long inTo)
+  {
+    this.from = inFrom;
+    this.to = inTo;
+  }
+
+  /**
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @return A spliterator over {@code [lower, upper]}
+   */
+
+  static RangeSpliteratorI ofInclusive(
+    final int lower,
+    final int upper)
+  {
+    return new RangeSpliteratorI(lower, upper);
+  }
+
+  /**
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @return A spliterator over {@code [lower, upper)}
+   */
+
+  static RangeSpliteratorI ofHalfOpen(
+    final int lower,
+    final int upper)
+  {
+    return new RangeSpliteratorI(lower, (long) upper - 1L);
+  }
+
+  @Override
+  public boolean tryAdvance(
+    final IntConsumer action)
+  {
+    Objects.requireNonNull(action, "action");
+
+    if (this.from > this.to) {
+      return false;
+    }
+    final long x = this.from;
+    this.from = x + 1L;
+    action.accept((int) x);
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(
+    final IntConsumer action)
+  {
+    Objects.requireNonNull(action, "action");
+
+    final long end = this.to;
+    long x = this.from;
+    this.from = end + 1L;
+    while (x <= end) {
+      action.accept((int) x);
+      ++x;
+    }
+  }
+
+  @Override
+  public Spliterator.OfInt trySplit()
+  {
+    final long count = this.estimateSize();
+    if (count < 2L) {
+      return null;
+    }
+
+    final long start = this.from;
+    this.from = start + (count >>> 1);
+    return new RangeSpliteratorI(start, this.from - 1L);
+  }
+
+  @Override
+  public long estimateSize()
+  {
+    return Math.max(0L, (this.to - this.from) + 1L);
+  }
+
+  @Override
+  public int characteristics()
+  {
+    return CHARACTERISTICS;
+  }
+
+  @Override
+  public Comparator<? super Integer> getComparator()
+  {
+    return null;
+  }
+}
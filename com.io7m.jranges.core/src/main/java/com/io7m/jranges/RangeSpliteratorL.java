@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * <p> A spliterator over the values of an inclusive {@code long} range. </p>
+ *
+ * <p> The number of remaining values is tracked as the unsigned quantity
+ * {@code (to - from) + 1}, which wraps to zero for the full range
+ * {@code [Long.MIN_VALUE, Long.MAX_VALUE]}. A spliterator with more than
+ * {@link Long#MAX_VALUE} remaining values cannot report its size exactly, and
+ * so does not report {@link Spliterator#SIZED} until it has been split
+ * sufficiently. </p>
+ */
+
+final class RangeSpliteratorL implements Spliterator.OfLong
+{
+  private static final int CHARACTERISTICS_UNSIZED =
+    Spliterator.ORDERED
+      | Spliterator.DISTINCT
+      | Spliterator.SORTED
+      | Spliterator.NONNULL
+      | Spliterator.IMMUTABLE;
+
+  private static final int CHARACTERISTICS_SIZED =
+    CHARACTERISTICS_UNSIZED | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+  private long from;
+  private final long to;
+  private boolean done;
+
+  private RangeSpliteratorL(
+    final long inFrom,
+    final long inTo,
+    final boolean inDone)
+  {
+    this.from = inFrom;
+    this.to = inTo;
+    this.done = inDone;
+  }
+
+  /**
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @return A spliterator over {@code [lower, upper]}
+   */
+
+  static RangeSpliteratorL ofInclusive(
+    final long lower,
+    final long upper)
+  {
+    return new RangeSpliteratorL(lower, upper, false);
+  }
+
+  /**
+   * @param lower The lower bound
+   * @param upper The upper bound
+   *
+   * @return A spliterator over {@code [lower, upper)}
+   */
+
+  static RangeSpliteratorL ofHalfOpen(
+    final long lower,
+    final long upper)
+  {
+    return new RangeSpliteratorL(lower, upper - 1L, lower == upper);
+  }
+
+  /**
+   * @return The unsigned number of remaining values, where {@code 0} denotes
+   * {@code 2^64} unless the spliterator is exhausted
+   */
+
+  private long remaining()
+  {
+    return (this.to - this.from) + 1L;
+  }
+
+  @Override
+  public boolean tryAdvance(
+    final LongConsumer action)
+  {
+    Objects.requireNonNull(action, "action");
+
+    if (this.done) {
+      return false;
+    }
+
+    final long x = this.from;
+    if (x == this.to) {
+      this.done = true;
+    } else {
+      this.from = x + 1L;
+    }
+    action.accept(x);
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(
+    final LongConsumer action)
+  {
+    Objects.requireNonNull(action, "action");
+
+    if (this.done) {
+      return;
+    }
+
+    this.done = true;
+    final long end = this.to;
+    long x = this.from;
+    this.from = end;
+    while (x != end) {
+      action.accept(x);
+      ++x;
+    }
+    action.accept(end);
+  }
+
+  @Override
+  public Spliterator.OfLong trySplit()
+  {
+    if (this.done) {
+      return null;
+    }
+
+    final long count = this.remaining();
+    if (count == 1L) {
+      return null;
+    }
+
+    final long half = count == 0L ? Long.MIN_VALUE : count >>> 1;
+    final long start = this.from;
+    this.from = start + half;
+    return new RangeSpliteratorL(start, this.from - 1L, false);
+  }
+
+  @Override
+  public long estimateSize()
+  {
+    if (this.done) {
+      return 0L;
+    }
+    final long count = this.remaining();
+    return count > 0L ? count : Long.MAX_VALUE;
+  }
+
+  @Override
+  public int characteristics()
+  {
+    if (this.done || this.remaining() > 0L) {
+      return CHARACTERISTICS_SIZED;
+    }
+    return CHARACTERISTICS_UNSIZED;
+  }
+
+  @Override
+  public Comparator<? super Long> getComparator()
+  {
+    return null;
+  }
+}
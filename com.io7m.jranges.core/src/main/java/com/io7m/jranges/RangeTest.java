@@ -0,0 +1,737 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jranges;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * <p> Functions for testing range constraints without raising exceptions.
+ * </p> <p> The functions are the non-throwing counterparts of the functions
+ * in {@link RangeCheck}, and are intended for code that must branch on the
+ * result of a check (such as parsers that reject malformed input) rather than
+ * treat a failed check as a program bug. Inclusion tests are defined in terms
+ * of the {@code includesValue} methods of the range types, and so cannot
+ * disagree with them. </p>
+ *
+ * @see RangeCheck
+ * @see RangeHalfOpenTest
+ * @since 6.1.0
+ */
+
+public final class RangeTest
+{
+  /**
+   * The value is less than the lower bound of the range.
+   */
+
+  public static final int BELOW = -1;
+
+  /**
+   * The value is included in the range.
+   */
+
+  public static final int INSIDE = 0;
+
+  /**
+   * The value is greater than the upper bound of the range.
+   */
+
+  public static final int ABOVE = 1;
+
+  private RangeTest()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * <p> Determine if {@code x} is greater than {@code in_lower}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkGreaterLong}. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound
+   *
+   * @return {@code true} iff {@code x &gt; in_lower}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isGreaterLong(
+    final long x,
+    final long in_lower)
+  {
+    return x > in_lower;
+  }
+
+  /**
+   * <p> Determine if {@code x} is greater than {@code in_lower}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkGreaterInteger}. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound
+   *
+   * @return {@code true} iff {@code x &gt; in_lower}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isGreaterInteger(
+    final int x,
+    final int in_lower)
+  {
+    return x > in_lower;
+  }
+
+  /**
+   * <p> Determine if {@code x} is greater than {@code in_lower}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkGreaterDouble}. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound
+   *
+   * @return {@code true} iff {@code x &gt; in_lower}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isGreaterDouble(
+    final double x,
+    final double in_lower)
+  {
+    return x > in_lower;
+  }
+
+  /**
+   * <p> Determine if {@code x} is greater than {@code in_lower}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkGreaterBig}. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound
+   *
+   * @return {@code true} iff {@code x &gt; in_lower}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isGreaterBig(
+    final BigInteger x,
+    final BigInteger in_lower)
+  {
+    Objects.requireNonNull(x, "Value");
+    Objects.requireNonNull(in_lower, "Lower");
+    return x.compareTo(in_lower) > 0;
+  }
+
+  /**
+   * <p> Determine if {@code x} is greater than or equal to {@code in_lower}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkGreaterEqualLong}. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound
+   *
+   * @return {@code true} iff {@code x &gt;= in_lower}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isGreaterEqualLong(
+    final long x,
+    final long in_lower)
+  {
+    return x >= in_lower;
+  }
+
+  /**
+   * <p> Determine if {@code x} is greater than or equal to {@code in_lower}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkGreaterEqualInteger}. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound
+   *
+   * @return {@code true} iff {@code x &gt;= in_lower}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isGreaterEqualInteger(
+    final int x,
+    final int in_lower)
+  {
+    return x >= in_lower;
+  }
+
+  /**
+   * <p> Determine if {@code x} is greater than or equal to {@code in_lower}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkGreaterEqualDouble}. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound
+   *
+   * @return {@code true} iff {@code x &gt;= in_lower}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isGreaterEqualDouble(
+    final double x,
+    final double in_lower)
+  {
+    return x >= in_lower;
+  }
+
+  /**
+   * <p> Determine if {@code x} is greater than or equal to {@code in_lower}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkGreaterEqualBig}. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound
+   *
+   * @return {@code true} iff {@code x &gt;= in_lower}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isGreaterEqualBig(
+    final BigInteger x,
+    final BigInteger in_lower)
+  {
+    Objects.requireNonNull(x, "Value");
+    Objects.requireNonNull(in_lower, "Lower");
+    return x.compareTo(in_lower) >= 0;
+  }
+
+  /**
+   * <p> Determine if {@code x} is less than {@code in_upper}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkLessLong}. </p>
+   *
+   * @param x        The tested value
+   * @param in_upper The upper bound
+   *
+   * @return {@code true} iff {@code x &lt; in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isLessLong(
+    final long x,
+    final long in_upper)
+  {
+    return x < in_upper;
+  }
+
+  /**
+   * <p> Determine if {@code x} is less than {@code in_upper}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkLessInteger}. </p>
+   *
+   * @param x        The tested value
+   * @param in_upper The upper bound
+   *
+   * @return {@code true} iff {@code x &lt; in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isLessInteger(
+    final int x,
+    final int in_upper)
+  {
+    return x < in_upper;
+  }
+
+  /**
+   * <p> Determine if {@code x} is less than {@code in_upper}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkLessDouble}. </p>
+   *
+   * @param x        The tested value
+   * @param in_upper The upper bound
+   *
+   * @return {@code true} iff {@code x &lt; in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isLessDouble(
+    final double x,
+    final double in_upper)
+  {
+    return x < in_upper;
+  }
+
+  /**
+   * <p> Determine if {@code x} is less than {@code in_upper}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkLessBig}. </p>
+   *
+   * @param x        The tested value
+   * @param in_upper The upper bound
+   *
+   * @return {@code true} iff {@code x &lt; in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isLessBig(
+    final BigInteger x,
+    final BigInteger in_upper)
+  {
+    Objects.requireNonNull(x, "Value");
+    Objects.requireNonNull(in_upper, "Upper");
+    return x.compareTo(in_upper) < 0;
+  }
+
+  /**
+   * <p> Determine if {@code x} is less than or equal to {@code in_upper}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkLessEqualLong}. </p>
+   *
+   * @param x        The tested value
+   * @param in_upper The upper bound
+   *
+   * @return {@code true} iff {@code x &lt;= in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isLessEqualLong(
+    final long x,
+    final long in_upper)
+  {
+    return x <= in_upper;
+  }
+
+  /**
+   * <p> Determine if {@code x} is less than or equal to {@code in_upper}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkLessEqualInteger}. </p>
+   *
+   * @param x        The tested value
+   * @param in_upper The upper bound
+   *
+   * @return {@code true} iff {@code x &lt;= in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isLessEqualInteger(
+    final int x,
+    final int in_upper)
+  {
+    return x <= in_upper;
+  }
+
+  /**
+   * <p> Determine if {@code x} is less than or equal to {@code in_upper}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkLessEqualDouble}. </p>
+   *
+   * @param x        The tested value
+   * @param in_upper The upper bound
+   *
+   * @return {@code true} iff {@code x &lt;= in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isLessEqualDouble(
+    final double x,
+    final double in_upper)
+  {
+    return x <= in_upper;
+  }
+
+  /**
+   * <p> Determine if {@code x} is less than or equal to {@code in_upper}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkLessEqualBig}. </p>
+   *
+   * @param x        The tested value
+   * @param in_upper The upper bound
+   *
+   * @return {@code true} iff {@code x &lt;= in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isLessEqualBig(
+    final BigInteger x,
+    final BigInteger in_upper)
+  {
+    Objects.requireNonNull(x, "Value");
+    Objects.requireNonNull(in_upper, "Upper");
+    return x.compareTo(in_upper) <= 0;
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the inclusive range
+   * {@code range}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkIncludedInLong}. </p>
+   *
+   * @param x     The tested value
+   * @param range The inclusive range
+   *
+   * @return {@code range.includesValue(x)}
+   *
+   * @see RangeInclusiveL#includesValue(long)
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInLong(
+    final long x,
+    final RangeInclusiveL range)
+  {
+    return range.includesValue(x);
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the inclusive range
+   * {@code range}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkIncludedInInteger}. </p>
+   *
+   * @param x     The tested value
+   * @param range The inclusive range
+   *
+   * @return {@code range.includesValue(x)}
+   *
+   * @see RangeInclusiveI#includesValue(int)
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInInteger(
+    final int x,
+    final RangeInclusiveI range)
+  {
+    return range.includesValue(x);
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the inclusive range
+   * {@code range}. </p>
+   *
+   * @param x     The tested value
+   * @param range The inclusive range
+   *
+   * @return {@code range.includesValue(x)}
+   *
+   * @see RangeInclusiveD#includesValue(double)
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInDouble(
+    final double x,
+    final RangeInclusiveD range)
+  {
+    return range.includesValue(x);
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the inclusive range
+   * {@code range}. This is the
+   * non-throwing equivalent of {@link RangeCheck#checkIncludedInBig}. </p>
+   *
+   * @param x     The tested value
+   * @param range The inclusive range
+   *
+   * @return {@code range.includesValue(x)}
+   *
+   * @see RangeInclusiveB#includesValue(BigInteger)
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInBig(
+    final BigInteger x,
+    final RangeInclusiveB range)
+  {
+    return range.includesValue(x);
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the inclusive range
+   * {@code [in_lower, in_upper]}, without requiring a range object.
+   * This is the non-throwing equivalent of
+   * {@link RangeCheck#checkIncludedInLong(long, String, long, long, String)}.
+   * If {@code in_lower &gt; in_upper}, the range is empty and no value is included. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound (inclusive)
+   * @param in_upper The upper bound (inclusive)
+   *
+   * @return {@code x &gt;= in_lower &amp;&amp; x &lt;= in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInLong(
+    final long x,
+    final long in_lower,
+    final long in_upper)
+  {
+    return (x >= in_lower) & (x <= in_upper);
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the inclusive range
+   * {@code [in_lower, in_upper]}, without requiring a range object.
+   * This is the non-throwing equivalent of
+   * {@link RangeCheck#checkIncludedInInteger(int, String, int, int, String)}.
+   * If {@code in_lower &gt; in_upper}, the range is empty and no value is included. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound (inclusive)
+   * @param in_upper The upper bound (inclusive)
+   *
+   * @return {@code x &gt;= in_lower &amp;&amp; x &lt;= in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInInteger(
+    final int x,
+    final int in_lower,
+    final int in_upper)
+  {
+    return (x >= in_lower) & (x <= in_upper);
+  }
+
+  /**
+   * <p> Determine if {@code x} is included in the inclusive range
+   * {@code [in_lower, in_upper]}, without requiring a range object.
+   * Values that are {@code NaN} are not included in any range. If
+   * {@code in_lower &gt; in_upper}, the range is empty and no value is
+   * included. </p>
+   *
+   * @param x        The tested value
+   * @param in_lower The lower bound (inclusive)
+   * @param in_upper The upper bound (inclusive)
+   *
+   * @return {@code x &gt;= in_lower &amp;&amp; x &lt;= in_upper}
+   *
+   * @since 6.1.0
+   */
+
+  public static boolean isIncludedInDouble(
+    final double x,
+    final double in_lower,
+    final double in_upper)
+  {
+    return (x >= in_lower) & (x <= in_upper);
+  }
+
+  /**
+   * <p> Classify {@code x} with respect to the inclusive range {@code range}.
+   * A value is {@link RangeTest#INSIDE} iff {@code range.includesValue(x)},
+   * {@link RangeTest#BELOW} if it is less than the lower bound (and therefore
+   * violates the lower bound), and {@link RangeTest#ABOVE} otherwise (and
+   * therefore violates the upper bound). </p>
+   *
+   * @param x     The tested value
+   * @param range The inclusive range
+   *
+   * @return One of {@link RangeTest#BELOW}, {@link RangeTest#INSIDE}, or
+   * {@link RangeTest#ABOVE}
+   *
+   * @since 6.1.0
+   */
+
+  public static int classifyLong(
+    final long x,
+    final RangeInclusiveL range)
+  {
+    if (range.includesValue(x)) {
+      return INSIDE;
+    }
+    if (x < range.lower()) {
+      return BELOW;
+    }
+    return ABOVE;
+  }
+
+  /**
+   * <p> Classify {@code x} with respect to the inclusive range {@code range}.
+   * A value is {@link RangeTest#INSIDE} iff {@code range.includesValue(x)},
+   * {@link RangeTest#BELOW} if it is less than the lower bound (and therefore
+   * violates the lower bound), and {@link RangeTest#ABOVE} otherwise (and
+   * therefore violates the upper bound). </p>
+   *
+   * @param x     The tested value
+   * @param range The inclusive range
+   *
+   * @return One of {@link RangeTest#BELOW}, {@link RangeTest#INSIDE}, or
+   * {@link RangeTest#ABOVE}
+   *
+   * @since 6.1.0
+   */
+
+  public static int classifyInteger(
+    final int x,
+    final RangeInclusiveI range)
+  {
+    if (range.includesValue(x)) {
+      return INSIDE;
+    }
+    if (x < range.lower()) {
+      return BELOW;
+    }
+    return ABOVE;
+  }
+
+  /**
+   * <p> Classify {@code x} with respect to the inclusive range {@code range}.
+   * A value is {@link RangeTest#INSIDE} iff {@code range.includesValue(x)},
+   * {@link RangeTest#BELOW} if it is less than the lower bound (and therefore
+   * violates the lower bound), and {@link RangeTest#ABOVE} otherwise (and
+   * therefore violates the upper bound).
+   * Values that are {@code NaN} are not included in any range, and are
+   * classified as {@link RangeTest#ABOVE}. </p>
+   *
+   * @param x     The tested value
+   * @param range The inclusive range
+   *
+   * @return One of {@link RangeTest#BELOW}, {@link RangeTest#INSIDE}, or
+   * {@link RangeTest#ABOVE}
+   *
+   * @since 6.1.0
+   */
+
+  public static int classifyDouble(
+    final double x,
+    final RangeInclusiveD range)
+  {
+    if (range.includesValue(x)) {
+      return INSIDE;
+    }
+    if (x < range.lower()) {
+      return BELOW;
+    }
+    return ABOVE;
+  }
+
+  /**
+   * <p> Classify {@code x} with respect to the inclusive range {@code range}.
+   * A value is {@link RangeTest#INSIDE} iff {@code range.includesValue(x)},
+   * {@link RangeTest#BELOW} if it is less than the lower bound (and therefore
+   * violates the lower bound), and {@link RangeTest#ABOVE} otherwise (and
+   * therefore violates the upper bound). </p>
+   *
+   * @param x     The tested value
+   * @param range The inclusive range
+   *
+   * @return One of {@link RangeTest#BELOW}, {@link RangeTest#INSIDE}, or
+   * {@link RangeTest#ABOVE}
+   *
+   * @since 6.1.0
+   */
+
+  public static int classifyBig(
+    final BigInteger x,
+    final RangeInclusiveB range)
+  {
+    if (range.includesValue(x)) {
+      return INSIDE;
+    }
+    if (x.compareTo(range.lower()) < 0) {
+      return BELOW;
+    }
+    return ABOVE;
+  }
+
+  /**
+   * <p> Find the first element of {@code values} in the index range
+   * {@code [from, to)} that is not included in the inclusive range
+   * {@code range}. This is the non-throwing equivalent of
+   * {@link RangeCheck#checkAllIncludedInLong}. </p>
+   *
+   * @param values The tested values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param range  The inclusive range
+   *
+   * @return The index of the first element {@code i} such that
+   * {@code !range.includesValue(values[i])}, or {@code -1} if all of
+   * the elements are included
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}
+   * @since 6.1.0
+   */
+
+  public static int findFirstNotIncludedInLong(
+    final long[] values,
+    final int from,
+    final int to,
+    final RangeInclusiveL range)
+  {
+    return RangeScan.firstNotIncludedInInclusiveLong(
+      values, from, to, range.lower(), range.upper());
+  }
+
+  /**
+   * <p> Find the first element of {@code values} in the index range
+   * {@code [from, to)} that is not included in the inclusive range
+   * {@code range}. This is the non-throwing equivalent of
+   * {@link RangeCheck#checkAllIncludedInInteger}. </p>
+   *
+   * @param values The tested values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param range  The inclusive range
+   *
+   * @return The index of the first element {@code i} such that
+   * {@code !range.includesValue(values[i])}, or {@code -1} if all of
+   * the elements are included
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}
+   * @since 6.1.0
+   */
+
+  public static int findFirstNotIncludedInInteger(
+    final int[] values,
+    final int from,
+    final int to,
+    final RangeInclusiveI range)
+  {
+    return RangeScan.firstNotIncludedInInclusiveInteger(
+      values, from, to, range.lower(), range.upper());
+  }
+
+  /**
+   * <p> Find the first element of {@code values} in the index range
+   * {@code [from, to)} that is not included in the inclusive range
+   * {@code range}. This is the non-throwing equivalent of
+   * {@link RangeCheck#checkAllIncludedInDouble}. </p>
+   *
+   * @param values The tested values
+   * @param from   The starting index (inclusive)
+   * @param to     The ending index (exclusive)
+   * @param range  The inclusive range
+   *
+   * @return The index of the first element {@code i} such that
+   * {@code !range.includesValue(values[i])}, or {@code -1} if all of
+   * the elements are included
+   *
+   * @throws IndexOutOfBoundsException If {@code [from, to)} is not a valid
+   *                                   index range of {@code values}
+   * @since 6.1.0
+   */
+
+  public static int findFirstNotIncludedInDouble(
+    final double[] values,
+    final int from,
+    final int to,
+    final RangeInclusiveD range)
+  {
+    return RangeScan.firstNotIncludedInInclusiveDouble(
+      values, from, to, range.lower(), range.upper());
+  }
+}
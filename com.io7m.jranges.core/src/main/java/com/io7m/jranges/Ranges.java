@@ -21,6 +21,8 @@ import com.io7m.junreachable.UnreachableCodeException;
 /**
  * Predefined ranges.
  *
+ * @see RangeInterner
+ *
  * @since 2.0.0
  */
 
@@ -76,6 +78,46 @@ public final class Ranges
 
   public static final RangeInclusiveI POSITIVE_INTEGER;
 
+  /**
+   * The inclusive range of unsigned 8-bit integers, {@code [0, 255]}.
+   *
+   * @since 6.1.0
+   */
+
+  public static final RangeInclusiveI UNSIGNED_BYTE_INTEGER;
+
+  /**
+   * The inclusive range of unsigned 16-bit integers, {@code [0, 65535]}.
+   *
+   * @since 6.1.0
+   */
+
+  public static final RangeInclusiveI UNSIGNED_SHORT_INTEGER;
+
+  /**
+   * The inclusive range of unsigned 8-bit integers, {@code [0, 255]}.
+   *
+   * @since 6.1.0
+   */
+
+  public static final RangeInclusiveL UNSIGNED_BYTE_LONG;
+
+  /**
+   * The inclusive range of unsigned 16-bit integers, {@code [0, 65535]}.
+   *
+   * @since 6.1.0
+   */
+
+  public static final RangeInclusiveL UNSIGNED_SHORT_LONG;
+
+  /**
+   * The inclusive range of unsigned 32-bit integers, {@code [0, 4294967295]}.
+   *
+   * @since 6.1.0
+   */
+
+  public static final RangeInclusiveL UNSIGNED_INTEGER_LONG;
+
   static {
     POSITIVE_LONG = RangeInclusiveL.of(1L, Long.MAX_VALUE);
     NATURAL_LONG = RangeInclusiveL.of(0L, Long.MAX_VALUE);
@@ -83,6 +125,11 @@ public final class Ranges
     NATURAL_INTEGER = RangeInclusiveI.of(0, Integer.MAX_VALUE);
     NATURAL_DOUBLE = RangeInclusiveD.of(0.0, Double.MAX_VALUE);
     POSITIVE_DOUBLE = RangeInclusiveD.of(1.0, Double.MAX_VALUE);
+    UNSIGNED_BYTE_INTEGER = RangeInclusiveI.of(0, 255);
+    UNSIGNED_SHORT_INTEGER = RangeInclusiveI.of(0, 65535);
+    UNSIGNED_BYTE_LONG = RangeInclusiveL.of(0L, 255L);
+    UNSIGNED_SHORT_LONG = RangeInclusiveL.of(0L, 65535L);
+    UNSIGNED_INTEGER_LONG = RangeInclusiveL.of(0L, 0xffff_ffffL);
   }
 
   private Ranges()
@@ -19,7 +19,7 @@
  */
 
 @Export
-@Version("4.1.0")
+@Version("4.2.0")
 package com.io7m.jranges;
 
 import org.osgi.annotation.bundle.Export;
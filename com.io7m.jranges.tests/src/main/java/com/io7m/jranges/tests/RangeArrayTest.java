@@ -0,0 +1,278 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeArrayD;
+import com.io7m.jranges.RangeArrayI;
+import com.io7m.jranges.RangeArrayL;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeInclusiveD;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jranges.RangeInclusiveL;
+import com.io7m.jranges.RangeSetI;
+import com.io7m.jranges.RangeSetL;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public final class RangeArrayTest
+{
+  @Provide
+  Arbitrary<List<RangeInclusiveL>> rangesL()
+  {
+    return Combinators.combine(
+        Arbitraries.longs().between(-500L, 499L),
+        Arbitraries.longs().between(0L, 9L))
+      .as((lower, length) -> RangeInclusiveL.of(lower, lower + length))
+      .list()
+      .ofMaxSize(199);
+  }
+
+  @Provide
+  Arbitrary<List<RangeInclusiveI>> rangesI()
+  {
+    return Combinators.combine(
+        Arbitraries.integers().between(-500, 499),
+        Arbitraries.integers().between(0, 9))
+      .as((lower, length) -> RangeInclusiveI.of(lower, lower + length))
+      .list()
+      .ofMaxSize(199);
+  }
+
+  @Property
+  public void testSortAndCoalesceLAgreeWithModel(
+    final @ForAll("rangesL") List<RangeInclusiveL> ranges)
+  {
+    final var array = RangeArrayL.create(0);
+    final var model = new ArrayList<RangeInclusiveL>();
+    final var set = RangeSetL.create();
+
+    for (final var range : ranges) {
+      array.add(range.lower(), range.upper());
+      model.add(range);
+      set.add(range.lower(), range.upper());
+    }
+    Assertions.assertEquals(model, array.view());
+
+    model.sort(Comparator.comparingLong(RangeInclusiveL::lower)
+                 .thenComparingLong(RangeInclusiveL::upper));
+    array.sort();
+    Assertions.assertTrue(array.isSorted());
+    Assertions.assertEquals(model, array.view());
+
+    Assertions.assertEquals(set.rangeCount(), array.coalesce());
+    Assertions.assertEquals(set.ranges(), array.view());
+
+    for (long x = -520L; x < 520L; ++x) {
+      final int found = array.binarySearch(x);
+      if (set.contains(x)) {
+        Assertions.assertTrue(found >= 0);
+        Assertions.assertTrue(array.get(found).includesValue(x));
+      } else {
+        Assertions.assertTrue(found < 0);
+        final int insertion = -found - 1;
+        if (insertion > 0) {
+          Assertions.assertTrue(array.upper(insertion - 1) < x);
+        }
+        if (insertion < array.size()) {
+          Assertions.assertTrue(array.lower(insertion) > x);
+        }
+      }
+    }
+  }
+
+  @Property
+  public void testCoalesceIAgreesWithModel(
+    final @ForAll("rangesI") List<RangeInclusiveI> ranges)
+  {
+    final var array = RangeArrayI.create();
+    final var set = RangeSetI.create();
+
+    for (final var range : ranges) {
+      array.add(range.lower(), range.upper());
+      set.add(range.lower(), range.upper());
+    }
+
+    Assertions.assertEquals(set.rangeCount(), array.coalesce());
+    Assertions.assertEquals(set.ranges(), array.view());
+  }
+
+  @Provide
+  Arbitrary<List<RangeInclusiveD>> rangesD()
+  {
+    final var values = Arbitraries.oneOf(
+      Arbitraries.integers().between(-20, 20).map(Integer::doubleValue),
+      Arbitraries.of(
+        -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.MIN_VALUE));
+    return Combinators.combine(values, values)
+      .as((x, y) -> Double.compare(x, y) <= 0
+        ? RangeInclusiveD.of(x, y)
+        : RangeInclusiveD.of(y, x))
+      .list()
+      .ofMaxSize(199);
+  }
+
+  @Property
+  public void testSortIAgreesWithModel(
+    final @ForAll("rangesI") List<RangeInclusiveI> ranges)
+  {
+    final var array = RangeArrayI.create();
+    ranges.forEach(r -> array.add(r.lower(), r.upper()));
+    array.sort();
+
+    final var model = new ArrayList<>(ranges);
+    model.sort(Comparator.comparingInt(RangeInclusiveI::lower)
+                 .thenComparingInt(RangeInclusiveI::upper));
+    Assertions.assertTrue(array.isSorted());
+    Assertions.assertEquals(model, array.view());
+  }
+
+  @Property
+  public void testSortDAgreesWithModel(
+    final @ForAll("rangesD") List<RangeInclusiveD> ranges)
+  {
+    final var array = RangeArrayD.create();
+    ranges.forEach(r -> array.add(r.lower(), r.upper()));
+    array.sort();
+
+    final var model = new ArrayList<>(ranges);
+    model.sort(Comparator.comparingDouble(RangeInclusiveD::lower)
+                 .thenComparingDouble(RangeInclusiveD::upper));
+    Assertions.assertTrue(array.isSorted());
+    Assertions.assertEquals(model.size(), array.size());
+    for (int index = 0; index < model.size(); ++index) {
+      Assertions.assertEquals(model.get(index).lower(), array.lower(index));
+      Assertions.assertEquals(model.get(index).upper(), array.upper(index));
+    }
+  }
+
+  @Test
+  public void testCoalesceExtremes()
+  {
+    final var arrayL = RangeArrayL.of(
+      RangeInclusiveL.of(0L, Long.MAX_VALUE),
+      RangeInclusiveL.of(Long.MIN_VALUE, -1L));
+    Assertions.assertEquals(1, arrayL.coalesce());
+    Assertions.assertEquals(
+      RangeInclusiveL.of(Long.MIN_VALUE, Long.MAX_VALUE), arrayL.get(0));
+
+    final var arrayI = RangeArrayI.of(
+      RangeInclusiveI.of(Integer.MAX_VALUE, Integer.MAX_VALUE),
+      RangeInclusiveI.of(Integer.MIN_VALUE, Integer.MIN_VALUE));
+    Assertions.assertEquals(2, arrayI.coalesce());
+    Assertions.assertEquals(0, arrayI.binarySearch(Integer.MIN_VALUE));
+    Assertions.assertEquals(1, arrayI.binarySearch(Integer.MAX_VALUE));
+    Assertions.assertEquals(-2, arrayI.binarySearch(0));
+  }
+
+  @Test
+  public void testCoalesceDouble()
+  {
+    final var array = RangeArrayD.of(
+      RangeInclusiveD.of(2.0, 3.0),
+      RangeInclusiveD.of(0.0, 1.0),
+      RangeInclusiveD.of(1.0, 1.5),
+      RangeInclusiveD.of(1.75, 2.0));
+
+    Assertions.assertEquals(2, array.coalesce());
+    Assertions.assertEquals(
+      List.of(RangeInclusiveD.of(0.0, 1.5), RangeInclusiveD.of(1.75, 3.0)),
+      array.view());
+    Assertions.assertEquals(0, array.binarySearch(1.5));
+    Assertions.assertEquals(-2, array.binarySearch(1.6));
+    Assertions.assertEquals(1, array.binarySearch(3.0));
+    Assertions.assertEquals(-3, array.binarySearch(3.5));
+  }
+
+  @Test
+  public void testAccessors()
+  {
+    final var array = RangeArrayL.create();
+    Assertions.assertTrue(array.isEmpty());
+
+    array.add(RangeInclusiveL.of(10L, 20L));
+    array.add(30L, 40L);
+    Assertions.assertEquals(2, array.size());
+    Assertions.assertEquals(30L, array.lower(1));
+    Assertions.assertEquals(40L, array.upper(1));
+
+    array.set(0, 5L, 6L);
+    Assertions.assertEquals(RangeInclusiveL.of(5L, 6L), array.get(0));
+
+    final var received = new ArrayList<RangeInclusiveL>();
+    array.forEach((lower, upper) -> {
+      received.add(RangeInclusiveL.of(lower, upper));
+    });
+    Assertions.assertEquals(array.view(), received);
+
+    final var copy = array.copy();
+    copy.addAll(array);
+    copy.trimToSize();
+    Assertions.assertEquals(4, copy.size());
+    Assertions.assertNotEquals(array, copy);
+    Assertions.assertEquals(array.hashCode(), array.copy().hashCode());
+    Assertions.assertEquals("RangeArrayL{[5, 6], [30, 40]}", array.toString());
+
+    array.clear();
+    Assertions.assertEquals(0, array.size());
+    Assertions.assertEquals(0, array.coalesce());
+    Assertions.assertEquals(-1, array.binarySearch(0L));
+  }
+
+  @Test
+  public void testViewIsLiveAndUnmodifiable()
+  {
+    final var array = RangeArrayI.create();
+    final var view = array.view();
+    array.add(1, 2);
+    Assertions.assertEquals(List.of(RangeInclusiveI.of(1, 2)), view);
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+      view.add(RangeInclusiveI.of(3, 4));
+    });
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    final var array = RangeArrayL.create();
+    Assertions.assertThrows(RangeCheckException.class, () -> {
+      array.add(2L, 1L);
+    });
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      array.get(0);
+    });
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      array.set(0, 1L, 2L);
+    });
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      RangeArrayD.create(-1);
+    });
+    Assertions.assertThrows(RangeCheckException.class, () -> {
+      RangeArrayD.create().add(Double.NaN, 1.0);
+    });
+  }
+}
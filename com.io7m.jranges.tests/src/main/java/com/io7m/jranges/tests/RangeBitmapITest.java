@@ -0,0 +1,380 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeBitmapI;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeInclusiveI;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+public final class RangeBitmapITest
+{
+  private static final int BASE = -100_000;
+  private static final int SPAN = 200_000;
+  private static final RangeInclusiveI DOMAIN =
+    RangeInclusiveI.of(BASE, BASE + SPAN - 1);
+
+  private sealed interface UpdateType
+  {
+  }
+
+  private record Points(List<Integer> offsets) implements UpdateType
+  {
+  }
+
+  private record Span(int lower, int upper) implements UpdateType
+  {
+  }
+
+  private record Dense(int chunk, int phase, int stride) implements UpdateType
+  {
+  }
+
+  private record Removals(List<Integer> starts) implements UpdateType
+  {
+  }
+
+  private static Arbitrary<Integer> offsets()
+  {
+    return Arbitraries.integers().between(0, SPAN - 1);
+  }
+
+  private static Arbitrary<UpdateType> updates()
+  {
+    final Arbitrary<UpdateType> points =
+      offsets().list().ofMaxSize(7).map(Points::new);
+    final Arbitrary<UpdateType> span =
+      Combinators.combine(
+          offsets(),
+          Arbitraries.oneOf(
+            Arbitraries.integers().between(0, 63),
+            Arbitraries.integers().between(0, SPAN - 1)))
+        .as((lower, length) -> new Span(lower, Math.min(SPAN - 1, lower + length)));
+    final Arbitrary<UpdateType> dense =
+      Combinators.combine(
+          Arbitraries.integers().between(0, (SPAN >>> 16) - 1),
+          Arbitraries.integers().between(0, (1 << 16) - 1),
+          Arbitraries.integers().between(1, 10))
+        .as(Dense::new);
+    final Arbitrary<UpdateType> removals =
+      offsets().list().ofMaxSize(63).map(Removals::new);
+    return Arbitraries.oneOf(points, span, dense, removals);
+  }
+
+  @Provide
+  Arbitrary<List<UpdateType>> updateLists()
+  {
+    return updates().list().ofMaxSize(8);
+  }
+
+  @Provide
+  Arbitrary<List<Integer>> probes()
+  {
+    return offsets().list().ofSize(64);
+  }
+
+  @Provide
+  Arbitrary<List<Span>> queries()
+  {
+    return Combinators.combine(offsets(), Arbitraries.integers().between(0, 255))
+      .as((lower, length) -> new Span(lower, Math.min(SPAN - 1, lower + length)))
+      .list()
+      .ofSize(16);
+  }
+
+  /**
+   * Check a set against a bitset model of the values in the domain, where
+   * bit {@code i} of the model represents the value {@code BASE + i}.
+   */
+
+  private static void checkModel(
+    final List<Integer> probes,
+    final BitSet model,
+    final RangeBitmapI set)
+  {
+    final var expected = new ArrayList<RangeInclusiveI>();
+    int start = model.nextSetBit(0);
+    while (start >= 0) {
+      final int end = model.nextClearBit(start) - 1;
+      expected.add(RangeInclusiveI.of(BASE + start, BASE + end));
+      start = model.nextSetBit(end + 1);
+    }
+
+    Assertions.assertEquals(expected, set.ranges());
+    Assertions.assertEquals(model.cardinality(), set.cardinality());
+    Assertions.assertEquals(model.isEmpty(), set.isEmpty());
+
+    for (final int offset : probes) {
+      Assertions.assertEquals(model.get(offset), set.contains(BASE + offset));
+      Assertions.assertEquals(
+        model.get(0, offset + 1).cardinality(),
+        set.rank(BASE + offset));
+    }
+  }
+
+  private static void update(
+    final UpdateType update,
+    final BitSet model,
+    final RangeBitmapI set)
+  {
+    switch (update) {
+      case final Points points -> {
+        for (final int offset : points.offsets()) {
+          model.set(offset);
+          set.add(BASE + offset);
+        }
+      }
+      case final Span span -> {
+        model.set(span.lower(), span.upper() + 1);
+        set.add(RangeInclusiveI.of(BASE + span.lower(), BASE + span.upper()));
+      }
+      case final Dense dense -> {
+        final int chunk = dense.chunk() << 16;
+        for (int index = 0; index < 6000; ++index) {
+          final var offset =
+            chunk + ((dense.phase() + index * dense.stride()) & 0xffff);
+          model.set(offset);
+          set.add(BASE + offset);
+        }
+      }
+      case final Removals removals -> {
+        for (final int from : removals.starts()) {
+          final var offset = model.nextSetBit(from);
+          if (offset >= 0) {
+            model.clear(offset);
+            set.remove(BASE + offset);
+          }
+        }
+      }
+    }
+  }
+
+  private static BitSet model(
+    final List<UpdateType> updates,
+    final RangeBitmapI set)
+  {
+    final var model = new BitSet(SPAN);
+    for (final var update : updates) {
+      update(update, model, set);
+    }
+    return model;
+  }
+
+  @Property(tries = 200)
+  public void testUpdates(
+    final @ForAll("updateLists") List<UpdateType> updates,
+    final @ForAll("probes") List<Integer> probes)
+  {
+    final var set = RangeBitmapI.create(DOMAIN);
+    final var model = new BitSet(SPAN);
+
+    for (final var update : updates) {
+      update(update, model, set);
+      checkModel(probes, model, set);
+    }
+
+    set.optimize();
+    checkModel(probes, model, set);
+  }
+
+  @Property(tries = 200)
+  public void testAnd(
+    final @ForAll("updateLists") List<UpdateType> updates0,
+    final @ForAll("updateLists") List<UpdateType> updates1,
+    final @ForAll("probes") List<Integer> probes)
+  {
+    final var set0 = RangeBitmapI.create(DOMAIN);
+    final var model0 = model(updates0, set0);
+    final var set1 = RangeBitmapI.create(DOMAIN);
+    final var model1 = model(updates1, set1);
+
+    final var result = set0.and(set1);
+    model0.and(model1);
+    checkModel(probes, model0, result);
+    Assertions.assertEquals(DOMAIN, result.domain());
+  }
+
+  @Property(tries = 200)
+  public void testOr(
+    final @ForAll("updateLists") List<UpdateType> updates0,
+    final @ForAll("updateLists") List<UpdateType> updates1,
+    final @ForAll("probes") List<Integer> probes)
+  {
+    final var set0 = RangeBitmapI.create(DOMAIN);
+    final var model0 = model(updates0, set0);
+    final var set1 = RangeBitmapI.create(DOMAIN);
+    final var model1 = model(updates1, set1);
+
+    final var result = set0.or(set1);
+    model0.or(model1);
+    checkModel(probes, model0, result);
+
+    result.add(BASE);
+    Assertions.assertTrue(result.contains(BASE));
+    Assertions.assertEquals(model1.get(0), set1.contains(BASE));
+  }
+
+  @Property(tries = 200)
+  public void testAndNot(
+    final @ForAll("updateLists") List<UpdateType> updates0,
+    final @ForAll("updateLists") List<UpdateType> updates1,
+    final @ForAll("probes") List<Integer> probes)
+  {
+    final var set0 = RangeBitmapI.create(DOMAIN);
+    final var model0 = model(updates0, set0);
+    final var set1 = RangeBitmapI.create(DOMAIN);
+    final var model1 = model(updates1, set1);
+
+    final var result = set0.andNot(set1);
+    model0.andNot(model1);
+    checkModel(probes, model0, result);
+  }
+
+  @Property(tries = 200)
+  public void testContainsAll(
+    final @ForAll("updateLists") List<UpdateType> updates,
+    final @ForAll("queries") List<Span> queries)
+  {
+    final var set = RangeBitmapI.create(DOMAIN);
+    final var model = model(updates, set);
+
+    for (final var query : queries) {
+      Assertions.assertEquals(
+        model.nextClearBit(query.lower()) > query.upper(),
+        set.containsAll(
+          RangeInclusiveI.of(BASE + query.lower(), BASE + query.upper())));
+    }
+  }
+
+  @Test
+  public void testDomainChecked()
+  {
+    final var set = RangeBitmapI.create(RangeInclusiveI.of(0, 99));
+
+    Assertions.assertThrows(RangeCheckException.class, () -> set.add(-1));
+    Assertions.assertThrows(RangeCheckException.class, () -> set.add(100));
+    Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> set.add(RangeInclusiveI.of(50, 100)));
+    Assertions.assertFalse(set.contains(100));
+    Assertions.assertTrue(set.isEmpty());
+  }
+
+  @Test
+  public void testFullIntegerDomain()
+  {
+    final var set = RangeBitmapI.of(
+      RangeInclusiveI.of(Integer.MIN_VALUE, Integer.MAX_VALUE),
+      RangeInclusiveI.of(Integer.MIN_VALUE, Integer.MIN_VALUE + 9),
+      RangeInclusiveI.of(-5, 5),
+      RangeInclusiveI.of(Integer.MAX_VALUE - 9, Integer.MAX_VALUE));
+
+    Assertions.assertEquals(31L, set.cardinality());
+    Assertions.assertEquals(10L, set.rank(Integer.MIN_VALUE + 100));
+    Assertions.assertEquals(16L, set.rank(0));
+    Assertions.assertEquals(31L, set.rank(Integer.MAX_VALUE));
+    Assertions.assertTrue(set.contains(Integer.MIN_VALUE));
+    Assertions.assertTrue(set.contains(Integer.MAX_VALUE));
+    Assertions.assertTrue(
+      set.containsAll(RangeInclusiveI.of(Integer.MIN_VALUE, Integer.MIN_VALUE + 9)));
+    Assertions.assertEquals(
+      List.of(
+        RangeInclusiveI.of(Integer.MIN_VALUE, Integer.MIN_VALUE + 9),
+        RangeInclusiveI.of(-5, 5),
+        RangeInclusiveI.of(Integer.MAX_VALUE - 9, Integer.MAX_VALUE)),
+      set.ranges());
+  }
+
+  @Test
+  public void testLargeRangeCompact()
+  {
+    final var domain = RangeInclusiveI.of(0, Integer.MAX_VALUE);
+    final var set = RangeBitmapI.of(domain, domain);
+
+    Assertions.assertEquals(1L << 31, set.cardinality());
+    Assertions.assertEquals(List.of(domain), set.ranges());
+    Assertions.assertTrue(set.containsAll(domain));
+    Assertions.assertFalse(
+      RangeBitmapI.of(
+        RangeInclusiveI.of(Integer.MIN_VALUE, Integer.MAX_VALUE),
+        domain)
+        .containsAll(RangeInclusiveI.of(Integer.MIN_VALUE, Integer.MAX_VALUE)));
+    Assertions.assertTrue(set.sizeInBytes() < 1024L * 1024L);
+  }
+
+  @Test
+  public void testSparseCompact()
+  {
+    final var set = RangeBitmapI.create(DOMAIN);
+    for (int x = BASE; x < BASE + SPAN; x += 1000) {
+      set.add(x);
+    }
+    set.optimize();
+
+    Assertions.assertEquals(SPAN / 1000, set.cardinality());
+    Assertions.assertTrue(set.sizeInBytes() < 8L * 1024L);
+  }
+
+  @Test
+  public void testRunSplitCompact()
+  {
+    final var set = RangeBitmapI.of(DOMAIN, RangeInclusiveI.of(0, 0xffff));
+    for (int x = 1; x <= 0xffff; x += 2) {
+      set.remove(x);
+    }
+
+    Assertions.assertEquals(0x8000L, set.cardinality());
+    Assertions.assertEquals(0x8000, set.ranges().size());
+    Assertions.assertTrue(set.contains(0xfffe));
+    Assertions.assertFalse(set.contains(0xffff));
+    Assertions.assertTrue(set.sizeInBytes() <= 9L * 1024L);
+
+    set.add(RangeInclusiveI.of(0, 0xffff));
+    Assertions.assertEquals(List.of(RangeInclusiveI.of(0, 0xffff)), set.ranges());
+    Assertions.assertTrue(set.sizeInBytes() < 1024L);
+  }
+
+  @Test
+  public void testEqualsToString()
+  {
+    final var set0 = RangeBitmapI.of(DOMAIN, RangeInclusiveI.of(0, 9));
+    final var set1 = RangeBitmapI.create(DOMAIN);
+    for (int x = 0; x <= 9; ++x) {
+      set1.add(x);
+    }
+
+    Assertions.assertEquals(set0, set1);
+    Assertions.assertEquals(set0.hashCode(), set1.hashCode());
+    Assertions.assertNotEquals(set0, RangeBitmapI.create(DOMAIN));
+    Assertions.assertNotEquals(
+      set0, RangeBitmapI.of(RangeInclusiveI.of(0, 9), RangeInclusiveI.of(0, 9)));
+    Assertions.assertNotEquals(set0, null);
+    Assertions.assertTrue(set0.toString().contains("10"));
+  }
+}
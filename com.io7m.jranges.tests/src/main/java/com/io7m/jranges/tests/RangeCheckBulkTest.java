@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeCheckKind;
+import com.io7m.jranges.RangeHalfOpenCheck;
+import com.io7m.jranges.RangeHalfOpenD;
+import com.io7m.jranges.RangeHalfOpenI;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeHalfOpenTest;
+import com.io7m.jranges.RangeInclusiveD;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jranges.RangeInclusiveL;
+import com.io7m.jranges.RangeTest;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.function.IntPredicate;
+
+public final class RangeCheckBulkTest
+{
+  private static int expectedFirst(
+    final int from,
+    final int to,
+    final IntPredicate included)
+  {
+    for (int index = from; index < to; ++index) {
+      if (!included.test(index)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  private static long[] longs(
+    final int[] values)
+  {
+    final var result = new long[values.length];
+    for (int index = 0; index < values.length; ++index) {
+      result[index] = values[index];
+    }
+    return result;
+  }
+
+  private static double[] doubles(
+    final int[] values)
+  {
+    final var result = new double[values.length];
+    for (int index = 0; index < values.length; ++index) {
+      result[index] = values[index];
+    }
+    return result;
+  }
+
+  @Property
+  public void testInclusiveAgreesWithIncludesValue(
+    final @ForAll @Size(max = 300) int[] values,
+    final @ForAll @IntRange(min = -20, max = 20) int low,
+    final @ForAll @IntRange(min = 0, max = 1000) int size,
+    final @ForAll @IntRange(min = 0, max = 300) int from,
+    final @ForAll @IntRange(min = 0, max = 300) int count)
+  {
+    final var start = Math.min(from, values.length);
+    final var end = Math.min(start + count, values.length);
+    final var rl = RangeInclusiveL.of(low, (long) low + size);
+    final var ri = RangeInclusiveI.of(low, low + size);
+    final var rd = RangeInclusiveD.of(low, (double) low + size);
+    final var vl = longs(values);
+    final var vd = doubles(values);
+
+    final var expected =
+      expectedFirst(start, end, i -> ri.includesValue(values[i]));
+
+    Assertions.assertEquals(
+      expected, RangeTest.findFirstNotIncludedInInteger(values, start, end, ri));
+    Assertions.assertEquals(
+      expected, RangeTest.findFirstNotIncludedInLong(vl, start, end, rl));
+    Assertions.assertEquals(
+      expected, RangeTest.findFirstNotIncludedInDouble(vd, start, end, rd));
+
+    if (expected < 0) {
+      Assertions.assertSame(
+        values,
+        RangeCheck.checkAllIncludedInInteger(values, start, end, "v", ri, "r"));
+      Assertions.assertSame(
+        vl, RangeCheck.checkAllIncludedInLong(vl, start, end, "v", rl, "r"));
+      Assertions.assertSame(
+        vd, RangeCheck.checkAllIncludedInDouble(vd, start, end, "v", rd, "r"));
+    } else {
+      final var ex =
+        Assertions.assertThrows(RangeCheckException.class, () -> {
+          RangeCheck.checkAllIncludedInLong(vl, start, end, "v", rl, "r");
+        });
+      Assertions.assertEquals(RangeCheckKind.INCLUDED_IN, ex.kind());
+      Assertions.assertEquals(
+        Optional.of("v[" + expected + "]"), ex.valueName());
+      Assertions.assertEquals(
+        Optional.of(Long.valueOf(vl[expected])), ex.value());
+
+      Assertions.assertThrows(RangeCheckException.class, () -> {
+        RangeCheck.checkAllIncludedInInteger(values, start, end, "v", ri, "r");
+      });
+      Assertions.assertThrows(RangeCheckException.class, () -> {
+        RangeCheck.checkAllIncludedInDouble(vd, start, end, "v", rd, "r");
+      });
+    }
+  }
+
+  @Property
+  public void testHalfOpenAgreesWithIncludesValue(
+    final @ForAll @Size(max = 300) int[] values,
+    final @ForAll @IntRange(min = -20, max = 20) int low,
+    final @ForAll @IntRange(min = 0, max = 1000) int size,
+    final @ForAll @IntRange(min = 0, max = 300) int from,
+    final @ForAll @IntRange(min = 0, max = 300) int count)
+  {
+    final var start = Math.min(from, values.length);
+    final var end = Math.min(start + count, values.length);
+    final var rl = RangeHalfOpenL.of(low, (long) low + size);
+    final var ri = RangeHalfOpenI.of(low, low + size);
+    final var rd = RangeHalfOpenD.of(low, (double) low + size);
+    final var vl = longs(values);
+    final var vd = doubles(values);
+
+    final var expected =
+      expectedFirst(start, end, i -> ri.includesValue(values[i]));
+
+    Assertions.assertEquals(
+      expected,
+      RangeHalfOpenTest.findFirstNotIncludedInInteger(values, start, end, ri));
+    Assertions.assertEquals(
+      expected,
+      RangeHalfOpenTest.findFirstNotIncludedInLong(vl, start, end, rl));
+    Assertions.assertEquals(
+      expected,
+      RangeHalfOpenTest.findFirstNotIncludedInDouble(vd, start, end, rd));
+
+    if (expected < 0) {
+      Assertions.assertSame(
+        values,
+        RangeHalfOpenCheck.checkAllIncludedInInteger(
+          values, start, end, "v", ri, "r"));
+      Assertions.assertSame(
+        vl,
+        RangeHalfOpenCheck.checkAllIncludedInLong(
+          vl, start, end, "v", rl, "r"));
+      Assertions.assertSame(
+        vd,
+        RangeHalfOpenCheck.checkAllIncludedInDouble(
+          vd, start, end, "v", rd, "r"));
+    } else {
+      final var ex =
+        Assertions.assertThrows(RangeCheckException.class, () -> {
+          RangeHalfOpenCheck.checkAllIncludedInInteger(
+            values, start, end, "v", ri, "r");
+        });
+      Assertions.assertEquals(RangeCheckKind.INCLUDED_IN_HALF_OPEN, ex.kind());
+      Assertions.assertEquals(
+        Optional.of("v[" + expected + "]"), ex.valueName());
+    }
+  }
+
+  @Test
+  public void testExtremeBounds()
+  {
+    final var values = new long[]{Long.MIN_VALUE, 0L, Long.MAX_VALUE};
+    final var all = RangeInclusiveL.of(Long.MIN_VALUE, Long.MAX_VALUE);
+    Assertions.assertEquals(
+      -1, RangeTest.findFirstNotIncludedInLong(values, 0, 3, all));
+
+    final var upper = RangeInclusiveL.of(0L, Long.MAX_VALUE);
+    Assertions.assertEquals(
+      0, RangeTest.findFirstNotIncludedInLong(values, 0, 3, upper));
+
+    final var ints = new int[]{0, Integer.MAX_VALUE, Integer.MIN_VALUE};
+    final var lower = RangeHalfOpenI.of(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    Assertions.assertEquals(
+      1, RangeHalfOpenTest.findFirstNotIncludedInInteger(ints, 0, 3, lower));
+
+    final var empty = RangeHalfOpenL.of(3L, 3L);
+    Assertions.assertEquals(
+      0, RangeHalfOpenTest.findFirstNotIncludedInLong(values, 0, 3, empty));
+  }
+
+  @Test
+  public void testNaN()
+  {
+    final var values = new double[]{0.0, 0.5, Double.NaN};
+    Assertions.assertEquals(
+      2,
+      RangeTest.findFirstNotIncludedInDouble(
+        values, 0, 3, RangeInclusiveD.of(0.0, 1.0)));
+    Assertions.assertEquals(
+      2,
+      RangeHalfOpenTest.findFirstNotIncludedInDouble(
+        values, 0, 3, RangeHalfOpenD.of(0.0, 1.0)));
+  }
+
+  @Test
+  public void testBadIndices()
+  {
+    final var values = new long[4];
+    final var range = RangeInclusiveL.of(0L, 1L);
+
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      RangeCheck.checkAllIncludedInLong(values, 2, 1, "v", range, "r");
+    });
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      RangeCheck.checkAllIncludedInLong(values, 0, 5, "v", range, "r");
+    });
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      RangeTest.findFirstNotIncludedInLong(values, -1, 2, range);
+    });
+  }
+
+  @Test
+  public void testNullNames()
+  {
+    final var values = new int[4];
+    final var range = RangeInclusiveI.of(0, 1);
+
+    Assertions.assertThrows(NullPointerException.class, () -> {
+      RangeCheck.checkAllIncludedInInteger(
+        values, 0, 4, (String) TestUtilities.actuallyNull(), range, "r");
+    });
+    Assertions.assertThrows(NullPointerException.class, () -> {
+      RangeCheck.checkAllIncludedInInteger(
+        values, 0, 4, "v", range, (String) TestUtilities.actuallyNull());
+    });
+  }
+}
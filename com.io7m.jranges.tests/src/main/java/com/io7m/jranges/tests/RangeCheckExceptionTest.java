@@ -16,9 +16,23 @@
 
 package com.io7m.jranges.tests;
 
+import com.io7m.jranges.RangeCheck;
 import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeCheckKind;
+import com.io7m.jranges.RangeHalfOpenCheck;
+import com.io7m.jranges.RangeHalfOpenI;
+import com.io7m.jranges.RangeInclusiveB;
+import com.io7m.jranges.RangeInclusiveL;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.util.Optional;
 
 public class RangeCheckExceptionTest
 {
@@ -29,4 +43,170 @@ public class RangeCheckExceptionTest
     Assertions.assertEquals("Range check failed: x", ex.getMessage());
     Assertions.assertEquals("Range check failed: y", ex.getCause().getMessage());
   }
+
+  @Test
+  public void testUnspecified()
+  {
+    final var ex = new RangeCheckException("x");
+    Assertions.assertEquals(RangeCheckKind.UNSPECIFIED, ex.kind());
+    Assertions.assertEquals(Optional.empty(), ex.valueName());
+    Assertions.assertEquals(Optional.empty(), ex.boundName());
+    Assertions.assertEquals(Optional.empty(), ex.value());
+    Assertions.assertEquals(Optional.empty(), ex.lowerBound());
+    Assertions.assertEquals(Optional.empty(), ex.upperBound());
+  }
+
+  @Test
+  public void testGreaterLong()
+  {
+    final var ex = thrown(() -> {
+      RangeCheck.checkGreaterLong(0L, "x", 1L, "lower");
+    });
+
+    Assertions.assertEquals(RangeCheckKind.GREATER, ex.kind());
+    Assertions.assertEquals(Optional.of("x"), ex.valueName());
+    Assertions.assertEquals(Optional.of("lower"), ex.boundName());
+    Assertions.assertEquals(Optional.of(0L), ex.value());
+    Assertions.assertEquals(Optional.of(1L), ex.lowerBound());
+    Assertions.assertEquals(Optional.empty(), ex.upperBound());
+    Assertions.assertEquals(
+      "Range check failed: x (0) <= lower (1)", ex.getMessage());
+  }
+
+  @Test
+  public void testGreaterEqualInteger()
+  {
+    final var ex = thrown(() -> {
+      RangeCheck.checkGreaterEqualInteger(0, "x", 1, "lower");
+    });
+
+    Assertions.assertEquals(RangeCheckKind.GREATER_EQUAL, ex.kind());
+    Assertions.assertEquals(Optional.of(0), ex.value());
+    Assertions.assertEquals(Optional.of(1), ex.lowerBound());
+    Assertions.assertEquals(
+      "Range check failed: x (0) < lower (1)", ex.getMessage());
+  }
+
+  @Test
+  public void testLessDouble()
+  {
+    final var ex = thrown(() -> {
+      RangeCheck.checkLessDouble(1.0, "x", 0.0, "upper");
+    });
+
+    Assertions.assertEquals(RangeCheckKind.LESS, ex.kind());
+    Assertions.assertEquals(Optional.of(1.0), ex.value());
+    Assertions.assertEquals(Optional.empty(), ex.lowerBound());
+    Assertions.assertEquals(Optional.of(0.0), ex.upperBound());
+    Assertions.assertEquals(
+      String.format("Range check failed: x (%f) >= upper (%f)", 1.0, 0.0),
+      ex.getMessage());
+  }
+
+  @Test
+  public void testLessEqualBig()
+  {
+    final var ex = thrown(() -> {
+      RangeCheck.checkLessEqualBig(
+        BigInteger.ONE, "x", BigInteger.ZERO, "upper");
+    });
+
+    Assertions.assertEquals(RangeCheckKind.LESS_EQUAL, ex.kind());
+    Assertions.assertEquals(Optional.of(BigInteger.ONE), ex.value());
+    Assertions.assertEquals(Optional.of(BigInteger.ZERO), ex.upperBound());
+    Assertions.assertEquals(
+      "Range check failed: x (1) > upper (0)", ex.getMessage());
+  }
+
+  @Test
+  public void testIncludedInLong()
+  {
+    final var ex = thrown(() -> {
+      RangeCheck.checkIncludedInLong(
+        130L, "x", RangeInclusiveL.of(0L, 99L), "range");
+    });
+
+    Assertions.assertEquals(RangeCheckKind.INCLUDED_IN, ex.kind());
+    Assertions.assertEquals(Optional.of(130L), ex.value());
+    Assertions.assertEquals(Optional.of(0L), ex.lowerBound());
+    Assertions.assertEquals(Optional.of(99L), ex.upperBound());
+    Assertions.assertEquals(
+      "Range check failed: 0 <= x (130) <= 99 (range) == false",
+      ex.getMessage());
+  }
+
+  @Test
+  public void testIncludedInHalfOpenInteger()
+  {
+    final var ex = thrown(() -> {
+      RangeHalfOpenCheck.checkIncludedInInteger(
+        100, "x", RangeHalfOpenI.of(0, 100), "range");
+    });
+
+    Assertions.assertEquals(RangeCheckKind.INCLUDED_IN_HALF_OPEN, ex.kind());
+    Assertions.assertEquals(Optional.of(100), ex.value());
+    Assertions.assertEquals(Optional.of(0), ex.lowerBound());
+    Assertions.assertEquals(Optional.of(100), ex.upperBound());
+    Assertions.assertEquals(
+      "Range check failed: 0 <= x (100) <= 100 (range) == false",
+      ex.getMessage());
+  }
+
+  @Test
+  public void testRangeIncludedInBig()
+  {
+    final var inner =
+      RangeInclusiveB.of(BigInteger.ZERO, BigInteger.TEN);
+    final var outer =
+      RangeInclusiveB.of(BigInteger.ONE, BigInteger.TWO);
+
+    final var ex = thrown(() -> {
+      RangeCheck.checkRangeIncludedInBig(inner, "inner", outer, "outer");
+    });
+
+    Assertions.assertEquals(RangeCheckKind.RANGE_INCLUDED_IN, ex.kind());
+    Assertions.assertEquals(Optional.of("inner"), ex.valueName());
+    Assertions.assertEquals(Optional.of("outer"), ex.boundName());
+    Assertions.assertEquals(Optional.of(inner), ex.value());
+    Assertions.assertEquals(Optional.of(BigInteger.ONE), ex.lowerBound());
+    Assertions.assertEquals(Optional.of(BigInteger.TWO), ex.upperBound());
+    Assertions.assertEquals(
+      String.format(
+        "Range check failed: Inner range inner (%s) not included in outer range outer (%s)",
+        inner,
+        outer),
+      ex.getMessage());
+  }
+
+  @Test
+  public void testSerialization()
+    throws Exception
+  {
+    final var ex = thrown(() -> {
+      RangeCheck.checkRangeIncludedInLong(
+        RangeInclusiveL.of(0L, 10L), "inner",
+        RangeInclusiveL.of(1L, 2L), "outer");
+    });
+
+    final var bytes = new ByteArrayOutputStream();
+    try (var output = new ObjectOutputStream(bytes)) {
+      output.writeObject(ex);
+    }
+
+    try (var input = new ObjectInputStream(
+      new ByteArrayInputStream(bytes.toByteArray()))) {
+      final var result = (RangeCheckException) input.readObject();
+      Assertions.assertEquals(ex.getMessage(), result.getMessage());
+      Assertions.assertEquals(ex.kind(), result.kind());
+      Assertions.assertEquals(ex.valueName(), result.valueName());
+      Assertions.assertEquals(ex.boundName(), result.boundName());
+      Assertions.assertArrayEquals(ex.getStackTrace(), result.getStackTrace());
+    }
+  }
+
+  private static RangeCheckException thrown(
+    final Executable executable)
+  {
+    return Assertions.assertThrows(RangeCheckException.class, executable);
+  }
 }
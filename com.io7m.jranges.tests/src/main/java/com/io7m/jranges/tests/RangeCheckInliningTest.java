@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeHalfOpenBType;
+import com.io7m.jranges.RangeHalfOpenCheck;
+import com.io7m.jranges.RangeHalfOpenCheckerB;
+import com.io7m.jranges.RangeHalfOpenCheckerD;
+import com.io7m.jranges.RangeHalfOpenCheckerI;
+import com.io7m.jranges.RangeHalfOpenCheckerL;
+import com.io7m.jranges.RangeHalfOpenDType;
+import com.io7m.jranges.RangeHalfOpenIType;
+import com.io7m.jranges.RangeHalfOpenLType;
+import com.io7m.jranges.RangeInclusiveBType;
+import com.io7m.jranges.RangeInclusiveCheckerB;
+import com.io7m.jranges.RangeInclusiveCheckerD;
+import com.io7m.jranges.RangeInclusiveCheckerI;
+import com.io7m.jranges.RangeInclusiveCheckerL;
+import com.io7m.jranges.RangeInclusiveDType;
+import com.io7m.jranges.RangeInclusiveIType;
+import com.io7m.jranges.RangeInclusiveLType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Check that the range check functions stay below the size at which HotSpot
+ * will inline a method regardless of how often it is called
+ * ({@code -XX:MaxInlineSize}, 35 bytes by default). The bulk checks are
+ * excluded; they contain loops and are not expected to be inlined.
+ */
+
+public final class RangeCheckInliningTest
+{
+  private static final int MAX_INLINE_SIZE = 35;
+
+  private static Map<String, Integer> codeSizes(
+    final Class<?> clazz)
+  {
+    final var name = clazz.getSimpleName() + ".class";
+    try (var stream = new DataInputStream(clazz.getResourceAsStream(name))) {
+      return parseCodeSizes(stream);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * A minimal class file parser that returns the length of the bytecode
+   * of each method, keyed by method name and descriptor.
+   */
+
+  private static Map<String, Integer> parseCodeSizes(
+    final DataInputStream stream)
+    throws IOException
+  {
+    Assertions.assertEquals(0xCAFEBABE, stream.readInt());
+    stream.readUnsignedShort();
+    stream.readUnsignedShort();
+
+    final var poolCount = stream.readUnsignedShort();
+    final var utf8 = new String[poolCount];
+    for (int index = 1; index < poolCount; ++index) {
+      final var tag = stream.readUnsignedByte();
+      switch (tag) {
+        case 1 -> utf8[index] = stream.readUTF();
+        case 7, 8, 16, 19, 20 -> stream.skipNBytes(2L);
+        case 15 -> stream.skipNBytes(3L);
+        case 3, 4, 9, 10, 11, 12, 17, 18 -> stream.skipNBytes(4L);
+        case 5, 6 -> {
+          stream.skipNBytes(8L);
+          ++index;
+        }
+        default -> throw new IOException("Unrecognized constant tag " + tag);
+      }
+    }
+
+    stream.skipNBytes(6L);
+    final var interfaces = stream.readUnsignedShort();
+    stream.skipNBytes(2L * interfaces);
+
+    final var fields = stream.readUnsignedShort();
+    for (int index = 0; index < fields; ++index) {
+      stream.skipNBytes(6L);
+      skipAttributes(stream);
+    }
+
+    final var sizes = new HashMap<String, Integer>();
+    final var methods = stream.readUnsignedShort();
+    for (int index = 0; index < methods; ++index) {
+      stream.skipNBytes(2L);
+      final var name = utf8[stream.readUnsignedShort()];
+      final var descriptor = utf8[stream.readUnsignedShort()];
+      final var attributes = stream.readUnsignedShort();
+      for (int a = 0; a < attributes; ++a) {
+        final var attributeName = utf8[stream.readUnsignedShort()];
+        final var length = stream.readInt();
+        if ("Code".equals(attributeName)) {
+          stream.skipNBytes(4L);
+          final var codeLength = stream.readInt();
+          sizes.put(name + descriptor, Integer.valueOf(codeLength));
+          stream.skipNBytes(length - 8L);
+        } else {
+          stream.skipNBytes(length);
+        }
+      }
+    }
+    return sizes;
+  }
+
+  private static void skipAttributes(
+    final DataInputStream stream)
+    throws IOException
+  {
+    final var attributes = stream.readUnsignedShort();
+    for (int index = 0; index < attributes; ++index) {
+      stream.skipNBytes(2L);
+      stream.skipNBytes(Integer.toUnsignedLong(stream.readInt()));
+    }
+  }
+
+  private static Stream<DynamicTest> checkSizes(
+    final Class<?> clazz,
+    final String prefix)
+  {
+    final var sizes = codeSizes(clazz);
+    final var checked = sizes.entrySet()
+      .stream()
+      .filter(e -> e.getKey().startsWith(prefix))
+      .filter(e -> !e.getKey().startsWith("checkAll"))
+      .toList();
+
+    Assertions.assertFalse(checked.isEmpty());
+    return checked.stream()
+      .map(e -> DynamicTest.dynamicTest(
+        clazz.getSimpleName() + "." + e.getKey(),
+        () -> {
+          Assertions.assertTrue(
+            e.getValue().intValue() <= MAX_INLINE_SIZE,
+            () -> String.format(
+              "%s.%s is %d bytes (must be <= %d)",
+              clazz.getSimpleName(),
+              e.getKey(),
+              e.getValue(),
+              Integer.valueOf(MAX_INLINE_SIZE)));
+        }));
+  }
+
+  @TestFactory
+  public Stream<DynamicTest> testRangeCheckSizes()
+  {
+    return checkSizes(RangeCheck.class, "check");
+  }
+
+  @TestFactory
+  public Stream<DynamicTest> testRangeHalfOpenCheckSizes()
+  {
+    return checkSizes(RangeHalfOpenCheck.class, "check");
+  }
+
+  @TestFactory
+  public Stream<DynamicTest> testCheckerSizes()
+  {
+    return Stream.of(
+        RangeInclusiveCheckerB.class,
+        RangeInclusiveCheckerD.class,
+        RangeInclusiveCheckerI.class,
+        RangeInclusiveCheckerL.class,
+        RangeHalfOpenCheckerB.class,
+        RangeHalfOpenCheckerD.class,
+        RangeHalfOpenCheckerI.class,
+        RangeHalfOpenCheckerL.class)
+      .flatMap(c -> checkSizes(c, "check"));
+  }
+
+  @TestFactory
+  public Stream<DynamicTest> testPreconditionSizes()
+  {
+    return Stream.of(
+        RangeInclusiveBType.class,
+        RangeInclusiveDType.class,
+        RangeInclusiveIType.class,
+        RangeInclusiveLType.class,
+        RangeHalfOpenBType.class,
+        RangeHalfOpenDType.class,
+        RangeHalfOpenIType.class,
+        RangeHalfOpenLType.class)
+      .flatMap(c -> checkSizes(c, "checkPreconditions"));
+  }
+}
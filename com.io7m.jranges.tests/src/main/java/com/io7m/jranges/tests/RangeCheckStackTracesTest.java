@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.junreachable.UnreachableCodeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+public final class RangeCheckStackTracesTest
+{
+  @AfterEach
+  public void tearDown()
+  {
+    System.clearProperty(RangeCheckException.STACK_TRACES_PROPERTY);
+  }
+
+  @Test
+  public void testStackTracesDefault()
+  {
+    final var ex =
+      Assertions.assertThrows(RangeCheckException.class, () -> {
+        RangeCheck.checkGreaterLong(0L, "x", 1L, "lower");
+      });
+    Assertions.assertNotEquals(0, ex.getStackTrace().length);
+  }
+
+  @Test
+  public void testStackTracesDisabled()
+    throws Exception
+  {
+    final var ex = failInIsolation("false");
+    Assertions.assertEquals(0, ex.getStackTrace().length);
+    Assertions.assertEquals(
+      "Range check failed: x (0) <= lower (1)", ex.getMessage());
+  }
+
+  @Test
+  public void testStackTracesEnabled()
+    throws Exception
+  {
+    final var ex = failInIsolation("true");
+    Assertions.assertNotEquals(0, ex.getStackTrace().length);
+  }
+
+  @Test
+  public void testStackTracesDirectConstruction()
+    throws Exception
+  {
+    System.setProperty(RangeCheckException.STACK_TRACES_PROPERTY, "false");
+
+    try (var loader = isolatedLoader()) {
+      final var clazz =
+        loader.loadClass(RangeCheckException.class.getName());
+      final var ex = (Throwable) clazz.getConstructor(String.class)
+        .newInstance("x");
+      Assertions.assertNotEquals(0, ex.getStackTrace().length);
+    }
+  }
+
+  /**
+   * Load a fresh copy of the core classes so that the system property is read
+   * again, and cause a check to fail.
+   */
+
+  private static Throwable failInIsolation(
+    final String stackTraces)
+    throws Exception
+  {
+    System.setProperty(RangeCheckException.STACK_TRACES_PROPERTY, stackTraces);
+
+    try (var loader = isolatedLoader()) {
+      final var clazz =
+        loader.loadClass(RangeCheck.class.getName());
+      final var method =
+        clazz.getMethod(
+          "checkGreaterLong",
+          long.class,
+          String.class,
+          long.class,
+          String.class);
+
+      try {
+        method.invoke(null, 0L, "x", 1L, "lower");
+      } catch (final InvocationTargetException e) {
+        final var cause = e.getCause();
+        Assertions.assertEquals(
+          RangeCheckException.class.getName(),
+          cause.getClass().getName());
+        Assertions.assertNotSame(RangeCheckException.class, cause.getClass());
+        Assertions.assertNotNull(cause.getMessage());
+        return cause;
+      }
+    }
+
+    return Assertions.fail("Check did not fail");
+  }
+
+  private static URLClassLoader isolatedLoader()
+  {
+    return new URLClassLoader(
+      new URL[]{
+        location(RangeCheck.class),
+        location(UnreachableCodeException.class),
+      },
+      ClassLoader.getPlatformClassLoader()
+    );
+  }
+
+  private static URL location(
+    final Class<?> clazz)
+  {
+    return clazz.getProtectionDomain()
+      .getCodeSource()
+      .getLocation();
+  }
+}
@@ -1147,4 +1147,37 @@ public class RangeCheckTest
         9, "Value", range, "Range"));
   }
 
+  @Test
+  public void testIncludedInPrimitiveBounds()
+  {
+    Assertions.assertEquals(
+      3L, RangeCheck.checkIncludedInLong(3L, "x", 0L, 5L, "r"));
+    Assertions.assertEquals(
+      3, RangeCheck.checkIncludedInInteger(3, "x", 0, 5, "r"));
+
+    final var exL = Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> RangeCheck.checkIncludedInLong(7L, "x", 0L, 5L, "r"));
+    final var exLRange = Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> RangeCheck.checkIncludedInLong(7L, "x", RangeInclusiveL.of(0L, 5L), "r"));
+    Assertions.assertEquals(exLRange.getMessage(), exL.getMessage());
+    Assertions.assertEquals(exLRange.kind(), exL.kind());
+
+    final var exI = Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> RangeCheck.checkIncludedInInteger(-1, "x", 0, 5, "r"));
+    final var exIRange = Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> RangeCheck.checkIncludedInInteger(-1, "x", RangeInclusiveI.of(0, 5), "r"));
+    Assertions.assertEquals(exIRange.getMessage(), exI.getMessage());
+    Assertions.assertEquals(exIRange.kind(), exI.kind());
+
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> RangeCheck.checkIncludedInLong(3L, null, 0L, 5L, "r"));
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> RangeCheck.checkIncludedInInteger(3, "x", 0, 5, null));
+  }
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeCheckKind;
+import com.io7m.jranges.RangeCheckerCompiler;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeInclusiveL;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+public final class RangeCheckerCompilerTest
+{
+  @Provide
+  Arbitrary<List<RangeInclusiveL>> rules()
+  {
+    return Combinators.combine(
+        Arbitraries.longs().between(-100L, 99L),
+        Arbitraries.longs().between(0L, 39L))
+      .as((lower, length) -> RangeInclusiveL.of(lower, lower + length))
+      .list()
+      .ofMaxSize(31);
+  }
+
+  @Property
+  public void testClassifyAgreesWithModel(
+    final @ForAll("rules") List<RangeInclusiveL> model)
+    throws Throwable
+  {
+    final var compiler = RangeCheckerCompiler.create();
+    for (int index = 0; index < model.size(); ++index) {
+      Assertions.assertEquals(index, compiler.add("r" + index, model.get(index)));
+    }
+
+    final var table = compiler.compile();
+    Assertions.assertEquals(model.size(), table.size());
+    final var classifier = table.classifier();
+
+    for (long x = -110L; x <= 150L; ++x) {
+      int expected = -1;
+      for (int index = 0; index < model.size(); ++index) {
+        if (model.get(index).includesValue(x)) {
+          expected = index;
+          break;
+        }
+      }
+      Assertions.assertEquals(expected, table.classify(x), "classify " + x);
+      Assertions.assertEquals(expected, (int) classifier.invokeExact(x));
+
+      for (int index = 0; index < model.size(); ++index) {
+        final boolean included = model.get(index).includesValue(x);
+        Assertions.assertEquals(included, table.includes(index, x));
+        Assertions.assertEquals(
+          included, (boolean) table.includesHandle(index).invokeExact(x));
+      }
+    }
+  }
+
+  @Test
+  public void testEmpty()
+    throws Throwable
+  {
+    final var table = RangeCheckerCompiler.create().compile();
+    Assertions.assertEquals(0, table.size());
+    Assertions.assertEquals(0, table.segmentCount());
+    Assertions.assertEquals(-1, table.classify(0L));
+    Assertions.assertEquals(-1, table.classify(Long.MIN_VALUE));
+    Assertions.assertEquals(-1, table.classify(Long.MAX_VALUE));
+    Assertions.assertEquals(-1, (int) table.classifier().invokeExact(0L));
+  }
+
+  @Test
+  public void testFullWidth()
+    throws Throwable
+  {
+    final var compiler = RangeCheckerCompiler.create();
+    compiler.add("low", RangeInclusiveL.of(Long.MIN_VALUE, -1L));
+    compiler.add("all", RangeInclusiveL.of(Long.MIN_VALUE, Long.MAX_VALUE));
+    compiler.add("high", RangeInclusiveL.of(1L, Long.MAX_VALUE));
+
+    final var table = compiler.compile();
+    Assertions.assertEquals(2, table.segmentCount());
+    Assertions.assertEquals(0, table.classify(Long.MIN_VALUE));
+    Assertions.assertEquals(0, table.classify(-1L));
+    Assertions.assertEquals(1, table.classify(0L));
+    Assertions.assertEquals(1, table.classify(1L));
+    Assertions.assertEquals(1, table.classify(Long.MAX_VALUE));
+
+    final var classifier = table.classifier();
+    Assertions.assertSame(classifier, table.classifier());
+    Assertions.assertEquals(0, (int) classifier.invokeExact(Long.MIN_VALUE));
+    Assertions.assertEquals(0, (int) classifier.invokeExact(-1L));
+    Assertions.assertEquals(1, (int) classifier.invokeExact(0L));
+    Assertions.assertEquals(1, (int) classifier.invokeExact(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testMergesAdjacentSegments()
+  {
+    final var compiler = RangeCheckerCompiler.create();
+    compiler.add("a", RangeInclusiveL.of(0L, 100L));
+    compiler.add("b", RangeInclusiveL.of(10L, 20L));
+    compiler.add("c", RangeInclusiveL.of(30L, 40L));
+
+    final var table = compiler.compile();
+    Assertions.assertEquals(2, table.segmentCount());
+    Assertions.assertEquals(0, table.classify(15L));
+    Assertions.assertEquals(-1, table.classify(101L));
+  }
+
+  @Test
+  public void testNames()
+  {
+    final var compiler = RangeCheckerCompiler.create();
+    compiler.add("a", RangeInclusiveL.of(0L, 10L));
+    compiler.addHalfOpen("b", RangeHalfOpenL.of(20L, 30L));
+    Assertions.assertEquals(2, compiler.size());
+
+    final var table = compiler.compile();
+    Assertions.assertEquals("a", table.name(0));
+    Assertions.assertEquals("b", table.name(1));
+    Assertions.assertEquals(RangeInclusiveL.of(20L, 29L), table.range(1));
+    Assertions.assertEquals(OptionalInt.of(1), table.indexOf("b"));
+    Assertions.assertEquals(OptionalInt.empty(), table.indexOf("c"));
+  }
+
+  @Test
+  public void testDuplicateName()
+  {
+    final var compiler = RangeCheckerCompiler.create();
+    compiler.add("a", RangeInclusiveL.of(0L, 10L));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      compiler.add("a", RangeInclusiveL.of(20L, 30L));
+    });
+    Assertions.assertEquals(1, compiler.size());
+  }
+
+  @Test
+  public void testEmptyHalfOpen()
+  {
+    final var compiler = RangeCheckerCompiler.create();
+    Assertions.assertThrows(RangeCheckException.class, () -> {
+      compiler.addHalfOpen("a", RangeHalfOpenL.of(10L, 10L));
+    });
+  }
+
+  @Test
+  public void testCompileIsSnapshot()
+  {
+    final var compiler = RangeCheckerCompiler.create();
+    compiler.add("a", RangeInclusiveL.of(0L, 10L));
+    final var table = compiler.compile();
+    compiler.add("b", RangeInclusiveL.of(20L, 30L));
+    Assertions.assertEquals(1, table.size());
+    Assertions.assertEquals(-1, table.classify(25L));
+  }
+
+  @Test
+  public void testCheck()
+  {
+    final var compiler = RangeCheckerCompiler.create();
+    compiler.add("port", RangeInclusiveL.of(1L, 65535L));
+    final var table = compiler.compile();
+
+    Assertions.assertEquals(80L, table.check(0, 80L, "x"));
+
+    final var ex =
+      Assertions.assertThrows(RangeCheckException.class, () -> {
+        table.check(0, 0L, "x");
+      });
+    Assertions.assertEquals(RangeCheckKind.INCLUDED_IN, ex.kind());
+    Assertions.assertEquals(Optional.of("x"), ex.valueName());
+    Assertions.assertTrue(ex.getMessage().contains("port"));
+
+    Assertions.assertThrows(NullPointerException.class, () -> {
+      table.check(0, 80L, null);
+    });
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      table.check(1, 80L, "x");
+    });
+  }
+
+  @Test
+  public void testCheckHandle()
+    throws Throwable
+  {
+    final var compiler = RangeCheckerCompiler.create();
+    compiler.add("port", RangeInclusiveL.of(1L, 65535L));
+    final var table = compiler.compile();
+    final var handle = table.checkHandle(0, "x");
+
+    Assertions.assertEquals(80L, (long) handle.invokeExact(80L));
+
+    final var ex =
+      Assertions.assertThrows(RangeCheckException.class, () -> {
+        final long r = (long) handle.invokeExact(0L);
+      });
+    Assertions.assertEquals(RangeCheckKind.INCLUDED_IN, ex.kind());
+    Assertions.assertEquals(Optional.of("x"), ex.valueName());
+    Assertions.assertTrue(ex.getMessage().contains("port"));
+
+    Assertions.assertThrows(NullPointerException.class, () -> {
+      table.checkHandle(0, null);
+    });
+  }
+
+  @Test
+  public void testChecker()
+  {
+    final var compiler = RangeCheckerCompiler.create();
+    compiler.add("port", RangeInclusiveL.of(1L, 65535L));
+    final var checker = compiler.compile().checker(0, "x");
+
+    Assertions.assertEquals(RangeInclusiveL.of(1L, 65535L), checker.range());
+    Assertions.assertEquals("port", checker.rangeName());
+    Assertions.assertEquals(80L, checker.check(80L));
+  }
+}
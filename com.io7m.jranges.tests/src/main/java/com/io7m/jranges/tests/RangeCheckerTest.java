@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeCheckKind;
+import com.io7m.jranges.RangeHalfOpenB;
+import com.io7m.jranges.RangeHalfOpenCheck;
+import com.io7m.jranges.RangeHalfOpenCheckerB;
+import com.io7m.jranges.RangeHalfOpenCheckerD;
+import com.io7m.jranges.RangeHalfOpenCheckerI;
+import com.io7m.jranges.RangeHalfOpenCheckerL;
+import com.io7m.jranges.RangeHalfOpenD;
+import com.io7m.jranges.RangeHalfOpenI;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeInclusiveB;
+import com.io7m.jranges.RangeInclusiveCheckerB;
+import com.io7m.jranges.RangeInclusiveCheckerD;
+import com.io7m.jranges.RangeInclusiveCheckerI;
+import com.io7m.jranges.RangeInclusiveCheckerL;
+import com.io7m.jranges.RangeInclusiveD;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jranges.RangeInclusiveL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public final class RangeCheckerTest
+{
+  /**
+   * Check that two checks either both return the same value, or both fail
+   * with the same message.
+   */
+
+  private static void checkSame(
+    final Supplier<Object> expected,
+    final Supplier<Object> received)
+  {
+    Object expectedValue;
+    String expectedMessage;
+    try {
+      expectedValue = expected.get();
+      expectedMessage = null;
+    } catch (final RangeCheckException e) {
+      expectedValue = null;
+      expectedMessage = e.getMessage();
+    }
+
+    try {
+      Assertions.assertEquals(expectedValue, received.get());
+      Assertions.assertNull(expectedMessage);
+    } catch (final RangeCheckException e) {
+      Assertions.assertEquals(expectedMessage, e.getMessage());
+    }
+  }
+
+  @Property
+  public void testInclusiveAgrees(
+    final @ForAll @IntRange(min = -8, max = 8) int x,
+    final @ForAll @IntRange(min = -8, max = 0) int lower,
+    final @ForAll @IntRange(min = 0, max = 8) int upper)
+  {
+    final var rangeL = RangeInclusiveL.of(lower, upper);
+    final var rangeI = RangeInclusiveI.of(lower, upper);
+    final var rangeB = RangeInclusiveB.of(
+      BigInteger.valueOf(lower), BigInteger.valueOf(upper));
+    final var rangeD = RangeInclusiveD.of(lower, upper);
+    final var bx = BigInteger.valueOf(x);
+
+    final var checkerL = RangeInclusiveCheckerL.of(rangeL, "x", "r");
+    final var checkerI = RangeInclusiveCheckerI.of(rangeI, "x", "r");
+    final var checkerB = RangeInclusiveCheckerB.of(rangeB, "x", "r");
+    final var checkerD = RangeInclusiveCheckerD.of(rangeD, "x", "r");
+
+    checkSame(
+      () -> Long.valueOf(RangeCheck.checkIncludedInLong(x, "x", rangeL, "r")),
+      () -> Long.valueOf(checkerL.check(x)));
+    checkSame(
+      () -> Integer.valueOf(RangeCheck.checkIncludedInInteger(x, "x", rangeI, "r")),
+      () -> Integer.valueOf(checkerI.check(x)));
+    checkSame(
+      () -> RangeCheck.checkIncludedInBig(bx, "x", rangeB, "r"),
+      () -> checkerB.check(bx));
+
+    Assertions.assertEquals(rangeL.includesValue(x), checkerL.includes(x));
+    Assertions.assertEquals(rangeI.includesValue(x), checkerI.includes(x));
+    Assertions.assertEquals(rangeB.includesValue(bx), checkerB.includes(bx));
+    Assertions.assertEquals(rangeD.includesValue(x), checkerD.includes(x));
+    Assertions.assertEquals(
+      rangeD.includesValue(x),
+      passes(() -> checkerD.check(x)));
+  }
+
+  @Property
+  public void testHalfOpenAgrees(
+    final @ForAll @IntRange(min = -8, max = 8) int x,
+    final @ForAll @IntRange(min = -8, max = 0) int lower,
+    final @ForAll @IntRange(min = 0, max = 8) int upper)
+  {
+    final var rangeL = RangeHalfOpenL.of(lower, upper);
+    final var rangeI = RangeHalfOpenI.of(lower, upper);
+    final var rangeB = RangeHalfOpenB.of(
+      BigInteger.valueOf(lower), BigInteger.valueOf(upper));
+    final var rangeD = RangeHalfOpenD.of(lower, upper);
+    final var bx = BigInteger.valueOf(x);
+
+    final var checkerL = RangeHalfOpenCheckerL.of(rangeL, "x", "r");
+    final var checkerI = RangeHalfOpenCheckerI.of(rangeI, "x", "r");
+    final var checkerB = RangeHalfOpenCheckerB.of(rangeB, "x", "r");
+    final var checkerD = RangeHalfOpenCheckerD.of(rangeD, "x", "r");
+
+    checkSame(
+      () -> Long.valueOf(RangeHalfOpenCheck.checkIncludedInLong(x, "x", rangeL, "r")),
+      () -> Long.valueOf(checkerL.check(x)));
+    checkSame(
+      () -> Integer.valueOf(RangeHalfOpenCheck.checkIncludedInInteger(x, "x", rangeI, "r")),
+      () -> Integer.valueOf(checkerI.check(x)));
+    checkSame(
+      () -> RangeHalfOpenCheck.checkIncludedInBig(bx, "x", rangeB, "r"),
+      () -> checkerB.check(bx));
+
+    Assertions.assertEquals(rangeL.includesValue(x), checkerL.includes(x));
+    Assertions.assertEquals(rangeI.includesValue(x), checkerI.includes(x));
+    Assertions.assertEquals(rangeB.includesValue(bx), checkerB.includes(bx));
+    Assertions.assertEquals(rangeD.includesValue(x), checkerD.includes(x));
+    Assertions.assertEquals(
+      rangeD.includesValue(x),
+      passes(() -> checkerD.check(x)));
+  }
+
+  @Test
+  public void testDouble()
+  {
+    final var checker =
+      RangeInclusiveCheckerD.of(RangeInclusiveD.of(0.0, 1.0), "x", "unit");
+    Assertions.assertEquals(0.5, checker.check(0.5));
+
+    final var ex = Assertions.assertThrows(
+      RangeCheckException.class, () -> checker.check(Double.NaN));
+    Assertions.assertEquals(RangeCheckKind.INCLUDED_IN, ex.kind());
+    Assertions.assertEquals(Optional.of("x"), ex.valueName());
+    Assertions.assertFalse(
+      RangeHalfOpenCheckerD.of(RangeHalfOpenD.of(0.0, 1.0), "x", "unit")
+        .includes(Double.NaN));
+  }
+
+  @Test
+  public void testConfiguration()
+  {
+    final var range = RangeInclusiveL.of(0L, 10L);
+    final var checker = RangeInclusiveCheckerL.of(range, "offset", "file");
+    Assertions.assertEquals(range, checker.range());
+    Assertions.assertEquals("offset", checker.valueName());
+    Assertions.assertEquals("file", checker.rangeName());
+    Assertions.assertTrue(checker.toString().contains("offset"));
+    Assertions.assertEquals(0L, checker.lower());
+    Assertions.assertEquals(10L, checker.upper());
+    Assertions.assertEquals(
+      checker, new RangeInclusiveCheckerL(0L, 10L, "offset", "file"));
+
+    Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> new RangeInclusiveCheckerL(1L, 0L, "x", "r"));
+    Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> new RangeHalfOpenCheckerD(Double.NaN, 1.0, "x", "r"));
+
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> RangeInclusiveCheckerL.of(null, "x", "r"));
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> RangeHalfOpenCheckerI.of(RangeHalfOpenI.of(0, 1), null, "r"));
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> RangeInclusiveCheckerB.of(
+        RangeInclusiveB.of(BigInteger.ZERO, BigInteger.ONE), "x", null));
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> RangeHalfOpenCheckerB.of(
+        RangeHalfOpenB.of(BigInteger.ZERO, BigInteger.ONE), "x", "r")
+        .check(null));
+  }
+
+  private static boolean passes(
+    final Runnable check)
+  {
+    try {
+      check.run();
+      return true;
+    } catch (final RangeCheckException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeClassifierI;
+import com.io7m.jranges.RangeClassifierL;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeInclusiveI;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class RangeClassifierTest
+{
+  /**
+   * A bucket of the given length, followed by a gap before the next bucket.
+   */
+
+  private record Step(int length, int gap)
+  {
+  }
+
+  private static Arbitrary<List<Step>> steps()
+  {
+    return Combinators.combine(
+        Arbitraries.integers().between(0, 7),
+        Arbitraries.integers().between(0, 2))
+      .as(Step::new)
+      .list()
+      .ofMaxSize(69);
+  }
+
+  @Provide
+  Arbitrary<List<RangeHalfOpenL>> halfOpenBuckets()
+  {
+    return Combinators.combine(Arbitraries.longs().between(-200L, -101L), steps())
+      .as((start, steps) -> {
+        final var buckets = new ArrayList<RangeHalfOpenL>();
+        long lower = start.longValue();
+        for (final var step : steps) {
+          final long upper = lower + step.length();
+          buckets.add(RangeHalfOpenL.of(lower, upper));
+          lower = upper + step.gap();
+        }
+        return List.copyOf(buckets);
+      })
+      .flatMap(Arbitraries::shuffle);
+  }
+
+  @Provide
+  Arbitrary<List<RangeInclusiveI>> inclusiveBuckets()
+  {
+    return Combinators.combine(Arbitraries.integers().between(-200, -101), steps())
+      .as((start, steps) -> {
+        final var buckets = new ArrayList<RangeInclusiveI>();
+        int lower = start.intValue();
+        for (final var step : steps) {
+          final int upper = lower + step.length();
+          buckets.add(RangeInclusiveI.of(lower, upper));
+          lower = upper + 1 + step.gap();
+        }
+        return List.copyOf(buckets);
+      })
+      .flatMap(Arbitraries::shuffle);
+  }
+
+  @Property
+  public void testClassifyLAgreesWithModel(
+    final @ForAll("halfOpenBuckets") List<RangeHalfOpenL> buckets)
+  {
+    final var classifier =
+      RangeClassifierL.ofHalfOpen(buckets.toArray(new RangeHalfOpenL[0]));
+    Assertions.assertEquals(buckets.size(), classifier.size());
+
+    final var values = new long[600];
+    for (int v = 0; v < values.length; ++v) {
+      values[v] = v - 300L;
+    }
+    final var output = new int[values.length];
+    classifier.classifyAll(values, output);
+
+    for (int v = 0; v < values.length; ++v) {
+      final long x = values[v];
+      int expected = -1;
+      for (int index = 0; index < buckets.size(); ++index) {
+        if (buckets.get(index).includesValue(x)) {
+          expected = index;
+        }
+      }
+      Assertions.assertEquals(expected, classifier.classify(x), "classify " + x);
+      Assertions.assertEquals(expected, output[v]);
+    }
+  }
+
+  @Property
+  public void testClassifyIAgreesWithModel(
+    final @ForAll("inclusiveBuckets") List<RangeInclusiveI> buckets)
+  {
+    final var classifier =
+      RangeClassifierI.ofInclusive(buckets.toArray(new RangeInclusiveI[0]));
+
+    for (int x = -300; x < 600; ++x) {
+      int expected = -1;
+      for (int index = 0; index < buckets.size(); ++index) {
+        if (buckets.get(index).includesValue(x)) {
+          expected = index;
+        }
+      }
+      Assertions.assertEquals(expected, classifier.classify(x), "classify " + x);
+    }
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var classifier = RangeClassifierL.ofHalfOpen();
+    Assertions.assertEquals(0, classifier.size());
+    Assertions.assertEquals(-1, classifier.classify(0L));
+    Assertions.assertEquals(-1, RangeClassifierI.ofInclusive().classify(0));
+  }
+
+  @Test
+  public void testExtremes()
+  {
+    final var classifierL = RangeClassifierL.ofHalfOpen(
+      RangeHalfOpenL.of(0L, Long.MAX_VALUE),
+      RangeHalfOpenL.of(Long.MIN_VALUE, 0L));
+    Assertions.assertEquals(1, classifierL.classify(Long.MIN_VALUE));
+    Assertions.assertEquals(0, classifierL.classify(0L));
+    Assertions.assertEquals(0, classifierL.classify(Long.MAX_VALUE - 1L));
+    Assertions.assertEquals(-1, classifierL.classify(Long.MAX_VALUE));
+
+    final var classifierI = RangeClassifierI.ofInclusive(
+      RangeInclusiveI.of(Integer.MIN_VALUE, -1),
+      RangeInclusiveI.of(0, Integer.MAX_VALUE));
+    Assertions.assertEquals(0, classifierI.classify(Integer.MIN_VALUE));
+    Assertions.assertEquals(1, classifierI.classify(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void testEmptyBucketsNeverMatch()
+  {
+    final var classifier = RangeClassifierL.ofHalfOpen(
+      RangeHalfOpenL.of(10L, 10L),
+      RangeHalfOpenL.of(10L, 20L),
+      RangeHalfOpenL.of(15L, 15L));
+    Assertions.assertEquals(3, classifier.size());
+    Assertions.assertEquals(1, classifier.classify(10L));
+    Assertions.assertEquals(1, classifier.classify(15L));
+    Assertions.assertEquals(RangeHalfOpenL.of(15L, 15L), classifier.bucket(2));
+  }
+
+  @Test
+  public void testOverlapping()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      RangeClassifierL.ofHalfOpen(
+        RangeHalfOpenL.of(0L, 10L),
+        RangeHalfOpenL.of(9L, 20L));
+    });
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      RangeClassifierI.ofInclusive(
+        RangeInclusiveI.of(0, 10),
+        RangeInclusiveI.of(10, 20));
+    });
+  }
+
+  @Test
+  public void testClassifyAllShortOutput()
+  {
+    final var classifier = RangeClassifierL.ofHalfOpen();
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      classifier.classifyAll(new long[2], new int[1]);
+    });
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCoalescing;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeInclusiveL;
+import com.io7m.jranges.RangeSetL;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public final class RangeCoalescingTest
+{
+  private static <T> List<T> drain(
+    final Iterator<T> iterator)
+  {
+    final var result = new ArrayList<T>();
+    iterator.forEachRemaining(result::add);
+    return result;
+  }
+
+  private static List<RangeInclusiveL> modelInclusive(
+    final List<RangeInclusiveL> sorted,
+    final long gap)
+  {
+    final var result = new ArrayList<RangeInclusiveL>();
+    for (final var range : sorted) {
+      if (!result.isEmpty()) {
+        final var last = result.get(result.size() - 1);
+        if (range.lower() <= last.upper() + 1L + gap) {
+          result.set(result.size() - 1, RangeInclusiveL.of(
+            last.lower(), Math.max(last.upper(), range.upper())));
+          continue;
+        }
+      }
+      result.add(range);
+    }
+    return result;
+  }
+
+  private static List<RangeHalfOpenL> modelHalfOpen(
+    final List<RangeHalfOpenL> sorted,
+    final long gap)
+  {
+    final var result = new ArrayList<RangeHalfOpenL>();
+    for (final var range : sorted) {
+      if (range.lower() == range.upper()) {
+        continue;
+      }
+      if (!result.isEmpty()) {
+        final var last = result.get(result.size() - 1);
+        if (range.lower() <= last.upper() + gap) {
+          result.set(result.size() - 1, RangeHalfOpenL.of(
+            last.lower(), Math.max(last.upper(), range.upper())));
+          continue;
+        }
+      }
+      result.add(range);
+    }
+    return result;
+  }
+
+  @Provide
+  Arbitrary<List<RangeInclusiveL>> sortedInclusive()
+  {
+    return Combinators.combine(
+        Arbitraries.longs().between(0L, 999L),
+        Arbitraries.longs().between(0L, 7L))
+      .as((lower, length) -> RangeInclusiveL.of(lower, lower + length))
+      .list()
+      .ofMaxSize(199)
+      .map(ranges -> ranges.stream()
+        .sorted(Comparator.comparingLong(RangeInclusiveL::lower))
+        .toList());
+  }
+
+  @Provide
+  Arbitrary<List<RangeHalfOpenL>> sortedHalfOpen()
+  {
+    return Combinators.combine(
+        Arbitraries.longs().between(0L, 999L),
+        Arbitraries.longs().between(0L, 7L))
+      .as((lower, length) -> RangeHalfOpenL.of(lower, lower + length))
+      .list()
+      .ofMaxSize(199)
+      .map(ranges -> ranges.stream()
+        .sorted(Comparator.comparingLong(RangeHalfOpenL::lower))
+        .toList());
+  }
+
+  @Property
+  public void testInclusiveAgreesWithModel(
+    final @ForAll("sortedInclusive") List<RangeInclusiveL> ranges,
+    final @ForAll @IntRange(min = 0, max = 4) int gap)
+  {
+    final var set = RangeSetL.create();
+    ranges.forEach(set::add);
+
+    final var expected = modelInclusive(ranges, gap);
+    Assertions.assertEquals(
+      expected,
+      drain(RangeCoalescing.coalesceInclusiveL(ranges.iterator(), gap)));
+    Assertions.assertEquals(
+      expected,
+      ranges.stream().collect(RangeCoalescing.toCoalescedInclusiveL(gap)));
+    Assertions.assertEquals(
+      expected,
+      ranges.parallelStream()
+        .collect(RangeCoalescing.toCoalescedInclusiveL(gap)));
+
+    if (gap == 0) {
+      Assertions.assertEquals(set.ranges(), expected);
+    }
+  }
+
+  @Property
+  public void testHalfOpenAgreesWithModel(
+    final @ForAll("sortedHalfOpen") List<RangeHalfOpenL> ranges,
+    final @ForAll @IntRange(min = 0, max = 4) int gap)
+  {
+    final var expected = modelHalfOpen(ranges, gap);
+    Assertions.assertEquals(
+      expected,
+      drain(RangeCoalescing.coalesceHalfOpenL(ranges.iterator(), gap)));
+    Assertions.assertEquals(
+      expected,
+      ranges.parallelStream()
+        .collect(RangeCoalescing.toCoalescedHalfOpenL(gap)));
+  }
+
+  @Test
+  public void testUnmergedRangesAreReturnedAsIs()
+  {
+    final var a = RangeInclusiveL.of(0L, 3L);
+    final var b = RangeInclusiveL.of(10L, 13L);
+    final var result =
+      drain(RangeCoalescing.coalesceInclusiveL(List.of(a, b).iterator()));
+    Assertions.assertSame(a, result.get(0));
+    Assertions.assertSame(b, result.get(1));
+  }
+
+  @Test
+  public void testExtremes()
+  {
+    final var inclusive = List.of(
+      RangeInclusiveL.of(Long.MIN_VALUE, Long.MIN_VALUE),
+      RangeInclusiveL.of(0L, 0L));
+    Assertions.assertEquals(
+      inclusive,
+      drain(RangeCoalescing.coalesceInclusiveL(
+        inclusive.iterator(), Long.MAX_VALUE - 1L)));
+    Assertions.assertEquals(
+      List.of(RangeInclusiveL.of(Long.MIN_VALUE, 0L)),
+      drain(RangeCoalescing.coalesceInclusiveL(
+        inclusive.iterator(), Long.MAX_VALUE)));
+
+    final var halfOpen = List.of(
+      RangeHalfOpenL.of(Long.MIN_VALUE, 0L),
+      RangeHalfOpenL.of(0L, Long.MAX_VALUE));
+    Assertions.assertEquals(
+      List.of(RangeHalfOpenL.of(Long.MIN_VALUE, Long.MAX_VALUE)),
+      halfOpen.stream().collect(RangeCoalescing.toCoalescedHalfOpenL()));
+  }
+
+  @Test
+  public void testUnsorted()
+  {
+    final var ranges = List.of(
+      RangeInclusiveL.of(10L, 20L),
+      RangeInclusiveL.of(0L, 5L));
+    final var iterator = RangeCoalescing.coalesceInclusiveL(ranges.iterator());
+    Assertions.assertThrows(IllegalArgumentException.class, iterator::next);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      ranges.stream().collect(RangeCoalescing.toCoalescedInclusiveL());
+    });
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    final var iterator =
+      RangeCoalescing.coalesceHalfOpenL(List.<RangeHalfOpenL>of().iterator());
+    Assertions.assertFalse(iterator.hasNext());
+    Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      RangeCoalescing.toCoalescedHalfOpenL(-1L);
+    });
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      RangeCoalescing.coalesceInclusiveL(List.<RangeInclusiveL>of().iterator(), -1L);
+    });
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeChunkPolicyType;
+import com.io7m.jranges.RangeExecutor;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeInclusiveL;
+import com.io7m.jranges.RangeSetL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class RangeExecutorTest
+{
+  private static List<RangeHalfOpenL> sorted(
+    final ConcurrentLinkedQueue<RangeHalfOpenL> chunks)
+  {
+    final var result = new ArrayList<>(chunks);
+    result.sort(Comparator.comparingLong(RangeHalfOpenL::lower));
+    return result;
+  }
+
+  @Property(tries = 100)
+  public void testChunksCoverWork(
+    final @ForAll @LongRange(min = -50000L, max = 49999L) long lower,
+    final @ForAll @LongRange(min = 0L, max = 4999L) long length,
+    final @ForAll @LongRange(min = 1L, max = 200L) long size,
+    final @ForAll @IntRange(min = 1, max = 8) int maximum,
+    final @ForAll boolean aligned,
+    final @ForAll boolean virtual)
+    throws Exception
+  {
+    final long upper = lower + length;
+    final var executor = virtual
+      ? RangeExecutor.createVirtual(maximum)
+      : RangeExecutor.create(ForkJoinPool.commonPool(), maximum);
+    final var policy = aligned
+      ? RangeChunkPolicyType.aligned(size)
+      : RangeChunkPolicyType.fixed(size);
+
+    final var chunks = new ConcurrentLinkedQueue<RangeHalfOpenL>();
+    final var inFlight = new AtomicInteger();
+    final var peak = new AtomicInteger();
+    final var execution =
+      executor.execute(RangeHalfOpenL.of(lower, upper), policy, chunk -> {
+        peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        Thread.yield();
+        chunks.add(chunk);
+        inFlight.decrementAndGet();
+      });
+
+    execution.await();
+    Assertions.assertTrue(execution.isDone());
+    Assertions.assertFalse(execution.isCancelled());
+    Assertions.assertTrue(peak.get() <= maximum);
+
+    long next = lower;
+    for (final var chunk : sorted(chunks)) {
+      Assertions.assertEquals(next, chunk.lower());
+      Assertions.assertTrue(chunk.interval() > 0L);
+      Assertions.assertTrue(chunk.interval() <= size);
+      if (aligned && chunk.upper() != upper) {
+        Assertions.assertEquals(0L, Math.floorMod(chunk.upper(), size));
+      }
+      next = chunk.upper();
+    }
+    Assertions.assertEquals(upper, next);
+
+    final var expected = RangeSetL.create();
+    if (upper > lower) {
+      expected.add(lower, upper - 1L);
+    }
+    Assertions.assertEquals(expected, execution.completed());
+  }
+
+  @Test
+  public void testFullWidth()
+    throws Exception
+  {
+    final var chunks = new ConcurrentLinkedQueue<RangeHalfOpenL>();
+    final var work = RangeHalfOpenL.of(Long.MIN_VALUE, Long.MAX_VALUE);
+    final var execution =
+      RangeExecutor.createVirtual(2)
+        .execute(work, RangeChunkPolicyType.aligned(1L << 62), chunks::add);
+    execution.await();
+
+    Assertions.assertEquals(
+      List.of(
+        RangeHalfOpenL.of(Long.MIN_VALUE, -(1L << 62)),
+        RangeHalfOpenL.of(-(1L << 62), 0L),
+        RangeHalfOpenL.of(0L, 1L << 62),
+        RangeHalfOpenL.of(1L << 62, Long.MAX_VALUE)),
+      sorted(chunks));
+    Assertions.assertEquals(
+      List.of(RangeInclusiveL.of(Long.MIN_VALUE, Long.MAX_VALUE - 1L)),
+      execution.completed().ranges());
+
+    chunks.clear();
+    RangeExecutor.createVirtual(1)
+      .execute(work, RangeChunkPolicyType.fixed(Long.MAX_VALUE), chunks::add)
+      .await();
+    Assertions.assertEquals(
+      List.of(
+        RangeHalfOpenL.of(Long.MIN_VALUE, -1L),
+        RangeHalfOpenL.of(-1L, Long.MAX_VALUE - 1L),
+        RangeHalfOpenL.of(Long.MAX_VALUE - 1L, Long.MAX_VALUE)),
+      sorted(chunks));
+  }
+
+  @Test
+  public void testEmpty()
+    throws Exception
+  {
+    final var execution =
+      RangeExecutor.createVirtual(1)
+        .execute(
+          RangeHalfOpenL.of(10L, 10L),
+          RangeChunkPolicyType.fixed(1L),
+          chunk -> Assertions.fail());
+    execution.await();
+    Assertions.assertTrue(execution.completed().isEmpty());
+    Assertions.assertFalse(execution.cancel());
+  }
+
+  @Test
+  public void testFailure()
+  {
+    final var execution =
+      RangeExecutor.createVirtual(1)
+        .execute(
+          RangeHalfOpenL.of(0L, 100L),
+          RangeChunkPolicyType.fixed(10L),
+          chunk -> {
+            if (chunk.includesValue(55L)) {
+              throw new IOException("Failed");
+            }
+          });
+
+    final var ex =
+      Assertions.assertThrows(ExecutionException.class, execution::await);
+    Assertions.assertInstanceOf(IOException.class, ex.getCause());
+    Assertions.assertTrue(execution.isCancelled());
+    Assertions.assertEquals(
+      List.of(RangeInclusiveL.of(0L, 49L)),
+      execution.completed().ranges());
+  }
+
+  @Test
+  public void testSharedFailure()
+  {
+    final var shared = new IOException("Failed");
+    final var barrier = new CyclicBarrier(2);
+    final var execution =
+      RangeExecutor.createVirtual(2)
+        .execute(
+          RangeHalfOpenL.of(0L, 20L),
+          RangeChunkPolicyType.fixed(10L),
+          chunk -> {
+            barrier.await(10L, TimeUnit.SECONDS);
+            throw shared;
+          });
+
+    final var ex =
+      Assertions.assertThrows(ExecutionException.class, execution::await);
+    Assertions.assertSame(shared, ex.getCause());
+    Assertions.assertEquals(0, shared.getSuppressed().length);
+  }
+
+  @Test
+  public void testBadPolicy()
+  {
+    final var execution =
+      RangeExecutor.createVirtual(1)
+        .execute(
+          RangeHalfOpenL.of(0L, 100L),
+          (start, end) -> start,
+          chunk -> Assertions.fail());
+
+    final var ex =
+      Assertions.assertThrows(ExecutionException.class, execution::await);
+    Assertions.assertInstanceOf(RangeCheckException.class, ex.getCause());
+  }
+
+  @Test
+  public void testCancel()
+    throws Exception
+  {
+    final var started = new CountDownLatch(2);
+    final var release = new CountDownLatch(1);
+    final var execution =
+      RangeExecutor.createVirtual(2)
+        .execute(
+          RangeHalfOpenL.of(0L, Long.MAX_VALUE),
+          RangeChunkPolicyType.fixed(1000L),
+          chunk -> {
+            started.countDown();
+            release.await();
+          });
+
+    started.await();
+    Assertions.assertTrue(execution.cancel());
+    Assertions.assertTrue(execution.isCancelled());
+    release.countDown();
+
+    Assertions.assertThrows(CancellationException.class, execution::await);
+    Assertions.assertTrue(execution.isDone());
+    Assertions.assertTrue(
+      execution.completed().span()
+        .map(s -> s.upper() < 3000L)
+        .orElse(Boolean.TRUE));
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> RangeExecutor.createVirtual(0));
+    Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> RangeChunkPolicyType.fixed(0L));
+    Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> RangeChunkPolicyType.aligned(-1L));
+    Assertions.assertEquals(3, RangeExecutor.createVirtual(3).maximumInFlight());
+  }
+}
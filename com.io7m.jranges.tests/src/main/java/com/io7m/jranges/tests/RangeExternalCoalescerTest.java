@@ -0,0 +1,279 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeExternalCoalescer;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeSetL;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class RangeExternalCoalescerTest
+{
+  private static List<RangeHalfOpenL> toHalfOpen(
+    final RangeSetL set)
+  {
+    final var result = new ArrayList<RangeHalfOpenL>();
+    for (int index = 0; index < set.rangeCount(); ++index) {
+      result.add(RangeHalfOpenL.of(set.lower(index), set.upper(index) + 1L));
+    }
+    return result;
+  }
+
+  private static List<RangeHalfOpenL> gapsOf(
+    final List<RangeHalfOpenL> ranges)
+  {
+    final var result = new ArrayList<RangeHalfOpenL>();
+    for (int index = 1; index < ranges.size(); ++index) {
+      result.add(RangeHalfOpenL.of(
+        ranges.get(index - 1).upper(), ranges.get(index).lower()));
+    }
+    return result;
+  }
+
+  @Provide
+  Arbitrary<List<RangeHalfOpenL>> ranges()
+  {
+    return Combinators.combine(
+        Arbitraries.longs().between(-1000L, 999L),
+        Arbitraries.longs().between(0L, 11L))
+      .as((lower, length) -> RangeHalfOpenL.of(lower, lower + length))
+      .list()
+      .ofMaxSize(299);
+  }
+
+  @Property(tries = 200)
+  public void testAgreesWithModel(
+    final @ForAll @IntRange(min = 1, max = 16) int rangesPerRun,
+    final @ForAll("ranges") List<RangeHalfOpenL> ranges)
+    throws IOException
+  {
+    final var directory = Files.createTempDirectory("jranges");
+    final var model = RangeSetL.create();
+
+    try (var coalescer = RangeExternalCoalescer.create(directory, rangesPerRun)) {
+      for (final var range : ranges) {
+        coalescer.add(range);
+        if (range.lower() < range.upper()) {
+          model.add(range.lower(), range.upper() - 1L);
+        }
+      }
+
+      final var expected = toHalfOpen(model);
+      try (var stream = coalescer.coalesced()) {
+        Assertions.assertEquals(expected, stream.toList());
+      }
+      try (var stream = coalescer.gaps()) {
+        Assertions.assertEquals(gapsOf(expected), stream.toList());
+      }
+    } finally {
+      try (var files = Files.list(directory)) {
+        Assertions.assertEquals(List.of(), files.toList());
+      }
+      Files.delete(directory);
+    }
+  }
+
+  @Test
+  public void testSpillsAndDeletesRuns(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    final var coalescer = RangeExternalCoalescer.create(directory, 4);
+    for (long index = 0L; index < 100L; ++index) {
+      coalescer.add(index * 10L, index * 10L + 5L);
+    }
+    coalescer.add(7L, 7L);
+
+    Assertions.assertEquals(100L, coalescer.size());
+    Assertions.assertEquals(24, coalescer.runCount());
+    try (var files = Files.list(directory)) {
+      Assertions.assertEquals(24L, files.count());
+    }
+    try (var stream = coalescer.coalesced()) {
+      Assertions.assertEquals(100L, stream.count());
+    }
+
+    coalescer.close();
+    try (var files = Files.list(directory)) {
+      Assertions.assertEquals(0L, files.count());
+    }
+    Assertions.assertThrows(IllegalStateException.class, () -> {
+      coalescer.add(0L, 1L);
+    });
+  }
+
+  @Test
+  public void testMultiPassMerge(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    final var model = RangeSetL.create();
+    try (var coalescer = RangeExternalCoalescer.create(directory, 1)) {
+      for (long index = 0L; index < 2000L; ++index) {
+        final long lower = (index * 7919L) % 10000L;
+        final long upper = lower + index % 7L;
+        coalescer.add(lower, upper);
+        if (lower < upper) {
+          model.add(lower, upper - 1L);
+        }
+      }
+
+      final var expected = toHalfOpen(model);
+      try (var stream = coalescer.coalesced()) {
+        Assertions.assertEquals(expected, stream.toList());
+      }
+      Assertions.assertTrue(coalescer.runCount() < 128);
+      try (var files = Files.list(directory)) {
+        Assertions.assertEquals((long) coalescer.runCount(), files.count());
+      }
+      try (var stream = coalescer.gaps()) {
+        Assertions.assertEquals(gapsOf(expected), stream.toList());
+      }
+    }
+    try (var files = Files.list(directory)) {
+      Assertions.assertEquals(0L, files.count());
+    }
+  }
+
+  @Test
+  public void testCloseClosesOpenStreams(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    final var coalescer = RangeExternalCoalescer.create(directory, 1);
+    for (long index = 0L; index < 10L; ++index) {
+      coalescer.add(index * 10L, index * 10L + 5L);
+    }
+
+    final var coalesced = coalescer.coalesced();
+    final var iterator = coalesced.iterator();
+    Assertions.assertEquals(RangeHalfOpenL.of(0L, 5L), iterator.next());
+    final var gaps = coalescer.gaps();
+
+    coalescer.close();
+    try (var files = Files.list(directory)) {
+      Assertions.assertEquals(0L, files.count());
+    }
+    Assertions.assertThrows(UncheckedIOException.class, iterator::next);
+    coalesced.close();
+    gaps.close();
+  }
+
+  @Test
+  public void testMergedRunsKeptWhileOpen(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    try (var coalescer = RangeExternalCoalescer.create(directory, 1)) {
+      for (long index = 0L; index < 100L; ++index) {
+        coalescer.add(index * 10L, index * 10L + 5L);
+      }
+
+      try (var first = coalescer.coalesced()) {
+        for (long index = 100L; index < 200L; ++index) {
+          coalescer.add(index * 10L, index * 10L + 5L);
+        }
+        try (var second = coalescer.coalesced()) {
+          Assertions.assertEquals(200L, second.count());
+        }
+        try (var files = Files.list(directory)) {
+          Assertions.assertTrue(files.count() > coalescer.runCount());
+        }
+        Assertions.assertEquals(100L, first.count());
+      }
+
+      try (var files = Files.list(directory)) {
+        Assertions.assertEquals((long) coalescer.runCount(), files.count());
+      }
+    }
+  }
+
+  @Test
+  public void testAdjacentAndExtremes(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    try (var coalescer = RangeExternalCoalescer.create(directory, 1)) {
+      coalescer.add(Long.MIN_VALUE, -4L);
+      coalescer.add(Long.MAX_VALUE - 1L, Long.MAX_VALUE);
+      coalescer.add(0L, 4L);
+      coalescer.add(-4L, 0L);
+      coalescer.add(10L, 12L);
+
+      try (var stream = coalescer.coalesced()) {
+        Assertions.assertEquals(
+          List.of(
+            RangeHalfOpenL.of(Long.MIN_VALUE, 4L),
+            RangeHalfOpenL.of(10L, 12L),
+            RangeHalfOpenL.of(Long.MAX_VALUE - 1L, Long.MAX_VALUE)),
+          stream.toList());
+      }
+      try (var stream = coalescer.gaps()) {
+        Assertions.assertEquals(
+          List.of(
+            RangeHalfOpenL.of(4L, 10L),
+            RangeHalfOpenL.of(12L, Long.MAX_VALUE - 1L)),
+          stream.toList());
+      }
+    }
+  }
+
+  @Test
+  public void testEmpty(
+    final @TempDir Path directory)
+    throws IOException
+  {
+    try (var coalescer = RangeExternalCoalescer.create(directory)) {
+      try (var stream = coalescer.coalesced()) {
+        Assertions.assertEquals(0L, stream.count());
+      }
+      try (var stream = coalescer.gaps()) {
+        Assertions.assertEquals(0L, stream.count());
+      }
+    }
+  }
+
+  @Test
+  public void testInvalid(
+    final @TempDir Path directory)
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      RangeExternalCoalescer.create(directory, 0);
+    });
+    Assertions.assertThrows(RangeCheckException.class, () -> {
+      RangeExternalCoalescer.create(directory).add(1L, 0L);
+    });
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeFilter;
+import com.io7m.jranges.RangeInclusiveD;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jranges.RangeInclusiveL;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+public final class RangeFilterTest
+{
+  private static int[] expectedSelection(
+    final int from,
+    final int to,
+    final IntPredicate included)
+  {
+    return IntStream.range(from, to)
+      .filter(included)
+      .toArray();
+  }
+
+  private static void checkSelection(
+    final int[] expected,
+    final int[] selection,
+    final int offset,
+    final int count)
+  {
+    Assertions.assertEquals(expected.length, count);
+    Assertions.assertArrayEquals(
+      expected, Arrays.copyOfRange(selection, offset, offset + count));
+  }
+
+  private static void checkBitmap(
+    final int[] expected,
+    final int from,
+    final int to,
+    final long[] bitmap,
+    final int count)
+  {
+    Assertions.assertEquals(expected.length, count);
+
+    final var size = to - from;
+    int e = 0;
+    for (int k = 0; k < size; ++k) {
+      final var set = (bitmap[k / 64] & (1L << (k % 64))) != 0L;
+      final var want = e < expected.length && expected[e] == from + k;
+      Assertions.assertEquals(want, set);
+      if (want) {
+        ++e;
+      }
+    }
+
+    final var words = (size + 63) / 64;
+    if (size % 64 != 0) {
+      Assertions.assertEquals(0L, bitmap[words - 1] >>> (size % 64));
+    }
+    for (int w = words; w < bitmap.length; ++w) {
+      Assertions.assertEquals(-1L, bitmap[w]);
+    }
+  }
+
+  @Property
+  public void testAgreesWithIncludesValue(
+    final @ForAll @Size(max = 200) int[] values,
+    final @ForAll @IntRange(min = -20, max = 20) int low,
+    final @ForAll @IntRange(min = 0, max = 40) int size,
+    final @ForAll @IntRange(min = 0, max = 200) int from,
+    final @ForAll @IntRange(min = 0, max = 200) int count,
+    final @ForAll @IntRange(min = 0, max = 3) int offset)
+  {
+    for (int index = 0; index < values.length; ++index) {
+      values[index] = values[index] % 64;
+    }
+
+    final var start = Math.min(from, values.length);
+    final var end = Math.min(start + count, values.length);
+    final var ri = RangeInclusiveI.of(low, low + size);
+    final var rl = RangeInclusiveL.of(low, (long) low + size);
+    final var rd = RangeInclusiveD.of(low, (double) low + size);
+    final var vl = Arrays.stream(values).asLongStream().toArray();
+    final var vd = Arrays.stream(values).asDoubleStream().toArray();
+    final var expected =
+      expectedSelection(start, end, i -> ri.includesValue(values[i]));
+
+    final var selection = new int[offset + (end - start)];
+    checkSelection(
+      expected,
+      selection,
+      offset,
+      RangeFilter.selectIncludedInInteger(
+        values, start, end, ri, selection, offset));
+    checkSelection(
+      expected,
+      selection,
+      offset,
+      RangeFilter.selectIncludedInLong(vl, start, end, rl, selection, offset));
+    checkSelection(
+      expected,
+      selection,
+      offset,
+      RangeFilter.selectIncludedInDouble(vd, start, end, rd, selection, offset));
+
+    final var bitmap = new long[((end - start) + 63) / 64 + 1];
+    Arrays.fill(bitmap, -1L);
+    checkBitmap(
+      expected,
+      start,
+      end,
+      bitmap,
+      RangeFilter.maskIncludedInInteger(values, start, end, ri, bitmap));
+    Arrays.fill(bitmap, -1L);
+    checkBitmap(
+      expected,
+      start,
+      end,
+      bitmap,
+      RangeFilter.maskIncludedInLong(vl, start, end, rl, bitmap));
+    Arrays.fill(bitmap, -1L);
+    checkBitmap(
+      expected,
+      start,
+      end,
+      bitmap,
+      RangeFilter.maskIncludedInDouble(vd, start, end, rd, bitmap));
+  }
+
+  @Test
+  public void testExtremeBounds()
+  {
+    final var values = new long[]{Long.MIN_VALUE, 0L, Long.MAX_VALUE};
+    final var selection = new int[3];
+    final var range = RangeInclusiveL.of(Long.MIN_VALUE, Long.MAX_VALUE);
+
+    Assertions.assertEquals(
+      3,
+      RangeFilter.selectIncludedInLong(values, 0, 3, range, selection, 0));
+    Assertions.assertEquals(0, selection[0]);
+    Assertions.assertEquals(1, selection[1]);
+
+    final var ints = new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE};
+    final var bitmap = new long[1];
+    Assertions.assertEquals(
+      3,
+      RangeFilter.maskIncludedInInteger(
+        ints, 0, 3, RangeInclusiveI.of(Integer.MIN_VALUE, Integer.MAX_VALUE), bitmap));
+    Assertions.assertEquals(0b111L, bitmap[0]);
+  }
+
+  @Test
+  public void testNaN()
+  {
+    final var values = new double[]{0.5, Double.NaN, -0.0};
+    final var bitmap = new long[1];
+    Assertions.assertEquals(
+      2,
+      RangeFilter.maskIncludedInDouble(
+        values, 0, 3, RangeInclusiveD.of(0.0, 1.0), bitmap));
+    Assertions.assertEquals(0b101L, bitmap[0]);
+  }
+
+  @Test
+  public void testBadIndices()
+  {
+    final var values = new int[8];
+    final var range = RangeInclusiveI.of(0, 1);
+
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      RangeFilter.selectIncludedInInteger(values, 0, 8, range, new int[7], 0);
+    });
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      RangeFilter.selectIncludedInInteger(values, 0, 8, range, new int[8], 1);
+    });
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      RangeFilter.selectIncludedInInteger(values, 4, 9, range, new int[8], 0);
+    });
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      RangeFilter.maskIncludedInInteger(values, 0, 8, range, new long[0]);
+    });
+  }
+}
@@ -516,4 +516,37 @@ public class RangeHalfOpenCheckTest
         8, "Value", range, "Range"));
   }
 
+  @Test
+  public void testIncludedInPrimitiveBounds()
+  {
+    Assertions.assertEquals(
+      3L, RangeHalfOpenCheck.checkIncludedInLong(3L, "x", 0L, 5L, "r"));
+    Assertions.assertEquals(
+      3, RangeHalfOpenCheck.checkIncludedInInteger(3, "x", 0, 5, "r"));
+
+    final var exL = Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> RangeHalfOpenCheck.checkIncludedInLong(7L, "x", 0L, 5L, "r"));
+    final var exLRange = Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> RangeHalfOpenCheck.checkIncludedInLong(7L, "x", RangeHalfOpenL.of(0L, 5L), "r"));
+    Assertions.assertEquals(exLRange.getMessage(), exL.getMessage());
+    Assertions.assertEquals(exLRange.kind(), exL.kind());
+
+    final var exI = Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> RangeHalfOpenCheck.checkIncludedInInteger(-1, "x", 0, 5, "r"));
+    final var exIRange = Assertions.assertThrows(
+      RangeCheckException.class,
+      () -> RangeHalfOpenCheck.checkIncludedInInteger(-1, "x", RangeHalfOpenI.of(0, 5), "r"));
+    Assertions.assertEquals(exIRange.getMessage(), exI.getMessage());
+    Assertions.assertEquals(exIRange.kind(), exI.kind());
+
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> RangeHalfOpenCheck.checkIncludedInLong(3L, null, 0L, 5L, "r"));
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> RangeHalfOpenCheck.checkIncludedInInteger(3, "x", 0, 5, null));
+  }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeHalfOpenB;
+import com.io7m.jranges.RangeHalfOpenCheck;
+import com.io7m.jranges.RangeHalfOpenD;
+import com.io7m.jranges.RangeHalfOpenI;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeHalfOpenTest;
+import com.io7m.jranges.RangeTest;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+public final class RangeHalfOpenTestTest
+{
+  @Test
+  public void testClassifyDouble()
+  {
+    final var range = RangeHalfOpenD.of(0.0, 1.0);
+    Assertions.assertEquals(RangeTest.BELOW, RangeHalfOpenTest.classifyDouble(-0.5, range));
+    Assertions.assertEquals(RangeTest.INSIDE, RangeHalfOpenTest.classifyDouble(0.0, range));
+    Assertions.assertEquals(RangeTest.ABOVE, RangeHalfOpenTest.classifyDouble(1.0, range));
+    Assertions.assertEquals(RangeTest.ABOVE, RangeHalfOpenTest.classifyDouble(Double.NaN, range));
+    Assertions.assertTrue(RangeHalfOpenTest.isIncludedInDouble(0.5, range));
+    Assertions.assertFalse(RangeHalfOpenTest.isIncludedInDouble(1.0, range));
+  }
+
+  @Test
+  public void testClassifyBig()
+  {
+    final var range = RangeHalfOpenB.of(BigInteger.ONE, BigInteger.TWO);
+    Assertions.assertEquals(RangeTest.BELOW, RangeHalfOpenTest.classifyBig(BigInteger.ZERO, range));
+    Assertions.assertEquals(RangeTest.INSIDE, RangeHalfOpenTest.classifyBig(BigInteger.ONE, range));
+    Assertions.assertEquals(RangeTest.ABOVE, RangeHalfOpenTest.classifyBig(BigInteger.TWO, range));
+    Assertions.assertTrue(RangeHalfOpenTest.isIncludedInBig(BigInteger.ONE, range));
+    Assertions.assertFalse(RangeHalfOpenTest.isIncludedInBig(BigInteger.TWO, range));
+  }
+
+  @Property
+  public void testClassifyLong(
+    final @ForAll @IntRange(min = -20, max = 20) int low,
+    final @ForAll @IntRange(min = 0, max = 20) int size,
+    final @ForAll @IntRange(min = -50, max = 50) int x)
+  {
+    final var range = RangeHalfOpenL.of(low, low + size);
+    final var c = RangeHalfOpenTest.classifyLong(x, range);
+
+    Assertions.assertEquals(range.includesValue(x), c == RangeTest.INSIDE);
+    Assertions.assertEquals(range.includesValue(x), RangeHalfOpenTest.isIncludedInLong(x, range));
+    Assertions.assertEquals(x < range.lower(), c == RangeTest.BELOW);
+    Assertions.assertEquals(x >= range.upper() && x >= range.lower(), c == RangeTest.ABOVE);
+
+    if (c == RangeTest.INSIDE) {
+      Assertions.assertEquals(x, RangeHalfOpenCheck.checkIncludedInLong(x, "x", range, "r"));
+    } else {
+      Assertions.assertThrows(RangeCheckException.class, () -> {
+        RangeHalfOpenCheck.checkIncludedInLong(x, "x", range, "r");
+      });
+    }
+  }
+
+  @Property
+  public void testClassifyInteger(
+    final @ForAll @IntRange(min = -20, max = 20) int low,
+    final @ForAll @IntRange(min = 0, max = 20) int size,
+    final @ForAll @IntRange(min = -50, max = 50) int x)
+  {
+    final var range = RangeHalfOpenI.of(low, low + size);
+    final var c = RangeHalfOpenTest.classifyInteger(x, range);
+
+    Assertions.assertEquals(range.includesValue(x), c == RangeTest.INSIDE);
+    Assertions.assertEquals(range.includesValue(x), RangeHalfOpenTest.isIncludedInInteger(x, range));
+    Assertions.assertEquals(x < range.lower(), c == RangeTest.BELOW);
+  }
+
+  @Property
+  public void testPrimitiveBoundsAgree(
+    final @ForAll @IntRange(min = -10, max = 10) int x,
+    final @ForAll @IntRange(min = -10, max = 10) int lower,
+    final @ForAll @IntRange(min = -10, max = 10) int upper)
+  {
+    final var expected = x >= lower && x < upper;
+    Assertions.assertEquals(expected, RangeHalfOpenTest.isIncludedInLong(x, lower, upper));
+    Assertions.assertEquals(expected, RangeHalfOpenTest.isIncludedInInteger(x, lower, upper));
+    Assertions.assertEquals(expected, RangeHalfOpenTest.isIncludedInDouble(x, lower, upper));
+    Assertions.assertEquals(
+      expected,
+      passes(() -> RangeHalfOpenCheck.checkIncludedInLong(x, "x", lower, upper, "r")));
+    Assertions.assertEquals(
+      expected,
+      passes(() -> RangeHalfOpenCheck.checkIncludedInInteger(x, "x", lower, upper, "r")));
+  }
+
+  private static boolean passes(
+    final Runnable check)
+  {
+    try {
+      check.run();
+      return true;
+    } catch (final RangeCheckException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeHalfOpenI;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jranges.RangeInclusiveL;
+import com.io7m.jranges.RangeInterner;
+import com.io7m.jranges.Ranges;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+public final class RangeInternerTest
+{
+  @Property
+  public void testEqualToConstructed(
+    final @ForAll @IntRange(min = -500, max = 499) int lowerI,
+    final @ForAll @IntRange(min = 0, max = 999) int lengthI,
+    final @ForAll @LongRange(min = Long.MIN_VALUE >> 1, max = Long.MAX_VALUE >> 1) long lowerL,
+    final @ForAll @LongRange(min = 0L, max = Long.MAX_VALUE >>> 2) long lengthL)
+  {
+    final int upperI = lowerI + lengthI;
+    final long upperL = lowerL + lengthL;
+
+    Assertions.assertEquals(
+      RangeInclusiveI.of(lowerI, upperI),
+      RangeInterner.inclusiveI(lowerI, upperI));
+    Assertions.assertEquals(
+      RangeHalfOpenI.of(lowerI, upperI),
+      RangeInterner.halfOpenI(lowerI, upperI));
+    Assertions.assertEquals(
+      RangeInclusiveL.of(lowerL, upperL),
+      RangeInterner.inclusiveL(lowerL, upperL));
+    Assertions.assertEquals(
+      RangeHalfOpenL.of(lowerL, upperL),
+      RangeInterner.halfOpenL(lowerL, upperL));
+  }
+
+  @Test
+  public void testCanonical()
+  {
+    Assertions.assertSame(
+      RangeInterner.inclusiveI(0, 4095),
+      RangeInterner.inclusiveI(0, 4095));
+    Assertions.assertSame(
+      RangeInterner.inclusiveL(4096L, 8191L),
+      RangeInterner.inclusiveL(4096L, 8191L));
+    Assertions.assertSame(
+      RangeInterner.halfOpenI(0, 4096),
+      RangeInterner.halfOpenI(0, 4096));
+    Assertions.assertSame(
+      RangeInterner.halfOpenL(4096L, 8192L),
+      RangeInterner.halfOpenL(4096L, 8192L));
+  }
+
+  @Test
+  public void testPredefined()
+  {
+    Assertions.assertSame(
+      Ranges.UNSIGNED_BYTE_INTEGER, RangeInterner.inclusiveI(0, 255));
+    Assertions.assertSame(
+      Ranges.UNSIGNED_SHORT_INTEGER, RangeInterner.inclusiveI(0, 65535));
+    Assertions.assertSame(
+      Ranges.NATURAL_INTEGER, RangeInterner.inclusiveI(0, Integer.MAX_VALUE));
+    Assertions.assertSame(
+      Ranges.POSITIVE_INTEGER, RangeInterner.inclusiveI(1, Integer.MAX_VALUE));
+    Assertions.assertSame(
+      Ranges.UNSIGNED_BYTE_LONG, RangeInterner.inclusiveL(0L, 255L));
+    Assertions.assertSame(
+      Ranges.UNSIGNED_SHORT_LONG, RangeInterner.inclusiveL(0L, 65535L));
+    Assertions.assertSame(
+      Ranges.UNSIGNED_INTEGER_LONG, RangeInterner.inclusiveL(0L, 0xffff_ffffL));
+    Assertions.assertSame(
+      Ranges.NATURAL_LONG, RangeInterner.inclusiveL(0L, Long.MAX_VALUE));
+    Assertions.assertSame(
+      Ranges.POSITIVE_LONG, RangeInterner.inclusiveL(1L, Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    Assertions.assertThrows(
+      RangeCheckException.class, () -> RangeInterner.inclusiveI(1, 0));
+    Assertions.assertThrows(
+      RangeCheckException.class, () -> RangeInterner.inclusiveL(1L, 0L));
+    Assertions.assertThrows(
+      RangeCheckException.class, () -> RangeInterner.halfOpenI(1, 0));
+    Assertions.assertThrows(
+      RangeCheckException.class, () -> RangeInterner.halfOpenL(1L, 0L));
+  }
+
+  @Test
+  public void testConcurrent()
+    throws Exception
+  {
+    final var tasks = new ArrayList<Callable<Void>>();
+    for (int t = 0; t < 8; ++t) {
+      final long offset = t * 613L;
+      tasks.add(() -> {
+        for (int index = 0; index < 100000; ++index) {
+          final long lower = ((index * 7L + offset) & 4095L) * 4096L;
+          final var range = RangeInterner.halfOpenL(lower, lower + 4096L);
+          Assertions.assertEquals(lower, range.lower());
+          Assertions.assertEquals(lower + 4096L, range.upper());
+        }
+        return null;
+      });
+    }
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (final var future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+    }
+  }
+}
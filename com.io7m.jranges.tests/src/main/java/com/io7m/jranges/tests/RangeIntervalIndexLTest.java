@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeInclusiveL;
+import com.io7m.jranges.RangeIntervalIndexL;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public final class RangeIntervalIndexLTest
+{
+  private static List<Integer> collect(
+    final RangeIntervalIndexL index,
+    final long x)
+  {
+    final var results = new ArrayList<Integer>();
+    final var count = index.containing(x, results::add);
+    Assertions.assertEquals(results.size(), count);
+    Assertions.assertEquals(!results.isEmpty(), index.containsAny(x));
+    return results;
+  }
+
+  private static List<Integer> expected(
+    final long[] lowers,
+    final IntStream matching)
+  {
+    return matching
+      .boxed()
+      .sorted(Comparator.comparingLong(i -> lowers[i]))
+      .toList();
+  }
+
+  @Provide
+  Arbitrary<List<RangeInclusiveL>> inclusiveRanges()
+  {
+    return Combinators.combine(
+        Arbitraries.longs().between(-100L, 99L),
+        Arbitraries.longs().between(0L, 39L))
+      .as((lower, length) -> RangeInclusiveL.of(lower, lower + length))
+      .list()
+      .ofMaxSize(100);
+  }
+
+  @Provide
+  Arbitrary<List<RangeInclusiveL>> inclusiveQueries()
+  {
+    return Combinators.combine(
+        Arbitraries.longs().between(-110L, 149L),
+        Arbitraries.longs().between(0L, 29L))
+      .as((lower, length) -> RangeInclusiveL.of(lower, lower + length))
+      .list()
+      .ofMaxSize(50);
+  }
+
+  @Provide
+  Arbitrary<List<RangeHalfOpenL>> halfOpenRanges()
+  {
+    return Combinators.combine(
+        Arbitraries.longs().between(-100L, 99L),
+        Arbitraries.longs().between(0L, 39L))
+      .as((lower, length) -> RangeHalfOpenL.of(lower, lower + length))
+      .list()
+      .ofMaxSize(100);
+  }
+
+  @Provide
+  Arbitrary<List<RangeHalfOpenL>> halfOpenQueries()
+  {
+    return Combinators.combine(
+        Arbitraries.longs().between(-110L, 149L),
+        Arbitraries.longs().between(0L, 29L))
+      .as((lower, length) -> RangeHalfOpenL.of(lower, lower + length))
+      .list()
+      .ofMaxSize(50);
+  }
+
+  @Property
+  public void testInclusiveAgreesWithScan(
+    final @ForAll("inclusiveRanges") List<RangeInclusiveL> rangeList,
+    final @ForAll("inclusiveQueries") List<RangeInclusiveL> queries)
+  {
+    final int size = rangeList.size();
+    final var ranges = rangeList.toArray(new RangeInclusiveL[0]);
+    final var lowers =
+      rangeList.stream().mapToLong(RangeInclusiveL::lower).toArray();
+
+    final var index = RangeIntervalIndexL.ofInclusive(ranges);
+    Assertions.assertEquals(size, index.size());
+
+    for (long x = -110L; x <= 150L; ++x) {
+      final long v = x;
+      Assertions.assertEquals(
+        expected(
+          lowers,
+          IntStream.range(0, size).filter(i -> ranges[i].includesValue(v))),
+        collect(index, x));
+    }
+
+    for (final var query : queries) {
+      final var results = new ArrayList<Integer>();
+      index.overlapping(query, results::add);
+      Assertions.assertEquals(
+        expected(
+          lowers,
+          IntStream.range(0, size).filter(i -> {
+            return ranges[i].lower() <= query.upper()
+              && ranges[i].upper() >= query.lower();
+          })),
+        results);
+    }
+  }
+
+  @Property
+  public void testHalfOpenAgreesWithScan(
+    final @ForAll("halfOpenRanges") List<RangeHalfOpenL> rangeList,
+    final @ForAll("halfOpenQueries") List<RangeHalfOpenL> queries)
+  {
+    final int size = rangeList.size();
+    final var ranges = rangeList.toArray(new RangeHalfOpenL[0]);
+    final var lowers =
+      rangeList.stream().mapToLong(RangeHalfOpenL::lower).toArray();
+
+    final var index = RangeIntervalIndexL.ofHalfOpen(ranges);
+
+    for (long x = -110L; x <= 150L; ++x) {
+      final long v = x;
+      Assertions.assertEquals(
+        expected(
+          lowers,
+          IntStream.range(0, size).filter(i -> ranges[i].includesValue(v))),
+        collect(index, x));
+    }
+
+    for (final var query : queries) {
+      final var results = new ArrayList<Integer>();
+      index.overlapping(query, results::add);
+      Assertions.assertEquals(
+        expected(
+          lowers,
+          IntStream.range(0, size).filter(i -> {
+            return ranges[i].lower() < ranges[i].upper()
+              && query.lower() < query.upper()
+              && ranges[i].lower() < query.upper()
+              && ranges[i].upper() > query.lower();
+          })),
+        results);
+    }
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    final var index = RangeIntervalIndexL.ofInclusive();
+    Assertions.assertEquals(0, index.size());
+    Assertions.assertFalse(index.containsAny(Long.MIN_VALUE));
+    Assertions.assertEquals(List.of(), collect(index, 0L));
+  }
+
+  @Test
+  public void testExtremes()
+  {
+    final var index = RangeIntervalIndexL.ofBounds(
+      new long[]{Long.MIN_VALUE, 0L, Long.MAX_VALUE},
+      new long[]{Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE});
+
+    Assertions.assertEquals(List.of(0), collect(index, Long.MIN_VALUE));
+    Assertions.assertEquals(List.of(), collect(index, -1L));
+    Assertions.assertEquals(List.of(1, 2), collect(index, Long.MAX_VALUE));
+
+    final var halfOpen = RangeIntervalIndexL.ofHalfOpen(
+      RangeHalfOpenL.of(Long.MIN_VALUE, Long.MIN_VALUE),
+      RangeHalfOpenL.of(5L, 10L));
+    Assertions.assertEquals(1, halfOpen.size());
+    Assertions.assertEquals(List.of(1), collect(halfOpen, 9L));
+    Assertions.assertEquals(List.of(), collect(halfOpen, 10L));
+    Assertions.assertEquals(
+      0, halfOpen.overlapping(RangeHalfOpenL.of(7L, 7L), i -> {
+      }));
+  }
+
+  @Test
+  public void testBadBounds()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      RangeIntervalIndexL.ofBounds(new long[1], new long[2]);
+    });
+    Assertions.assertThrows(RangeCheckException.class, () -> {
+      RangeIntervalIndexL.ofBounds(new long[]{1L}, new long[]{0L});
+    });
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeMapL;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+public final class RangeMapLTest
+{
+  private static final int DOMAIN = 64;
+
+  private record Operation(int lower, int upper, boolean remove)
+  {
+  }
+
+  @Provide
+  Arbitrary<List<Operation>> operations()
+  {
+    return Combinators.combine(
+        Arbitraries.integers().between(0, DOMAIN - 1),
+        Arbitraries.integers().between(0, 11),
+        Arbitraries.integers().between(0, 3))
+      .as((lower, length, kind) -> new Operation(
+        lower, Math.min(DOMAIN, lower + length), kind == 0))
+      .list()
+      .ofMinSize(1)
+      .ofMaxSize(200);
+  }
+
+  private static void checkModel(
+    final String[] model,
+    final RangeMapL<String> map)
+  {
+    for (int x = 0; x < DOMAIN; ++x) {
+      final var expected = model[x];
+      if (expected == null) {
+        Assertions.assertEquals(Optional.empty(), map.get(x));
+        Assertions.assertEquals(-1, map.find(x));
+        Assertions.assertFalse(map.containsKey(x));
+      } else {
+        Assertions.assertEquals(Optional.of(expected), map.get(x));
+        Assertions.assertEquals(expected, map.getOrDefault(x, "none"));
+        Assertions.assertEquals(expected, map.value(map.find(x)));
+      }
+    }
+    Assertions.assertFalse(map.containsKey(-1L));
+    Assertions.assertFalse(map.containsKey(DOMAIN));
+
+    for (int index = 0; index < map.size(); ++index) {
+      Assertions.assertTrue(map.lower(index) < map.upper(index));
+      if (index > 0) {
+        Assertions.assertTrue(map.upper(index - 1) <= map.lower(index));
+      }
+    }
+  }
+
+  @Property
+  public void testPutRemoveModel(
+    final @ForAll("operations") List<Operation> operations)
+  {
+    final RangeMapL<String> map = RangeMapL.create();
+    final var model = new String[DOMAIN];
+
+    for (int index = 0; index < operations.size(); ++index) {
+      final var operation = operations.get(index);
+      final var lower = operation.lower();
+      final var upper = operation.upper();
+      final var range = RangeHalfOpenL.of(lower, upper);
+
+      if (operation.remove()) {
+        map.remove(range);
+        for (int x = lower; x < upper; ++x) {
+          model[x] = null;
+        }
+      } else {
+        final String value = "v" + index;
+        map.put(range, value);
+        for (int x = lower; x < upper; ++x) {
+          model[x] = value;
+        }
+      }
+      checkModel(model, map);
+    }
+  }
+
+  @Test
+  public void testSplit()
+  {
+    final RangeMapL<String> map = RangeMapL.create();
+    map.put(RangeHalfOpenL.of(0L, 100L), "a");
+    map.put(RangeHalfOpenL.of(40L, 60L), "b");
+
+    Assertions.assertEquals(3, map.size());
+    Assertions.assertEquals(RangeHalfOpenL.of(0L, 40L), map.range(0));
+    Assertions.assertEquals(RangeHalfOpenL.of(40L, 60L), map.range(1));
+    Assertions.assertEquals(RangeHalfOpenL.of(60L, 100L), map.range(2));
+    Assertions.assertEquals("a", map.value(0));
+    Assertions.assertEquals("b", map.value(1));
+    Assertions.assertEquals("a", map.value(2));
+
+    map.remove(RangeHalfOpenL.of(50L, 70L));
+    Assertions.assertEquals(
+      "RangeMapL{[0, 40)=a, [40, 50)=b, [70, 100)=a}",
+      map.toString());
+
+    map.put(RangeHalfOpenL.of(5L, 5L), "c");
+    Assertions.assertEquals(3, map.size());
+
+    map.clear();
+    Assertions.assertTrue(map.isEmpty());
+    Assertions.assertEquals("none", map.getOrDefault(0L, "none"));
+  }
+
+  @Test
+  public void testExtremes()
+  {
+    final RangeMapL<String> map = RangeMapL.create();
+    map.put(RangeHalfOpenL.of(Long.MIN_VALUE, Long.MAX_VALUE), "a");
+    Assertions.assertTrue(map.containsKey(Long.MIN_VALUE));
+    Assertions.assertFalse(map.containsKey(Long.MAX_VALUE));
+
+    map.put(RangeHalfOpenL.of(-1L, 1L), "b");
+    Assertions.assertEquals(3, map.size());
+    Assertions.assertEquals("b", map.getOrDefault(0L, "none"));
+    Assertions.assertEquals("a", map.getOrDefault(Long.MAX_VALUE - 1L, "none"));
+
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+      map.value(3);
+    });
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeArrayL;
+import com.io7m.jranges.RangeCoalescing;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeMerger;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+public final class RangeMergerTest
+{
+  private record Tagged(int source, RangeHalfOpenL range)
+  {
+  }
+
+  private static Arbitrary<List<List<RangeHalfOpenL>>> sources(
+    final long minimumLength)
+  {
+    final var range =
+      Combinators.combine(
+          Arbitraries.longs().between(0L, 300L),
+          Arbitraries.longs().between(minimumLength, 10L))
+        .as((lower, length) -> RangeHalfOpenL.of(lower, lower + length));
+
+    return range.list()
+      .ofMaxSize(40)
+      .map(source -> source.stream()
+        .sorted(Comparator.comparingLong(RangeHalfOpenL::lower))
+        .toList())
+      .list()
+      .ofMaxSize(12);
+  }
+
+  @Provide
+  Arbitrary<List<List<RangeHalfOpenL>>> anySources()
+  {
+    return sources(0L);
+  }
+
+  @Provide
+  Arbitrary<List<List<RangeHalfOpenL>>> nonEmptySources()
+  {
+    return sources(1L);
+  }
+
+  private static List<Tagged> drain(
+    final RangeMerger merger)
+  {
+    final var result = new ArrayList<Tagged>();
+    while (merger.advance()) {
+      result.add(new Tagged(merger.source(), merger.range()));
+      Assertions.assertEquals(merger.range().lower(), merger.lower());
+      Assertions.assertEquals(merger.range().upper(), merger.upper());
+    }
+    return result;
+  }
+
+  private static List<RangeArrayL> toArrays(
+    final List<List<RangeHalfOpenL>> sources)
+  {
+    return sources.stream()
+      .map(source -> {
+        final var array = RangeArrayL.create();
+        for (final var range : source) {
+          array.add(range.lower(), range.upper() - 1L);
+        }
+        return array;
+      })
+      .toList();
+  }
+
+  private static RangeArrayL array(
+    final long... bounds)
+  {
+    final var array = RangeArrayL.create();
+    for (int index = 0; index < bounds.length; index += 2) {
+      array.add(bounds[index], bounds[index + 1]);
+    }
+    return array;
+  }
+
+  private static List<Iterator<RangeHalfOpenL>> toIterators(
+    final List<List<RangeHalfOpenL>> sources)
+  {
+    return sources.stream().map(List::iterator).toList();
+  }
+
+  private static List<Tagged> model(
+    final List<List<RangeHalfOpenL>> sources)
+  {
+    final var expected = new ArrayList<Tagged>();
+    for (int s = 0; s < sources.size(); ++s) {
+      for (final var range : sources.get(s)) {
+        expected.add(new Tagged(s, range));
+      }
+    }
+    expected.sort(
+      Comparator.<Tagged>comparingLong(t -> t.range().lower())
+        .thenComparingInt(Tagged::source));
+    return expected;
+  }
+
+  private static List<RangeHalfOpenL> coalescedModel(
+    final List<List<RangeHalfOpenL>> sources)
+  {
+    final var sorted = new ArrayList<RangeHalfOpenL>();
+    sources.forEach(sorted::addAll);
+    sorted.sort(Comparator.comparingLong(RangeHalfOpenL::lower));
+    return sorted.stream().collect(RangeCoalescing.toCoalescedHalfOpenL());
+  }
+
+  @Property
+  public void testMergeAgreesWithModel(
+    final @ForAll("anySources") List<List<RangeHalfOpenL>> sources)
+  {
+    Assertions.assertEquals(
+      model(sources),
+      drain(RangeMerger.ofIterators(toIterators(sources), false)));
+  }
+
+  @Property
+  public void testArrayMergeAgreesWithModel(
+    final @ForAll("nonEmptySources") List<List<RangeHalfOpenL>> sources)
+  {
+    Assertions.assertEquals(
+      model(sources),
+      drain(RangeMerger.ofArrays(toArrays(sources), false)));
+  }
+
+  @Property
+  public void testCoalescingMergeAgreesWithModel(
+    final @ForAll("anySources") List<List<RangeHalfOpenL>> sources)
+  {
+    final var expected = coalescedModel(sources);
+
+    final var received = new ArrayList<RangeHalfOpenL>();
+    RangeMerger.ofIterators(toIterators(sources), true)
+      .forEachRemaining((source, lower, upper) -> {
+        Assertions.assertTrue(source >= 0 && source < sources.size());
+        received.add(RangeHalfOpenL.of(lower, upper));
+      });
+    Assertions.assertEquals(expected, received);
+  }
+
+  @Property
+  public void testCoalescingArrayMergeAgreesWithModel(
+    final @ForAll("nonEmptySources") List<List<RangeHalfOpenL>> sources)
+  {
+    final var merged =
+      drain(RangeMerger.ofArrays(toArrays(sources), true))
+        .stream()
+        .map(Tagged::range)
+        .toList();
+    Assertions.assertEquals(coalescedModel(sources), merged);
+  }
+
+  @Test
+  public void testTagsAndIdentity()
+  {
+    final var a = RangeHalfOpenL.of(0L, 10L);
+    final var b = RangeHalfOpenL.of(5L, 20L);
+    final var c = RangeHalfOpenL.of(30L, 40L);
+
+    final var merger = RangeMerger.ofIterators(
+      List.of(List.of(b, c).iterator(), List.of(a).iterator()), true);
+    Assertions.assertEquals(2, merger.sourceCount());
+
+    Assertions.assertTrue(merger.advance());
+    Assertions.assertEquals(1, merger.source());
+    Assertions.assertEquals(RangeHalfOpenL.of(0L, 20L), merger.range());
+
+    Assertions.assertTrue(merger.advance());
+    Assertions.assertEquals(0, merger.source());
+    Assertions.assertSame(c, merger.range());
+
+    Assertions.assertFalse(merger.advance());
+    Assertions.assertThrows(IllegalStateException.class, merger::lower);
+  }
+
+  @Test
+  public void testExtremes()
+  {
+    final var merger = RangeMerger.ofArrays(
+      List.of(
+        array(0L, Long.MAX_VALUE - 1L),
+        array(Long.MIN_VALUE, -1L, 5L, 5L)),
+      true);
+    Assertions.assertTrue(merger.advance());
+    Assertions.assertEquals(Long.MIN_VALUE, merger.lower());
+    Assertions.assertEquals(Long.MAX_VALUE, merger.upper());
+    Assertions.assertFalse(merger.advance());
+  }
+
+  @Test
+  public void testEmpty()
+  {
+    Assertions.assertFalse(RangeMerger.ofArrays(List.of(), false).advance());
+    Assertions.assertFalse(
+      RangeMerger.ofArrays(List.of(RangeArrayL.create()), true).advance());
+    Assertions.assertThrows(
+      IllegalStateException.class,
+      () -> RangeMerger.ofArrays(List.of(), false).source());
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    final var unsorted = RangeMerger.ofArrays(
+      List.of(array(10L, 20L, 0L, 5L)), false);
+    Assertions.assertThrows(IllegalArgumentException.class, unsorted::advance);
+
+    final var unbounded = RangeMerger.ofArrays(
+      List.of(array(0L, 1L, 20L, Long.MAX_VALUE)), false);
+    Assertions.assertThrows(IllegalArgumentException.class, unbounded::advance);
+
+    final var unsortedIterator = RangeMerger.ofIterators(
+      List.of(List.of(
+        RangeHalfOpenL.of(10L, 20L), RangeHalfOpenL.of(0L, 5L)).iterator()),
+      false);
+    Assertions.assertThrows(
+      IllegalArgumentException.class, unsortedIterator::advance);
+  }
+}
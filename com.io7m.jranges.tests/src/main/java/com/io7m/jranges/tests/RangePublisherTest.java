@@ -0,0 +1,333 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeChunkPolicyType;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangePublisher;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.LongRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public final class RangePublisherTest
+{
+  /**
+   * A subscriber that records everything it receives, and checks that it
+   * never receives more chunks than it has requested.
+   */
+
+  private static final class Recorder
+    implements Flow.Subscriber<RangeHalfOpenL>
+  {
+    private final List<RangeHalfOpenL> received = new ArrayList<>();
+    private final Consumer<Recorder> onNextAction;
+    private Flow.Subscription subscription;
+    private long requested;
+    private int completions;
+    private Throwable error;
+
+    Recorder(
+      final Consumer<Recorder> inOnNextAction)
+    {
+      this.onNextAction = inOnNextAction;
+    }
+
+    void request(
+      final long n)
+    {
+      this.requested += n;
+      this.subscription.request(n);
+    }
+
+    @Override
+    public void onSubscribe(
+      final Flow.Subscription inSubscription)
+    {
+      Assertions.assertNull(this.subscription);
+      this.subscription = inSubscription;
+    }
+
+    @Override
+    public void onNext(
+      final RangeHalfOpenL item)
+    {
+      Assertions.assertEquals(0, this.completions);
+      this.received.add(item);
+      Assertions.assertTrue(this.received.size() <= this.requested);
+      this.onNextAction.accept(this);
+    }
+
+    @Override
+    public void onError(
+      final Throwable throwable)
+    {
+      Assertions.assertNull(this.error);
+      this.error = throwable;
+    }
+
+    @Override
+    public void onComplete()
+    {
+      ++this.completions;
+    }
+  }
+
+  /**
+   * A cyclic sequence of demands. A reentrant demand of zero means that no
+   * request is made from within {@code onNext}.
+   */
+
+  private static final class Cycle
+  {
+    private final List<Long> values;
+    private int position;
+
+    Cycle(
+      final List<Long> inValues)
+    {
+      this.values = inValues;
+    }
+
+    long next()
+    {
+      final long value = this.values.get(this.position).longValue();
+      this.position = (this.position + 1) % this.values.size();
+      return value;
+    }
+  }
+
+  private static void checkCovers(
+    final RangeHalfOpenL range,
+    final long chunkSize,
+    final List<RangeHalfOpenL> chunks)
+  {
+    long next = range.lower();
+    for (final var chunk : chunks) {
+      Assertions.assertEquals(next, chunk.lower());
+      Assertions.assertTrue(chunk.upper() > chunk.lower());
+      Assertions.assertTrue(Long.compareUnsigned(chunk.interval(), chunkSize) <= 0);
+      next = chunk.upper();
+    }
+    Assertions.assertEquals(range.upper(), next);
+  }
+
+  @Property
+  public void testDemand(
+    final @ForAll @LongRange(min = -5000L, max = 4999L) long lower,
+    final @ForAll @LongRange(min = 0L, max = 1999L) long length,
+    final @ForAll @LongRange(min = 1L, max = 100L) long size,
+    final @ForAll @Size(min = 1, max = 16) List<@LongRange(min = 1L, max = 8L) Long> demands,
+    final @ForAll @Size(min = 1, max = 16) List<@LongRange(min = 0L, max = 3L) Long> reentrant)
+  {
+    final var range = RangeHalfOpenL.of(lower, lower + length);
+    final var outer = new Cycle(demands);
+    final var inner = new Cycle(reentrant);
+
+    final var recorder = new Recorder(r -> {
+      final long n = inner.next();
+      if (n != 0L) {
+        r.request(n);
+      }
+    });
+    RangePublisher.create(range, size).subscribe(recorder);
+    Assertions.assertTrue(recorder.received.isEmpty());
+
+    int iterations = 0;
+    while (recorder.completions == 0) {
+      final int before = recorder.received.size();
+      final long n = outer.next();
+      recorder.request(n);
+      Assertions.assertTrue(recorder.received.size() - before >= 0);
+      Assertions.assertTrue(iterations < 100000);
+      ++iterations;
+    }
+
+    Assertions.assertEquals(1, recorder.completions);
+    Assertions.assertNull(recorder.error);
+    checkCovers(range, size, recorder.received);
+  }
+
+  @Test
+  public void testEmptyCompletesWithoutDemand()
+  {
+    final var recorder = new Recorder(r -> { });
+    RangePublisher.create(RangeHalfOpenL.of(3L, 3L), 10L).subscribe(recorder);
+    Assertions.assertEquals(1, recorder.completions);
+    Assertions.assertTrue(recorder.received.isEmpty());
+  }
+
+  @Test
+  public void testUnbounded()
+  {
+    final var range = RangeHalfOpenL.of(Long.MIN_VALUE, Long.MAX_VALUE);
+    final var recorder = new Recorder(r -> { });
+    RangePublisher.create(range, RangeChunkPolicyType.aligned(1L << 61))
+      .subscribe(recorder);
+    recorder.request(Long.MAX_VALUE);
+    recorder.request(Long.MAX_VALUE);
+
+    Assertions.assertEquals(1, recorder.completions);
+    Assertions.assertEquals(8, recorder.received.size());
+    checkCovers(range, 1L << 61, recorder.received);
+  }
+
+  @Test
+  public void testCancel()
+  {
+    final var recorder = new Recorder(r -> {
+      if (r.received.size() == 3) {
+        r.subscription.cancel();
+      }
+    });
+    RangePublisher.create(RangeHalfOpenL.of(0L, 100L), 1L).subscribe(recorder);
+    recorder.request(10L);
+    recorder.request(10L);
+
+    Assertions.assertEquals(3, recorder.received.size());
+    Assertions.assertEquals(0, recorder.completions);
+    Assertions.assertNull(recorder.error);
+  }
+
+  @Test
+  public void testNonPositiveRequest()
+  {
+    final var recorder = new Recorder(r -> { });
+    RangePublisher.create(RangeHalfOpenL.of(0L, 100L), 1L).subscribe(recorder);
+    recorder.request(2L);
+    recorder.request(0L);
+    recorder.request(2L);
+
+    Assertions.assertEquals(2, recorder.received.size());
+    Assertions.assertInstanceOf(
+      IllegalArgumentException.class, recorder.error);
+  }
+
+  @Test
+  public void testBadPolicy()
+  {
+    final var recorder = new Recorder(r -> { });
+    RangePublisher.create(RangeHalfOpenL.of(0L, 100L), (start, end) -> end + 1L)
+      .subscribe(recorder);
+    recorder.request(1L);
+
+    Assertions.assertTrue(recorder.received.isEmpty());
+    Assertions.assertInstanceOf(RangeCheckException.class, recorder.error);
+  }
+
+  @Test
+  public void testOnNextThrows()
+  {
+    final var failure = new IllegalStateException("Failed");
+    final var recorder = new Recorder(r -> {
+      if (r.received.size() == 2) {
+        throw failure;
+      }
+    });
+    RangePublisher.create(RangeHalfOpenL.of(0L, 100L), 1L).subscribe(recorder);
+    recorder.request(5L);
+    recorder.request(5L);
+
+    Assertions.assertEquals(2, recorder.received.size());
+    Assertions.assertEquals(0, recorder.completions);
+    Assertions.assertSame(failure, recorder.error);
+  }
+
+  @Test
+  public void testIndependentSubscribers()
+  {
+    final var publisher =
+      RangePublisher.create(RangeHalfOpenL.of(0L, 10L), 4L);
+    final var recorder0 = new Recorder(r -> { });
+    final var recorder1 = new Recorder(r -> { });
+    publisher.subscribe(recorder0);
+    publisher.subscribe(recorder1);
+    recorder0.request(1L);
+    recorder1.request(5L);
+
+    Assertions.assertEquals(
+      List.of(RangeHalfOpenL.of(0L, 4L)), recorder0.received);
+    Assertions.assertEquals(
+      List.of(
+        RangeHalfOpenL.of(0L, 4L),
+        RangeHalfOpenL.of(4L, 8L),
+        RangeHalfOpenL.of(8L, 10L)),
+      recorder1.received);
+    Assertions.assertEquals(RangeHalfOpenL.of(0L, 10L), publisher.range());
+  }
+
+  @Test
+  public void testAcrossThreads()
+    throws Exception
+  {
+    final var result = new CompletableFuture<Long>();
+    final var publisher =
+      RangePublisher.create(RangeHalfOpenL.of(0L, 1000000L), 7L);
+
+    try (var relay = new SubmissionPublisher<RangeHalfOpenL>()) {
+      final var consumed =
+        relay.consume(chunk -> result.obtrudeValue(Long.valueOf(chunk.upper())));
+      publisher.subscribe(new Flow.Subscriber<>()
+      {
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(
+          final Flow.Subscription inSubscription)
+        {
+          this.subscription = inSubscription;
+          this.subscription.request(1L);
+        }
+
+        @Override
+        public void onNext(
+          final RangeHalfOpenL item)
+        {
+          relay.submit(item);
+          this.subscription.request(1L);
+        }
+
+        @Override
+        public void onError(
+          final Throwable throwable)
+        {
+          relay.closeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete()
+        {
+          relay.close();
+        }
+      });
+      consumed.get(30L, TimeUnit.SECONDS);
+    }
+    Assertions.assertEquals(1000000L, result.get().longValue());
+  }
+}
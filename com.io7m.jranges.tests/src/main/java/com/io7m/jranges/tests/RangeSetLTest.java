@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeInclusiveL;
+import com.io7m.jranges.RangeSetL;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+public final class RangeSetLTest
+{
+  private static final int DOMAIN = 128;
+
+  private record Span(int lower, int upper)
+  {
+  }
+
+  private record Operation(Span span, boolean remove)
+  {
+  }
+
+  private static Arbitrary<Span> spans()
+  {
+    return Combinators.combine(
+        Arbitraries.integers().between(0, DOMAIN - 1),
+        Arbitraries.integers().between(0, 15))
+      .as((lower, length) ->
+            new Span(lower, Math.min(DOMAIN - 1, lower + length)));
+  }
+
+  @Provide
+  Arbitrary<List<Operation>> operations()
+  {
+    return Combinators.combine(spans(), Arbitraries.integers().between(0, 2))
+      .as((span, kind) -> new Operation(span, kind == 0))
+      .list()
+      .ofMinSize(1)
+      .ofMaxSize(200);
+  }
+
+  @Provide
+  Arbitrary<List<Span>> spanLists()
+  {
+    return spans().list().ofMaxSize(7);
+  }
+
+  /**
+   * Check a set against a bitset model of the values in {@code [0, DOMAIN)}.
+   */
+
+  private static void checkModel(
+    final BitSet model,
+    final RangeSetL set)
+  {
+    for (int x = -1; x <= DOMAIN; ++x) {
+      Assertions.assertEquals(x >= 0 && model.get(x), set.contains(x));
+    }
+
+    int index = 0;
+    int start = model.nextSetBit(0);
+    while (start >= 0) {
+      final int end = model.nextClearBit(start) - 1;
+      Assertions.assertEquals(start, set.lower(index));
+      Assertions.assertEquals(end, set.upper(index));
+      start = model.nextSetBit(end + 1);
+      ++index;
+    }
+    Assertions.assertEquals(index, set.rangeCount());
+    Assertions.assertEquals(model.isEmpty(), set.isEmpty());
+  }
+
+  private static BitSet fill(
+    final List<Span> spans,
+    final RangeSetL set)
+  {
+    final var model = new BitSet(DOMAIN);
+    for (final var span : spans) {
+      model.set(span.lower(), span.upper() + 1);
+      set.add(RangeInclusiveL.of(span.lower(), span.upper()));
+    }
+    return model;
+  }
+
+  private static BitSet span(
+    final int lower,
+    final int upper)
+  {
+    final var model = new BitSet(DOMAIN);
+    model.set(lower, upper + 1);
+    return model;
+  }
+
+  @Property
+  public void testAddRemoveModel(
+    final @ForAll("operations") List<Operation> operations)
+  {
+    final var set = RangeSetL.create();
+    final var model = new BitSet(DOMAIN);
+
+    for (final var operation : operations) {
+      final var lower = operation.span().lower();
+      final var upper = operation.span().upper();
+      if (operation.remove()) {
+        set.remove(lower, upper);
+        model.clear(lower, upper + 1);
+      } else {
+        set.add(lower, upper);
+        model.set(lower, upper + 1);
+      }
+      checkModel(model, set);
+
+      final var range = RangeInclusiveL.of(lower, upper);
+      final var bits = span(lower, upper);
+      bits.andNot(model);
+      Assertions.assertEquals(bits.isEmpty(), set.encloses(range));
+      Assertions.assertEquals(
+        model.intersects(span(lower, upper)), set.intersects(range));
+    }
+  }
+
+  @Property
+  public void testSetOperationsModel(
+    final @ForAll("spanLists") List<Span> spansA,
+    final @ForAll("spanLists") List<Span> spansB)
+  {
+    final var a = RangeSetL.create();
+    final var b = RangeSetL.create();
+    final var ma = fill(spansA, a);
+    final var mb = fill(spansB, b);
+
+    final var union = (BitSet) ma.clone();
+    union.or(mb);
+    checkModel(union, a.union(b));
+
+    final var intersection = (BitSet) ma.clone();
+    intersection.and(mb);
+    checkModel(intersection, a.intersection(b));
+
+    final var difference = (BitSet) ma.clone();
+    difference.andNot(mb);
+    checkModel(difference, a.difference(b));
+
+    final var complement = span(10, 100);
+    complement.andNot(ma);
+    checkModel(complement, a.complement(RangeInclusiveL.of(10, 100)));
+
+    checkModel(ma, a);
+    checkModel(mb, b);
+
+    final var c = a.copy();
+    c.addAll(b);
+    checkModel(union, c);
+    Assertions.assertEquals(a.union(b), c);
+    Assertions.assertEquals(a.union(b).hashCode(), c.hashCode());
+
+    final var d = a.copy();
+    d.removeAll(b);
+    checkModel(difference, d);
+  }
+
+  @Test
+  public void testCoalesceAdjacent()
+  {
+    final var set = RangeSetL.create();
+    set.add(0, 3);
+    set.add(8, 9);
+    set.add(4, 7);
+    Assertions.assertEquals(1, set.rangeCount());
+    Assertions.assertEquals(List.of(RangeInclusiveL.of(0, 9)), set.ranges());
+    Assertions.assertEquals("RangeSetL{[0, 9]}", set.toString());
+  }
+
+  @Test
+  public void testExtremes()
+  {
+    final var set = RangeSetL.create();
+    set.add(Long.MIN_VALUE, Long.MIN_VALUE);
+    set.add(Long.MAX_VALUE, Long.MAX_VALUE);
+    Assertions.assertEquals(2, set.rangeCount());
+    Assertions.assertTrue(set.contains(Long.MIN_VALUE));
+    Assertions.assertTrue(set.contains(Long.MAX_VALUE));
+    Assertions.assertFalse(set.contains(0));
+
+    set.add(Long.MIN_VALUE, Long.MAX_VALUE);
+    Assertions.assertEquals(1, set.rangeCount());
+    Assertions.assertTrue(
+      set.complement(RangeInclusiveL.of(Long.MIN_VALUE, Long.MAX_VALUE)).isEmpty());
+
+    set.remove(Long.MIN_VALUE, -1);
+    set.remove(1, Long.MAX_VALUE);
+    Assertions.assertEquals(RangeSetL.of(RangeInclusiveL.of(0, 0)), set);
+
+    set.remove(Long.MIN_VALUE, Long.MAX_VALUE);
+    Assertions.assertTrue(set.isEmpty());
+    Assertions.assertEquals(Optional.empty(), set.span());
+  }
+
+  @Test
+  public void testRangeContaining()
+  {
+    final var set = RangeSetL.of(RangeInclusiveL.of(0, 3), RangeInclusiveL.of(10, 20));
+    Assertions.assertEquals(Optional.of(RangeInclusiveL.of(10, 20)), set.rangeContaining(15));
+    Assertions.assertEquals(Optional.empty(), set.rangeContaining(5));
+    Assertions.assertEquals(Optional.of(RangeInclusiveL.of(0, 20)), set.span());
+    Assertions.assertEquals(RangeInclusiveL.of(10, 20), set.range(1));
+  }
+
+  @Test
+  public void testClear()
+  {
+    final var set = RangeSetL.of(RangeInclusiveL.of(0, 3), RangeInclusiveL.of(10, 20));
+    set.clear();
+    Assertions.assertTrue(set.isEmpty());
+    Assertions.assertEquals(RangeSetL.create(), set);
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    final var set = RangeSetL.create();
+    Assertions.assertThrows(RangeCheckException.class, () -> set.add(1, 0));
+    Assertions.assertThrows(RangeCheckException.class, () -> set.remove(1, 0));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> set.lower(0));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> set.range(0));
+  }
+}
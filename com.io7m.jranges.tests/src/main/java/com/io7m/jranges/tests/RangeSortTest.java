@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeHalfOpenI;
+import com.io7m.jranges.RangeSort;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.Consumer;
+
+public final class RangeSortTest
+{
+  private static final Comparator<long[]> SIGNED =
+    Comparator.<long[]>comparingLong(r -> r[0]).thenComparingLong(r -> r[1]);
+
+  private static final Comparator<long[]> UNSIGNED =
+    Comparator.<long[], Long>comparing(r -> Long.valueOf(r[0]), (x, y) -> Long.compareUnsigned(x, y))
+      .thenComparing(r -> Long.valueOf(r[1]), (x, y) -> Long.compareUnsigned(x, y));
+
+  private static Arbitrary<Long> values()
+  {
+    return Arbitraries.oneOf(
+      Arbitraries.longs(),
+      Arbitraries.longs().between(-8L, 7L),
+      Arbitraries.longs().between(Long.MIN_VALUE, Long.MIN_VALUE + 3L),
+      Arbitraries.longs().between(Long.MAX_VALUE - 3L, Long.MAX_VALUE));
+  }
+
+  @Provide
+  Arbitrary<long[]> bounds()
+  {
+    return Combinators.combine(values(), values())
+      .as((lower, upper) -> new long[]{lower.longValue(), upper.longValue()})
+      .list()
+      .ofMaxSize(299)
+      .map(pairs -> pairs.stream().flatMapToLong(Arrays::stream).toArray());
+  }
+
+  @Provide
+  Arbitrary<long[]> packed()
+  {
+    return Combinators.combine(values(), values())
+      .as((lower, upper) -> RangeSort.packI(lower.intValue(), upper.intValue()))
+      .list()
+      .ofMaxSize(299)
+      .map(packs -> packs.stream().mapToLong(Long::longValue).toArray());
+  }
+
+  private static long[] modelSortL(
+    final long[] bounds,
+    final Comparator<long[]> order)
+  {
+    final var pairs = new long[bounds.length / 2][];
+    for (int index = 0; index < pairs.length; ++index) {
+      pairs[index] = new long[]{bounds[index * 2], bounds[index * 2 + 1]};
+    }
+    Arrays.sort(pairs, order);
+    final var result = new long[bounds.length];
+    for (int index = 0; index < pairs.length; ++index) {
+      result[index * 2] = pairs[index][0];
+      result[index * 2 + 1] = pairs[index][1];
+    }
+    return result;
+  }
+
+  private static long[] modelSortPackedI(
+    final long[] packed,
+    final Comparator<long[]> order)
+  {
+    final var bounds = new long[packed.length * 2];
+    for (int index = 0; index < packed.length; ++index) {
+      final long lower = RangeSort.packedLowerI(packed[index]);
+      final long upper = RangeSort.packedUpperI(packed[index]);
+      bounds[index * 2] = order == SIGNED ? lower : lower & 0xffff_ffffL;
+      bounds[index * 2 + 1] = order == SIGNED ? upper : upper & 0xffff_ffffL;
+    }
+    final var sorted = modelSortL(bounds, order);
+    final var result = new long[packed.length];
+    for (int index = 0; index < packed.length; ++index) {
+      result[index] =
+        RangeSort.packI((int) sorted[index * 2], (int) sorted[index * 2 + 1]);
+    }
+    return result;
+  }
+
+  private static void checkL(
+    final long[] bounds,
+    final Comparator<long[]> order,
+    final Consumer<long[]> sort)
+  {
+    final var expected = modelSortL(bounds, order);
+    final var received = bounds.clone();
+    sort.accept(received);
+    Assertions.assertArrayEquals(expected, received);
+  }
+
+  private static void checkPackedI(
+    final long[] packed,
+    final Comparator<long[]> order,
+    final Consumer<long[]> sort)
+  {
+    final var expected = modelSortPackedI(packed, order);
+    final var received = packed.clone();
+    sort.accept(received);
+    Assertions.assertArrayEquals(expected, received);
+  }
+
+  @Property
+  public void testSortL(
+    final @ForAll("bounds") long[] bounds)
+  {
+
+    checkL(bounds, SIGNED, RangeSort::radixSortL);
+    checkL(bounds, SIGNED, RangeSort::parallelSortL);
+    checkL(bounds, UNSIGNED, RangeSort::radixSortUnsignedL);
+    checkL(bounds, UNSIGNED, RangeSort::parallelSortUnsignedL);
+  }
+
+  @Property
+  public void testSortPackedI(
+    final @ForAll("packed") long[] packed)
+  {
+
+    checkPackedI(packed, SIGNED, RangeSort::radixSortPackedI);
+    checkPackedI(packed, SIGNED, RangeSort::parallelSortPackedI);
+    checkPackedI(packed, UNSIGNED, RangeSort::radixSortPackedUnsignedI);
+    checkPackedI(packed, UNSIGNED, RangeSort::parallelSortPackedUnsignedI);
+  }
+
+  @Test
+  public void testSortLargeParallel()
+  {
+    final var random = new Random(0x6a72616e67657321L);
+    final var bounds = random.longs(200_000L).toArray();
+    checkL(bounds, SIGNED, RangeSort::parallelSortL);
+    checkL(bounds, UNSIGNED, RangeSort::parallelSortUnsignedL);
+
+    final var packed = random.longs(100_000L).toArray();
+    checkPackedI(packed, SIGNED, RangeSort::parallelSortPackedI);
+    checkPackedI(packed, UNSIGNED, RangeSort::parallelSortPackedUnsignedI);
+  }
+
+  @Test
+  public void testSortIsStableOnEqualRanges()
+  {
+    final var bounds = new long[]{3L, 4L, 1L, 2L, 3L, 4L, 1L, 1L};
+    RangeSort.radixSortL(bounds);
+    Assertions.assertArrayEquals(
+      new long[]{1L, 1L, 1L, 2L, 3L, 4L, 3L, 4L}, bounds);
+  }
+
+  @Test
+  public void testPackHalfOpenI()
+  {
+    final var range = RangeHalfOpenI.of(-5, Integer.MAX_VALUE);
+    final long packed = RangeSort.packI(range);
+    Assertions.assertEquals(-5, RangeSort.packedLowerI(packed));
+    Assertions.assertEquals(Integer.MAX_VALUE, RangeSort.packedUpperI(packed));
+    Assertions.assertEquals(range, RangeSort.unpackHalfOpenI(packed));
+  }
+
+  @Test
+  public void testOddLength()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      RangeSort.radixSortL(new long[3]);
+    });
+    Assertions.assertThrows(IllegalArgumentException.class, () -> {
+      RangeSort.parallelSortUnsignedL(new long[1]);
+    });
+  }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeHalfOpenI;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jranges.RangeInclusiveL;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+public final class RangeStreamTest
+{
+  private static final int REQUIRED =
+    Spliterator.SIZED
+      | Spliterator.SUBSIZED
+      | Spliterator.ORDERED
+      | Spliterator.DISTINCT
+      | Spliterator.SORTED;
+
+  /**
+   * A cyclic sequence of choices that decides, for each spliterator visited,
+   * whether to split it, and whether to traverse it with single steps or in
+   * bulk.
+   */
+
+  private static final class Choices
+  {
+    private final List<Integer> values;
+    private int position;
+
+    Choices(
+      final List<Integer> inValues)
+    {
+      this.values = inValues;
+    }
+
+    int next()
+    {
+      final int value = this.values.get(this.position).intValue();
+      this.position = (this.position + 1) % this.values.size();
+      return value;
+    }
+  }
+
+  @Provide
+  Arbitrary<RangeInclusiveL> inclusiveL()
+  {
+    return Combinators.combine(
+        Arbitraries.oneOf(
+          Arbitraries.longs().between(-1000L, 999L),
+          Arbitraries.longs().between(Long.MAX_VALUE - 299L, Long.MAX_VALUE)),
+        Arbitraries.longs().between(0L, 299L))
+      .as((lower, length) -> RangeInclusiveL.of(
+        lower,
+        lower <= Long.MAX_VALUE - length ? lower + length : Long.MAX_VALUE));
+  }
+
+  @Provide
+  Arbitrary<RangeHalfOpenL> halfOpenL()
+  {
+    return Combinators.combine(
+        Arbitraries.oneOf(
+          Arbitraries.longs().between(-1000L, 999L),
+          Arbitraries.just(Long.MIN_VALUE)),
+        Arbitraries.longs().between(0L, 299L))
+      .as((lower, length) -> RangeHalfOpenL.of(lower, lower + length));
+  }
+
+  @Provide
+  Arbitrary<RangeInclusiveI> inclusiveI()
+  {
+    return Combinators.combine(
+        Arbitraries.oneOf(
+          Arbitraries.integers().between(-1000, 999),
+          Arbitraries.integers().between(Integer.MAX_VALUE - 299, Integer.MAX_VALUE)),
+        Arbitraries.integers().between(0, 299))
+      .as((lower, length) -> RangeInclusiveI.of(
+        lower,
+        (int) Math.min(Integer.MAX_VALUE, (long) lower + length)));
+  }
+
+  @Provide
+  Arbitrary<RangeHalfOpenI> halfOpenI()
+  {
+    return Combinators.combine(
+        Arbitraries.oneOf(
+          Arbitraries.integers().between(-1000, 999),
+          Arbitraries.just(Integer.MIN_VALUE)),
+        Arbitraries.integers().between(0, 299))
+      .as((lower, length) -> RangeHalfOpenI.of(lower, lower + length));
+  }
+
+  /**
+   * Split a spliterator as directed by {@code choices}, and consume the
+   * pieces in encounter order, alternating between single steps and bulk
+   * traversal.
+   */
+
+  private static void drainLong(
+    final Choices choices,
+    final Spliterator.OfLong spliterator,
+    final List<Long> output)
+  {
+    Assertions.assertEquals(REQUIRED, spliterator.characteristics() & REQUIRED);
+    final var size = spliterator.estimateSize();
+    final var before = output.size();
+
+    final int choice = choices.next();
+    if ((choice & 3) != 0) {
+      final var prefix = spliterator.trySplit();
+      if (prefix != null) {
+        Assertions.assertEquals(
+          size,
+          prefix.estimateSize() + spliterator.estimateSize());
+        drainLong(choices, prefix, output);
+        drainLong(choices, spliterator, output);
+        return;
+      }
+    }
+
+    if ((choice & 4) != 0) {
+      while (spliterator.tryAdvance((long x) -> output.add(Long.valueOf(x)))) {
+        // Nothing
+      }
+    } else {
+      spliterator.forEachRemaining((long x) -> output.add(Long.valueOf(x)));
+    }
+    Assertions.assertEquals(size, output.size() - before);
+    Assertions.assertEquals(0L, spliterator.estimateSize());
+    Assertions.assertFalse(spliterator.tryAdvance((long x) -> Assertions.fail()));
+  }
+
+  private static void drainInt(
+    final Choices choices,
+    final Spliterator.OfInt spliterator,
+    final List<Integer> output)
+  {
+    Assertions.assertEquals(REQUIRED, spliterator.characteristics() & REQUIRED);
+    final var size = spliterator.estimateSize();
+    final var before = output.size();
+
+    final int choice = choices.next();
+    if ((choice & 3) != 0) {
+      final var prefix = spliterator.trySplit();
+      if (prefix != null) {
+        Assertions.assertEquals(
+          size,
+          prefix.estimateSize() + spliterator.estimateSize());
+        drainInt(choices, prefix, output);
+        drainInt(choices, spliterator, output);
+        return;
+      }
+    }
+
+    if ((choice & 4) != 0) {
+      while (spliterator.tryAdvance((int x) -> output.add(Integer.valueOf(x)))) {
+        // Nothing
+      }
+    } else {
+      spliterator.forEachRemaining((int x) -> output.add(Integer.valueOf(x)));
+    }
+    Assertions.assertEquals(size, output.size() - before);
+    Assertions.assertEquals(0L, spliterator.estimateSize());
+    Assertions.assertFalse(spliterator.tryAdvance((int x) -> Assertions.fail()));
+  }
+
+  @Property
+  public void testInclusiveLSplits(
+    final @ForAll("inclusiveL") RangeInclusiveL range,
+    final @ForAll @Size(min = 1, max = 32) List<@IntRange(min = 0, max = 7) Integer> choices)
+  {
+    final var output = new ArrayList<Long>();
+    drainLong(new Choices(choices), range.spliterator(), output);
+    Assertions.assertEquals(
+      LongStream.rangeClosed(range.lower(), range.upper()).boxed().toList(),
+      output);
+  }
+
+  @Property
+  public void testHalfOpenLSplits(
+    final @ForAll("halfOpenL") RangeHalfOpenL range,
+    final @ForAll @Size(min = 1, max = 32) List<@IntRange(min = 0, max = 7) Integer> choices)
+  {
+    final var output = new ArrayList<Long>();
+    drainLong(new Choices(choices), range.spliterator(), output);
+    Assertions.assertEquals(
+      LongStream.range(range.lower(), range.upper()).boxed().toList(),
+      output);
+  }
+
+  @Property
+  public void testInclusiveISplits(
+    final @ForAll("inclusiveI") RangeInclusiveI range,
+    final @ForAll @Size(min = 1, max = 32) List<@IntRange(min = 0, max = 7) Integer> choices)
+  {
+    final var output = new ArrayList<Integer>();
+    drainInt(new Choices(choices), range.spliterator(), output);
+    Assertions.assertEquals(
+      IntStream.rangeClosed(range.lower(), range.upper()).boxed().toList(),
+      output);
+  }
+
+  @Property
+  public void testHalfOpenISplits(
+    final @ForAll("halfOpenI") RangeHalfOpenI range,
+    final @ForAll @Size(min = 1, max = 32) List<@IntRange(min = 0, max = 7) Integer> choices)
+  {
+    final var output = new ArrayList<Integer>();
+    drainInt(new Choices(choices), range.spliterator(), output);
+    Assertions.assertEquals(
+      IntStream.range(range.lower(), range.upper()).boxed().toList(),
+      output);
+  }
+
+  @Test
+  public void testStreams()
+  {
+    Assertions.assertEquals(
+      5050L, RangeInclusiveL.of(1L, 100L).stream().sum());
+    Assertions.assertEquals(
+      4950L, RangeHalfOpenL.of(1L, 100L).stream().sum());
+    Assertions.assertEquals(
+      5050, RangeInclusiveI.of(1, 100).stream().sum());
+    Assertions.assertEquals(
+      4950, RangeHalfOpenI.of(1, 100).stream().sum());
+
+    Assertions.assertEquals(
+      500000500000L,
+      RangeInclusiveL.of(1L, 1000000L).parallelStream().sum());
+    Assertions.assertEquals(
+      1000000L,
+      RangeHalfOpenI.of(0, 1000000).parallelStream().count());
+    Assertions.assertTrue(
+      RangeInclusiveI.of(0, 1000).parallelStream().isParallel());
+
+    Assertions.assertEquals(0L, RangeHalfOpenL.of(5L, 5L).stream().count());
+    Assertions.assertEquals(0L, RangeHalfOpenI.of(5, 5).stream().count());
+  }
+
+  @Test
+  public void testFullWidthLong()
+  {
+    final var range = RangeInclusiveL.of(Long.MIN_VALUE, Long.MAX_VALUE);
+
+    Assertions.assertArrayEquals(
+      new long[]{Long.MIN_VALUE, Long.MIN_VALUE + 1L, Long.MIN_VALUE + 2L},
+      range.stream().limit(3L).toArray());
+
+    final var spliterator = range.spliterator();
+    Assertions.assertEquals(0, spliterator.characteristics() & Spliterator.SIZED);
+    Assertions.assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+
+    Spliterator.OfLong first = spliterator;
+    int splits = 0;
+    while (true) {
+      final var prefix = spliterator.trySplit();
+      if (prefix == null) {
+        break;
+      }
+      if (splits == 0) {
+        first = prefix;
+      }
+      ++splits;
+    }
+    Assertions.assertEquals(64, splits);
+    Assertions.assertEquals(1L, spliterator.estimateSize());
+    spliterator.forEachRemaining(
+      (long x) -> Assertions.assertEquals(Long.MAX_VALUE, x));
+
+    Assertions.assertEquals(0, first.characteristics() & Spliterator.SIZED);
+    final var second = first.trySplit();
+    Assertions.assertEquals(1L << 62, first.estimateSize());
+    Assertions.assertEquals(1L << 62, second.estimateSize());
+    Assertions.assertEquals(REQUIRED, first.characteristics() & REQUIRED);
+    Assertions.assertTrue(
+      second.tryAdvance((long x) -> Assertions.assertEquals(Long.MIN_VALUE, x)));
+  }
+
+  @Test
+  public void testFullWidthHalfOpenLong()
+  {
+    final var range = RangeHalfOpenL.of(Long.MIN_VALUE, Long.MAX_VALUE);
+    final var spliterator = range.spliterator();
+    Assertions.assertEquals(0, spliterator.characteristics() & Spliterator.SIZED);
+
+    final var prefix = spliterator.trySplit();
+    Assertions.assertEquals(Long.MAX_VALUE, prefix.estimateSize());
+    Assertions.assertEquals(REQUIRED, prefix.characteristics() & REQUIRED);
+    Assertions.assertEquals(0, spliterator.characteristics() & Spliterator.SIZED);
+    Assertions.assertTrue(
+      prefix.tryAdvance((long x) -> Assertions.assertEquals(Long.MIN_VALUE, x)));
+  }
+
+  @Test
+  public void testFullWidthInt()
+  {
+    final var range = RangeInclusiveI.of(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    final var spliterator = range.spliterator();
+
+    Assertions.assertEquals(1L << 32, spliterator.estimateSize());
+    Assertions.assertEquals(REQUIRED, spliterator.characteristics() & REQUIRED);
+    Assertions.assertArrayEquals(
+      new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE + 1},
+      range.stream().limit(2L).toArray());
+  }
+}
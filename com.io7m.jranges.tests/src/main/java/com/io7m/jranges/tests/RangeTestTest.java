@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCheckException;
+import com.io7m.jranges.RangeInclusiveB;
+import com.io7m.jranges.RangeInclusiveD;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jranges.RangeInclusiveL;
+import com.io7m.jranges.RangeTest;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+public final class RangeTestTest
+{
+  @Test
+  public void testGreater()
+  {
+    Assertions.assertTrue(RangeTest.isGreaterLong(2L, 1L));
+    Assertions.assertFalse(RangeTest.isGreaterLong(1L, 1L));
+    Assertions.assertTrue(RangeTest.isGreaterInteger(2, 1));
+    Assertions.assertFalse(RangeTest.isGreaterInteger(1, 1));
+    Assertions.assertTrue(RangeTest.isGreaterDouble(2.0, 1.0));
+    Assertions.assertFalse(RangeTest.isGreaterDouble(1.0, 1.0));
+    Assertions.assertTrue(RangeTest.isGreaterBig(BigInteger.TWO, BigInteger.ONE));
+    Assertions.assertFalse(RangeTest.isGreaterBig(BigInteger.ONE, BigInteger.ONE));
+  }
+
+  @Test
+  public void testGreaterEqual()
+  {
+    Assertions.assertTrue(RangeTest.isGreaterEqualLong(1L, 1L));
+    Assertions.assertFalse(RangeTest.isGreaterEqualLong(0L, 1L));
+    Assertions.assertTrue(RangeTest.isGreaterEqualInteger(1, 1));
+    Assertions.assertFalse(RangeTest.isGreaterEqualInteger(0, 1));
+    Assertions.assertTrue(RangeTest.isGreaterEqualDouble(1.0, 1.0));
+    Assertions.assertFalse(RangeTest.isGreaterEqualDouble(0.0, 1.0));
+    Assertions.assertTrue(RangeTest.isGreaterEqualBig(BigInteger.ONE, BigInteger.ONE));
+    Assertions.assertFalse(RangeTest.isGreaterEqualBig(BigInteger.ZERO, BigInteger.ONE));
+  }
+
+  @Test
+  public void testLess()
+  {
+    Assertions.assertTrue(RangeTest.isLessLong(1L, 2L));
+    Assertions.assertFalse(RangeTest.isLessLong(2L, 2L));
+    Assertions.assertTrue(RangeTest.isLessInteger(1, 2));
+    Assertions.assertFalse(RangeTest.isLessInteger(2, 2));
+    Assertions.assertTrue(RangeTest.isLessDouble(1.0, 2.0));
+    Assertions.assertFalse(RangeTest.isLessDouble(2.0, 2.0));
+    Assertions.assertTrue(RangeTest.isLessBig(BigInteger.ONE, BigInteger.TWO));
+    Assertions.assertFalse(RangeTest.isLessBig(BigInteger.TWO, BigInteger.TWO));
+  }
+
+  @Test
+  public void testLessEqual()
+  {
+    Assertions.assertTrue(RangeTest.isLessEqualLong(2L, 2L));
+    Assertions.assertFalse(RangeTest.isLessEqualLong(3L, 2L));
+    Assertions.assertTrue(RangeTest.isLessEqualInteger(2, 2));
+    Assertions.assertFalse(RangeTest.isLessEqualInteger(3, 2));
+    Assertions.assertTrue(RangeTest.isLessEqualDouble(2.0, 2.0));
+    Assertions.assertFalse(RangeTest.isLessEqualDouble(3.0, 2.0));
+    Assertions.assertTrue(RangeTest.isLessEqualBig(BigInteger.TWO, BigInteger.TWO));
+    Assertions.assertFalse(RangeTest.isLessEqualBig(BigInteger.TEN, BigInteger.TWO));
+  }
+
+  @Test
+  public void testNullBig()
+  {
+    Assertions.assertThrows(NullPointerException.class, () -> {
+      RangeTest.isGreaterBig(BigInteger.ONE, TestUtilities.actuallyNull());
+    });
+    Assertions.assertThrows(NullPointerException.class, () -> {
+      RangeTest.isLessBig(TestUtilities.actuallyNull(), BigInteger.ONE);
+    });
+    Assertions.assertThrows(NullPointerException.class, () -> {
+      RangeTest.classifyBig(
+        TestUtilities.actuallyNull(),
+        RangeInclusiveB.of(BigInteger.ZERO, BigInteger.ONE));
+    });
+  }
+
+  @Test
+  public void testClassifyDouble()
+  {
+    final var range = RangeInclusiveD.of(0.0, 1.0);
+    Assertions.assertEquals(RangeTest.BELOW, RangeTest.classifyDouble(-0.5, range));
+    Assertions.assertEquals(RangeTest.INSIDE, RangeTest.classifyDouble(0.0, range));
+    Assertions.assertEquals(RangeTest.INSIDE, RangeTest.classifyDouble(1.0, range));
+    Assertions.assertEquals(RangeTest.ABOVE, RangeTest.classifyDouble(1.5, range));
+    Assertions.assertEquals(RangeTest.ABOVE, RangeTest.classifyDouble(Double.NaN, range));
+    Assertions.assertTrue(RangeTest.isIncludedInDouble(0.5, range));
+    Assertions.assertFalse(RangeTest.isIncludedInDouble(Double.NaN, range));
+  }
+
+  @Test
+  public void testClassifyBig()
+  {
+    final var range = RangeInclusiveB.of(BigInteger.ONE, BigInteger.TWO);
+    Assertions.assertEquals(RangeTest.BELOW, RangeTest.classifyBig(BigInteger.ZERO, range));
+    Assertions.assertEquals(RangeTest.INSIDE, RangeTest.classifyBig(BigInteger.ONE, range));
+    Assertions.assertEquals(RangeTest.INSIDE, RangeTest.classifyBig(BigInteger.TWO, range));
+    Assertions.assertEquals(RangeTest.ABOVE, RangeTest.classifyBig(BigInteger.TEN, range));
+    Assertions.assertTrue(RangeTest.isIncludedInBig(BigInteger.ONE, range));
+    Assertions.assertFalse(RangeTest.isIncludedInBig(BigInteger.TEN, range));
+  }
+
+  @Property
+  public void testClassifyLong(
+    final @ForAll @IntRange(min = -20, max = 20) int low,
+    final @ForAll @IntRange(min = 0, max = 20) int size,
+    final @ForAll @IntRange(min = -50, max = 50) int x)
+  {
+    final var range = RangeInclusiveL.of(low, low + size);
+    final var c = RangeTest.classifyLong(x, range);
+
+    Assertions.assertEquals(range.includesValue(x), c == RangeTest.INSIDE);
+    Assertions.assertEquals(range.includesValue(x), RangeTest.isIncludedInLong(x, range));
+    Assertions.assertEquals(x < range.lower(), c == RangeTest.BELOW);
+    Assertions.assertEquals(x > range.upper(), c == RangeTest.ABOVE);
+
+    if (c == RangeTest.INSIDE) {
+      Assertions.assertEquals(x, RangeCheck.checkIncludedInLong(x, "x", range, "r"));
+    } else {
+      Assertions.assertThrows(RangeCheckException.class, () -> {
+        RangeCheck.checkIncludedInLong(x, "x", range, "r");
+      });
+    }
+  }
+
+  @Property
+  public void testClassifyInteger(
+    final @ForAll @IntRange(min = -20, max = 20) int low,
+    final @ForAll @IntRange(min = 0, max = 20) int size,
+    final @ForAll @IntRange(min = -50, max = 50) int x)
+  {
+    final var range = RangeInclusiveI.of(low, low + size);
+    final var c = RangeTest.classifyInteger(x, range);
+
+    Assertions.assertEquals(range.includesValue(x), c == RangeTest.INSIDE);
+    Assertions.assertEquals(range.includesValue(x), RangeTest.isIncludedInInteger(x, range));
+    Assertions.assertEquals(x < range.lower(), c == RangeTest.BELOW);
+    Assertions.assertEquals(x > range.upper(), c == RangeTest.ABOVE);
+  }
+
+  @Property
+  public void testComparisonsAgreeWithChecks(
+    final @ForAll @IntRange(min = -10, max = 10) int x,
+    final @ForAll @IntRange(min = -10, max = 10) int bound)
+  {
+    Assertions.assertEquals(
+      RangeTest.isGreaterLong(x, bound),
+      passes(() -> RangeCheck.checkGreaterLong(x, "x", bound, "b")));
+    Assertions.assertEquals(
+      RangeTest.isGreaterEqualLong(x, bound),
+      passes(() -> RangeCheck.checkGreaterEqualLong(x, "x", bound, "b")));
+    Assertions.assertEquals(
+      RangeTest.isLessLong(x, bound),
+      passes(() -> RangeCheck.checkLessLong(x, "x", bound, "b")));
+    Assertions.assertEquals(
+      RangeTest.isLessEqualLong(x, bound),
+      passes(() -> RangeCheck.checkLessEqualLong(x, "x", bound, "b")));
+  }
+
+  @Property
+  public void testPrimitiveBoundsAgree(
+    final @ForAll @IntRange(min = -10, max = 10) int x,
+    final @ForAll @IntRange(min = -10, max = 10) int lower,
+    final @ForAll @IntRange(min = -10, max = 10) int upper)
+  {
+    final var expected = x >= lower && x <= upper;
+    Assertions.assertEquals(expected, RangeTest.isIncludedInLong(x, lower, upper));
+    Assertions.assertEquals(expected, RangeTest.isIncludedInInteger(x, lower, upper));
+    Assertions.assertEquals(expected, RangeTest.isIncludedInDouble(x, lower, upper));
+    Assertions.assertEquals(
+      expected,
+      passes(() -> RangeCheck.checkIncludedInLong(x, "x", lower, upper, "r")));
+    Assertions.assertEquals(
+      expected,
+      passes(() -> RangeCheck.checkIncludedInInteger(x, "x", lower, upper, "r")));
+  }
+
+  private static boolean passes(
+    final Runnable check)
+  {
+    try {
+      check.run();
+      return true;
+    } catch (final RangeCheckException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jranges.tests;
+
+import com.io7m.jranges.RangeHalfOpenB;
+import com.io7m.jranges.RangeHalfOpenD;
+import com.io7m.jranges.RangeHalfOpenI;
+import com.io7m.jranges.RangeHalfOpenL;
+import com.io7m.jranges.RangeInclusiveB;
+import com.io7m.jranges.RangeInclusiveD;
+import com.io7m.jranges.RangeInclusiveI;
+import com.io7m.jranges.RangeInclusiveL;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Short-lived ranges are only reliably scalar-replaced by escape analysis if
+ * the range classes stay final and hold nothing but their bounds. Check that
+ * the generated classes keep that shape.
+ */
+
+public final class RangeValueShapeTest
+{
+  @TestFactory
+  public Stream<DynamicTest> testShape()
+  {
+    return Stream.of(
+      RangeHalfOpenB.class,
+      RangeHalfOpenD.class,
+      RangeHalfOpenI.class,
+      RangeHalfOpenL.class,
+      RangeInclusiveB.class,
+      RangeInclusiveD.class,
+      RangeInclusiveI.class,
+      RangeInclusiveL.class)
+      .map(clazz -> DynamicTest.dynamicTest("testShape" + clazz.getSimpleName(), () -> {
+        Assertions.assertTrue(Modifier.isFinal(clazz.getModifiers()));
+        Assertions.assertEquals(Object.class, clazz.getSuperclass());
+
+        final var fields =
+          Arrays.stream(clazz.getDeclaredFields())
+            .filter(f -> !Modifier.isStatic(f.getModifiers()))
+            .toList();
+
+        Assertions.assertEquals(
+          2,
+          fields.size(),
+          () -> "Unexpected fields: %s".formatted(fields));
+
+        for (final var field : fields) {
+          Assertions.assertTrue(Modifier.isFinal(field.getModifiers()));
+          Assertions.assertTrue(Modifier.isPrivate(field.getModifiers()));
+          Assertions.assertTrue(
+            field.getName().equals("lower") || field.getName().equals("upper"),
+            field::getName);
+        }
+      }));
+  }
+}
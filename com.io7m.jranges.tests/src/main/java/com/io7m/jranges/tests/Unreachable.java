@@ -17,7 +17,14 @@
 package com.io7m.jranges.tests;
 
 import com.io7m.jranges.RangeCheck;
+import com.io7m.jranges.RangeCoalescing;
+import com.io7m.jranges.RangeFilter;
 import com.io7m.jranges.RangeHalfOpenCheck;
+import com.io7m.jranges.RangeHalfOpenFilter;
+import com.io7m.jranges.RangeHalfOpenTest;
+import com.io7m.jranges.RangeInterner;
+import com.io7m.jranges.RangeSort;
+import com.io7m.jranges.RangeTest;
 import com.io7m.jranges.Ranges;
 import com.io7m.junreachable.UnreachableCodeException;
 import org.junit.jupiter.api.Assertions;
@@ -34,7 +41,14 @@ public final class Unreachable
   {
     return Stream.of(
       RangeCheck.class,
+      RangeCoalescing.class,
+      RangeFilter.class,
       RangeHalfOpenCheck.class,
+      RangeHalfOpenFilter.class,
+      RangeHalfOpenTest.class,
+      RangeInterner.class,
+      RangeSort.class,
+      RangeTest.class,
       Ranges.class)
       .map(clazz -> DynamicTest.dynamicTest("testUnreachable" + clazz.getSimpleName(), () -> {
         try {